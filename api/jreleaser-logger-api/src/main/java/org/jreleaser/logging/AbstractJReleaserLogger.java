@@ -19,22 +19,31 @@ package org.jreleaser.logging;
 
 import java.io.PrintWriter;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 public abstract class AbstractJReleaserLogger implements JReleaserLogger {
-    private final ArrayDeque<String> prefix = new ArrayDeque<>();
+    // prefix and indent belong to the thread doing the work; tasks handed to
+    // other threads carry a copy of it, see wrap(Runnable)
+    private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+    private final Object output = new Object();
     private final PrintWriter tracer;
-    private String indent = "";
 
     protected AbstractJReleaserLogger(PrintWriter tracer) {
         this.tracer = tracer;
     }
 
+    protected boolean isTracing() {
+        return null != tracer;
+    }
+
     protected boolean isIndented() {
-        return !"".equals(indent);
+        return !"".equals(state.get().indent);
     }
 
     @Override
@@ -51,60 +60,183 @@ public abstract class AbstractJReleaserLogger implements JReleaserLogger {
 
     @Override
     public void reset() {
-        this.prefix.clear();
-        this.indent = "";
+        State current = state.get();
+        current.prefix.clear();
+        current.indent = "";
     }
 
     @Override
     public void setPrefix(String prefix) {
-        this.prefix.push(prefix);
+        state.get().prefix.push(prefix);
     }
 
     @Override
     public void restorePrefix() {
-        if (!this.prefix.isEmpty()) {
-            this.prefix.pop();
+        ArrayDeque<String> prefix = state.get().prefix;
+        if (!prefix.isEmpty()) {
+            prefix.pop();
+        }
+    }
+
+    @Override
+    public LogScope scope(String prefix, boolean buffered) {
+        State current = state.get();
+        current.prefix.push(prefix);
+        current.indent += "  ";
+        if (buffered) current.buffers.push(new ArrayList<>());
+
+        return new LogScope() {
+            private boolean closed;
+
+            @Override
+            public void close() {
+                if (closed) return;
+                closed = true;
+
+                State s = state.get();
+                if (buffered) {
+                    List<Entry> entries = s.buffers.pop();
+                    List<Entry> parent = s.buffers.peek();
+                    if (null != parent) {
+                        parent.addAll(entries);
+                    } else {
+                        flush(entries);
+                    }
+                }
+                if (!s.prefix.isEmpty()) s.prefix.pop();
+                if (s.indent.length() > 0) s.indent = s.indent.substring(0, s.indent.length() - 2);
+            }
+        };
+    }
+
+    @Override
+    public Runnable wrap(Runnable task) {
+        State captured = state.get().copy();
+        return () -> {
+            State previous = state.get();
+            state.set(captured.copy());
+            try {
+                task.run();
+            } finally {
+                state.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Writes a line, or a group of related lines, to every sink. Output is held back
+     * while the current thread is within a buffered scope, otherwise it is written
+     * right away. Either way no other thread writes at the same time.
+     *
+     * @param action writes the output, formatting it with {@link #formatMessage(String)}
+     * @since 1.14.0
+     */
+    protected void emit(Runnable action) {
+        if (Thread.holdsLock(output)) {
+            action.run();
+            return;
+        }
+
+        State current = state.get();
+        List<Entry> buffer = current.buffers.peek();
+        if (null != buffer) {
+            buffer.add(new Entry(current.copy(), action));
+        } else {
+            synchronized (output) {
+                action.run();
+            }
+        }
+    }
+
+    private void flush(List<Entry> entries) {
+        if (entries.isEmpty()) return;
+
+        State current = state.get();
+        synchronized (output) {
+            try {
+                for (Entry entry : entries) {
+                    // replay with the prefix and indent in place when the line was logged
+                    state.set(entry.state);
+                    entry.action.run();
+                }
+            } finally {
+                state.set(current);
+            }
         }
     }
 
     @Override
     public void increaseIndent() {
-        indent += "  ";
+        state.get().indent += "  ";
     }
 
     @Override
     public void decreaseIndent() {
-        if (indent.length() > 0) {
-            indent = indent.substring(0, indent.length() - 2);
+        State current = state.get();
+        if (current.indent.length() > 0) {
+            current.indent = current.indent.substring(0, current.indent.length() - 2);
         }
     }
 
     protected String formatMessage(String message) {
-        return indent + (!prefix.isEmpty() ? "[" + prefix.peek() + "] " : "") + message;
+        State current = state.get();
+        return current.indent + (!current.prefix.isEmpty() ? "[" + current.prefix.peek() + "] " : "") + message;
+    }
+
+    @Override
+    public void trace(Supplier<String> message) {
+        // only built if there is a trace file
+        if (isTracing()) trace(message.get());
     }
 
     @Override
     public void trace(String message) {
-        tracer.println(message);
-        tracer.flush();
+        if (!isTracing()) return;
+        emit(() -> tracer.println(message));
     }
 
     @Override
     public void trace(String message, Throwable throwable) {
-        tracer.println(message);
-        printThrowable(throwable);
-        tracer.flush();
+        if (!isTracing()) return;
+        emit(() -> {
+            tracer.println(message);
+            printThrowable(throwable);
+        });
     }
 
     @Override
     public void trace(Throwable throwable) {
-        printThrowable(throwable);
+        if (!isTracing()) return;
+        emit(() -> printThrowable(throwable));
     }
 
     private void printThrowable(Throwable throwable) {
         if (null != throwable) {
             throwable.printStackTrace(tracer);
-            tracer.flush();
+        }
+    }
+
+    private static final class State {
+        private final ArrayDeque<String> prefix = new ArrayDeque<>();
+        private final ArrayDeque<List<Entry>> buffers = new ArrayDeque<>();
+        private String indent = "";
+
+        // buffers stay with the thread that opened them
+        private State copy() {
+            State copy = new State();
+            copy.prefix.addAll(prefix);
+            copy.indent = indent;
+            return copy;
+        }
+    }
+
+    private static final class Entry {
+        private final State state;
+        private final Runnable action;
+
+        private Entry(State state, Runnable action) {
+            this.state = state;
+            this.action = action;
         }
     }
 }
@@ -0,0 +1,376 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.logging;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Writes trace output to a file from a background thread. Callers copy their
+ * characters into a bounded ring buffer and return; the writer thread drains the
+ * buffer in batches and flushes the file periodically and when closed, be it
+ * explicitly or at JVM shutdown. Callers only block when the buffer is full.
+ * <p>
+ * {@link #flush()} waits until output written so far has reached the file.
+ * <p>
+ * Once the file grows past a given size in bytes, at the end of a line, it is compressed to {@code <file>.1.gz},
+ * shifting older backups by one, and a new file is started.
+ *
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+public final class AsyncTraceWriter extends Writer {
+    public static final String MAX_SIZE = "trace.max.size";
+    public static final String MAX_BACKUPS = "trace.max.backups";
+
+    private static final int CAPACITY = 64 * 1024;
+    private static final long FLUSH_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+    private static final int DEFAULT_MAX_BACKUPS = 5;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    private final char[] ring = new char[CAPACITY];
+    private final Path file;
+    private final long maxSize;
+    private final int maxBackups;
+    private final Thread writer;
+    private final Thread shutdownHook;
+    private Writer out;
+    private int head;
+    private int size;
+    private long flushRequests;
+    private long flushCount;
+    private boolean closed;
+    private volatile IOException failure;
+
+    private AsyncTraceWriter(Path file, long maxSize, int maxBackups) throws IOException {
+        this.file = file;
+        this.maxSize = maxSize;
+        this.maxBackups = Math.max(1, maxBackups);
+        this.out = newWriter(file);
+        this.writer = new Thread(this::drain, "jreleaser-trace");
+        this.writer.setDaemon(true);
+        this.shutdownHook = new Thread(this::closeQuietly, "jreleaser-trace-shutdown");
+        this.writer.start();
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Opens a trace file. Rotation is enabled when the {@code JRELEASER_TRACE_MAX_SIZE}
+     * environment variable or the {@code jreleaser.trace.max.size} system property is set
+     * to a positive number of bytes, keeping up to {@code JRELEASER_TRACE_MAX_BACKUPS}
+     * (default 5) compressed backups.
+     *
+     * @param file the trace file, truncated if it exists
+     * @return a writer that does not flush on every line
+     * @throws IOException if the file cannot be created
+     */
+    public static PrintWriter open(Path file) throws IOException {
+        return open(file, setting(MAX_SIZE, 0L), (int) setting(MAX_BACKUPS, DEFAULT_MAX_BACKUPS));
+    }
+
+    // same lookup as Env.resolve(), which lives in a module that depends on this one
+    private static long setting(String key, long defaultValue) {
+        String value = System.getProperty("jreleaser." + key);
+        if (null == value || value.trim().isEmpty()) {
+            value = System.getenv("JRELEASER_" + key.replace('.', '_').toUpperCase(Locale.ENGLISH));
+        }
+        if (null == value || value.trim().isEmpty()) return defaultValue;
+
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Opens a trace file.
+     *
+     * @param file       the trace file, truncated if it exists
+     * @param maxSize    rotate the file after it grows past this many bytes, {@code 0} to never rotate
+     * @param maxBackups how many compressed backups to keep when rotating
+     * @return a writer that does not flush on every line
+     * @throws IOException if the file cannot be created
+     */
+    public static PrintWriter open(Path file, long maxSize, int maxBackups) throws IOException {
+        return new PrintWriter(new AsyncTraceWriter(file, maxSize, maxBackups), false);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        lock.lock();
+        try {
+            while (len > 0) {
+                int n = reserve(len);
+                if (n < 0) return;
+                int tail = (head + size) % CAPACITY;
+                int first = Math.min(n, CAPACITY - tail);
+                System.arraycopy(cbuf, off, ring, tail, first);
+                System.arraycopy(cbuf, off + first, ring, 0, n - first);
+                commit(n);
+                off += n;
+                len -= n;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        lock.lock();
+        try {
+            while (len > 0) {
+                int n = reserve(len);
+                if (n < 0) return;
+                int tail = (head + size) % CAPACITY;
+                int first = Math.min(n, CAPACITY - tail);
+                str.getChars(off, off + first, ring, tail);
+                str.getChars(off + first, off + n, ring, 0);
+                commit(n);
+                off += n;
+                len -= n;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        lock.lock();
+        try {
+            if (closed) return;
+            long request = ++flushRequests;
+            notEmpty.signal();
+            while (flushCount < request && !closed && null == failure) {
+                flushed.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } finally {
+            lock.unlock();
+        }
+
+        if (null != failure) throw failure;
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) return;
+            closed = true;
+            notEmpty.signal();
+            notFull.signalAll();
+            flushed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } finally {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException ignored) {
+                // already shutting down
+            }
+        }
+
+        if (null != failure) throw failure;
+    }
+
+    // waits for room in the buffer, returns how many chars fit or -1 if output is discarded
+    private int reserve(int len) throws IOException {
+        while (size == CAPACITY && !closed && null == failure) {
+            try {
+                notFull.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+        }
+        if (closed) throw new IOException("Stream closed");
+        if (null != failure) return -1;
+        return Math.min(len, CAPACITY - size);
+    }
+
+    private void commit(int n) {
+        size += n;
+        notEmpty.signal();
+    }
+
+    private void drain() {
+        char[] chunk = new char[CAPACITY];
+        long lastFlush = System.nanoTime();
+        boolean dirty = false;
+        boolean lineEnd = true;
+        long written = 0;
+
+        while (true) {
+            int n;
+            boolean done;
+            long request;
+            lock.lock();
+            try {
+                long wait = FLUSH_INTERVAL - (System.nanoTime() - lastFlush);
+                while (size == 0 && !closed && flushCount == flushRequests && (!dirty || wait > 0)) {
+                    wait = notEmpty.awaitNanos(dirty ? wait : FLUSH_INTERVAL);
+                }
+                request = flushRequests;
+                n = size;
+                int first = Math.min(n, CAPACITY - head);
+                System.arraycopy(ring, head, chunk, 0, first);
+                System.arraycopy(ring, 0, chunk, first, n - first);
+                head = (head + n) % CAPACITY;
+                size = 0;
+                notFull.signalAll();
+                done = closed;
+            } catch (InterruptedException e) {
+                // only close() stops this thread
+                continue;
+            } finally {
+                lock.unlock();
+            }
+
+            if (null == failure) {
+                try {
+                    if (n > 0) {
+                        out.write(chunk, 0, n);
+                        written += utf8Length(chunk, n);
+                        dirty = true;
+                        lineEnd = chunk[n - 1] == '\n';
+                    }
+                    // lines may arrive in pieces, never split one across files
+                    if (maxSize > 0 && written >= maxSize && lineEnd && !done) {
+                        rotate();
+                        written = 0;
+                        dirty = false;
+                    } else if (dirty && (done || request > flushCount || System.nanoTime() - lastFlush >= FLUSH_INTERVAL)) {
+                        out.flush();
+                        dirty = false;
+                        lastFlush = System.nanoTime();
+                    }
+                    if (done) out.close();
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+
+            signalFlushed(request);
+            if (done) return;
+        }
+    }
+
+    // wakes up callers of flush() whose output has been drained, and writers if output failed
+    private void signalFlushed(long request) {
+        lock.lock();
+        try {
+            if (request > flushCount) {
+                flushCount = request;
+                flushed.signalAll();
+            }
+            if (null != failure) {
+                notFull.signalAll();
+                flushed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long utf8Length(char[] chars, int len) {
+        long bytes = 0;
+        for (int i = 0; i < len; i++) {
+            char c = chars[i];
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isSurrogate(c)) {
+                // a surrogate pair encodes to 4 bytes
+                bytes += 2;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    private void rotate() throws IOException {
+        out.close();
+
+        for (int i = maxBackups - 1; i > 0; i--) {
+            Path backup = backup(i);
+            if (Files.exists(backup)) Files.move(backup, backup(i + 1), REPLACE_EXISTING);
+        }
+
+        try (InputStream in = Files.newInputStream(file);
+             OutputStream gz = new GZIPOutputStream(Files.newOutputStream(backup(1)))) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                gz.write(buffer, 0, read);
+            }
+        }
+
+        out = newWriter(file);
+    }
+
+    private Path backup(int index) {
+        Path parent = file.toAbsolutePath().getParent();
+        String name = file.getFileName() + "." + index + ".gz";
+        return null != parent ? parent.resolve(name) : Paths.get(name);
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException ignored) {
+            // nothing left to do at shutdown
+        }
+    }
+
+    private static Writer newWriter(Path file) throws IOException {
+        return new OutputStreamWriter(Files.newOutputStream(file), UTF_8);
+    }
+}
@@ -18,6 +18,7 @@
 package org.jreleaser.logging;
 
 import java.io.PrintWriter;
+import java.util.function.Supplier;
 
 /**
  * @author Andres Almiray
@@ -39,6 +40,49 @@ public interface JReleaserLogger {
 
     void restorePrefix();
 
+    /**
+     * Opens a scope tagged with the given prefix.
+     *
+     * @param prefix the prefix to tag lines with
+     * @return the scope, to be closed once the work is done
+     * @since 1.14.0
+     */
+    default LogScope scope(String prefix) {
+        return scope(prefix, false);
+    }
+
+    /**
+     * Opens a scope tagged with the given prefix, optionally holding back its lines
+     * until the scope closes.
+     *
+     * @param prefix   the prefix to tag lines with
+     * @param buffered whether lines should be written out together on close
+     * @return the scope, to be closed once the work is done
+     * @since 1.14.0
+     */
+    default LogScope scope(String prefix, boolean buffered) {
+        // loggers without scope support write lines right away
+        setPrefix(prefix);
+        increaseIndent();
+        return () -> {
+            decreaseIndent();
+            restorePrefix();
+        };
+    }
+
+    /**
+     * Binds a task to the prefix and indentation in place when it is created, so that
+     * the task logs as part of the current work regardless of the thread running it.
+     * The running thread gets its own state back once the task completes.
+     *
+     * @param task the task to bind
+     * @return the bound task
+     * @since 1.14.0
+     */
+    default Runnable wrap(Runnable task) {
+        return task;
+    }
+
     void plain(String message);
 
     void debug(String message);
@@ -74,4 +118,59 @@ public interface JReleaserLogger {
     void trace(String message, Throwable throwable);
 
     void trace(Throwable throwable);
+
+    /**
+     * Whether debug messages reach the console or the trace file. Callers should
+     * check it before building expensive messages.
+     *
+     * @return {@code true} if debug messages are written anywhere
+     * @since 1.14.0
+     */
+    default boolean isDebugEnabled() {
+        return true;
+    }
+
+    /**
+     * Logs a debug message that is only built if {@link #isDebugEnabled()}.
+     *
+     * @param message supplies the already formatted message
+     * @since 1.14.0
+     */
+    default void debug(Supplier<String> message) {
+        if (isDebugEnabled()) debug(message.get());
+    }
+
+    /**
+     * @param message supplies the already formatted message
+     * @since 1.14.0
+     */
+    default void info(Supplier<String> message) {
+        info(message.get());
+    }
+
+    /**
+     * @param message supplies the already formatted message
+     * @since 1.14.0
+     */
+    default void warn(Supplier<String> message) {
+        warn(message.get());
+    }
+
+    /**
+     * @param message supplies the already formatted message
+     * @since 1.14.0
+     */
+    default void error(Supplier<String> message) {
+        error(message.get());
+    }
+
+    /**
+     * Writes a message to the trace file only.
+     *
+     * @param message supplies the already formatted message
+     * @since 1.14.0
+     */
+    default void trace(Supplier<String> message) {
+        trace(message.get());
+    }
 }
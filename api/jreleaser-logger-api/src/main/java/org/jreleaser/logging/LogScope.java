@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.logging;
+
+/**
+ * A unit of work within a logger. While open, lines logged by the owning thread
+ * are indented and tagged with the scope's prefix. Lines of a buffered scope are
+ * held back and written out together once the outermost buffered scope closes,
+ * so that work running in parallel does not interleave its output.
+ * <p>
+ * Scopes must be closed by the thread that opened them, in reverse order.
+ *
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+public interface LogScope extends AutoCloseable {
+    @Override
+    void close();
+}
@@ -62,45 +62,55 @@ public class SimpleJReleaserLoggerAdapter extends AbstractJReleaserLogger {
 
     @Override
     public void plain(String message) {
-        String msg = formatMessage(message);
-        out.println(msg);
-        trace(msg);
+        emit(() -> {
+            String msg = formatMessage(message);
+            out.println(msg);
+            trace(msg);
+        });
     }
 
     @Override
     public void debug(String message) {
-        if (isLevelEnabled(Level.DEBUG)) {
-            String msg = Level.DEBUG + formatMessage(message);
-            out.println(msg);
-            trace(msg);
-        }
+        emit(() -> {
+            if (isLevelEnabled(Level.DEBUG)) {
+                String msg = Level.DEBUG + formatMessage(message);
+                out.println(msg);
+                trace(msg);
+            }
+        });
     }
 
     @Override
     public void info(String message) {
-        if (isLevelEnabled(Level.INFO)) {
-            String msg = Level.INFO + formatMessage(message);
-            out.println(msg);
-            trace(msg);
-        }
+        emit(() -> {
+            if (isLevelEnabled(Level.INFO)) {
+                String msg = Level.INFO + formatMessage(message);
+                out.println(msg);
+                trace(msg);
+            }
+        });
     }
 
     @Override
     public void warn(String message) {
-        if (isLevelEnabled(Level.WARN)) {
-            String msg = Level.WARN + formatMessage(message);
-            out.println(msg);
-            trace(msg);
-        }
+        emit(() -> {
+            if (isLevelEnabled(Level.WARN)) {
+                String msg = Level.WARN + formatMessage(message);
+                out.println(msg);
+                trace(msg);
+            }
+        });
     }
 
     @Override
     public void error(String message) {
-        if (isLevelEnabled(Level.ERROR)) {
-            String msg = Level.ERROR + formatMessage(message);
-            out.println(msg);
-            trace(msg);
-        }
+        emit(() -> {
+            if (isLevelEnabled(Level.ERROR)) {
+                String msg = Level.ERROR + formatMessage(message);
+                out.println(msg);
+                trace(msg);
+            }
+        });
     }
 
     @Override
@@ -110,86 +120,104 @@ public class SimpleJReleaserLoggerAdapter extends AbstractJReleaserLogger {
 
     @Override
     public void debug(String message, Object... args) {
-        if (isLevelEnabled(Level.DEBUG)) {
-            String msg = Level.DEBUG + formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
-            out.println(msg);
-            trace(msg);
-        }
+        emit(() -> {
+            if (isLevelEnabled(Level.DEBUG)) {
+                String msg = Level.DEBUG + formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
+                out.println(msg);
+                trace(msg);
+            }
+        });
     }
 
     @Override
     public void info(String message, Object... args) {
-        if (isLevelEnabled(Level.INFO)) {
-            String msg = Level.INFO + formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
-            out.println(msg);
-            trace(msg);
-        }
+        emit(() -> {
+            if (isLevelEnabled(Level.INFO)) {
+                String msg = Level.INFO + formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
+                out.println(msg);
+                trace(msg);
+            }
+        });
     }
 
     @Override
     public void warn(String message, Object... args) {
-        if (isLevelEnabled(Level.WARN)) {
-            String msg = Level.WARN + formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
-            out.println(msg);
-            trace(msg);
-        }
+        emit(() -> {
+            if (isLevelEnabled(Level.WARN)) {
+                String msg = Level.WARN + formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
+                out.println(msg);
+                trace(msg);
+            }
+        });
     }
 
     @Override
     public void error(String message, Object... args) {
-        if (isLevelEnabled(Level.ERROR)) {
-            String msg = Level.ERROR + formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
-            out.println(msg);
-            trace(msg);
-        }
+        emit(() -> {
+            if (isLevelEnabled(Level.ERROR)) {
+                String msg = Level.ERROR + formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
+                out.println(msg);
+                trace(msg);
+            }
+        });
     }
 
     @Override
     public void plain(String message, Throwable throwable) {
-        String msg = formatMessage(message);
-        out.println(msg);
-        printThrowable(throwable);
-        trace(msg, throwable);
+        emit(() -> {
+            String msg = formatMessage(message);
+            out.println(msg);
+            printThrowable(throwable);
+            trace(msg, throwable);
+        });
     }
 
     @Override
     public void debug(String message, Throwable throwable) {
-        if (isLevelEnabled(Level.DEBUG)) {
-            String msg = Level.DEBUG + formatMessage(message);
-            out.println(msg);
-            printThrowable(throwable);
-            trace(msg, throwable);
-        }
+        emit(() -> {
+            if (isLevelEnabled(Level.DEBUG)) {
+                String msg = Level.DEBUG + formatMessage(message);
+                out.println(msg);
+                printThrowable(throwable);
+                trace(msg, throwable);
+            }
+        });
     }
 
     @Override
     public void info(String message, Throwable throwable) {
-        if (isLevelEnabled(Level.INFO)) {
-            String msg = Level.INFO + formatMessage(message);
-            out.println(msg);
-            printThrowable(throwable);
-            trace(msg, throwable);
-        }
+        emit(() -> {
+            if (isLevelEnabled(Level.INFO)) {
+                String msg = Level.INFO + formatMessage(message);
+                out.println(msg);
+                printThrowable(throwable);
+                trace(msg, throwable);
+            }
+        });
     }
 
     @Override
     public void warn(String message, Throwable throwable) {
-        if (isLevelEnabled(Level.WARN)) {
-            String msg = Level.WARN + formatMessage(message);
-            out.println(msg);
-            printThrowable(throwable);
-            trace(msg, throwable);
-        }
+        emit(() -> {
+            if (isLevelEnabled(Level.WARN)) {
+                String msg = Level.WARN + formatMessage(message);
+                out.println(msg);
+                printThrowable(throwable);
+                trace(msg, throwable);
+            }
+        });
     }
 
     @Override
     public void error(String message, Throwable throwable) {
-        if (isLevelEnabled(Level.ERROR)) {
-            String msg = Level.ERROR + formatMessage(message);
-            out.println(msg);
-            printThrowable(throwable);
-            trace(msg, throwable);
-        }
+        emit(() -> {
+            if (isLevelEnabled(Level.ERROR)) {
+                String msg = Level.ERROR + formatMessage(message);
+                out.println(msg);
+                printThrowable(throwable);
+                trace(msg, throwable);
+            }
+        });
     }
 
     private void printThrowable(Throwable throwable) {
@@ -199,6 +227,12 @@ public class SimpleJReleaserLoggerAdapter extends AbstractJReleaserLogger {
         }
     }
 
+    @Override
+    public boolean isDebugEnabled() {
+        // debug messages are only traced when shown
+        return isLevelEnabled(Level.DEBUG);
+    }
+
     private boolean isLevelEnabled(Level requested) {
         return requested.ordinal() >= level.ordinal();
     }
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.logging;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class AsyncTraceWriterTest {
+    @TempDir
+    Path basedir;
+
+    @Test
+    void flushWaitsForOutputToReachTheFile() throws IOException {
+        // given:
+        Path file = basedir.resolve("trace.log");
+        PrintWriter writer = AsyncTraceWriter.open(file, 0, 1);
+
+        try {
+            // when:
+            writer.println("first");
+            writer.println("second");
+            writer.flush();
+
+            // then:
+            assertThat(Files.readAllLines(file, UTF_8)).containsExactly("first", "second");
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Test
+    void closeWritesPendingOutput() throws IOException {
+        // given:
+        Path file = basedir.resolve("trace.log");
+        PrintWriter writer = AsyncTraceWriter.open(file, 0, 1);
+
+        // when:
+        // more than the buffer holds at once
+        for (int i = 0; i < 10_000; i++) {
+            writer.println("line " + i);
+        }
+        writer.close();
+
+        // then:
+        List<String> lines = Files.readAllLines(file, UTF_8);
+        assertThat(lines).hasSize(10_000);
+        assertThat(lines.get(0)).isEqualTo("line 0");
+        assertThat(lines.get(9_999)).isEqualTo("line 9999");
+        assertThat(writer.checkError()).isFalse();
+    }
+
+    @Test
+    void writesAfterCloseAreRejected() throws IOException {
+        // given:
+        Path file = basedir.resolve("trace.log");
+        PrintWriter writer = AsyncTraceWriter.open(file, 0, 1);
+        writer.println("first");
+        writer.close();
+
+        // when:
+        writer.println("second");
+
+        // then:
+        assertThat(writer.checkError()).isTrue();
+        assertThat(Files.readAllLines(file, UTF_8)).containsExactly("first");
+    }
+
+    @Test
+    void rotateIntoCompressedBackups() throws IOException {
+        // given:
+        Path file = basedir.resolve("trace.log");
+        PrintWriter writer = AsyncTraceWriter.open(file, 100, 2);
+
+        // when:
+        // every other line takes the file past its maximum size
+        for (int i = 0; i < 9; i++) {
+            writer.println(line(i));
+            writer.flush();
+        }
+        writer.close();
+
+        // then:
+        assertThat(read(basedir.resolve("trace.log.1.gz"))).containsExactly(line(6), line(7));
+        assertThat(read(basedir.resolve("trace.log.2.gz"))).containsExactly(line(4), line(5));
+        assertThat(basedir.resolve("trace.log.3.gz")).doesNotExist();
+        assertThat(Files.readAllLines(file, UTF_8)).containsExactly(line(8));
+    }
+
+    // 60 bytes, newline included
+    private static String line(int index) {
+        char[] padding = new char[52];
+        Arrays.fill(padding, 'x');
+        return "line " + index + " " + new String(padding);
+    }
+
+    private static List<String> read(Path backup) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(backup))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return Arrays.asList(new String(out.toByteArray(), UTF_8).split("\\R"));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jreleaser.logging.SimpleJReleaserLoggerAdapter.Level.INFO;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class LogScopeTest {
+    private final StringWriter witness = new StringWriter();
+    private final JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(new PrintWriter(witness), INFO);
+
+    @Test
+    void scopeTagsAndIndentsLines() {
+        // when:
+        try (LogScope scope = logger.scope("app/brew", false)) {
+            logger.info("inside");
+            // then:
+            assertThat(witness.toString()).contains("  [app/brew] inside");
+        }
+        logger.info("outside");
+
+        // then:
+        assertThat(witness.toString())
+            .contains("[INFO]  outside")
+            .doesNotContain("[app/brew] outside");
+    }
+
+    @Test
+    void bufferedScopeHoldsLinesUntilClosed() {
+        // when:
+        LogScope scope = logger.scope("app/brew", true);
+        logger.info("first");
+        logger.warn("second");
+
+        // then:
+        assertThat(witness.toString()).isEmpty();
+
+        // when:
+        scope.close();
+
+        // then:
+        assertThat(lines()).containsExactly(
+            "[INFO]    [app/brew] first",
+            "[WARN]    [app/brew] second");
+    }
+
+    @Test
+    void nestedBufferedScopesFlushWithTheOutermostOne() {
+        // when:
+        try (LogScope outer = logger.scope("app", true)) {
+            logger.info("first");
+            try (LogScope inner = logger.scope("brew", true)) {
+                logger.info("second");
+            }
+
+            // then:
+            assertThat(witness.toString()).isEmpty();
+        }
+
+        // then:
+        assertThat(lines()).containsExactly(
+            "[INFO]    [app] first",
+            "[INFO]      [brew] second");
+    }
+
+    @Test
+    void concurrentBufferedScopesAreNotInterleaved() throws Exception {
+        // given:
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (String name : Arrays.asList("app", "tool")) {
+            threads.add(new Thread(() -> {
+                try (LogScope scope = logger.scope(name, true)) {
+                    for (int i = 0; i < 3; i++) {
+                        // both threads log each line at the same time
+                        barrier.await(10, TimeUnit.SECONDS);
+                        logger.info("line " + i);
+                    }
+                } catch (Exception e) {
+                    failure.set(e);
+                }
+            }));
+        }
+
+        // when:
+        for (Thread thread : threads) thread.start();
+        for (Thread thread : threads) thread.join();
+
+        // then:
+        assertThat(failure.get()).isNull();
+        List<String> lines = lines();
+        assertThat(lines).hasSize(6);
+        String first = lines.get(0).contains("[app]") ? "app" : "tool";
+        String second = "app".equals(first) ? "tool" : "app";
+        assertThat(lines).containsExactly(
+            "[INFO]    [" + first + "] line 0",
+            "[INFO]    [" + first + "] line 1",
+            "[INFO]    [" + first + "] line 2",
+            "[INFO]    [" + second + "] line 0",
+            "[INFO]    [" + second + "] line 1",
+            "[INFO]    [" + second + "] line 2");
+    }
+
+    @Test
+    void wrappedTasksLogWithinTheCallersScope() throws Exception {
+        // given:
+        Runnable task;
+        try (LogScope scope = logger.scope("app", false)) {
+            task = logger.wrap(() -> logger.info("from task"));
+        }
+
+        // when:
+        Thread thread = new Thread(task);
+        thread.start();
+        thread.join();
+
+        // then:
+        assertThat(lines()).containsExactly("[INFO]    [app] from task");
+    }
+
+    private List<String> lines() {
+        String output = witness.toString().trim();
+        return output.isEmpty() ? new ArrayList<>() : Arrays.asList(output.split("\\R"));
+    }
+}
@@ -17,12 +17,14 @@
  */
 package org.jreleaser.logging;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -70,6 +72,45 @@ class SimpleJReleaserLoggerAdapterTest {
         }
     }
 
+    @Test
+    void lazyDebugMessagesAreOnlyBuiltWhenEnabled() {
+        // given:
+        AtomicInteger built = new AtomicInteger();
+        StringWriter witness = new StringWriter();
+        JReleaserLogger enabled = new SimpleJReleaserLoggerAdapter(new PrintWriter(witness), DEBUG);
+        JReleaserLogger disabled = new SimpleJReleaserLoggerAdapter(new PrintWriter(new StringWriter()), INFO);
+
+        // when:
+        enabled.debug(() -> MESSAGE + built.incrementAndGet());
+        disabled.debug(() -> MESSAGE + built.incrementAndGet());
+
+        // then:
+        assertThat(built.get()).isEqualTo(1);
+        assertThat(witness.toString()).contains(MESSAGE + 1);
+        assertThat(enabled.isDebugEnabled()).isTrue();
+        assertThat(disabled.isDebugEnabled()).isFalse();
+    }
+
+    @Test
+    void lazyMessagesAboveDebugAreAlwaysBuilt() {
+        // given:
+        AtomicInteger built = new AtomicInteger();
+        StringWriter witness = new StringWriter();
+        JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(new PrintWriter(witness), INFO);
+
+        // when:
+        logger.info(() -> MESSAGE + built.incrementAndGet());
+        logger.warn(() -> MESSAGE + built.incrementAndGet());
+        logger.error(() -> MESSAGE + built.incrementAndGet());
+
+        // then:
+        assertThat(built.get()).isEqualTo(3);
+        assertThat(witness.toString())
+            .contains(MESSAGE + 1)
+            .contains(MESSAGE + 2)
+            .contains(MESSAGE + 3);
+    }
+
     private static void debug(JReleaserLogger logger) {
         Exception exception = new RuntimeException("boom");
         logger.debug(MESSAGE);
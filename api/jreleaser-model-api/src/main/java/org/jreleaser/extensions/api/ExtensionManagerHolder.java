@@ -54,6 +54,15 @@ public final class ExtensionManagerHolder {
         return MANAGERS_THREAD.get();
     }
 
+    /**
+     * Shares a manager with the current thread, for work handed off by the thread that configured it.
+     *
+     * @since 1.14.0
+     */
+    public static void set(ExtensionManager manager) {
+        MANAGERS_THREAD.set(manager);
+    }
+
     public static void cleanup() {
         MANAGERS_THREAD.remove();
     }
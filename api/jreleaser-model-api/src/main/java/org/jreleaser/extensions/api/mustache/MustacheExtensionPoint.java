@@ -36,4 +36,16 @@ public interface MustacheExtensionPoint extends ExtensionPoint {
      * @param context the evaluation context.
      */
     void apply(TemplateContext context);
+
+    /**
+     * Enhances a context shared by all evaluations with properties that do not depend on
+     * the evaluation context, such as stateless functions. It is invoked once per session,
+     * and properties set by {@link #apply(TemplateContext)} take precedence over it.
+     *
+     * @param context the shared context.
+     * @since 1.14.0
+     */
+    default void applyShared(TemplateContext context) {
+        // noop
+    }
 }
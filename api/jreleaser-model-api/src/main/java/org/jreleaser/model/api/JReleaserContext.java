@@ -41,6 +41,8 @@ public interface JReleaserContext extends Serializable {
     String DRY_RUN = "DRY_RUN";
     String GIT_ROOT_SEARCH = "GIT_ROOT_SEARCH";
     String STRICT = "STRICT";
+    String SEQUENTIAL = "SEQUENTIAL";
+    String RESUME = "RESUME";
     String SELECT_CURRENT_PLATFORM = "SELECT_CURRENT_PLATFORM";
     String SELECT_PLATFORMS = "SELECT_PLATFORMS";
     String REJECT_PLATFORMS = "REJECT_PLATFORMS";
@@ -83,6 +85,24 @@ public interface JReleaserContext extends Serializable {
 
     boolean isStrict();
 
+    /**
+     * Whether workflow items run one at a time in declaration order.
+     *
+     * @since 1.14.0
+     */
+    default boolean isSequential() {
+        return false;
+    }
+
+    /**
+     * Whether work recorded as done by a previous run of the same release is skipped.
+     *
+     * @since 1.14.0
+     */
+    default boolean isResume() {
+        return false;
+    }
+
     List<String> getIncludedAnnouncers();
 
     List<String> getIncludedAssemblers();
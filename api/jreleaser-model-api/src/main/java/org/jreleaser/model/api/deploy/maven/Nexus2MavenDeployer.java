@@ -40,6 +40,8 @@ public interface Nexus2MavenDeployer extends MavenDeployer {
 
     Integer getTransitionMaxRetries();
 
+    Integer getUploadConcurrency();
+
     String getStagingProfileId();
 
     String getStagingRepositoryId();
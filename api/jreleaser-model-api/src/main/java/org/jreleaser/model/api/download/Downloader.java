@@ -24,6 +24,7 @@ import org.jreleaser.model.api.common.ExtraProperties;
 import org.jreleaser.model.api.common.TimeoutAware;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Andres Almiray
@@ -42,6 +43,8 @@ public interface Downloader extends Domain, Activatable, TimeoutAware, ExtraProp
         String getOutput();
 
         Unpack getUnpack();
+
+        Map<String, String> getChecksums();
     }
 
     interface Unpack extends Domain, EnabledAware {
@@ -24,6 +24,7 @@ import org.jreleaser.model.api.common.CommitAuthorAware;
 import org.jreleaser.model.api.common.Domain;
 import org.jreleaser.model.api.common.EnabledAware;
 import org.jreleaser.model.api.common.OwnerAware;
+import org.jreleaser.model.api.common.RetryAware;
 import org.jreleaser.model.api.common.TimeoutAware;
 
 import java.util.Set;
@@ -32,7 +33,7 @@ import java.util.Set;
  * @author Andres Almiray
  * @since 0.1.0
  */
-public interface Releaser extends Domain, EnabledAware, CommitAuthorAware, OwnerAware, TimeoutAware, Active.Prereleaseable, ServiceInformation, ReleaseConfiguration, UrlProvider, ConfigurationFlags, NestedConfigurations {
+public interface Releaser extends Domain, EnabledAware, CommitAuthorAware, OwnerAware, TimeoutAware, RetryAware, Active.Prereleaseable, ServiceInformation, ReleaseConfiguration, UrlProvider, ConfigurationFlags, NestedConfigurations {
     String KEY_SKIP_RELEASE = "skipRelease";
     String KEY_SKIP_RELEASE_SIGNATURES = "skipReleaseSignatures";
     String TAG_NAME = "TAG_NAME";
@@ -20,13 +20,14 @@ package org.jreleaser.model.api.upload;
 import org.jreleaser.model.api.common.Activatable;
 import org.jreleaser.model.api.common.Domain;
 import org.jreleaser.model.api.common.ExtraProperties;
+import org.jreleaser.model.api.common.RetryAware;
 import org.jreleaser.model.api.common.TimeoutAware;
 
 /**
  * @author Andres Almiray
  * @since 0.3.0
  */
-public interface Uploader extends Domain, Activatable, TimeoutAware, ExtraProperties {
+public interface Uploader extends Domain, Activatable, TimeoutAware, RetryAware, ExtraProperties {
     String getType();
 
     String getName();
@@ -18,24 +18,32 @@
 package org.jreleaser.mustache;
 
 import com.github.mustachejava.DefaultMustacheFactory;
+import com.github.mustachejava.FragmentKey;
 import com.github.mustachejava.Mustache;
 import com.github.mustachejava.MustacheException;
-import com.github.mustachejava.MustacheFactory;
 import com.github.mustachejava.TemplateFunction;
 import org.jreleaser.bundle.RB;
+import org.jreleaser.extensions.api.ExtensionManager;
 import org.jreleaser.extensions.api.ExtensionManagerHolder;
 import org.jreleaser.extensions.api.mustache.MustacheExtensionPoint;
+import org.jreleaser.util.JfrEvents;
 
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.lang.ref.WeakReference;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Set;
 
+import static java.util.Collections.unmodifiableMap;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
 /**
@@ -44,6 +52,20 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  */
 @org.jreleaser.infra.nativeimage.annotations.NativeImage
 public final class MustacheUtils {
+    private static final String INLINE_TEMPLATE = "inline";
+    private static final int MAX_CACHED_TEMPLATES = 1024;
+    private static final int MAX_CACHED_TEMPLATE_LENGTH = 64 * 1024;
+    private static final MyMustacheFactory MUSTACHE_FACTORY = new MyMustacheFactory();
+    // compiled templates are immutable and may be shared across threads
+    private static final Map<String, Mustache> TEMPLATE_CACHE = Collections.synchronizedMap(
+        new LinkedHashMap<String, Mustache>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Mustache> eldest) {
+                return size() > MAX_CACHED_TEMPLATES;
+            }
+        });
+    private static volatile SharedScope sharedScope;
+
     private MustacheUtils() {
         //noop
     }
@@ -58,41 +80,104 @@ public final class MustacheUtils {
         return vars;
     }
 
+    /**
+     * Entries that do not depend on the evaluation context: environment variables and shared
+     * functions. Rebuilt whenever the extension manager or its Mustache extension points change.
+     */
+    private static Map<String, Object> sharedScope(ExtensionManager manager, Set<MustacheExtensionPoint> extensionPoints) {
+        SharedScope scope = sharedScope;
+        if (null == scope || !scope.matches(manager, extensionPoints)) {
+            TemplateContext shared = new TemplateContext();
+            shared.setAll(envVars());
+            extensionPoints.forEach(ep -> ep.applyShared(shared));
+            Map<String, Object> entries = new HashMap<>();
+            shared.entries().forEach(e -> entries.put(e.getKey(), decorate(e.getValue())));
+            scope = new SharedScope(manager, extensionPoints, unmodifiableMap(entries));
+            sharedScope = scope;
+        }
+        return scope.entries;
+    }
+
     public static String applyTemplate(Reader reader, TemplateContext context, String templateName) {
-        StringWriter input = new StringWriter();
-        MustacheFactory mf = new MyMustacheFactory();
-        Mustache mustache = mf.compile(reader, templateName);
-        context.setAll(envVars());
-        applyFunctions(context);
-        mustache.execute(input, decorate(context.asMap()));
-        input.flush();
-        return input.toString();
-    }
-
-    private static Map<String, Object> decorate(Map<String, Object> context) {
-        for (Map.Entry<String, Object> e : new LinkedHashSet<>(context.entrySet())) {
-            Object value = e.getValue();
+        return render(read(reader, templateName), context, templateName);
+    }
 
-            if (value instanceof CharSequence) {
-                String val = String.valueOf(value);
-                if (val.contains("{{")) {
-                    context.put(e.getKey(), (TemplateFunction) s -> val);
+    private static String render(String template, TemplateContext context, String templateName) {
+        // text without tags renders as itself; delimiters can only be changed with
+        // a {{=<% %>=}} tag, so templates using other delimiters still contain one
+        if (!template.contains("{{")) return template;
+
+        try (JfrEvents.Probe probe = JfrEvents.begin(JfrEvents.Type.TEMPLATE, templateName)) {
+            StringWriter input = new StringWriter();
+            Mustache mustache = compile(template, templateName);
+            ExtensionManager manager = ExtensionManagerHolder.get();
+            Set<MustacheExtensionPoint> extensionPoints = manager.findExtensionPoints(MustacheExtensionPoint.class);
+            Map<String, Object> shared = sharedScope(manager, extensionPoints);
+            // extension points contribute to this render only, the caller's context is left untouched
+            TemplateContext scope = context;
+            if (!extensionPoints.isEmpty()) {
+                scope = new TemplateContext(context);
+                for (MustacheExtensionPoint extensionPoint : extensionPoints) {
+                    extensionPoint.apply(scope);
                 }
             }
+            // scopes are searched from last to first, the given context takes precedence
+            mustache.execute(input, new Object[]{shared, new TemplateValues(scope.asMap())});
+            input.flush();
+            probe.bytes(input.getBuffer().length());
+            return input.toString();
+        }
+    }
+
+    private static Mustache compile(String template, String templateName) {
+        if (template.length() > MAX_CACHED_TEMPLATE_LENGTH) {
+            return MUSTACHE_FACTORY.compile(new StringReader(template), templateName);
+        }
+
+        // the name takes part in partial resolution, so it is part of the key
+        String key = templateName + '\u0000' + template;
+        Mustache mustache = TEMPLATE_CACHE.get(key);
+        if (null == mustache) {
+            mustache = MUSTACHE_FACTORY.compile(new StringReader(template), templateName);
+            TEMPLATE_CACHE.put(key, mustache);
+        }
+        return mustache;
+    }
+
+    private static String read(Reader reader, String templateName) {
+        try {
+            StringBuilder b = new StringBuilder();
+            char[] buffer = new char[8192];
+            int length;
+            while ((length = reader.read(buffer)) != -1) {
+                b.append(buffer, 0, length);
+            }
+            return b.toString();
+        } catch (IOException e) {
+            throw new MustacheException(RB.$("ERROR_mustache_read_template", templateName), e);
+        }
+    }
+
+    private static Object decorate(Object value) {
+        if (value instanceof CharSequence) {
+            String val = String.valueOf(value);
+            if (val.contains("{{")) {
+                return (TemplateFunction) s -> val;
+            }
         }
-        return context;
+        return value;
     }
 
     public static String applyTemplate(Reader reader, TemplateContext context) {
-        return applyTemplate(reader, context, UUID.randomUUID().toString()).trim();
+        return applyTemplate(reader, context, INLINE_TEMPLATE).trim();
     }
 
     public static String applyTemplate(String template, TemplateContext context, String templateName) {
-        return applyTemplate(new StringReader(template), context, templateName);
+        return render(template, context, templateName);
     }
 
     public static String applyTemplate(String template, TemplateContext context) {
-        return applyTemplate(new StringReader(template), context, UUID.randomUUID().toString()).trim();
+        return render(template, context, INLINE_TEMPLATE).trim();
     }
 
     public static void applyTemplates(Map<String, Object> props, TemplateContext templates) {
@@ -133,12 +218,64 @@ public final class MustacheUtils {
         return isNotBlank(str) ? "!!" + str + "!!" : str;
     }
 
-    private static void applyFunctions(TemplateContext props) {
-        ExtensionManagerHolder.get().findExtensionPoints(MustacheExtensionPoint.class)
-            .forEach(ep -> ep.apply(props));
+    private static final class SharedScope {
+        private final WeakReference<ExtensionManager> manager;
+        private final Set<MustacheExtensionPoint> extensionPoints;
+        private final Map<String, Object> entries;
+
+        private SharedScope(ExtensionManager manager, Set<MustacheExtensionPoint> extensionPoints, Map<String, Object> entries) {
+            this.manager = new WeakReference<>(manager);
+            this.extensionPoints = new HashSet<>(extensionPoints);
+            this.entries = entries;
+        }
+
+        private boolean matches(ExtensionManager manager, Set<MustacheExtensionPoint> extensionPoints) {
+            return this.manager.get() == manager && this.extensionPoints.equals(extensionPoints);
+        }
+    }
+
+    /**
+     * Read-only view that exposes values holding templates as lambdas, so that they are evaluated
+     * in place without decorating, or modifying, the whole context on every evaluation.
+     */
+    private static final class TemplateValues extends AbstractMap<String, Object> {
+        private final Map<String, Object> delegate;
+
+        private TemplateValues(Map<String, Object> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return delegate.containsKey(key);
+        }
+
+        @Override
+        public Object get(Object key) {
+            return decorate(delegate.get(key));
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return unmodifiableMap(delegate).entrySet();
+        }
     }
 
     private static class MyMustacheFactory extends DefaultMustacheFactory {
+        @Override
+        public Mustache getFragment(FragmentKey templateKey) {
+            // fragments are rendered from values that contain templates; keep the cache bounded
+            if (templateCache.size() > MAX_CACHED_TEMPLATES) templateCache.clear();
+            return super.getFragment(templateKey);
+        }
+
+        @Override
+        public Mustache compile(String name) {
+            // partials are cached by name, names may be resolved from user templates
+            if (mustacheCache.size() > MAX_CACHED_TEMPLATES) mustacheCache.clear();
+            return super.compile(name);
+        }
+
         @Override
         public void encode(String value, Writer writer) {
             if (value.startsWith("!!") && value.endsWith("!!")) {
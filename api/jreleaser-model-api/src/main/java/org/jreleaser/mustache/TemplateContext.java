@@ -17,16 +17,35 @@
  */
 package org.jreleaser.mustache;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
 /**
+ * Template properties. Copying a context is cheap: the source's entries are frozen into a
+ * shared layer and both contexts record further changes as local overrides on top of it.
+ * <p>
+ * Freezing swaps the source's own entries for the shared layer, which does not change what
+ * it holds. Accessors are synchronized so that a context may be copied while other threads
+ * read it.
+ *
  * @author Andres Almiray
  * @since 1.5.0
  */
 public final class TemplateContext {
-    private final Map<String, Object> properties = new LinkedHashMap<>();
+    private static final int MAX_DEPTH = 8;
+
+    private final Map<String, Object> view = new View();
+    private Layer parent;
+    private Map<String, Object> properties = new LinkedHashMap<>();
+    private Set<String> removed = new HashSet<>();
+    // entries of the parent layer merged with local changes, reset on every change
+    private Map<String, Object> merged;
 
     public static TemplateContext empty() {
         return new TemplateContext();
@@ -44,27 +63,40 @@ public final class TemplateContext {
     }
 
     public boolean isEmpty() {
-        return properties.isEmpty();
+        return view.isEmpty();
     }
 
     public Set<String> keys() {
-        return properties.keySet();
+        return view.keySet();
     }
 
     public Set<Map.Entry<String, Object>> entries() {
-        return properties.entrySet();
+        return view.entrySet();
     }
 
-    public boolean contains(String key) {
-        return properties.containsKey(key);
+    public synchronized boolean contains(String key) {
+        return properties.containsKey(key) || !removed.contains(key) && null != parent && parent.contains(key);
     }
 
-    public <V> V get(String key) {
-        return (V) properties.get(key);
+    public synchronized <V> V get(String key) {
+        if (properties.containsKey(key)) return (V) properties.get(key);
+        if (removed.contains(key) || null == parent) return null;
+        return (V) parent.get(key);
     }
 
     public void setAll(TemplateContext other) {
-        if (null != other) properties.putAll(other.properties);
+        if (null == other || other == this) return;
+
+        // the source is locked on its own, two contexts copying each other cannot deadlock
+        Layer layer = other.share();
+        synchronized (this) {
+            if (null == parent && properties.isEmpty()) {
+                parent = layer;
+            } else if (null != layer) {
+                properties.putAll(layer.flatten());
+            }
+            merged = null;
+        }
     }
 
     public <V> void setAll(Map<String, V> props) {
@@ -72,23 +104,210 @@ public final class TemplateContext {
         props.forEach(this::set);
     }
 
-    public <V> V set(String key, V value) {
-        V previousValue = (V) properties.get(key);
-        if (null != value) properties.put(key, value);
+    public synchronized <V> V set(String key, V value) {
+        V previousValue = get(key);
+        if (null != value) put(key, value);
         return previousValue;
     }
 
-    public <V> V set(String key, V value, V defaultValue) {
-        V previousValue = (V) properties.get(key);
-        if (null != value && null != defaultValue) properties.put(key, value);
+    public synchronized <V> V set(String key, V value, V defaultValue) {
+        V previousValue = get(key);
+        if (null != value && null != defaultValue) put(key, value);
         return previousValue;
     }
 
-    public <V> V remove(String key) {
-        return (V) properties.remove(key);
+    public synchronized <V> V remove(String key) {
+        V previousValue = get(key);
+        properties.remove(key);
+        if (null != parent && parent.contains(key)) removed.add(key);
+        merged = null;
+        return previousValue;
     }
 
     public Map<String, Object> asMap() {
-        return properties;
+        return view;
+    }
+
+    private void put(String key, Object value) {
+        properties.put(key, value);
+        merged = null;
+    }
+
+    private synchronized Map<String, Object> flattened() {
+        if (null == parent) return properties;
+        if (null == merged) merged = merge(parent, properties, removed);
+        return merged;
+    }
+
+    private synchronized Layer share() {
+        if (properties.isEmpty() && removed.isEmpty()) return parent;
+
+        Layer layer = new Layer(parent, properties, removed);
+        if (layer.depth > MAX_DEPTH) {
+            layer = new Layer(null, layer.flatten(), Collections.emptySet());
+        }
+
+        parent = layer;
+        properties = new LinkedHashMap<>();
+        removed = new HashSet<>();
+        return layer;
+    }
+
+    private static Map<String, Object> merge(Layer parent, Map<String, Object> properties, Set<String> removed) {
+        Map<String, Object> merged = new LinkedHashMap<>();
+        parent.flatten().forEach((key, value) -> {
+            if (!removed.contains(key)) merged.put(key, properties.containsKey(key) ? properties.get(key) : value);
+        });
+        properties.forEach((key, value) -> {
+            if (!merged.containsKey(key)) merged.put(key, value);
+        });
+        return merged;
+    }
+
+    private static final class Layer {
+        private final Layer parent;
+        private final Map<String, Object> properties;
+        private final Set<String> removed;
+        private final int depth;
+        private volatile Map<String, Object> flattened;
+
+        private Layer(Layer parent, Map<String, Object> properties, Set<String> removed) {
+            this.parent = parent;
+            this.properties = properties;
+            this.removed = removed;
+            this.depth = null != parent ? parent.depth + 1 : 1;
+        }
+
+        private boolean contains(String key) {
+            return properties.containsKey(key) || !removed.contains(key) && null != parent && parent.contains(key);
+        }
+
+        private Object get(String key) {
+            if (properties.containsKey(key)) return properties.get(key);
+            if (removed.contains(key) || null == parent) return null;
+            return parent.get(key);
+        }
+
+        private Map<String, Object> flatten() {
+            Map<String, Object> map = flattened;
+            if (null == map) {
+                map = null != parent ? merge(parent, properties, removed) : properties;
+                flattened = map;
+            }
+            return map;
+        }
+    }
+
+    private final class View extends AbstractMap<String, Object> {
+        private final Set<Entry<String, Object>> entries = new Entries();
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return entries.isEmpty();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String && contains((String) key);
+        }
+
+        @Override
+        public Object get(Object key) {
+            return key instanceof String ? TemplateContext.this.get((String) key) : null;
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            synchronized (TemplateContext.this) {
+                Object previousValue = TemplateContext.this.get(key);
+                TemplateContext.this.put(key, value);
+                return previousValue;
+            }
+        }
+
+        @Override
+        public Object remove(Object key) {
+            return key instanceof String ? TemplateContext.this.remove((String) key) : null;
+        }
+
+        @Override
+        public void clear() {
+            synchronized (TemplateContext.this) {
+                if (null != parent) removed.addAll(parent.flatten().keySet());
+                properties.clear();
+                merged = null;
+            }
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return entries;
+        }
+    }
+
+    private final class Entries extends AbstractSet<Map.Entry<String, Object>> {
+        @Override
+        public int size() {
+            return flattened().size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return flattened().isEmpty();
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            Map<String, Object> entries;
+            synchronized (TemplateContext.this) {
+                if (null == parent) return properties.entrySet().iterator();
+                // a snapshot, changes made while iterating do not show up
+                entries = flattened();
+            }
+
+            Iterator<Map.Entry<String, Object>> iterator = entries.entrySet().iterator();
+            return new Iterator<Map.Entry<String, Object>>() {
+                private Map.Entry<String, Object> current;
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Map.Entry<String, Object> next() {
+                    current = new ViewEntry(iterator.next());
+                    return current;
+                }
+
+                @Override
+                public void remove() {
+                    if (null == current) throw new IllegalStateException();
+                    TemplateContext.this.remove(current.getKey());
+                    current = null;
+                }
+            };
+        }
+    }
+
+    private final class ViewEntry extends AbstractMap.SimpleEntry<String, Object> {
+        private static final long serialVersionUID = -4839473150427398851L;
+
+        private ViewEntry(Map.Entry<String, Object> entry) {
+            super(entry);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            synchronized (TemplateContext.this) {
+                TemplateContext.this.put(getKey(), value);
+            }
+            return super.setValue(value);
+        }
     }
 }
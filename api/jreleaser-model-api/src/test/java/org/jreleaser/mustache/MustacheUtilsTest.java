@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.mustache;
+
+import org.jreleaser.extensions.api.ExtensionManager;
+import org.jreleaser.extensions.api.ExtensionManagerHolder;
+import org.jreleaser.extensions.api.ExtensionPoint;
+import org.jreleaser.extensions.api.mustache.MustacheExtensionPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jreleaser.mustache.MustacheUtils.applyTemplate;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class MustacheUtilsTest {
+    @BeforeEach
+    void setup() {
+        ExtensionManagerHolder.set(manager());
+    }
+
+    @AfterEach
+    void cleanup() {
+        ExtensionManagerHolder.cleanup();
+    }
+
+    @Test
+    void renderEachContextWithTheSameTemplate() {
+        // given:
+        String template = "{{name}}-{{version}}";
+
+        // expect:
+        for (String version : Arrays.asList("1.0.0", "2.0.0", "1.0.0")) {
+            assertThat(applyTemplate(template, context("app", version))).isEqualTo("app-" + version);
+            assertThat(applyTemplate(template, context("tool", version))).isEqualTo("tool-" + version);
+        }
+    }
+
+    @Test
+    void renderTheSameTextUnderDifferentNames() {
+        // given:
+        String template = "{{name}}";
+
+        // expect:
+        assertThat(applyTemplate(template, context("app", "1.0.0"), "first")).isEqualTo("app");
+        assertThat(applyTemplate(template, context("tool", "1.0.0"), "second")).isEqualTo("tool");
+    }
+
+    @Test
+    void returnTextWithoutTagsAsIs() {
+        // given:
+        String template = "app-1.0.0.zip";
+
+        // expect:
+        assertThat(applyTemplate(template, context("app", "1.0.0"), "inline")).isSameAs(template);
+    }
+
+    @Test
+    void renderTemplatesWithOtherDelimiters() {
+        // expect:
+        assertThat(applyTemplate("{{=<% %>=}}<%name%>-<%version%>", context("app", "1.0.0"))).isEqualTo("app-1.0.0");
+    }
+
+    @Test
+    void renderTemplatesTooLargeToCache() {
+        // given:
+        char[] padding = new char[64 * 1024];
+        Arrays.fill(padding, 'x');
+        String template = new String(padding) + "{{name}}";
+
+        // expect:
+        assertThat(applyTemplate(template, context("app", "1.0.0"))).endsWith("xapp");
+        assertThat(applyTemplate(template, context("tool", "1.0.0"))).endsWith("xtool");
+    }
+
+    @Test
+    void renderValuesHoldingTemplates() {
+        // given:
+        TemplateContext context = context("app", "1.0.0");
+        context.set("fileName", "{{name}}-{{version}}.zip");
+
+        // expect:
+        assertThat(applyTemplate("{{fileName}}", context)).isEqualTo("app-1.0.0.zip");
+        assertThat(context.<String>get("fileName")).isEqualTo("{{name}}-{{version}}.zip");
+    }
+
+    @Test
+    void buildSharedEntriesOncePerExtensionManager() {
+        // given:
+        AtomicInteger built = new AtomicInteger();
+        MustacheExtensionPoint extensionPoint = new MustacheExtensionPoint() {
+            @Override
+            public void apply(TemplateContext context) {
+                // noop
+            }
+
+            @Override
+            public void applyShared(TemplateContext context) {
+                context.set("greeting", "hello " + built.incrementAndGet());
+            }
+        };
+        ExtensionManagerHolder.set(manager(extensionPoint));
+
+        // when:
+        String first = applyTemplate("{{greeting}}", context("app", "1.0.0"));
+        String second = applyTemplate("{{greeting}} {{name}}", context("tool", "1.0.0"));
+
+        // then:
+        assertThat(first).isEqualTo("hello 1");
+        assertThat(second).isEqualTo("hello 1 tool");
+
+        // when:
+        ExtensionManagerHolder.set(manager(extensionPoint));
+        String third = applyTemplate("{{greeting}}", context("app", "1.0.0"));
+
+        // then:
+        assertThat(third).isEqualTo("hello 2");
+    }
+
+    @Test
+    void preferContextEntriesOverSharedOnes() {
+        // given:
+        ExtensionManagerHolder.set(manager(new MustacheExtensionPoint() {
+            @Override
+            public void apply(TemplateContext context) {
+                // noop
+            }
+
+            @Override
+            public void applyShared(TemplateContext context) {
+                context.set("name", "shared");
+                context.set("greeting", "hello");
+            }
+        }));
+
+        // expect:
+        assertThat(applyTemplate("{{greeting}} {{name}}", context("app", "1.0.0"))).isEqualTo("hello app");
+    }
+
+    @Test
+    void applyExtensionPointsToTheRenderOnly() {
+        // given:
+        ExtensionManagerHolder.set(manager(context -> context.set("extra", "value")));
+        TemplateContext context = context("app", "1.0.0");
+
+        // when:
+        String result = applyTemplate("{{name}} {{extra}}", context);
+
+        // then:
+        assertThat(result).isEqualTo("app value");
+        assertThat(context.contains("extra")).isFalse();
+    }
+
+    private static TemplateContext context(String name, String version) {
+        TemplateContext context = new TemplateContext();
+        context.set("name", name);
+        context.set("version", version);
+        return context;
+    }
+
+    private static ExtensionManager manager(MustacheExtensionPoint... extensionPoints) {
+        return new ExtensionManager() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T extends ExtensionPoint> Set<T> findExtensionPoints(Class<T> extensionPointType) {
+                if (MustacheExtensionPoint.class.equals(extensionPointType)) {
+                    return (Set<T>) new LinkedHashSet<>(Arrays.asList(extensionPoints));
+                }
+                return Collections.emptySet();
+            }
+        };
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.mustache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class TemplateContextTest {
+    @Test
+    void copiesDoNotShareChanges() {
+        // given:
+        TemplateContext source = new TemplateContext();
+        source.set("name", "app");
+        source.set("version", "1.0.0");
+
+        // when:
+        TemplateContext copy = new TemplateContext(source);
+        copy.set("version", "2.0.0");
+        copy.set("extra", "value");
+        source.set("name", "other");
+
+        // then:
+        assertThat(copy.<String>get("name")).isEqualTo("app");
+        assertThat(copy.<String>get("version")).isEqualTo("2.0.0");
+        assertThat(copy.contains("extra")).isTrue();
+        assertThat(source.<String>get("name")).isEqualTo("other");
+        assertThat(source.<String>get("version")).isEqualTo("1.0.0");
+        assertThat(source.contains("extra")).isFalse();
+    }
+
+    @Test
+    void removedEntriesAreHiddenInTheCopyOnly() {
+        // given:
+        TemplateContext source = new TemplateContext();
+        source.set("name", "app");
+        source.set("version", "1.0.0");
+        TemplateContext copy = new TemplateContext(source);
+
+        // when:
+        String removed = copy.remove("name");
+
+        // then:
+        assertThat(removed).isEqualTo("app");
+        assertThat(copy.contains("name")).isFalse();
+        assertThat(copy.<String>get("name")).isNull();
+        assertThat(copy.keys()).containsExactly("version");
+        assertThat(source.keys()).containsExactly("name", "version");
+
+        // when:
+        copy.set("name", "again");
+
+        // then:
+        assertThat(copy.<String>get("name")).isEqualTo("again");
+        assertThat(source.<String>get("name")).isEqualTo("app");
+    }
+
+    @Test
+    void mergedViewFollowsChanges() {
+        // given:
+        TemplateContext source = new TemplateContext();
+        source.set("name", "app");
+        TemplateContext copy = new TemplateContext(source);
+
+        // when:
+        Map<String, Object> before = copy.asMap();
+        assertThat(before).containsOnlyKeys("name");
+        copy.set("version", "1.0.0");
+        copy.asMap().put("name", "renamed");
+
+        // then:
+        assertThat(copy.asMap())
+            .containsEntry("name", "renamed")
+            .containsEntry("version", "1.0.0")
+            .hasSize(2);
+        assertThat(source.asMap()).containsOnlyKeys("name");
+        assertThat(source.<String>get("name")).isEqualTo("app");
+    }
+
+    @Test
+    void entriesCanBeUpdatedAndRemovedThroughTheView() {
+        // given:
+        TemplateContext source = new TemplateContext();
+        source.set("a", "1");
+        source.set("b", "2");
+        TemplateContext copy = new TemplateContext(source);
+
+        // when:
+        for (Iterator<Map.Entry<String, Object>> it = copy.entries().iterator(); it.hasNext(); ) {
+            Map.Entry<String, Object> entry = it.next();
+            if ("a".equals(entry.getKey())) {
+                entry.setValue("changed");
+            } else {
+                it.remove();
+            }
+        }
+
+        // then:
+        assertThat(copy.asMap()).containsOnlyKeys("a").containsEntry("a", "changed");
+        assertThat(source.asMap()).containsEntry("a", "1").containsEntry("b", "2");
+    }
+
+    @Test
+    void clearHidesSharedEntries() {
+        // given:
+        TemplateContext source = new TemplateContext();
+        source.set("name", "app");
+        TemplateContext copy = new TemplateContext(source);
+
+        // when:
+        copy.asMap().clear();
+
+        // then:
+        assertThat(copy.isEmpty()).isTrue();
+        assertThat(copy.contains("name")).isFalse();
+        assertThat(source.<String>get("name")).isEqualTo("app");
+    }
+
+    @Test
+    void longChainsOfCopiesKeepTheirEntries() {
+        // given:
+        TemplateContext context = new TemplateContext();
+        context.set("key0", 0);
+
+        // when:
+        for (int i = 1; i <= 20; i++) {
+            context = new TemplateContext(context);
+            context.set("key" + i, i);
+            if (i % 5 == 0) context.remove("key" + (i - 1));
+        }
+
+        // then:
+        for (int i = 0; i <= 20; i++) {
+            if (i % 5 == 4) {
+                assertThat(context.contains("key" + i)).isFalse();
+            } else {
+                assertThat(context.<Integer>get("key" + i)).isEqualTo(i);
+            }
+        }
+        assertThat(context.keys()).hasSize(17);
+    }
+
+    @Test
+    void copyingIntoANonEmptyContextMergesEntries() {
+        // given:
+        TemplateContext source = new TemplateContext();
+        source.set("name", "app");
+        source.set("version", "1.0.0");
+        TemplateContext target = new TemplateContext();
+        target.set("name", "target");
+        target.set("extra", "value");
+
+        // when:
+        target.setAll(source);
+        source.set("version", "2.0.0");
+
+        // then:
+        assertThat(target.asMap())
+            .containsEntry("name", "app")
+            .containsEntry("version", "1.0.0")
+            .containsEntry("extra", "value");
+    }
+}
@@ -23,6 +23,9 @@ import org.bouncycastle.crypto.digests.RIPEMD160Digest;
 import org.jreleaser.bundle.RB;
 
 import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
 
 /**
  * @author Andres Almiray
@@ -41,6 +44,13 @@ public class ChecksumUtils {
             throw new IOException(RB.$("ERROR_empty_data", algorithm));
         }
 
+        try (JfrEvents.Probe probe = JfrEvents.begin(JfrEvents.Type.HASH, algorithm.name())) {
+            probe.bytes(data.length);
+            return digest(algorithm, data);
+        }
+    }
+
+    private static String digest(Algorithm algorithm, byte[] data) throws IOException {
         switch (algorithm) {
             case MD2:
                 return DigestUtils.md2Hex(data);
@@ -72,4 +82,40 @@ public class ChecksumUtils {
                 throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm.name()));
         }
     }
+
+    /**
+     * Creates a digest for the given algorithm that can be fed incrementally, for example while streaming a download.
+     * Results encoded with {@code Hex.encodeHexString} match those of {@link #checksum(Algorithm, byte[])}.
+     *
+     * @since 1.14.0
+     */
+    public static MessageDigest messageDigest(Algorithm algorithm) throws IOException {
+        if (null == algorithm) {
+            throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm));
+        }
+
+        try {
+            switch (algorithm) {
+                case RMD160:
+                    return new org.bouncycastle.jcajce.provider.digest.RIPEMD160.Digest();
+                case SHA_1:
+                    return MessageDigest.getInstance("SHA-1");
+                case SHA_256:
+                    return MessageDigest.getInstance("SHA-256");
+                case SHA_384:
+                    return MessageDigest.getInstance("SHA-384");
+                case SHA_512:
+                    return MessageDigest.getInstance("SHA-512");
+                case SHA3_224:
+                case SHA3_256:
+                case SHA3_384:
+                case SHA3_512:
+                    return MessageDigest.getInstance(algorithm.formatted().toUpperCase(Locale.ENGLISH));
+                default:
+                    return MessageDigest.getInstance(algorithm.name());
+            }
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(RB.$("ERROR_unsupported_algorithm", algorithm.name()), e);
+        }
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.jreleaser.logging.JReleaserLogger;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.jreleaser.util.StringUtils.isNotBlank;
+
+/**
+ * Shared thread pools settings. The maximum number of concurrent tasks may be set with
+ * the {@code JRELEASER_CONCURRENCY} environment variable or the {@code jreleaser.concurrency}
+ * system property.
+ *
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+public final class ConcurrencyUtils {
+    public static final String CONCURRENCY = "concurrency";
+    public static final int DEFAULT_CONCURRENCY = 4;
+
+    private ConcurrencyUtils() {
+        // noop
+    }
+
+    /**
+     * Maximum number of tasks that a single pool may run concurrently.
+     */
+    public static int concurrency() {
+        String value = Env.resolve(CONCURRENCY, null);
+        if (isNotBlank(value)) {
+            try {
+                return Math.max(1, Integer.parseInt(value.trim()));
+            } catch (NumberFormatException ignored) {
+                // fall back to the default
+            }
+        }
+        return DEFAULT_CONCURRENCY;
+    }
+
+    /**
+     * Number of threads required to run {@code tasks} tasks, bounded by {@link #concurrency()}.
+     */
+    public static int concurrency(int tasks) {
+        return Math.max(1, Math.min(concurrency(), tasks));
+    }
+
+    public static ThreadFactory threadFactory(String name) {
+        return new NamedThreadFactory(name);
+    }
+
+    /**
+     * Creates a pool sized for {@code tasks} tasks, bounded by {@link #concurrency()}, whose
+     * tasks log and record timings as part of the work that submitted them, see
+     * {@link JReleaserLogger#wrap(Runnable)} and {@link Timings#wrap(Runnable)}.
+     */
+    public static ExecutorService newFixedThreadPool(String name, int tasks, JReleaserLogger logger) {
+        return newFixedThreadPoolOfSize(name, concurrency(tasks), logger);
+    }
+
+    /**
+     * Creates a pool of exactly {@code threads} threads, for pools whose size is configured
+     * explicitly. Tasks log and record timings like those of {@link #newFixedThreadPool(String, int, JReleaserLogger)}.
+     */
+    public static ExecutorService newFixedThreadPoolOfSize(String name, int threads, JReleaserLogger logger) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), threadFactory(name)) {
+            @Override
+            public void execute(Runnable command) {
+                super.execute(Timings.wrap(logger.wrap(command)));
+            }
+        };
+    }
+
+    /**
+     * Creates daemon threads named {@code jreleaser-<name>-<n>}.
+     */
+    private static final class NamedThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+        private final String prefix;
+
+        private NamedThreadFactory(String name) {
+            this.prefix = "jreleaser-" + name + "-";
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -71,6 +71,10 @@ import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -119,10 +123,31 @@ public final class FileUtils {
         TXZ.extension()
     };
 
+    private static final int UNPACK_ENTRIES_PER_THREAD = 64;
+
     private FileUtils() {
         //noop
     }
 
+    /**
+     * Resolves the directory that holds JReleaser caches. Honors {@code XDG_CACHE_HOME} and
+     * {@code JRELEASER_USER_HOME}, falling back to {@code ~/.jreleaser/caches}.
+     *
+     * @since 1.14.0
+     */
+    public static Path resolveJReleaserCacheDir() {
+        String home = System.getenv("XDG_CACHE_HOME");
+        if (isNotBlank(home)) {
+            return Paths.get(home).resolve("jreleaser");
+        }
+
+        home = System.getenv("JRELEASER_USER_HOME");
+        if (isBlank(home)) {
+            home = System.getProperty("user.home") + File.separator + ".jreleaser";
+        }
+        return Paths.get(home).resolve("caches");
+    }
+
     public static void listFilesAndConsume(Path path, Consumer<Stream<Path>> consumer) throws IOException {
         if (!Files.exists(path)) return;
         try (Stream<Path> files = Files.list(path)) {
@@ -168,6 +193,13 @@ public final class FileUtils {
     }
 
     public static void zip(Path src, Path dest, ArchiveOptions options) throws IOException {
+        try (JfrEvents.Probe probe = JfrEvents.begin(JfrEvents.Type.ARCHIVE, dest.getFileName().toString())) {
+            doZip(src, dest, options);
+            probe.bytes(Files.size(dest));
+        }
+    }
+
+    private static void doZip(Path src, Path dest, ArchiveOptions options) throws IOException {
         try (ZipArchiveOutputStream out = new ZipArchiveOutputStream(dest.toFile())) {
             out.setMethod(ZipOutputStream.DEFLATED);
 
@@ -369,9 +401,16 @@ public final class FileUtils {
     }
 
     public static void packArchive(Path src, Path dest, ArchiveOptions options) throws IOException {
+        try (JfrEvents.Probe probe = JfrEvents.begin(JfrEvents.Type.ARCHIVE, dest.getFileName().toString())) {
+            doPackArchive(src, dest, options);
+            if (Files.exists(dest)) probe.bytes(Files.size(dest));
+        }
+    }
+
+    private static void doPackArchive(Path src, Path dest, ArchiveOptions options) throws IOException {
         String filename = dest.getFileName().toString();
         if (filename.endsWith(ZIP.extension())) {
-            zip(src, dest, options);
+            doZip(src, dest, options);
         } else if (filename.endsWith(TAR_BZ2.extension()) || filename.endsWith(TBZ2.extension())) {
             bz2(src, dest, options);
         } else if (filename.endsWith(TAR_GZ.extension()) || filename.endsWith(TGZ.extension())) {
@@ -394,6 +433,13 @@ public final class FileUtils {
     }
 
     public static void unpackArchive(Path src, Path dest, boolean removeRootEntry, boolean cleanDirectory) throws IOException {
+        try (JfrEvents.Probe probe = JfrEvents.begin(JfrEvents.Type.ARCHIVE, src.getFileName().toString())) {
+            probe.bytes(Files.size(src));
+            doUnpackArchive(src, dest, removeRootEntry, cleanDirectory);
+        }
+    }
+
+    private static void doUnpackArchive(Path src, Path dest, boolean removeRootEntry, boolean cleanDirectory) throws IOException {
         String filename = src.getFileName().toString();
 
         for (String extension : TAR_COMPRESSED_EXTENSIONS) {
@@ -406,14 +452,12 @@ public final class FileUtils {
         if (cleanDirectory) deleteFiles(dest, true);
         File destinationDir = dest.toFile();
 
-        String rootEntryName = resolveRootEntryName(src);
         if (filename.endsWith(ZIP.extension())) {
-            try (ZipFile zipFile = ZipFile.builder().setFile(src.toFile()).get()) {
-                unpackArchive(removeRootEntry ? rootEntryName + "/" : "", destinationDir, zipFile);
-            }
+            unpackZip(src, destinationDir, removeRootEntry);
             return;
         }
 
+        String rootEntryName = removeRootEntry ? resolveRootEntryName(src) : "";
         try (InputStream fi = Files.newInputStream(src);
              InputStream bi = new BufferedInputStream(fi);
              ArchiveInputStream<?> in = new ArchiveStreamFactory().createArchiveInputStream(bi)) {
@@ -438,7 +482,7 @@ public final class FileUtils {
 
         String filename = src.getFileName().toString();
         String artifactFileName = getFilename(filename, FileType.getSupportedExtensions());
-        String rootEntryName = resolveRootEntryName(src);
+        String rootEntryName = removeRootEntry ? resolveRootEntryNameCompressed(src) : "";
         String artifactExtension = filename.substring(artifactFileName.length());
         String artifactFileFormat = artifactExtension.substring(1);
         FileType fileType = FileType.of(artifactFileFormat);
@@ -515,48 +559,119 @@ public final class FileUtils {
         }
     }
 
-    private static void unpackArchive(String basename, File destinationDir, ZipFile zipFile) throws IOException {
-        Enumeration<ZipArchiveEntry> entries = zipFile.getEntries();
-        while (entries.hasMoreElements()) {
-            ZipArchiveEntry entry = entries.nextElement();
-            if (!zipFile.canReadEntryData(entry)) {
-                // log something?
-                continue;
-            }
+    private static void unpackZip(Path src, File destinationDir, boolean removeRootEntry) throws IOException {
+        List<ZipArchiveEntry> files = new ArrayList<>();
+        List<File> targets = new ArrayList<>();
+        String destDirPath = destinationDir.getCanonicalPath();
+
+        try (ZipFile zipFile = ZipFile.builder().setFile(src.toFile()).get()) {
+            // the central directory yields the root entry and the directory layout
+            // without reading any entry data, so the archive is only read once
+            String basename = "";
+            List<ZipArchiveEntry> links = new ArrayList<>();
+            List<File> linkTargets = new ArrayList<>();
+            Enumeration<ZipArchiveEntry> entries = zipFile.getEntries();
+            while (entries.hasMoreElements()) {
+                ZipArchiveEntry entry = entries.nextElement();
+                if (!zipFile.canReadEntryData(entry)) {
+                    // log something?
+                    continue;
+                }
 
-            String entryName = entry.getName();
-            if (isNotBlank(basename) && entryName.startsWith(basename) && entryName.length() > basename.length() + 1) {
-                entryName = entryName.substring(basename.length());
-            }
+                String entryName = entry.getName();
+                if (removeRootEntry && isBlank(basename)) {
+                    basename = entryName.split("/")[0] + "/";
+                }
+                if (isNotBlank(basename) && entryName.startsWith(basename) && entryName.length() > basename.length() + 1) {
+                    entryName = entryName.substring(basename.length());
+                }
 
-            File file = new File(destinationDir, entryName);
-            String destDirPath = destinationDir.getCanonicalPath();
-            String destFilePath = file.getCanonicalPath();
-            if (!destFilePath.startsWith(destDirPath + File.separator)) {
-                throw new IOException(RB.$("ERROR_files_unpack_outside_target", entry.getName()));
-            }
+                File file = new File(destinationDir, entryName);
+                String destFilePath = file.getCanonicalPath();
+                if (!destFilePath.startsWith(destDirPath + File.separator)) {
+                    throw new IOException(RB.$("ERROR_files_unpack_outside_target", entry.getName()));
+                }
 
-            if (entry.isDirectory()) {
-                if (!file.isDirectory() && !file.mkdirs()) {
-                    throw new IOException(RB.$("ERROR_files_unpack_fail_dir", file));
+                if (entry.isDirectory()) {
+                    if (!file.isDirectory() && !file.mkdirs()) {
+                        throw new IOException(RB.$("ERROR_files_unpack_fail_dir", file));
+                    }
+                    continue;
                 }
-            } else {
+
                 File parent = file.getParentFile();
                 if (!parent.isDirectory() && !parent.mkdirs()) {
                     throw new IOException(RB.$("ERROR_files_unpack_fail_dir", parent));
                 }
 
                 if (entry.isUnixSymlink()) {
-                    Files.createSymbolicLink(file.toPath(), Paths.get(zipFile.getUnixSymlink(entry)));
+                    links.add(entry);
+                    linkTargets.add(file);
                 } else {
-                    try (OutputStream o = Files.newOutputStream(file.toPath())) {
-                        IOUtils.copy(zipFile.getInputStream(entry), o);
-                        Files.setLastModifiedTime(file.toPath(), FileTime.from(entry.getLastModifiedDate().toInstant()));
-                        chmod(file, getEntryMode(entry, file));
+                    files.add(entry);
+                    targets.add(file);
+                }
+            }
+
+            int parallelism = Math.min(Math.min(ConcurrencyUtils.concurrency(), Runtime.getRuntime().availableProcessors()),
+                files.size() / UNPACK_ENTRIES_PER_THREAD);
+            if (parallelism > 1) {
+                unpackZipEntries(src, files, targets, parallelism);
+            } else {
+                for (int i = 0; i < files.size(); i++) {
+                    unpackZipEntry(zipFile, files.get(i), targets.get(i));
+                }
+            }
+
+            // links go last so that files are never written through them
+            for (int i = 0; i < links.size(); i++) {
+                Files.createSymbolicLink(linkTargets.get(i).toPath(), Paths.get(zipFile.getUnixSymlink(links.get(i))));
+            }
+        }
+    }
+
+    private static void unpackZipEntries(Path src, List<ZipArchiveEntry> files, List<File> targets, int parallelism) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, ConcurrencyUtils.threadFactory("unpack"));
+
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < parallelism; i++) {
+                int offset = i;
+                workers.add(executor.submit(() -> {
+                    // every worker reads through its own handle, striding over the entries
+                    try (ZipFile zipFile = ZipFile.builder().setFile(src.toFile()).get()) {
+                        for (int j = offset; j < files.size(); j += parallelism) {
+                            unpackZipEntry(zipFile, files.get(j), targets.get(j));
+                        }
                     }
+                    return null;
+                }));
+            }
+
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (ExecutionException e) {
+                    Throwable cause = null != e.getCause() ? e.getCause() : e;
+                    if (cause instanceof IOException) throw (IOException) cause;
+                    throw new IOException(cause.getMessage(), cause);
                 }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(RB.$("ERROR_unexpected_error"), e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void unpackZipEntry(ZipFile zipFile, ZipArchiveEntry entry, File file) throws IOException {
+        try (InputStream i = zipFile.getInputStream(entry);
+             OutputStream o = Files.newOutputStream(file.toPath())) {
+            IOUtils.copy(i, o);
         }
+        Files.setLastModifiedTime(file.toPath(), FileTime.from(entry.getLastModifiedDate().toInstant()));
+        chmod(file, getEntryMode(entry, file));
     }
 
     private static boolean isSymbolicLink(ArchiveEntry entry) {
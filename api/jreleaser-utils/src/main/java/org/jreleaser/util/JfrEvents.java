@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.JReleaserLogger;
+
+import java.nio.file.Path;
+
+/**
+ * Emits JDK Flight Recorder events for release hot paths.
+ * <p>
+ * Event classes are only loaded when Flight Recorder is available, which keeps this class
+ * safe to call on runtimes without {@code jdk.jfr}. Events that are not enabled by an active
+ * recording cost a single check.
+ *
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+public final class JfrEvents {
+    private static final boolean AVAILABLE = isAvailable();
+
+    private JfrEvents() {
+        //noop
+    }
+
+    public enum Type {
+        HASH,
+        SIGN,
+        ARCHIVE,
+        TEMPLATE,
+        UPLOAD,
+        DOWNLOAD,
+        GIT,
+        COMMAND
+    }
+
+    public static Probe begin(Type type, String target) {
+        return AVAILABLE ? JfrSupport.begin(type, target) : Probe.NOOP;
+    }
+
+    /**
+     * Starts a recording with the default settings that is dumped to {@code destination} once closed.
+     */
+    public static Session record(JReleaserLogger logger, Path destination) {
+        if (!AVAILABLE) {
+            logger.warn(RB.$("jfr.unavailable"));
+            return Session.NOOP;
+        }
+
+        return JfrSupport.record(logger, destination);
+    }
+
+    private static boolean isAvailable() {
+        try {
+            Class.forName("jdk.jfr.FlightRecorder");
+            return JfrSupport.isAvailable();
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    public interface Probe extends AutoCloseable {
+        Probe NOOP = new Probe() {
+            @Override
+            public Probe bytes(long bytes) {
+                return this;
+            }
+
+            @Override
+            public void close() {
+                //noop
+            }
+        };
+
+        Probe bytes(long bytes);
+
+        @Override
+        void close();
+    }
+
+    public interface Session extends AutoCloseable {
+        Session NOOP = () -> {
+            //noop
+        };
+
+        @Override
+        void close();
+    }
+}
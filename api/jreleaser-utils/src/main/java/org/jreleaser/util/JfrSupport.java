@@ -0,0 +1,188 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Configuration;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.StackTrace;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.JReleaserLogger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+/**
+ * Flight Recorder event definitions. Only referenced by {@link JfrEvents} once {@code jdk.jfr} is known to be present.
+ *
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+final class JfrSupport {
+    private JfrSupport() {
+        //noop
+    }
+
+    static boolean isAvailable() {
+        return FlightRecorder.isAvailable();
+    }
+
+    static JfrEvents.Probe begin(JfrEvents.Type type, String target) {
+        ReleaseEvent event = create(type);
+        if (!event.isEnabled()) return JfrEvents.Probe.NOOP;
+
+        event.target = target;
+        event.begin();
+        return new EventProbe(event);
+    }
+
+    static JfrEvents.Session record(JReleaserLogger logger, Path destination) {
+        try {
+            Files.createDirectories(destination.toAbsolutePath().getParent());
+            Recording recording = new Recording(Configuration.getConfiguration("default"));
+            recording.setName("jreleaser");
+            recording.setToDisk(true);
+            recording.setDestination(destination);
+            recording.start();
+            logger.info(RB.$("jfr.recording"), destination.toAbsolutePath());
+
+            return () -> {
+                try {
+                    recording.stop();
+                } catch (IllegalStateException e) {
+                    logger.warn(RB.$("jfr.recording.error"), destination.toAbsolutePath());
+                    logger.trace(e);
+                } finally {
+                    recording.close();
+                }
+            };
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            logger.warn(RB.$("jfr.recording.error"), destination.toAbsolutePath());
+            logger.trace(e);
+            return JfrEvents.Session.NOOP;
+        }
+    }
+
+    private static ReleaseEvent create(JfrEvents.Type type) {
+        switch (type) {
+            case HASH:
+                return new HashEvent();
+            case SIGN:
+                return new SignEvent();
+            case ARCHIVE:
+                return new ArchiveEvent();
+            case TEMPLATE:
+                return new TemplateEvent();
+            case UPLOAD:
+                return new UploadEvent();
+            case DOWNLOAD:
+                return new DownloadEvent();
+            case GIT:
+                return new GitEvent();
+            case COMMAND:
+            default:
+                return new CommandEvent();
+        }
+    }
+
+    private static final class EventProbe implements JfrEvents.Probe {
+        private final ReleaseEvent event;
+
+        private EventProbe(ReleaseEvent event) {
+            this.event = event;
+        }
+
+        @Override
+        public JfrEvents.Probe bytes(long bytes) {
+            event.bytes = bytes;
+            return this;
+        }
+
+        @Override
+        public void close() {
+            event.commit();
+        }
+    }
+
+    @Category("JReleaser")
+    @StackTrace(false)
+    abstract static class ReleaseEvent extends Event {
+        @Label("Target")
+        String target;
+
+        @Label("Bytes")
+        @DataAmount
+        long bytes;
+    }
+
+    @Name("org.jreleaser.Hash")
+    @Label("Hash")
+    @Description("Checksum calculation")
+    static final class HashEvent extends ReleaseEvent {
+    }
+
+    @Name("org.jreleaser.Sign")
+    @Label("Sign")
+    @Description("Signature generation")
+    static final class SignEvent extends ReleaseEvent {
+    }
+
+    @Name("org.jreleaser.Archive")
+    @Label("Archive")
+    @Description("Archive packing or unpacking")
+    static final class ArchiveEvent extends ReleaseEvent {
+    }
+
+    @Name("org.jreleaser.Template")
+    @Label("Template")
+    @Description("Template rendering")
+    static final class TemplateEvent extends ReleaseEvent {
+    }
+
+    @Name("org.jreleaser.Upload")
+    @Label("Upload")
+    @Description("HTTP upload")
+    static final class UploadEvent extends ReleaseEvent {
+    }
+
+    @Name("org.jreleaser.Download")
+    @Label("Download")
+    @Description("HTTP download")
+    static final class DownloadEvent extends ReleaseEvent {
+    }
+
+    @Name("org.jreleaser.Git")
+    @Label("Git")
+    @Description("Git operation")
+    static final class GitEvent extends ReleaseEvent {
+    }
+
+    @Name("org.jreleaser.Command")
+    @Label("Command")
+    @Description("External command execution")
+    static final class CommandEvent extends ReleaseEvent {
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records timing spans for a session.
+ * <p>
+ * A session binds its recorder to the running thread with {@link #bind(Timings)}. Spans are
+ * then opened with {@link #start(String, String)} and closed with try-with-resources. Nested
+ * code may attach attributes such as bytes, retries, or cache hits to the innermost open span
+ * of the calling thread via {@link #current()}. Tasks handed to other threads keep recording
+ * to the same session, within the span that was open when they were created, once bound with
+ * {@link #wrap(Runnable)}. Nothing is recorded on threads without a recorder.
+ *
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+public final class Timings {
+    public static final String CATEGORY_STEP = "step";
+    public static final String CATEGORY_HOOK = "hook";
+    public static final String CATEGORY_PACKAGER = "packager";
+    public static final String CATEGORY_UPLOADER = "uploader";
+    public static final String CATEGORY_DEPLOYER = "deployer";
+    public static final String CATEGORY_ANNOUNCER = "announcer";
+    public static final String CATEGORY_REMOTE = "remote";
+    public static final String BYTES = "bytes";
+    public static final String RETRIES = "retries";
+    public static final String CACHE_HITS = "cacheHits";
+
+    private static final Span NOOP = new Span(null, null, null);
+    private static final ThreadLocal<Timings> RECORDER = new ThreadLocal<>();
+
+    private final Queue<Span> spans = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Deque<Span>> open = ThreadLocal.withInitial(ArrayDeque::new);
+    private final long origin = System.nanoTime();
+    private final Instant originTime = Instant.now();
+
+    /**
+     * Binds a recorder to the current thread, replacing any other.
+     *
+     * @param timings the recorder, {@code null} to stop recording
+     */
+    public static void bind(Timings timings) {
+        if (null != timings) {
+            RECORDER.set(timings);
+        } else {
+            RECORDER.remove();
+        }
+    }
+
+    public static Span start(String category, String name) {
+        Timings timings = RECORDER.get();
+        if (null == timings) return NOOP;
+
+        Span span = new Span(timings, category, name);
+        timings.open.get().push(span);
+        return span;
+    }
+
+    public static Span current() {
+        Timings timings = RECORDER.get();
+        Span span = null != timings ? timings.open.get().peek() : null;
+        return null != span ? span : NOOP;
+    }
+
+    /**
+     * Binds a task to the recorder and the innermost span open on the calling thread.
+     * The running thread gets its own recorder back once the task completes.
+     *
+     * @param task the task to bind
+     * @return the bound task
+     */
+    public static Runnable wrap(Runnable task) {
+        Timings timings = RECORDER.get();
+        if (null == timings) return task;
+
+        Span parent = timings.open.get().peek();
+        return () -> {
+            Timings previous = RECORDER.get();
+            RECORDER.set(timings);
+            Deque<Span> spans = timings.open.get();
+            if (null != parent) spans.push(parent);
+            try {
+                task.run();
+            } finally {
+                if (null != parent) spans.remove(parent);
+                bind(previous);
+            }
+        };
+    }
+
+    public List<Span> getSpans() {
+        return new ArrayList<>(spans);
+    }
+
+    /**
+     * Writes recorded spans as a JSON report and, if {@code chromeTrace} is not null, in
+     * Chrome trace-event format suitable for {@code chrome://tracing} or Perfetto.
+     */
+    public void write(Path report, Path chromeTrace) throws IOException {
+        List<Span> spans = getSpans();
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        Files.write(report, mapper.writeValueAsBytes(toReport(mapper, spans)));
+        if (null != chromeTrace) {
+            Files.write(chromeTrace, mapper.writeValueAsBytes(toChromeTrace(mapper, spans)));
+        }
+    }
+
+    private ObjectNode toReport(ObjectMapper mapper, List<Span> spans) {
+        ObjectNode root = mapper.createObjectNode();
+        root.put("started", originTime.toString());
+        root.put("duration", millis(System.nanoTime() - origin));
+
+        Map<String, ObjectNode> summary = new TreeMap<>();
+        ArrayNode array = root.putArray("spans");
+        for (Span span : spans) {
+            ObjectNode node = array.addObject();
+            node.put("category", span.category);
+            node.put("name", span.name);
+            node.put("thread", span.threadName);
+            node.put("start", millis(span.start - origin));
+            node.put("duration", millis(span.duration()));
+
+            ObjectNode totals = summary.computeIfAbsent(span.category, k -> mapper.createObjectNode()
+                .put("count", 0)
+                .put("duration", 0d));
+            totals.put("count", totals.get("count").asLong() + 1);
+            totals.put("duration", totals.get("duration").asDouble() + millis(span.duration()));
+
+            for (Map.Entry<String, Object> e : span.getAttributes().entrySet()) {
+                node.putPOJO(e.getKey(), e.getValue());
+                if (e.getValue() instanceof Number) {
+                    long total = null != totals.get(e.getKey()) ? totals.get(e.getKey()).asLong() : 0L;
+                    totals.put(e.getKey(), total + ((Number) e.getValue()).longValue());
+                }
+            }
+        }
+        root.putObject("summary").setAll(summary);
+
+        return root;
+    }
+
+    private ObjectNode toChromeTrace(ObjectMapper mapper, List<Span> spans) {
+        ObjectNode root = mapper.createObjectNode();
+        root.put("displayTimeUnit", "ms");
+        ArrayNode events = root.putArray("traceEvents");
+
+        Map<Long, String> threads = new LinkedHashMap<>();
+        for (Span span : spans) {
+            threads.putIfAbsent(span.threadId, span.threadName);
+            ObjectNode event = events.addObject()
+                .put("name", span.name)
+                .put("cat", span.category)
+                .put("ph", "X")
+                .put("ts", micros(span.start - origin))
+                .put("dur", micros(span.duration()))
+                .put("pid", 1)
+                .put("tid", span.threadId);
+            ObjectNode args = event.putObject("args");
+            span.getAttributes().forEach(args::putPOJO);
+        }
+
+        threads.forEach((id, name) -> events.addObject()
+            .put("name", "thread_name")
+            .put("ph", "M")
+            .put("pid", 1)
+            .put("tid", id)
+            .putObject("args")
+            .put("name", name));
+
+        return root;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000d;
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    public static final class Span implements AutoCloseable {
+        private final Timings timings;
+        private final String category;
+        private final String name;
+        private final String threadName;
+        private final long threadId;
+        private final long start;
+        private final Map<String, Object> attributes = new LinkedHashMap<>();
+        private volatile long end = -1;
+
+        private Span(Timings timings, String category, String name) {
+            this.timings = timings;
+            this.category = category;
+            this.name = name;
+            this.threadName = Thread.currentThread().getName();
+            this.threadId = Thread.currentThread().getId();
+            this.start = System.nanoTime();
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long duration() {
+            return (end < 0 ? System.nanoTime() : end) - start;
+        }
+
+        public synchronized Map<String, Object> getAttributes() {
+            return new LinkedHashMap<>(attributes);
+        }
+
+        public Span set(String key, Object value) {
+            if (this == NOOP || null == value) return this;
+            synchronized (this) {
+                attributes.put(key, value);
+            }
+            return this;
+        }
+
+        public Span add(String key, long delta) {
+            if (this == NOOP) return this;
+            synchronized (this) {
+                attributes.merge(key, delta, (a, b) -> ((Number) a).longValue() + ((Number) b).longValue());
+            }
+            return this;
+        }
+
+        @Override
+        public void close() {
+            if (this == NOOP || end >= 0) return;
+            end = System.nanoTime();
+            timings.open.get().remove(this);
+            timings.spans.add(this);
+        }
+    }
+}
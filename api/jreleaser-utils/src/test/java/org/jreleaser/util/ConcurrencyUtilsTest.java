@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class ConcurrencyUtilsTest {
+    private final JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR);
+
+    @AfterEach
+    void cleanup() {
+        System.clearProperty("jreleaser.concurrency");
+    }
+
+    @Test
+    void sizesPoolsForTheirTasks() {
+        // given:
+        System.setProperty("jreleaser.concurrency", "3");
+
+        // expect:
+        assertThat(poolSize(ConcurrencyUtils.newFixedThreadPool("test", 2, logger)), equalTo(2));
+        assertThat(poolSize(ConcurrencyUtils.newFixedThreadPool("test", 10, logger)), equalTo(3));
+        assertThat(poolSize(ConcurrencyUtils.newFixedThreadPool("test", 0, logger)), equalTo(1));
+    }
+
+    @Test
+    void honorsExplicitPoolSizes() {
+        // given:
+        System.setProperty("jreleaser.concurrency", "3");
+
+        // expect:
+        assertThat(poolSize(ConcurrencyUtils.newFixedThreadPoolOfSize("test", 8, logger)), equalTo(8));
+    }
+
+    @Test
+    void namesPoolThreads() throws Exception {
+        // given:
+        ExecutorService executor = ConcurrencyUtils.newFixedThreadPool("test", 1, logger);
+
+        try {
+            // when:
+            String name = executor.submit(() -> Thread.currentThread().getName()).get();
+
+            // then:
+            assertThat(name, startsWith("jreleaser-test-"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int poolSize(ExecutorService executor) {
+        try {
+            return ((ThreadPoolExecutor) executor).getMaximumPoolSize();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -18,8 +18,10 @@
 package org.jreleaser.util;
 
 import org.jreleaser.test.Platform;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -28,6 +30,9 @@ import java.nio.file.Paths;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -64,4 +69,51 @@ class FileUtilsTests {
         assertTrue(() -> Files.exists(executable), "executable exists");
         assertTrue(() -> Files.isExecutable(executable), "executable has executable bit set");
     }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void unpackZipArchiveWithManyEntries(boolean removeRootEntry, @TempDir Path tmp) throws IOException {
+        // given:
+        Path src = tmp.resolve("src");
+        for (int i = 0; i < 300; i++) {
+            Path file = src.resolve("app-1.0.0").resolve("lib" + (i % 10)).resolve("file-" + i + ".txt");
+            Files.createDirectories(file.getParent());
+            Files.write(file, ("file " + i).getBytes(UTF_8));
+        }
+        Path archive = tmp.resolve("app-1.0.0.zip");
+        FileUtils.packArchive(src, archive, new FileUtils.ArchiveOptions().withTimestamp(TIMESTAMP));
+        Path dest = tmp.resolve("dest");
+
+        // when:
+        FileUtils.unpackArchive(archive, dest, removeRootEntry);
+
+        // then:
+        Path root = removeRootEntry ? dest : dest.resolve("app-1.0.0");
+        for (int i = 0; i < 300; i++) {
+            Path file = root.resolve("lib" + (i % 10)).resolve("file-" + i + ".txt");
+            assertEquals("file " + i, new String(Files.readAllBytes(file), UTF_8));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = FileType.class, names = {"TAR_GZ", "ZIP"})
+    @Platform(platform = "windows", match = false)
+    void unpackArchiveWithoutRootEntry(FileType fileType, @TempDir Path tmp) throws IOException {
+        // given:
+        Path src = Paths.get(".")
+            .resolve("src/test/resources")
+            .normalize()
+            .resolve("archive");
+        Path archive = tmp.resolve("app-1.0.0" + fileType.extension());
+        FileUtils.packArchive(src, archive, new FileUtils.ArchiveOptions().withTimestamp(TIMESTAMP));
+        Path dest = tmp.resolve("dest");
+
+        // when:
+        FileUtils.unpackArchive(archive, dest, true);
+
+        // then:
+        assertTrue(() -> Files.exists(dest.resolve("LICENSE")), "LICENSE exists");
+        assertTrue(() -> Files.isExecutable(dest.resolve("bin/executable")), "executable has executable bit set");
+        assertFalse(() -> Files.exists(dest.resolve("app-1.0.0")), "root entry is removed");
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class JfrEventsTest {
+    private final JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR);
+
+    @TempDir
+    Path basedir;
+
+    @Test
+    void skipEventsWithoutARecording() {
+        // expect:
+        assertThat(JfrEvents.begin(JfrEvents.Type.HASH, "app-1.0.0.zip"), sameInstance(JfrEvents.Probe.NOOP));
+    }
+
+    @Test
+    void recordEventsWhileARecordingIsActive() throws Exception {
+        // given:
+        Path destination = basedir.resolve("out").resolve("jreleaser.jfr");
+
+        // when:
+        try (JfrEvents.Session session = JfrEvents.record(logger, destination)) {
+            try (JfrEvents.Probe probe = JfrEvents.begin(JfrEvents.Type.HASH, "app-1.0.0.zip")) {
+                probe.bytes(1024);
+            }
+            try (JfrEvents.Probe probe = JfrEvents.begin(JfrEvents.Type.UPLOAD, "app-1.0.0.zip")) {
+                probe.bytes(2048);
+            }
+        }
+
+        // then:
+        List<RecordedEvent> events = RecordingFile.readAllEvents(destination).stream()
+            .filter(e -> e.getEventType().getName().startsWith("org.jreleaser."))
+            .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+            .collect(Collectors.toList());
+        assertThat(events, hasSize(2));
+        assertThat(events.get(0).getEventType().getName(), equalTo("org.jreleaser.Hash"));
+        assertThat(events.get(0).getString("target"), equalTo("app-1.0.0.zip"));
+        assertThat(events.get(0).getLong("bytes"), equalTo(1024L));
+        assertThat(events.get(1).getEventType().getName(), equalTo("org.jreleaser.Upload"));
+        assertThat(events.get(1).getLong("bytes"), equalTo(2048L));
+    }
+}
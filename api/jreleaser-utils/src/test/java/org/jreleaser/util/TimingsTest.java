@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class TimingsTest {
+    @TempDir
+    Path basedir;
+
+    @AfterEach
+    void cleanup() {
+        Timings.bind(null);
+    }
+
+    @Test
+    void recordNothingWithoutARecorder() {
+        // given:
+        Timings timings = new Timings();
+
+        // when:
+        try (Timings.Span span = Timings.start(Timings.CATEGORY_STEP, "release")) {
+            Timings.current().add(Timings.BYTES, 10);
+        }
+
+        // then:
+        assertThat(timings.getSpans(), empty());
+        assertThat(Timings.current().getAttributes().isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void recordNestedSpansWithTheirAttributes() {
+        // given:
+        Timings timings = new Timings();
+        Timings.bind(timings);
+
+        // when:
+        try (Timings.Span step = Timings.start(Timings.CATEGORY_STEP, "upload")) {
+            try (Timings.Span uploader = Timings.start(Timings.CATEGORY_UPLOADER, "s3")) {
+                assertThat(Timings.current(), sameInstance(uploader));
+                Timings.current().add(Timings.BYTES, 10).add(Timings.BYTES, 5);
+            }
+            assertThat(Timings.current(), sameInstance(step));
+            Timings.current().set(Timings.CACHE_HITS, 1);
+        }
+
+        // then:
+        List<Timings.Span> spans = timings.getSpans();
+        assertThat(spans, hasSize(2));
+        assertThat(spans.get(0).getName(), equalTo("s3"));
+        assertThat(spans.get(0).getAttributes().get(Timings.BYTES), equalTo(15L));
+        assertThat(spans.get(1).getName(), equalTo("upload"));
+        assertThat(spans.get(1).getAttributes().get(Timings.CACHE_HITS), equalTo(1));
+    }
+
+    @Test
+    void wrappedTasksRecordWithinTheSubmittingSpan() throws Exception {
+        // given:
+        Timings timings = new Timings();
+        Timings.bind(timings);
+        AtomicReference<Timings.Span> after = new AtomicReference<>();
+        Runnable task;
+        Timings.Span step = Timings.start(Timings.CATEGORY_STEP, "download");
+        try {
+            task = Timings.wrap(() -> {
+                Timings.current().add(Timings.RETRIES, 1);
+                try (Timings.Span remote = Timings.start(Timings.CATEGORY_REMOTE, "GET")) {
+                    remote.add(Timings.BYTES, 100);
+                }
+            });
+        } finally {
+            step.close();
+        }
+
+        // when:
+        Thread thread = new Thread(() -> {
+            task.run();
+            after.set(Timings.current());
+        });
+        thread.start();
+        thread.join();
+
+        // then:
+        List<Timings.Span> spans = timings.getSpans();
+        assertThat(spans, hasSize(2));
+        assertThat(spans.get(0).getName(), equalTo("download"));
+        assertThat(spans.get(0).getAttributes().get(Timings.RETRIES), equalTo(1L));
+        assertThat(spans.get(1).getName(), equalTo("GET"));
+        assertThat(spans.get(1).getAttributes().get(Timings.BYTES), equalTo(100L));
+        // the worker thread is unbound once the task is done
+        assertThat(after.get().getAttributes().isEmpty(), equalTo(true));
+        assertThat(after.get().getName(), nullValue());
+    }
+
+    @Test
+    void writeReportAndChromeTrace() throws Exception {
+        // given:
+        Timings timings = new Timings();
+        Timings.bind(timings);
+        try (Timings.Span step = Timings.start(Timings.CATEGORY_STEP, "release")) {
+            try (Timings.Span uploader = Timings.start(Timings.CATEGORY_UPLOADER, "s3")) {
+                uploader.add(Timings.BYTES, 10);
+            }
+            try (Timings.Span uploader = Timings.start(Timings.CATEGORY_UPLOADER, "ftp")) {
+                uploader.add(Timings.BYTES, 20);
+            }
+        }
+        Path report = basedir.resolve("out").resolve("timings.json");
+        Path trace = basedir.resolve("out").resolve("timings-trace.json");
+
+        // when:
+        timings.write(report, trace);
+
+        // then:
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode json = mapper.readTree(report.toFile());
+        assertThat(json.get("spans").size(), equalTo(3));
+        assertThat(json.get("summary").get(Timings.CATEGORY_UPLOADER).get("count").asInt(), equalTo(2));
+        assertThat(json.get("summary").get(Timings.CATEGORY_UPLOADER).get(Timings.BYTES).asLong(), equalTo(30L));
+        assertThat(json.get("summary").get(Timings.CATEGORY_STEP).get("count").asInt(), equalTo(1));
+
+        JsonNode events = mapper.readTree(trace.toFile()).get("traceEvents");
+        assertThat(events.size(), equalTo(4));
+        assertThat(events.get(0).get("ph").asText(), equalTo("X"));
+        assertThat(events.get(3).get("ph").asText(), equalTo("M"));
+    }
+}
@@ -19,6 +19,7 @@ package org.jreleaser.engine.announce;
 
 import org.jreleaser.bundle.RB;
 import org.jreleaser.extensions.api.workflow.WorkflowListenerException;
+import org.jreleaser.logging.LogScope;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.api.hooks.ExecutionEvent;
 import org.jreleaser.model.internal.JReleaserContext;
@@ -27,6 +28,7 @@ import org.jreleaser.model.spi.announce.AnnounceException;
 import org.jreleaser.model.spi.announce.Announcer;
 import org.jreleaser.model.spi.announce.AnnouncerBuilder;
 import org.jreleaser.model.spi.announce.AnnouncerBuilderFactory;
+import org.jreleaser.util.Timings;
 
 import java.util.Map;
 import java.util.ServiceLoader;
@@ -47,21 +49,21 @@ public final class Announcers {
 
     public static void announce(JReleaserContext context) {
         context.getLogger().info(RB.$("announcers.header"));
-        context.getLogger().increaseIndent();
-        context.getLogger().setPrefix("announce");
 
+        try (LogScope scope = context.getLogger().scope("announce")) {
+            doAnnounce(context);
+        }
+    }
+
+    private static void doAnnounce(JReleaserContext context) {
         if (!context.getModel().getAnnounce().isEnabled()) {
             context.getLogger().info(RB.$("announcers.not.enabled"));
-            context.getLogger().decreaseIndent();
-            context.getLogger().restorePrefix();
             return;
         }
 
         Map<String, Announcer<?>> announcers = Announcers.findAnnouncers(context);
         if (announcers.isEmpty()) {
             context.getLogger().info(RB.$("announcers.not.configured"));
-            context.getLogger().decreaseIndent();
-            context.getLogger().restorePrefix();
             return;
         }
 
@@ -92,8 +94,6 @@ public final class Announcers {
             if (!announced) {
                 context.getLogger().info(RB.$("announcers.not.triggered"));
             }
-            context.getLogger().decreaseIndent();
-            context.getLogger().restorePrefix();
             return;
         }
 
@@ -112,18 +112,14 @@ public final class Announcers {
         if (!announced) {
             context.getLogger().info(RB.$("announcers.not.triggered"));
         }
-        context.getLogger().decreaseIndent();
-        context.getLogger().restorePrefix();
     }
 
     private static boolean announce(JReleaserContext context, Announcer<?> announcer) {
-        try {
-            context.getLogger().setPrefix(announcer.getName());
-
+        try (LogScope scope = context.getLogger().scope(announcer.getName())) {
             if (announcer.isEnabled()) {
                 fireAnnounceEvent(ExecutionEvent.before(JReleaserCommand.ANNOUNCE.toStep()), context, announcer);
 
-                try {
+                try (Timings.Span span = Timings.start(Timings.CATEGORY_ANNOUNCER, announcer.getName())) {
                     announcer.announce();
                     fireAnnounceEvent(ExecutionEvent.success(JReleaserCommand.ANNOUNCE.toStep()), context, announcer);
                     return true;
@@ -135,8 +131,6 @@ public final class Announcers {
             } else {
                 context.getLogger().debug(RB.$("announcers.announcer.disabled"));
             }
-        } finally {
-            context.getLogger().restorePrefix();
         }
 
         return false;
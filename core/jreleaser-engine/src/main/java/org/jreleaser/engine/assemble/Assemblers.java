@@ -19,6 +19,7 @@ package org.jreleaser.engine.assemble;
 
 import org.jreleaser.bundle.RB;
 import org.jreleaser.extensions.api.workflow.WorkflowListenerException;
+import org.jreleaser.logging.LogScope;
 import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.api.hooks.ExecutionEvent;
@@ -42,21 +43,15 @@ public final class Assemblers {
 
     public static void assemble(JReleaserContext context) {
         context.getLogger().info(RB.$("assemblers.header"));
-        context.getLogger().increaseIndent();
-        context.getLogger().setPrefix("assemble");
-
-        Assemble assemble = context.getModel().getAssemble();
-        if (!assemble.isEnabled()) {
-            context.getLogger().info(RB.$("assemblers.not.enabled"));
-            context.getLogger().restorePrefix();
-            return;
-        }
 
-        try {
+        try (LogScope scope = context.getLogger().scope("assemble")) {
+            Assemble assemble = context.getModel().getAssemble();
+            if (!assemble.isEnabled()) {
+                context.getLogger().info(RB.$("assemblers.not.enabled"));
+                return;
+            }
+
             doAssemble(context, assemble);
-        } finally {
-            context.getLogger().decreaseIndent();
-            context.getLogger().restorePrefix();
         }
     }
 
@@ -145,10 +140,7 @@ public final class Assemblers {
     }
 
     private static boolean assemble(JReleaserContext context, Assembler<?> assembler) {
-        try {
-            context.getLogger().increaseIndent();
-            context.getLogger().setPrefix(assembler.getType());
-
+        try (LogScope scope = context.getLogger().scope(assembler.getType())) {
             fireAssembleEvent(ExecutionEvent.before(JReleaserCommand.ASSEMBLE.toStep()), context, assembler);
 
             DistributionAssembler processor = createDistributionAssembler(context, assembler);
@@ -159,9 +151,6 @@ public final class Assemblers {
         } catch (AssemblerProcessingException e) {
             fireAssembleEvent(ExecutionEvent.failure(JReleaserCommand.ASSEMBLE.toStep(), e), context, assembler);
             throw new JReleaserException(e.getMessage(), e);
-        } finally {
-            context.getLogger().restorePrefix();
-            context.getLogger().decreaseIndent();
         }
     }
 
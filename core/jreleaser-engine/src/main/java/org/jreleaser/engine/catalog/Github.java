@@ -19,6 +19,7 @@ package org.jreleaser.engine.catalog;
 
 import org.jreleaser.bundle.RB;
 import org.jreleaser.engine.deploy.maven.ArtifactDeployers;
+import org.jreleaser.logging.LogScope;
 import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.api.hooks.ExecutionEvent;
@@ -64,27 +65,21 @@ public final class Github {
     }
 
     public static void catalog(JReleaserContext context) {
-        context.getLogger().increaseIndent();
-        context.getLogger().setPrefix("github");
-
-        GithubCataloger github = context.getModel().getCatalog().getGithub();
-        if (!github.isEnabled()) {
-            context.getLogger().info(RB.$("catalogers.not.enabled"));
-            context.getLogger().decreaseIndent();
-            context.getLogger().restorePrefix();
-            return;
-        }
+        try (LogScope scope = context.getLogger().scope("github")) {
+            GithubCataloger github = context.getModel().getCatalog().getGithub();
+            if (!github.isEnabled()) {
+                context.getLogger().info(RB.$("catalogers.not.enabled"));
+                return;
+            }
 
-        try {
             fireCatalogEvent(ExecutionEvent.before(JReleaserCommand.CATALOG.toStep()), context, github);
-            attestation(context, github);
-            fireCatalogEvent(ExecutionEvent.success(JReleaserCommand.CATALOG.toStep()), context, github);
-        } catch (CatalogProcessingException e) {
-            fireCatalogEvent(ExecutionEvent.failure(JReleaserCommand.CATALOG.toStep(), e), context, github);
-            throw new JReleaserException(RB.$("ERROR_unexpected_error"), e);
-        } finally {
-            context.getLogger().decreaseIndent();
-            context.getLogger().restorePrefix();
+            try {
+                attestation(context, github);
+                fireCatalogEvent(ExecutionEvent.success(JReleaserCommand.CATALOG.toStep()), context, github);
+            } catch (CatalogProcessingException e) {
+                fireCatalogEvent(ExecutionEvent.failure(JReleaserCommand.CATALOG.toStep(), e), context, github);
+                throw new JReleaserException(RB.$("ERROR_unexpected_error"), e);
+            }
         }
     }
 
@@ -138,8 +133,6 @@ public final class Github {
 
         if (subjects.isEmpty()) {
             context.getLogger().info(RB.$("catalog.no.artifacts"));
-            context.getLogger().decreaseIndent();
-            context.getLogger().restorePrefix();
             return;
         }
 
@@ -154,8 +147,6 @@ public final class Github {
                 if (newContent.equals(oldContent)) {
                     // no need to write down the same content
                     context.getLogger().info(RB.$("catalog.github.not.changed"));
-                    context.getLogger().restorePrefix();
-                    context.getLogger().decreaseIndent();
                     return;
                 }
             }
@@ -20,6 +20,7 @@ package org.jreleaser.engine.catalog;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.engine.deploy.maven.ArtifactDeployers;
+import org.jreleaser.logging.LogScope;
 import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.api.hooks.ExecutionEvent;
@@ -66,27 +67,21 @@ public final class Slsa {
     }
 
     public static void catalog(JReleaserContext context) {
-        context.getLogger().increaseIndent();
-        context.getLogger().setPrefix("slsa");
-
-        SlsaCataloger slsa = context.getModel().getCatalog().getSlsa();
-        if (!slsa.isEnabled()) {
-            context.getLogger().info(RB.$("catalogers.not.enabled"));
-            context.getLogger().decreaseIndent();
-            context.getLogger().restorePrefix();
-            return;
-        }
+        try (LogScope scope = context.getLogger().scope("slsa")) {
+            SlsaCataloger slsa = context.getModel().getCatalog().getSlsa();
+            if (!slsa.isEnabled()) {
+                context.getLogger().info(RB.$("catalogers.not.enabled"));
+                return;
+            }
 
-        try {
             fireCatalogEvent(ExecutionEvent.before(JReleaserCommand.CATALOG.toStep()), context, slsa);
-            attestation(context, slsa);
-            fireCatalogEvent(ExecutionEvent.success(JReleaserCommand.CATALOG.toStep()), context, slsa);
-        } catch (CatalogProcessingException e) {
-            fireCatalogEvent(ExecutionEvent.failure(JReleaserCommand.CATALOG.toStep(), e), context, slsa);
-            throw new JReleaserException(RB.$("ERROR_unexpected_error"), e);
-        } finally {
-            context.getLogger().decreaseIndent();
-            context.getLogger().restorePrefix();
+            try {
+                attestation(context, slsa);
+                fireCatalogEvent(ExecutionEvent.success(JReleaserCommand.CATALOG.toStep()), context, slsa);
+            } catch (CatalogProcessingException e) {
+                fireCatalogEvent(ExecutionEvent.failure(JReleaserCommand.CATALOG.toStep(), e), context, slsa);
+                throw new JReleaserException(RB.$("ERROR_unexpected_error"), e);
+            }
         }
     }
 
@@ -145,8 +140,6 @@ public final class Slsa {
 
         if (attestation.getSubjects().isEmpty()) {
             context.getLogger().info(RB.$("catalog.no.artifacts"));
-            context.getLogger().decreaseIndent();
-            context.getLogger().restorePrefix();
             return;
         }
 
@@ -172,8 +165,6 @@ public final class Slsa {
                 if (newContent.equals(oldContent)) {
                     // no need to write down the same content
                     context.getLogger().info(RB.$("catalog.slsa.not.changed"));
-                    context.getLogger().restorePrefix();
-                    context.getLogger().decreaseIndent();
                     return;
                 }
             }
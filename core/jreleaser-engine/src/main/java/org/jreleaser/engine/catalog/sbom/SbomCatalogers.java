@@ -18,6 +18,7 @@
 package org.jreleaser.engine.catalog.sbom;
 
 import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.LogScope;
 import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.api.hooks.ExecutionEvent;
@@ -50,22 +51,14 @@ public final class SbomCatalogers {
     }
 
     public static void catalog(JReleaserContext context) {
-        context.getLogger().increaseIndent();
-        context.getLogger().setPrefix("sbom");
-
-        Sbom sbom = context.getModel().getCatalog().getSbom();
-        if (!sbom.isEnabled()) {
-            context.getLogger().info(RB.$("catalogers.not.enabled"));
-            context.getLogger().decreaseIndent();
-            context.getLogger().restorePrefix();
-            return;
-        }
+        try (LogScope scope = context.getLogger().scope("sbom")) {
+            Sbom sbom = context.getModel().getCatalog().getSbom();
+            if (!sbom.isEnabled()) {
+                context.getLogger().info(RB.$("catalogers.not.enabled"));
+                return;
+            }
 
-        try {
             doCatalog(context, sbom);
-        } finally {
-            context.getLogger().decreaseIndent();
-            context.getLogger().restorePrefix();
         }
     }
 
@@ -112,10 +105,7 @@ public final class SbomCatalogers {
     }
 
     private static SbomCatalogerProcessor.Result catalog(JReleaserContext context, SbomCataloger<?> cataloger) {
-        try {
-            context.getLogger().increaseIndent();
-            context.getLogger().setPrefix(cataloger.getType());
-
+        try (LogScope scope = context.getLogger().scope(cataloger.getType())) {
             fireCatalogEvent(ExecutionEvent.before(JReleaserCommand.CATALOG.toStep()), context, cataloger);
 
             ProjectSbomCataloger projectCataloger = createProjectCataloger(context, cataloger);
@@ -125,9 +115,6 @@ public final class SbomCatalogers {
         } catch (CatalogProcessingException e) {
             fireCatalogEvent(ExecutionEvent.failure(JReleaserCommand.CATALOG.toStep(), e), context, cataloger);
             throw new JReleaserException(RB.$("ERROR_unexpected_error"), e);
-        } finally {
-            context.getLogger().restorePrefix();
-            context.getLogger().decreaseIndent();
         }
     }
 
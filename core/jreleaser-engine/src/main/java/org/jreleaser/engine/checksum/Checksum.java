@@ -18,6 +18,7 @@
 package org.jreleaser.engine.checksum;
 
 import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.LogScope;
 import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.common.Artifact;
@@ -49,14 +50,9 @@ public final class Checksum {
 
     public static void collectAndWriteChecksums(JReleaserContext context) throws JReleaserException {
         context.getLogger().info(RB.$("checksum.header"));
-        context.getLogger().increaseIndent();
-        context.getLogger().setPrefix("checksum");
 
-        try {
+        try (LogScope scope = context.getLogger().scope("checksum")) {
             doCollectAndWriteChecksums(context);
-        } finally {
-            context.getLogger().restorePrefix();
-            context.getLogger().decreaseIndent();
         }
     }
 
@@ -94,8 +90,6 @@ public final class Checksum {
 
         if (checksums.isEmpty()) {
             context.getLogger().info(RB.$("checksum.not.enabled"));
-            context.getLogger().decreaseIndent();
-            context.getLogger().restorePrefix();
             return;
         }
 
@@ -114,8 +108,6 @@ public final class Checksum {
                     if (newContent.equals(oldContent)) {
                         // no need to write down the same content
                         context.getLogger().info(RB.$("checksum.not.changed"));
-                        context.getLogger().restorePrefix();
-                        context.getLogger().decreaseIndent();
                         return;
                     }
                 }
@@ -162,18 +154,18 @@ public final class Checksum {
         }
 
         if (!Files.exists(checksumPath)) {
-            context.getLogger().debug(RB.$("checksum.not.exist"), context.relativizeToBasedir(checksumPath));
+            context.getLogger().debug(() -> RB.$("checksum.not.exist", context.relativizeToBasedir(checksumPath)));
             calculateHash(context, artifactPath, checksumPath, algorithm);
         } else if (artifactPath.toFile().lastModified() > checksumPath.toFile().lastModified()) {
-            context.getLogger().debug(RB.$("checksum.file.newer"),
+            context.getLogger().debug(() -> RB.$("checksum.file.newer",
                 context.relativizeToBasedir(artifactPath),
-                context.relativizeToBasedir(checksumPath));
+                context.relativizeToBasedir(checksumPath)));
             calculateHash(context, artifactPath, checksumPath, algorithm);
         }
 
         try {
-            context.getLogger().debug(RB.$("checksum.reading"),
-                context.relativizeToBasedir(checksumPath));
+            context.getLogger().debug(() -> RB.$("checksum.reading",
+                context.relativizeToBasedir(checksumPath)));
             artifact.setHash(algorithm, new String(Files.readAllBytes(checksumPath), UTF_8));
         } catch (IOException e) {
             throw new JReleaserException(RB.$("ERROR_unexpected_error_hash_read", context.relativizeToBasedir(checksumPath)), e);
@@ -19,6 +19,7 @@ package org.jreleaser.engine.deploy.maven;
 
 import org.jreleaser.bundle.RB;
 import org.jreleaser.extensions.api.workflow.WorkflowListenerException;
+import org.jreleaser.logging.LogScope;
 import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.api.hooks.ExecutionEvent;
@@ -26,7 +27,9 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.deploy.maven.Maven;
 import org.jreleaser.model.internal.deploy.maven.MavenDeployer;
 import org.jreleaser.model.spi.deploy.DeployException;
+import org.jreleaser.util.Timings;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 
@@ -44,22 +47,15 @@ public final class MavenDeployers {
 
     public static void deploy(JReleaserContext context) {
         context.getLogger().info(RB.$("deployers.maven.header"));
-        context.getLogger().increaseIndent();
-        context.getLogger().setPrefix("maven");
-
-        Maven maven = context.getModel().getDeploy().getMaven();
-        if (!maven.isEnabled()) {
-            context.getLogger().info(RB.$("deployers.not.enabled"));
-            context.getLogger().decreaseIndent();
-            context.getLogger().restorePrefix();
-            return;
-        }
 
-        try {
+        try (LogScope scope = context.getLogger().scope("maven")) {
+            Maven maven = context.getModel().getDeploy().getMaven();
+            if (!maven.isEnabled()) {
+                context.getLogger().info(RB.$("deployers.not.enabled"));
+                return;
+            }
+
             doDeploy(context, maven);
-        } finally {
-            context.getLogger().decreaseIndent();
-            context.getLogger().restorePrefix();
         }
     }
 
@@ -157,22 +153,28 @@ public final class MavenDeployers {
     }
 
     private static boolean deploy(JReleaserContext context, MavenDeployer<?> deployer) {
-        try {
-            context.getLogger().increaseIndent();
-            context.getLogger().setPrefix(deployer.getType());
+        try (LogScope scope = context.getLogger().scope(deployer.getType());
+             Timings.Span span = Timings.start(Timings.CATEGORY_DEPLOYER, deployer.getType() + "/" + deployer.getName())) {
+            // staged artifacts that were deployed by a previous run may be refused by the remote
+            String operation = "deploy." + deployer.getType() + "." + deployer.getName();
+            List<Path> inputs = deployer.getStagingRepositories().stream()
+                .map(context.getBasedir()::resolve)
+                .collect(toList());
+            if (context.getJournal().isDone(operation, inputs)) {
+                context.getLogger().info(RB.$("context.journal.skip"), deployer.getName());
+                return true;
+            }
 
             fireDeployEvent(ExecutionEvent.before(JReleaserCommand.DEPLOY.toStep()), context, deployer);
 
             ProjectMavenDeployer projectDeployer = createProjectDeployer(context, deployer);
             boolean deployed = projectDeployer.deploy();
+            if (deployed) context.getJournal().done(operation, inputs);
             fireDeployEvent(ExecutionEvent.success(JReleaserCommand.DEPLOY.toStep()), context, deployer);
             return deployed;
         } catch (DeployException e) {
             fireDeployEvent(ExecutionEvent.failure(JReleaserCommand.DEPLOY.toStep(), e), context, deployer);
             throw new JReleaserException(RB.$("ERROR_unexpected_error"), e);
-        } finally {
-            context.getLogger().restorePrefix();
-            context.getLogger().decreaseIndent();
         }
     }
 
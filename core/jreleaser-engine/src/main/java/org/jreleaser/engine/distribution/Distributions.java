@@ -18,7 +18,10 @@
 package org.jreleaser.engine.distribution;
 
 import org.jreleaser.bundle.RB;
+import org.jreleaser.extensions.api.ExtensionManager;
+import org.jreleaser.extensions.api.ExtensionManagerHolder;
 import org.jreleaser.extensions.api.workflow.WorkflowListenerException;
+import org.jreleaser.logging.LogScope;
 import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.api.hooks.ExecutionEvent;
@@ -26,10 +29,22 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.distributions.Distribution;
 import org.jreleaser.model.internal.packagers.Packager;
 import org.jreleaser.model.spi.packagers.PackagerProcessingException;
+import org.jreleaser.util.ConcurrencyUtils;
+import org.jreleaser.util.Timings;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
-
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.singletonList;
 import static org.jreleaser.model.internal.JReleaserSupport.supportedPackagers;
 
 /**
@@ -37,6 +52,8 @@ import static org.jreleaser.model.internal.JReleaserSupport.supportedPackagers;
  * @since 0.1.0
  */
 public final class Distributions {
+    private static final Object EVENTS = new Object();
+
     private Distributions() {
         // noop
     }
@@ -49,6 +66,12 @@ public final class Distributions {
             return;
         }
 
+        List<Unit> units = new ArrayList<>();
+        collectUnits(context, activeDistributions, action, units);
+        processUnits(context, units, action);
+    }
+
+    private static void collectUnits(JReleaserContext context, List<Distribution> activeDistributions, DistributionProcessor.PackagingAction action, List<Unit> units) {
         if (!context.getIncludedDistributions().isEmpty()) {
             for (String distributionName : context.getIncludedDistributions()) {
                 Distribution distribution = activeDistributions.stream()
@@ -69,10 +92,10 @@ public final class Distributions {
 
                         context.getLogger().info(RB.$("distributions.apply.action"), action.getText());
 
-                        processDistribution(context, distribution, packagerName, action);
+                        units.add(new Unit(distribution, singletonList(packagerName), false));
                     }
                 } else {
-                    processDistribution(context, distribution, action);
+                    units.add(new Unit(distribution, new ArrayList<>(supportedPackagers()), true));
                 }
             }
         } else if (!context.getIncludedPackagers().isEmpty()) {
@@ -84,7 +107,7 @@ public final class Distributions {
 
                 context.getLogger().info(RB.$("distributions.apply.action"), action.getText());
                 for (Distribution distribution : activeDistributions) {
-                    processDistribution(context, distribution, packagerName, action);
+                    units.add(new Unit(distribution, singletonList(packagerName), false));
                 }
             }
         } else {
@@ -96,60 +119,156 @@ public final class Distributions {
                     continue;
                 }
 
-                processDistribution(context, distribution, action);
+                units.add(new Unit(distribution, new ArrayList<>(supportedPackagers()), true));
             }
         }
     }
 
-    private static void processDistribution(JReleaserContext context, Distribution distribution, DistributionProcessor.PackagingAction action) {
+    private static void processUnits(JReleaserContext context, List<Unit> units, DistributionProcessor.PackagingAction action) {
+        int packagers = 0;
+        for (Unit unit : units) {
+            packagers += unit.packagerNames.size();
+        }
+
+        int concurrency = context.isSequential() ? 1 : ConcurrencyUtils.concurrency(packagers);
+        if (concurrency <= 1) {
+            for (Unit unit : units) {
+                processUnit(context, unit, action);
+            }
+        } else {
+            processUnitsConcurrently(context, units, action, concurrency);
+        }
+    }
+
+    private static void processUnit(JReleaserContext context, Unit unit, DistributionProcessor.PackagingAction action) {
         context.getLogger().increaseIndent();
-        context.getLogger().info(RB.$("distributions.apply.action.to"), action.getText(), distribution.getName());
+        context.getLogger().info(RB.$("distributions.apply.action.to"), action.getText(), unit.distribution.getName());
 
-        fireDistributionStartEvent(context, distribution);
+        if (unit.fireEvents) fireDistributionStartEvent(context, unit.distribution);
 
-        for (String packagerName : supportedPackagers()) {
-            if (context.getExcludedPackagers().contains(packagerName)) {
+        for (String packagerName : unit.packagerNames) {
+            if (unit.fireEvents && context.getExcludedPackagers().contains(packagerName)) {
                 context.getLogger().info(RB.$("packagers.packager.excluded"), packagerName);
                 continue;
             }
-            processPackager(context, distribution, packagerName, action);
+            processPackager(context, unit.distribution, packagerName, packagerName, false, action);
         }
 
-        fireDistributionEndEvent(context, distribution);
+        if (unit.fireEvents) fireDistributionEndEvent(context, unit.distribution);
 
         context.getLogger().decreaseIndent();
     }
 
-    private static void processDistribution(JReleaserContext context, Distribution distribution, String packagerName, DistributionProcessor.PackagingAction action) {
-        context.getLogger().increaseIndent();
-        context.getLogger().info(RB.$("distributions.apply.action.to"), action.getText(), distribution.getName());
+    private static void processUnitsConcurrently(JReleaserContext context, List<Unit> units, DistributionProcessor.PackagingAction action, int concurrency) {
+        ExecutorService executor = ConcurrencyUtils.newFixedThreadPool("packager", concurrency, context.getLogger());
+        CompletionService<Unit> completions = new ExecutorCompletionService<>(executor);
+        AtomicBoolean halted = new AtomicBoolean();
+        Map<String, Object> publishLocks = new ConcurrentHashMap<>();
+        ExtensionManager extensionManager = ExtensionManagerHolder.get();
+        RuntimeException failure = null;
+        int running = 0;
 
-        processPackager(context, distribution, packagerName, action);
+        try {
+            // every distribution x packager pair runs on its own, lines are tagged with both names
+            // and held back until the pair is done so that they are not interleaved with others
+            context.getLogger().increaseIndent();
+            for (Unit unit : units) {
+                context.getLogger().info(RB.$("distributions.apply.action.to"), action.getText(), unit.distribution.getName());
+                if (unit.fireEvents) fireDistributionStartEvent(context, unit.distribution);
+
+                for (String packagerName : unit.packagerNames) {
+                    if (unit.fireEvents && context.getExcludedPackagers().contains(packagerName)) {
+                        context.getLogger().info(RB.$("packagers.packager.excluded"), packagerName);
+                        continue;
+                    }
 
-        context.getLogger().decreaseIndent();
+                    String prefix = unit.distribution.getName() + "/" + packagerName;
+                    unit.pending++;
+                    running++;
+                    completions.submit(() -> {
+                        if (halted.get()) return unit;
+
+                        // extensions are bound per thread
+                        ExtensionManagerHolder.set(extensionManager);
+                        try {
+                            if (action.getType() == DistributionProcessor.PackagingAction.Type.PUBLISH) {
+                                // distributions may publish to the same repository (a tap, a bucket) with a given packager
+                                synchronized (publishLocks.computeIfAbsent(packagerName, k -> new Object())) {
+                                    processPackager(context, unit.distribution, packagerName, prefix, true, action);
+                                }
+                            } else {
+                                processPackager(context, unit.distribution, packagerName, prefix, true, action);
+                            }
+                        } finally {
+                            ExtensionManagerHolder.cleanup();
+                        }
+                        return unit;
+                    });
+                }
+
+                if (unit.pending == 0 && unit.fireEvents) fireDistributionEndEvent(context, unit.distribution);
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+            halted.set(true);
+        } finally {
+            context.getLogger().decreaseIndent();
+        }
+
+        try {
+            // units in flight always run to completion
+            while (running > 0) {
+                Future<Unit> completion = completions.take();
+                running--;
+                try {
+                    Unit unit = completion.get();
+                    if (--unit.pending == 0 && unit.fireEvents && null == failure) {
+                        fireDistributionEndEvent(context, unit.distribution);
+                    }
+                } catch (ExecutionException e) {
+                    Throwable cause = null != e.getCause() ? e.getCause() : e;
+                    if (cause instanceof Error) throw (Error) cause;
+                    if (null == failure) {
+                        failure = cause instanceof RuntimeException ? (RuntimeException) cause : new JReleaserException(RB.$("ERROR_unexpected_error"), cause);
+                    }
+                    halted.set(true);
+                } catch (RuntimeException e) {
+                    if (null == failure) failure = e;
+                    halted.set(true);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (null == failure) failure = new JReleaserException(RB.$("ERROR_unexpected_error"), e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (null != failure) throw failure;
     }
 
-    private static void processPackager(JReleaserContext context, Distribution distribution, String packagerName, DistributionProcessor.PackagingAction action) {
+    private static void processPackager(JReleaserContext context, Distribution distribution, String packagerName, String prefix, boolean buffered, DistributionProcessor.PackagingAction action) {
         Packager<?> packager = distribution.findPackager(packagerName);
 
-        try {
-            context.getLogger().increaseIndent();
-            context.getLogger().setPrefix(packagerName);
-            firePackagerEvent(ExecutionEvent.before(actionToStep(action.getType())), context, distribution, action.getType(), packager);
+        // the whole unit, failure included, is logged within its scope so that a
+        // buffered unit is flushed as a single group once it is done
+        try (LogScope scope = context.getLogger().scope(prefix, buffered);
+             Timings.Span span = Timings.start(Timings.CATEGORY_PACKAGER,
+                 distribution.getName() + "/" + packagerName + ":" + actionToStep(action.getType()))) {
+            try {
+                firePackagerEvent(ExecutionEvent.before(actionToStep(action.getType())), context, distribution, action.getType(), packager);
 
-            DistributionProcessor processor = createDistributionProcessor(context,
-                distribution,
-                packagerName);
+                DistributionProcessor processor = createDistributionProcessor(context,
+                    distribution,
+                    packagerName);
 
-            action.getFunction().consume(processor);
+                action.getFunction().consume(processor);
 
-            firePackagerEvent(ExecutionEvent.success(actionToStep(action.getType())), context, distribution, action.getType(), packager);
-        } catch (PackagerProcessingException e) {
-            firePackagerEvent(ExecutionEvent.failure(actionToStep(action.getType()), e), context, distribution, action.getType(), packager);
-            throw new JReleaserException(RB.$("ERROR_unexpected_error"), e);
-        } finally {
-            context.getLogger().restorePrefix();
-            context.getLogger().decreaseIndent();
+                firePackagerEvent(ExecutionEvent.success(actionToStep(action.getType())), context, distribution, action.getType(), packager);
+            } catch (PackagerProcessingException e) {
+                firePackagerEvent(ExecutionEvent.failure(actionToStep(action.getType()), e), context, distribution, action.getType(), packager);
+                throw new JReleaserException(RB.$("ERROR_unexpected_error"), e);
+            }
         }
     }
 
@@ -178,7 +297,9 @@ public final class Distributions {
 
     private static void fireDistributionStartEvent(JReleaserContext context, Distribution distribution) {
         try {
-            context.fireDistributionStartEvent(distribution.asImmutable());
+            synchronized (EVENTS) {
+                context.fireDistributionStartEvent(distribution.asImmutable());
+            }
         } catch (WorkflowListenerException e) {
             context.getLogger().error(RB.$("listener.failure", e.getListener().getClass().getName()));
             context.getLogger().trace(e);
@@ -196,7 +317,9 @@ public final class Distributions {
         if (!distribution.isEnabled()) return;
 
         try {
-            context.fireDistributionEndEvent(distribution.asImmutable());
+            synchronized (EVENTS) {
+                context.fireDistributionEndEvent(distribution.asImmutable());
+            }
         } catch (WorkflowListenerException e) {
             context.getLogger().error(RB.$("listener.failure", e.getListener().getClass().getName()));
             context.getLogger().trace(e);
@@ -214,16 +337,19 @@ public final class Distributions {
         if (!packager.isEnabled()) return;
 
         try {
-            switch (type) {
-                case PREPARE:
-                    context.firePackagerPrepareEvent(event, distribution.asImmutable(), packager.asImmutable());
-                    break;
-                case PACKAGE:
-                    context.firePackagerPackageEvent(event, distribution.asImmutable(), packager.asImmutable());
-                    break;
-                case PUBLISH:
-                    context.firePackagerPublishEvent(event, distribution.asImmutable(), packager.asImmutable());
-                    break;
+            // listeners are never called concurrently
+            synchronized (EVENTS) {
+                switch (type) {
+                    case PREPARE:
+                        context.firePackagerPrepareEvent(event, distribution.asImmutable(), packager.asImmutable());
+                        break;
+                    case PACKAGE:
+                        context.firePackagerPackageEvent(event, distribution.asImmutable(), packager.asImmutable());
+                        break;
+                    case PUBLISH:
+                        context.firePackagerPublishEvent(event, distribution.asImmutable(), packager.asImmutable());
+                        break;
+                }
             }
         } catch (WorkflowListenerException e) {
             context.getLogger().error(RB.$("listener.failure", e.getListener().getClass().getName()));
@@ -237,4 +363,17 @@ public final class Distributions {
             }
         }
     }
+
+    private static final class Unit {
+        private final Distribution distribution;
+        private final List<String> packagerNames;
+        private final boolean fireEvents;
+        private int pending;
+
+        private Unit(Distribution distribution, List<String> packagerNames, boolean fireEvents) {
+            this.distribution = distribution;
+            this.packagerNames = packagerNames;
+            this.fireEvents = fireEvents;
+        }
+    }
 }
@@ -19,6 +19,7 @@ package org.jreleaser.engine.download;
 
 import org.jreleaser.bundle.RB;
 import org.jreleaser.extensions.api.workflow.WorkflowListenerException;
+import org.jreleaser.logging.LogScope;
 import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.api.hooks.ExecutionEvent;
@@ -118,9 +119,7 @@ public final class Downloaders {
     }
 
     private static void download(JReleaserContext context, Downloader<?> downloader) {
-        try {
-            context.getLogger().increaseIndent();
-            context.getLogger().setPrefix(downloader.getType());
+        try (LogScope scope = context.getLogger().scope(downloader.getType())) {
             fireDownloadEvent(ExecutionEvent.before(JReleaserCommand.DOWNLOAD.toStep()), context, downloader);
 
             ProjectDownloader projectDownloader = createProjectDownloader(context, downloader);
@@ -130,9 +129,6 @@ public final class Downloaders {
         } catch (DownloadException e) {
             fireDownloadEvent(ExecutionEvent.failure(JReleaserCommand.DOWNLOAD.toStep(), e), context, downloader);
             throw new JReleaserException(RB.$("ERROR_unexpected_error"), e);
-        } finally {
-            context.getLogger().restorePrefix();
-            context.getLogger().decreaseIndent();
         }
     }
 
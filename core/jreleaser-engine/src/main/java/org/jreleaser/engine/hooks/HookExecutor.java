@@ -18,6 +18,7 @@
 package org.jreleaser.engine.hooks;
 
 import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.LogScope;
 import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.api.hooks.ExecutionEvent;
 import org.jreleaser.model.internal.JReleaserContext;
@@ -32,6 +33,7 @@ import org.jreleaser.sdk.command.Command;
 import org.jreleaser.sdk.command.CommandException;
 import org.jreleaser.sdk.command.CommandExecutor;
 import org.jreleaser.util.PlatformUtils;
+import org.jreleaser.util.Timings;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -124,14 +126,11 @@ public final class HookExecutor {
             context.getLogger().info(RB.$("hooks.script.execution"), event.getType().name().toLowerCase(Locale.ENGLISH), hooks.size());
         }
 
-        context.getLogger().setPrefix("hooks");
-        context.getLogger().increaseIndent();
-
         Map<String, String> localEnv = new LinkedHashMap<>(rootEnv);
         localEnv.putAll(scriptHooks.getEnvironment());
         localEnv = resolveEnvironment(localEnv);
 
-        try {
+        try (LogScope scope = context.getLogger().scope("hooks")) {
             for (ScriptHook hook : hooks) {
                 Path scriptFile = null;
 
@@ -144,9 +143,6 @@ public final class HookExecutor {
                 String resolvedCmd = hook.getShell().expression().replace("{{script}}", scriptFile.toAbsolutePath().toString());
                 executeCommandLine(localEnv, hook, resolvedCmd, resolvedCmd, "ERROR_script_hook_unexpected_error");
             }
-        } finally {
-            context.getLogger().decreaseIndent();
-            context.getLogger().restorePrefix();
         }
     }
 
@@ -188,21 +184,15 @@ public final class HookExecutor {
             context.getLogger().info(RB.$("hooks.command.execution"), event.getType().name().toLowerCase(Locale.ENGLISH), hooks.size());
         }
 
-        context.getLogger().setPrefix("hooks");
-        context.getLogger().increaseIndent();
-
         Map<String, String> localEnv = new LinkedHashMap<>(rootEnv);
         localEnv.putAll(commandHooks.getEnvironment());
         localEnv = resolveEnvironment(localEnv);
 
-        try {
+        try (LogScope scope = context.getLogger().scope("hooks")) {
             for (CommandHook hook : hooks) {
                 String resolvedCmd = hook.getResolvedCmd(context, event);
                 executeCommandLine(localEnv, hook, hook.getCmd(), resolvedCmd, "ERROR_command_hook_unexpected_error");
             }
-        } finally {
-            context.getLogger().decreaseIndent();
-            context.getLogger().restorePrefix();
         }
     }
 
@@ -219,7 +209,7 @@ public final class HookExecutor {
             throw new JReleaserException(RB.$("ERROR_command_hook_parser_error", cmd), e);
         }
 
-        try {
+        try (Timings.Span span = Timings.start(Timings.CATEGORY_HOOK, cmd)) {
             Command command = new Command(commandLine);
             processOutput(executeCommand(context.getBasedir(), command, hookEnv, hook.isVerbose()));
         } catch (CommandException e) {
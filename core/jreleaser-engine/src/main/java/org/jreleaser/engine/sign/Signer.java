@@ -27,6 +27,7 @@ import org.bouncycastle.openpgp.PGPSignatureGenerator;
 import org.bouncycastle.openpgp.PGPUtil;
 import org.bouncycastle.openpgp.operator.jcajce.JcaPGPContentVerifierBuilderProvider;
 import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.LogScope;
 import org.jreleaser.model.api.signing.Keyring;
 import org.jreleaser.model.api.signing.SigningException;
 import org.jreleaser.model.internal.JReleaserContext;
@@ -48,6 +49,7 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -67,17 +69,13 @@ public final class Signer {
 
     public static void sign(JReleaserContext context) throws SigningException {
         context.getLogger().info(RB.$("signing.header"));
-        context.getLogger().increaseIndent();
-        context.getLogger().setPrefix("sign");
 
-        if (!context.getModel().getSigning().isEnabled()) {
-            context.getLogger().info(RB.$("signing.not.enabled"));
-            context.getLogger().restorePrefix();
-            context.getLogger().decreaseIndent();
-            return;
-        }
+        try (LogScope scope = context.getLogger().scope("sign")) {
+            if (!context.getModel().getSigning().isEnabled()) {
+                context.getLogger().info(RB.$("signing.not.enabled"));
+                return;
+            }
 
-        try {
             if (context.getModel().getSigning().getMode() == org.jreleaser.model.Signing.Mode.COMMAND) {
                 cmdSign(context);
             } else if (context.getModel().getSigning().getMode() == org.jreleaser.model.Signing.Mode.COSIGN) {
@@ -85,9 +83,6 @@ public final class Signer {
             } else {
                 bcSign(context);
             }
-        } finally {
-            context.getLogger().restorePrefix();
-            context.getLogger().decreaseIndent();
         }
     }
 
@@ -111,6 +106,7 @@ public final class Signer {
         if (context.getModel().getSigning().isVerify()) {
             verify(context, files);
         }
+        signed(context, files);
     }
 
     private static void cosignSign(JReleaserContext context) throws SigningException {
@@ -166,6 +162,7 @@ public final class Signer {
 
         sign(context, files, cosign, privateKeyFile, password);
         verify(context, files, cosign, publicKeyFile);
+        signed(context, files);
     }
 
     private static void bcSign(JReleaserContext context) throws SigningException {
@@ -190,6 +187,7 @@ public final class Signer {
         if (context.getModel().getSigning().isVerify()) {
             verify(context, keyring, files);
         }
+        signed(context, files);
     }
 
 
@@ -227,11 +225,15 @@ public final class Signer {
     }
 
     private static boolean verify(JReleaserContext context, Keyring keyring, SigningUtils.FilePair filePair) throws SigningException {
-        context.getLogger().setPrefix("verify");
+        try (LogScope scope = context.getLogger().scope("verify")) {
+            context.getLogger().debug(() -> String.valueOf(
+                context.relativizeToBasedir(filePair.getSignatureFile())));
 
-        context.getLogger().debug("{}",
-            context.relativizeToBasedir(filePair.getSignatureFile()));
+            return verifySignature(context, keyring, filePair);
+        }
+    }
 
+    private static boolean verifySignature(JReleaserContext context, Keyring keyring, SigningUtils.FilePair filePair) throws SigningException {
         try (InputStream sigInputStream = PGPUtil.getDecoderStream(
             new BufferedInputStream(
                 newInputStream(filePair.getSignatureFile())))) {
@@ -263,8 +265,6 @@ public final class Signer {
         } catch (IOException | PGPException e) {
             throw new SigningException(RB.$("ERROR_signing_verify_signature",
                 context.relativizeToBasedir(filePair.getInputFile())), e);
-        } finally {
-            context.getLogger().restorePrefix();
         }
     }
 
@@ -278,8 +278,8 @@ public final class Signer {
             throw new SigningException(RB.$("ERROR_signing_create_signature_dir"), e);
         }
 
-        context.getLogger().debug(RB.$("signing.signing.files"),
-            files.size(), context.relativizeToBasedir(signaturesDirectory));
+        context.getLogger().debug(() -> RB.$("signing.signing.files",
+            files.size(), context.relativizeToBasedir(signaturesDirectory)));
 
         for (SigningUtils.FilePair pair : files) {
             cosign.signBlob(privateKeyFile, password, pair.getInputFile(), signaturesDirectory);
@@ -290,8 +290,7 @@ public final class Signer {
                                Cosign cosign, Path publicKeyFile) throws SigningException {
         context.getLogger().debug(RB.$("signing.verify.signatures"), files.size());
 
-        context.getLogger().setPrefix("verify");
-        try {
+        try (LogScope scope = context.getLogger().scope("verify")) {
             for (SigningUtils.FilePair pair : files) {
                 cosign.verifyBlob(publicKeyFile, pair.getSignatureFile(), pair.getInputFile());
                 pair.setValid(true);
@@ -302,8 +301,6 @@ public final class Signer {
                         context.relativizeToBasedir(pair.getSignatureFile())));
                 }
             }
-        } finally {
-            context.getLogger().restorePrefix();
         }
     }
 
@@ -316,8 +313,8 @@ public final class Signer {
             throw new SigningException(RB.$("ERROR_signing_create_signature_dir"), e);
         }
 
-        context.getLogger().debug(RB.$("signing.signing.files"),
-            files.size(), context.relativizeToBasedir(signaturesDirectory));
+        context.getLogger().debug(() -> RB.$("signing.signing.files",
+            files.size(), context.relativizeToBasedir(signaturesDirectory)));
 
         GpgCommandSigner commandSigner = SigningUtils.initCommandSigner(context.asImmutable());
 
@@ -335,8 +332,8 @@ public final class Signer {
             throw new SigningException(RB.$("ERROR_signing_create_signature_dir"), e);
         }
 
-        context.getLogger().debug(RB.$("signing.signing.files"),
-            files.size(), context.relativizeToBasedir(signaturesDirectory));
+        context.getLogger().debug(() -> RB.$("signing.signing.files",
+            files.size(), context.relativizeToBasedir(signaturesDirectory)));
 
         PGPSignatureGenerator signatureGenerator = SigningUtils.initSignatureGenerator(context.asImmutable(), keyring);
 
@@ -349,8 +346,10 @@ public final class Signer {
         return collectArtifacts(context, false, validator);
     }
 
-    private static List<SigningUtils.FilePair> collectArtifacts(JReleaserContext context, boolean forceSign, Predicate<SigningUtils.FilePair> validator) {
+    private static List<SigningUtils.FilePair> collectArtifacts(JReleaserContext context, boolean forceSign, Predicate<SigningUtils.FilePair> check) {
         List<SigningUtils.FilePair> files = new ArrayList<>();
+        // signatures recorded by a previous run are not verified again
+        Predicate<SigningUtils.FilePair> validator = pair -> isSigned(context, pair) || check.test(pair);
 
         Signing signing = context.getModel().getSigning();
         Path signaturesDirectory = context.getSignaturesDirectory();
@@ -417,17 +416,36 @@ public final class Signer {
         return files;
     }
 
+    private static boolean isSigned(JReleaserContext context, SigningUtils.FilePair pair) {
+        return Files.exists(pair.getSignatureFile()) &&
+            context.getJournal().isDone(signOperation(pair), signInputs(pair));
+    }
+
+    private static void signed(JReleaserContext context, List<SigningUtils.FilePair> files) {
+        for (SigningUtils.FilePair pair : files) {
+            context.getJournal().done(signOperation(pair), signInputs(pair));
+        }
+    }
+
+    private static String signOperation(SigningUtils.FilePair pair) {
+        return "sign." + pair.getInputFile().getFileName();
+    }
+
+    private static List<Path> signInputs(SigningUtils.FilePair pair) {
+        return Arrays.asList(pair.getInputFile(), pair.getSignatureFile());
+    }
+
     private static boolean isValid(JReleaserContext context, Cosign cosign, Path publicKeyFile, SigningUtils.FilePair pair) {
         if (Files.notExists(pair.getSignatureFile())) {
-            context.getLogger().debug(RB.$("signing.signature.not.exist"),
-                context.relativizeToBasedir(pair.getSignatureFile()));
+            context.getLogger().debug(() -> RB.$("signing.signature.not.exist",
+                context.relativizeToBasedir(pair.getSignatureFile())));
             return false;
         }
 
         if (pair.getInputFile().toFile().lastModified() > pair.getSignatureFile().toFile().lastModified()) {
-            context.getLogger().debug(RB.$("signing.file.newer"),
+            context.getLogger().debug(() -> RB.$("signing.file.newer",
                 context.relativizeToBasedir(pair.getInputFile()),
-                context.relativizeToBasedir(pair.getSignatureFile()));
+                context.relativizeToBasedir(pair.getSignatureFile())));
             return false;
         }
 
@@ -19,6 +19,7 @@ package org.jreleaser.engine.upload;
 
 import org.jreleaser.bundle.RB;
 import org.jreleaser.extensions.api.workflow.WorkflowListenerException;
+import org.jreleaser.logging.LogScope;
 import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.api.hooks.ExecutionEvent;
@@ -26,6 +27,7 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.upload.Upload;
 import org.jreleaser.model.internal.upload.Uploader;
 import org.jreleaser.model.spi.upload.UploadException;
+import org.jreleaser.util.Timings;
 
 import java.util.List;
 import java.util.Map;
@@ -44,22 +46,15 @@ public final class Uploaders {
 
     public static void upload(JReleaserContext context) {
         context.getLogger().info(RB.$("uploaders.header"));
-        context.getLogger().increaseIndent();
-        context.getLogger().setPrefix("upload");
-
-        Upload upload = context.getModel().getUpload();
-        if (!upload.isEnabled()) {
-            context.getLogger().info(RB.$("uploaders.not.enabled"));
-            context.getLogger().decreaseIndent();
-            context.getLogger().restorePrefix();
-            return;
-        }
 
-        try {
+        try (LogScope scope = context.getLogger().scope("upload")) {
+            Upload upload = context.getModel().getUpload();
+            if (!upload.isEnabled()) {
+                context.getLogger().info(RB.$("uploaders.not.enabled"));
+                return;
+            }
+
             doUpload(context, upload);
-        } finally {
-            context.getLogger().decreaseIndent();
-            context.getLogger().restorePrefix();
         }
     }
 
@@ -157,9 +152,8 @@ public final class Uploaders {
     }
 
     private static boolean upload(JReleaserContext context, Uploader<?> uploader) {
-        try {
-            context.getLogger().increaseIndent();
-            context.getLogger().setPrefix(uploader.getType());
+        try (LogScope scope = context.getLogger().scope(uploader.getType());
+             Timings.Span span = Timings.start(Timings.CATEGORY_UPLOADER, uploader.getType() + "/" + uploader.getName())) {
             fireUploadEvent(ExecutionEvent.before(JReleaserCommand.UPLOAD.toStep()), context, uploader);
 
             ProjectUploader projectUploader = createProjectUploader(context, uploader);
@@ -170,9 +164,6 @@ public final class Uploaders {
         } catch (UploadException e) {
             fireUploadEvent(ExecutionEvent.failure(JReleaserCommand.UPLOAD.toStep(), e), context, uploader);
             throw new JReleaserException(RB.$("ERROR_unexpected_error"), e);
-        } finally {
-            context.getLogger().restorePrefix();
-            context.getLogger().decreaseIndent();
         }
     }
 
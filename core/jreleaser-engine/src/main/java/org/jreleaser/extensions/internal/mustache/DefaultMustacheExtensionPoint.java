@@ -65,7 +65,11 @@ public final class DefaultMustacheExtensionPoint implements MustacheExtensionPoi
         }
         context.set("f_now", new TimeFormatFunction(now));
         context.set("f_now_gmt", new TimeFormatFunction(now.withZoneSameInstant(ZoneId.of("GMT"))));
+        context.set("f_recursive_eval", new RecursiveEvalFunction(context));
+    }
 
+    @Override
+    public void applyShared(TemplateContext context) {
         context.set("f_trim", new TrimFunction());
         context.set("f_underscore", new UnderscoreFunction());
         context.set("f_dash", new DashFunction());
@@ -96,8 +100,6 @@ public final class DefaultMustacheExtensionPoint implements MustacheExtensionPoi
         context.set("f_reverse", new DelegatingFunction(org.apache.commons.lang3.StringUtils::reverse));
         context.set("f_strip", new DelegatingFunction(org.apache.commons.lang3.StringUtils::strip));
         context.set("f_swapcase", new DelegatingFunction(org.apache.commons.lang3.StringUtils::swapCase));
-
-        context.set("f_recursive_eval", new RecursiveEvalFunction(context));
     }
 
     private static class TimeFormatFunction implements UnaryOperator<String> {
@@ -28,15 +28,24 @@ import org.jreleaser.mustache.TemplateContext;
 import org.jreleaser.templates.TemplateResource;
 import org.jreleaser.util.FileUtils;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
-import java.nio.charset.StandardCharsets;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static java.nio.file.StandardOpenOption.WRITE;
@@ -52,6 +61,8 @@ import static org.jreleaser.util.StringUtils.isFalse;
  * @since 0.6.0
  */
 public abstract class AbstractTemplatePackagerProcessor<T extends TemplatePackager<?>> extends AbstractPackagerProcessor<T> {
+    private final Set<Path> writtenFiles = ConcurrentHashMap.newKeySet();
+
     protected AbstractTemplatePackagerProcessor(JReleaserContext context) {
         super(context);
     }
@@ -73,8 +84,8 @@ public abstract class AbstractTemplatePackagerProcessor<T extends TemplatePackag
                                          String templateDirectory,
                                          String packagerName,
                                          boolean copyLicense) throws IOException, PackagerProcessingException {
-        // cleanup from previous session
-        FileUtils.deleteFiles(prepareDirectory);
+        // files from the previous session are kept so that unchanged outputs retain their timestamps,
+        // anything that is not written again is cleaned up once all templates have been processed
         Files.createDirectories(prepareDirectory);
 
         context.getLogger().debug(RB.$("packager.resolve.templates"), distributionName, packagerName);
@@ -107,6 +118,8 @@ public abstract class AbstractTemplatePackagerProcessor<T extends TemplatePackag
             }
         }
 
+        deleteStaleFiles(prepareDirectory);
+
         if (copyLicense && isFalse(packager.getExtraProperties().get(SKIP_LICENSE_FILE))) {
             context.getLogger().debug(RB.$("packager.copy.license"));
             FileUtils.copyFiles(context.getLogger(),
@@ -168,8 +181,17 @@ public abstract class AbstractTemplatePackagerProcessor<T extends TemplatePackag
     protected void writeFile(Reader reader, Path outputFile) throws PackagerProcessingException {
         try {
             createDirectoriesWithFullAccess(outputFile.getParent());
-            Files.write(outputFile, IOUtils.toByteArray(reader, StandardCharsets.UTF_8), CREATE, WRITE, TRUNCATE_EXISTING);
+            Path tempFile = Files.createTempFile(outputFile.getParent(), outputFile.getFileName().toString(), ".tmp");
+            try {
+                try (Writer writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+                    IOUtils.copy(reader, writer);
+                }
+                replaceIfChanged(tempFile, outputFile);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
             grantFullAccess(outputFile);
+            writtenFiles.add(outputFile.toAbsolutePath().normalize());
         } catch (Exception e) {
             throw new PackagerProcessingException(RB.$("ERROR_unexpected_error_writing_file", outputFile.toAbsolutePath()), e);
         }
@@ -178,8 +200,15 @@ public abstract class AbstractTemplatePackagerProcessor<T extends TemplatePackag
     protected void writeFile(InputStream inputStream, Path outputFile) throws PackagerProcessingException {
         try {
             createDirectoriesWithFullAccess(outputFile.getParent());
-            Files.write(outputFile, IOUtils.toByteArray(inputStream), CREATE, WRITE, TRUNCATE_EXISTING);
+            Path tempFile = Files.createTempFile(outputFile.getParent(), outputFile.getFileName().toString(), ".tmp");
+            try {
+                Files.copy(inputStream, tempFile, REPLACE_EXISTING);
+                replaceIfChanged(tempFile, outputFile);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
             grantFullAccess(outputFile);
+            writtenFiles.add(outputFile.toAbsolutePath().normalize());
         } catch (Exception e) {
             throw new PackagerProcessingException(RB.$("ERROR_unexpected_error_writing_file", outputFile.toAbsolutePath()), e);
         }
@@ -188,8 +217,13 @@ public abstract class AbstractTemplatePackagerProcessor<T extends TemplatePackag
     protected void writeFile(byte[] content, Path outputFile) throws PackagerProcessingException {
         try {
             createDirectoriesWithFullAccess(outputFile.getParent());
-            Files.write(outputFile, content, CREATE, WRITE, TRUNCATE_EXISTING);
+            if (!hasContent(outputFile, content)) {
+                Files.write(outputFile, content, CREATE, WRITE, TRUNCATE_EXISTING);
+            } else {
+                context.getLogger().debug(RB.$("packager.file.unchanged"), context.relativizeToBasedir(outputFile));
+            }
             grantFullAccess(outputFile);
+            writtenFiles.add(outputFile.toAbsolutePath().normalize());
         } catch (Exception e) {
             throw new PackagerProcessingException(RB.$("ERROR_unexpected_error_writing_file", outputFile.toAbsolutePath()), e);
         }
@@ -198,4 +232,46 @@ public abstract class AbstractTemplatePackagerProcessor<T extends TemplatePackag
     protected void writeFile(String content, Path outputFile) throws PackagerProcessingException {
         writeFile(content.getBytes(UTF_8), outputFile);
     }
+
+    private void replaceIfChanged(Path source, Path target) throws IOException {
+        if (hasContent(target, source)) {
+            context.getLogger().debug(RB.$("packager.file.unchanged"), context.relativizeToBasedir(target));
+            return;
+        }
+        Files.move(source, target, REPLACE_EXISTING);
+    }
+
+    private boolean hasContent(Path file, byte[] content) throws IOException {
+        return Files.isRegularFile(file) &&
+            Files.size(file) == content.length &&
+            Arrays.equals(Files.readAllBytes(file), content);
+    }
+
+    private boolean hasContent(Path file, Path other) throws IOException {
+        if (!Files.isRegularFile(file) || Files.size(file) != Files.size(other)) return false;
+
+        try (InputStream in1 = new BufferedInputStream(Files.newInputStream(file));
+             InputStream in2 = new BufferedInputStream(Files.newInputStream(other))) {
+            return IOUtils.contentEquals(in1, in2);
+        }
+    }
+
+    private void deleteStaleFiles(Path directory) throws IOException {
+        List<Path> paths;
+        try (Stream<Path> stream = Files.walk(directory)) {
+            paths = stream.sorted(Comparator.reverseOrder())
+                .collect(Collectors.toList());
+        }
+
+        for (Path path : paths) {
+            if (path.equals(directory)) continue;
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> children = Files.list(path)) {
+                    if (!children.findAny().isPresent()) Files.delete(path);
+                }
+            } else if (!writtenFiles.remove(path.toAbsolutePath().normalize())) {
+                Files.delete(path);
+            }
+        }
+    }
 }
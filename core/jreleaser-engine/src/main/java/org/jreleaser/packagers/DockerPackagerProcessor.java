@@ -68,6 +68,11 @@ import static org.jreleaser.util.StringUtils.isNotBlank;
  */
 public class DockerPackagerProcessor extends AbstractRepositoryPackagerProcessor<DockerPackager> {
     private static final String ROOT = "ROOT";
+    private static final String DOCKERFILE = "Dockerfile";
+    private static final String DOCKERFILE_REMOTE = "Dockerfile-remote";
+
+    // the configuration whose templates are being written, null for root files
+    private DockerConfiguration preparing;
 
     public DockerPackagerProcessor(JReleaserContext context) {
         super(context);
@@ -82,29 +87,20 @@ public class DockerPackagerProcessor extends AbstractRepositoryPackagerProcessor
                                          String packagerName,
                                          boolean copyLicense) throws IOException, PackagerProcessingException {
         if (packager.getActiveSpecs().isEmpty()) {
+            preparing = packager;
             super.doPrepareDistribution(distribution, props, distributionName,
                 prepareDirectory, templateDirectory, packagerName, true);
-
-            if (!packager.isUseLocalArtifact()) {
-                Files.move(prepareDirectory.resolve("Dockerfile-remote"),
-                    prepareDirectory.resolve("Dockerfile"),
-                    REPLACE_EXISTING);
-            } else {
-                Files.deleteIfExists(prepareDirectory.resolve("Dockerfile-remote"));
-            }
-
             return;
         }
 
         // copy root files
         String rootTemplateDirectory = getPackager().getTemplateDirectory() + File.separator + ROOT;
+        preparing = null;
         super.doPrepareDistribution(distribution, props, distributionName,
             prepareDirectory.resolve(ROOT),
             rootTemplateDirectory,
             packager.getType(),
             false);
-        Files.deleteIfExists(prepareDirectory.resolve(ROOT).resolve("Dockerfile"));
-        Files.deleteIfExists(prepareDirectory.resolve(ROOT).resolve("Dockerfile-remote"));
 
         for (DockerSpec spec : packager.getActiveSpecs()) {
             prepareSpec(distribution, props, distributionName, prepareDirectory, spec);
@@ -118,19 +114,12 @@ public class DockerPackagerProcessor extends AbstractRepositoryPackagerProcessor
                              DockerSpec spec) throws IOException, PackagerProcessingException {
         TemplateContext newProps = fillSpecProps(distribution, props, spec);
         context.getLogger().debug(RB.$("distributions.action.preparing") + " {} spec", spec.getName());
+        preparing = spec;
         super.doPrepareDistribution(distribution, newProps, distributionName,
             prepareDirectory.resolve(spec.getName()),
             spec.getTemplateDirectory(),
             spec.getName() + "/" + packager.getType(),
             false);
-
-        if (!spec.isUseLocalArtifact()) {
-            Files.move(prepareDirectory.resolve(spec.getName()).resolve("Dockerfile-remote"),
-                prepareDirectory.resolve(spec.getName()).resolve("Dockerfile"),
-                REPLACE_EXISTING);
-        } else {
-            Files.deleteIfExists(prepareDirectory.resolve(spec.getName()).resolve("Dockerfile-remote"));
-        }
     }
 
     private TemplateContext fillSpecProps(Distribution distribution, TemplateContext props, DockerSpec spec) {
@@ -559,6 +548,14 @@ public class DockerPackagerProcessor extends AbstractRepositoryPackagerProcessor
                              String fileName) throws PackagerProcessingException {
         fileName = trimTplExtension(fileName);
 
+        if (DOCKERFILE.equals(fileName) || DOCKERFILE_REMOTE.equals(fileName)) {
+            // root files have no Dockerfile, otherwise only one of both templates becomes the Dockerfile
+            if (null == preparing || preparing.isUseLocalArtifact() == DOCKERFILE_REMOTE.equals(fileName)) {
+                return;
+            }
+            fileName = DOCKERFILE;
+        }
+
         Path outputFile = "executable".equals(fileName) ?
             outputDirectory.resolve("assembly").resolve(distribution.getExecutable().getName()) :
             outputDirectory.resolve(fileName);
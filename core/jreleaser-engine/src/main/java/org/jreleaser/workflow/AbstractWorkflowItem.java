@@ -21,15 +21,28 @@ import org.jreleaser.engine.hooks.HookExecutor;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
+
 /**
  * @author Andres Almiray
  * @since 1.2.0
  */
 public abstract class AbstractWorkflowItem implements WorkflowItem {
     private final JReleaserCommand command;
+    private final Set<WorkflowData> inputs;
+    private final Set<WorkflowData> outputs;
 
     protected AbstractWorkflowItem(JReleaserCommand command) {
+        this(command, emptySet(), emptySet());
+    }
+
+    protected AbstractWorkflowItem(JReleaserCommand command, Set<WorkflowData> inputs, Set<WorkflowData> outputs) {
         this.command = command;
+        this.inputs = unmodifiableSet(inputs);
+        this.outputs = unmodifiableSet(outputs);
     }
 
     @Override
@@ -37,6 +50,16 @@ public abstract class AbstractWorkflowItem implements WorkflowItem {
         return command;
     }
 
+    @Override
+    public Set<WorkflowData> getInputs() {
+        return inputs;
+    }
+
+    @Override
+    public Set<WorkflowData> getOutputs() {
+        return outputs;
+    }
+
     @Override
     public void invoke(JReleaserContext context) {
         HookExecutor executor = new HookExecutor(context);
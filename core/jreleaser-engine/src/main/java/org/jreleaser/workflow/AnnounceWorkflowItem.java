@@ -21,13 +21,21 @@ import org.jreleaser.engine.announce.Announcers;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import static java.util.EnumSet.of;
+import static org.jreleaser.workflow.WorkflowData.ANNOUNCEMENTS;
+import static org.jreleaser.workflow.WorkflowData.CHANGELOG;
+import static org.jreleaser.workflow.WorkflowData.PUBLICATIONS;
+import static org.jreleaser.workflow.WorkflowData.RELEASE;
+
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 class AnnounceWorkflowItem extends AbstractWorkflowItem {
     protected AnnounceWorkflowItem() {
-        super(JReleaserCommand.ANNOUNCE);
+        super(JReleaserCommand.ANNOUNCE,
+            of(CHANGELOG, RELEASE, PUBLICATIONS),
+            of(ANNOUNCEMENTS));
     }
 
     @Override
@@ -21,13 +21,19 @@ import org.jreleaser.engine.assemble.Assemblers;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import static java.util.EnumSet.noneOf;
+import static java.util.EnumSet.of;
+import static org.jreleaser.workflow.WorkflowData.ASSEMBLIES;
+
 /**
  * @author Andres Almiray
  * @since 0.2.0
  */
 class AssembleWorkflowItem extends AbstractWorkflowItem {
     protected AssembleWorkflowItem() {
-        super(JReleaserCommand.ASSEMBLE);
+        super(JReleaserCommand.ASSEMBLE,
+            noneOf(WorkflowData.class),
+            of(ASSEMBLIES));
     }
 
     @Override
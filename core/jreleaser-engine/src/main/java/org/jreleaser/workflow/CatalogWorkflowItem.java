@@ -21,13 +21,19 @@ import org.jreleaser.engine.catalog.Catalogers;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import static java.util.EnumSet.of;
+import static org.jreleaser.workflow.WorkflowData.CATALOGS;
+import static org.jreleaser.workflow.WorkflowData.CHECKSUMS;
+
 /**
  * @author Andres Almiray
  * @since 1.5.0
  */
 class CatalogWorkflowItem extends AbstractWorkflowItem {
     protected CatalogWorkflowItem() {
-        super(JReleaserCommand.CATALOG);
+        super(JReleaserCommand.CATALOG,
+            of(CHECKSUMS),
+            of(CATALOGS));
     }
 
     @Override
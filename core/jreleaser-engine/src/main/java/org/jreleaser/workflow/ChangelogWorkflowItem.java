@@ -21,13 +21,19 @@ import org.jreleaser.engine.release.ChangelogResolver;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import static java.util.EnumSet.noneOf;
+import static java.util.EnumSet.of;
+import static org.jreleaser.workflow.WorkflowData.CHANGELOG;
+
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 class ChangelogWorkflowItem extends AbstractWorkflowItem {
     protected ChangelogWorkflowItem() {
-        super(JReleaserCommand.CHANGELOG);
+        super(JReleaserCommand.CHANGELOG,
+            noneOf(WorkflowData.class),
+            of(CHANGELOG));
     }
 
     @Override
@@ -21,13 +21,19 @@ import org.jreleaser.engine.checksum.Checksum;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import static java.util.EnumSet.noneOf;
+import static java.util.EnumSet.of;
+import static org.jreleaser.workflow.WorkflowData.CHECKSUMS;
+
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 class ChecksumWorkflowItem extends AbstractWorkflowItem {
     protected ChecksumWorkflowItem() {
-        super(JReleaserCommand.CHECKSUM);
+        super(JReleaserCommand.CHECKSUM,
+            noneOf(WorkflowData.class),
+            of(CHECKSUMS));
     }
 
     @Override
@@ -21,13 +21,20 @@ import org.jreleaser.engine.deploy.maven.MavenDeployers;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import static java.util.EnumSet.of;
+import static org.jreleaser.workflow.WorkflowData.DEPLOYMENTS;
+import static org.jreleaser.workflow.WorkflowData.SIGNATURES;
+
 /**
  * @author Andres Almiray
  * @since 1.3.0
  */
 class DeployWorkflowItem extends AbstractWorkflowItem {
     protected DeployWorkflowItem() {
-        super(JReleaserCommand.DEPLOY);
+        super(JReleaserCommand.DEPLOY,
+            // staged artifacts are signed with the same keys as the sign step
+            of(SIGNATURES),
+            of(DEPLOYMENTS));
     }
 
     @Override
@@ -21,13 +21,19 @@ import org.jreleaser.engine.download.Downloaders;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import static java.util.EnumSet.noneOf;
+import static java.util.EnumSet.of;
+import static org.jreleaser.workflow.WorkflowData.DOWNLOADS;
+
 /**
  * @author Andres Almiray
  * @since 1.1.0
  */
 class DownloadWorkflowItem extends AbstractWorkflowItem {
     protected DownloadWorkflowItem() {
-        super(JReleaserCommand.DOWNLOAD);
+        super(JReleaserCommand.DOWNLOAD,
+            noneOf(WorkflowData.class),
+            of(DOWNLOADS));
     }
 
     @Override
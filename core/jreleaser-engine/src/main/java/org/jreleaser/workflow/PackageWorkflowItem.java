@@ -23,13 +23,19 @@ import org.jreleaser.engine.distribution.Distributions;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import static java.util.EnumSet.of;
+import static org.jreleaser.workflow.WorkflowData.PACKAGES;
+import static org.jreleaser.workflow.WorkflowData.PREPARATIONS;
+
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 class PackageWorkflowItem extends AbstractWorkflowItem {
     protected PackageWorkflowItem() {
-        super(JReleaserCommand.PACKAGE);
+        super(JReleaserCommand.PACKAGE,
+            of(PREPARATIONS),
+            of(PACKAGES));
     }
 
     @Override
@@ -23,13 +23,20 @@ import org.jreleaser.engine.distribution.Distributions;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import static java.util.EnumSet.of;
+import static org.jreleaser.workflow.WorkflowData.CHANGELOG;
+import static org.jreleaser.workflow.WorkflowData.CHECKSUMS;
+import static org.jreleaser.workflow.WorkflowData.PREPARATIONS;
+
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 class PrepareWorkflowItem extends AbstractWorkflowItem {
     protected PrepareWorkflowItem() {
-        super(JReleaserCommand.PREPARE);
+        super(JReleaserCommand.PREPARE,
+            of(CHANGELOG, CHECKSUMS),
+            of(PREPARATIONS));
     }
 
     @Override
@@ -23,13 +23,20 @@ import org.jreleaser.engine.distribution.Distributions;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import static java.util.EnumSet.of;
+import static org.jreleaser.workflow.WorkflowData.PACKAGES;
+import static org.jreleaser.workflow.WorkflowData.PUBLICATIONS;
+import static org.jreleaser.workflow.WorkflowData.RELEASE;
+
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 class PublishWorkflowItem extends AbstractWorkflowItem {
     protected PublishWorkflowItem() {
-        super(JReleaserCommand.PUBLISH);
+        super(JReleaserCommand.PUBLISH,
+            of(PACKAGES, RELEASE),
+            of(PUBLICATIONS));
     }
 
     @Override
@@ -24,13 +24,24 @@ import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.spi.release.ReleaseException;
 
+import static java.util.EnumSet.of;
+import static org.jreleaser.workflow.WorkflowData.CATALOGS;
+import static org.jreleaser.workflow.WorkflowData.CHANGELOG;
+import static org.jreleaser.workflow.WorkflowData.CHECKSUMS;
+import static org.jreleaser.workflow.WorkflowData.DEPLOYMENTS;
+import static org.jreleaser.workflow.WorkflowData.RELEASE;
+import static org.jreleaser.workflow.WorkflowData.SIGNATURES;
+import static org.jreleaser.workflow.WorkflowData.UPLOADS;
+
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 class ReleaseWorkflowItem extends AbstractWorkflowItem {
     protected ReleaseWorkflowItem() {
-        super(JReleaserCommand.RELEASE);
+        super(JReleaserCommand.RELEASE,
+            of(CHANGELOG, CHECKSUMS, CATALOGS, SIGNATURES, DEPLOYMENTS, UPLOADS),
+            of(RELEASE));
     }
 
     @Override
@@ -24,13 +24,20 @@ import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.api.signing.SigningException;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import static java.util.EnumSet.of;
+import static org.jreleaser.workflow.WorkflowData.CATALOGS;
+import static org.jreleaser.workflow.WorkflowData.CHECKSUMS;
+import static org.jreleaser.workflow.WorkflowData.SIGNATURES;
+
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
 class SignWorkflowItem extends AbstractWorkflowItem {
     protected SignWorkflowItem() {
-        super(JReleaserCommand.SIGN);
+        super(JReleaserCommand.SIGN,
+            of(CHECKSUMS, CATALOGS),
+            of(SIGNATURES));
     }
 
     @Override
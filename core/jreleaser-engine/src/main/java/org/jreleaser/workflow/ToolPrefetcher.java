@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.workflow;
+
+import org.jreleaser.model.api.JReleaserCommand;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.JReleaserModel;
+import org.jreleaser.model.internal.assemble.NativeImageAssembler;
+import org.jreleaser.model.internal.catalog.sbom.Sbom;
+import org.jreleaser.model.internal.deploy.maven.MavenDeployer;
+import org.jreleaser.model.internal.distributions.Distribution;
+import org.jreleaser.model.internal.signing.Signing;
+import org.jreleaser.sdk.tool.Cosign;
+import org.jreleaser.sdk.tool.Cyclonedx;
+import org.jreleaser.sdk.tool.Jib;
+import org.jreleaser.sdk.tool.PomChecker;
+import org.jreleaser.sdk.tool.Syft;
+import org.jreleaser.sdk.tool.ToolException;
+import org.jreleaser.sdk.tool.ToolPrefetch;
+import org.jreleaser.sdk.tool.Upx;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Starts background downloads for every tool the active model needs in the current workflow.
+ *
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+final class ToolPrefetcher {
+    private ToolPrefetcher() {
+        // noop
+    }
+
+    static void prefetch(JReleaserContext context, List<WorkflowItem> items) {
+        Set<JReleaserCommand> commands = EnumSet.noneOf(JReleaserCommand.class);
+        for (WorkflowItem item : items) {
+            commands.add(item.getCommand());
+        }
+
+        JReleaserModel model = context.getModel();
+        org.jreleaser.model.api.JReleaserContext immutable = context.asImmutable();
+
+        try {
+            if (commands.contains(JReleaserCommand.ASSEMBLE)) {
+                for (NativeImageAssembler assembler : model.getAssemble().getActiveNativeImages()) {
+                    if (assembler.getUpx().isEnabled()) {
+                        ToolPrefetch.prefetch(new Upx(immutable, assembler.getUpx().getVersion()));
+                    }
+                }
+            }
+
+            if (commands.contains(JReleaserCommand.CATALOG) && model.getCatalog().isEnabled()) {
+                Sbom sbom = model.getCatalog().getSbom();
+                if (sbom.getSyft().isEnabled()) {
+                    ToolPrefetch.prefetch(new Syft(immutable, sbom.getSyft().getVersion()));
+                }
+                if (sbom.getCyclonedx().isEnabled()) {
+                    ToolPrefetch.prefetch(new Cyclonedx(immutable, sbom.getCyclonedx().getVersion()));
+                }
+            }
+
+            Signing signing = model.getSigning();
+            if (commands.contains(JReleaserCommand.SIGN) && signing.isEnabled() &&
+                signing.getMode() == org.jreleaser.model.Signing.Mode.COSIGN) {
+                ToolPrefetch.prefetch(new Cosign(immutable, signing.getCosign().getVersion()));
+            }
+
+            if (commands.contains(JReleaserCommand.DEPLOY)) {
+                for (MavenDeployer<?> deployer : model.getDeploy().getMaven().<MavenDeployer<?>>findAllActiveMavenDeployers()) {
+                    if (deployer.isVerifyPom()) {
+                        ToolPrefetch.prefetch(new PomChecker(immutable, model.getDeploy().getMaven().getPomchecker().getVersion()));
+                        break;
+                    }
+                }
+            }
+
+            if (commands.contains(JReleaserCommand.PACKAGE) || commands.contains(JReleaserCommand.PUBLISH)) {
+                for (Distribution distribution : model.getActiveDistributions()) {
+                    if (distribution.getJib().isEnabled()) {
+                        ToolPrefetch.prefetch(new Jib(immutable, distribution.getJib().getVersion()));
+                    }
+                }
+            }
+        } catch (ToolException | IllegalArgumentException e) {
+            // steps resolve their tools on demand
+            context.getLogger().trace(e);
+        }
+    }
+}
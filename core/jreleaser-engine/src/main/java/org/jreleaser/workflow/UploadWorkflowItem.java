@@ -21,13 +21,21 @@ import org.jreleaser.engine.upload.Uploaders;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import static java.util.EnumSet.of;
+import static org.jreleaser.workflow.WorkflowData.CATALOGS;
+import static org.jreleaser.workflow.WorkflowData.CHECKSUMS;
+import static org.jreleaser.workflow.WorkflowData.SIGNATURES;
+import static org.jreleaser.workflow.WorkflowData.UPLOADS;
+
 /**
  * @author Andres Almiray
  * @since 0.3.0
  */
 class UploadWorkflowItem extends AbstractWorkflowItem {
     protected UploadWorkflowItem() {
-        super(JReleaserCommand.UPLOAD);
+        super(JReleaserCommand.UPLOAD,
+            of(CHECKSUMS, CATALOGS, SIGNATURES),
+            of(UPLOADS));
     }
 
     @Override
@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.workflow;
+
+/**
+ * Data produced and consumed by workflow items. The scheduler derives the
+ * dependencies between items from these declarations.
+ *
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+public enum WorkflowData {
+    ANNOUNCEMENTS,
+    ASSEMBLIES,
+    CATALOGS,
+    CHANGELOG,
+    CHECKSUMS,
+    DEPLOYMENTS,
+    DOWNLOADS,
+    PACKAGES,
+    PREPARATIONS,
+    PUBLICATIONS,
+    RELEASE,
+    SIGNATURES,
+    UPLOADS
+}
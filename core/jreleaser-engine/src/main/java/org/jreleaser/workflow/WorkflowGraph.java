@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.workflow;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Dependencies between the items of a workflow, derived from the data each item
+ * consumes and produces. An item depends on a preceding item when it reads what
+ * the other writes, writes what the other reads, or both write the same data.
+ * Items are only ever made to wait on preceding items, which keeps the graph
+ * acyclic and preserves the declared order between dependent items.
+ *
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+final class WorkflowGraph {
+    private final List<BitSet> dependencies = new ArrayList<>();
+
+    private WorkflowGraph(List<WorkflowItem> items) {
+        for (int i = 0; i < items.size(); i++) {
+            BitSet deps = new BitSet(items.size());
+            for (int j = 0; j < i; j++) {
+                if (dependsOn(items.get(i), items.get(j))) {
+                    deps.set(j);
+                }
+            }
+            dependencies.add(deps);
+        }
+    }
+
+    static WorkflowGraph of(List<WorkflowItem> items) {
+        return new WorkflowGraph(items);
+    }
+
+    /**
+     * Indices of the items that have not started yet and whose dependencies are all done, in declaration order.
+     */
+    List<Integer> ready(BitSet started, BitSet done) {
+        List<Integer> ready = new ArrayList<>();
+        for (int i = 0; i < dependencies.size(); i++) {
+            if (started.get(i)) continue;
+
+            BitSet pending = (BitSet) dependencies.get(i).clone();
+            pending.andNot(done);
+            if (pending.isEmpty()) {
+                ready.add(i);
+            }
+        }
+        return ready;
+    }
+
+    private static boolean dependsOn(WorkflowItem item, WorkflowItem other) {
+        if (isBarrier(item) || isBarrier(other)) return true;
+
+        return !Collections.disjoint(item.getInputs(), other.getOutputs()) ||
+            !Collections.disjoint(item.getOutputs(), other.getInputs()) ||
+            !Collections.disjoint(item.getOutputs(), other.getOutputs());
+    }
+
+    private static boolean isBarrier(WorkflowItem item) {
+        Set<WorkflowData> inputs = item.getInputs();
+        Set<WorkflowData> outputs = item.getOutputs();
+        return inputs.isEmpty() && outputs.isEmpty();
+    }
+}
@@ -20,16 +20,30 @@ package org.jreleaser.workflow;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.engine.context.ModelValidator;
 import org.jreleaser.engine.hooks.HookExecutor;
+import org.jreleaser.extensions.api.ExtensionManager;
 import org.jreleaser.extensions.api.ExtensionManagerHolder;
 import org.jreleaser.extensions.api.workflow.WorkflowListenerException;
+import org.jreleaser.logging.LogScope;
 import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.api.hooks.ExecutionEvent;
 import org.jreleaser.model.internal.JReleaserContext;
-
+import org.jreleaser.sdk.commons.HttpTransport;
+import org.jreleaser.sdk.tool.ToolPrefetch;
+import org.jreleaser.util.ConcurrencyUtils;
+import org.jreleaser.util.Env;
+import org.jreleaser.util.Timings;
+
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
 
 import static org.jreleaser.util.TimeUtils.formatDuration;
 
@@ -50,10 +64,15 @@ class WorkflowImpl implements Workflow {
 
     @Override
     public void execute() {
+        HttpTransport.open();
         try {
             doExecute();
         } finally {
             ExtensionManagerHolder.cleanup();
+            ToolPrefetch.shutdown(context.getLogger());
+            context.getJournal().close();
+            Timings.bind(null);
+            HttpTransport.shutdown(context.getLogger());
             context.getLogger().close();
         }
     }
@@ -69,6 +88,7 @@ class WorkflowImpl implements Workflow {
         ExecutionContext executionContext = new ExecutionContext();
 
         Instant start = Instant.now();
+        Timings.bind(context.getTimings());
 
         filterLogs();
 
@@ -81,51 +101,13 @@ class WorkflowImpl implements Workflow {
         }
 
         if (null == executionContext.startSessionException) {
-            for (WorkflowItem item : items) {
-                boolean failure = false;
-                try {
-                    context.fireWorkflowEvent(ExecutionEvent.before(item.getCommand().toStep()));
-                } catch (WorkflowListenerException beforeException) {
-                    context.getLogger().error(RB.$("listener.failure", beforeException.getListener().getClass().getName()));
-                    context.getLogger().trace(beforeException);
-                    if (!beforeException.getListener().isContinueOnError()) {
-                        executionContext.listenerException = beforeException.getCause();
-                        break;
-                    }
-                }
+            ToolPrefetcher.prefetch(context, items);
+            context.getJournal().open();
 
-                try {
-                    item.invoke(context);
-                } catch (RuntimeException e) {
-                    // terminate
-                    failure = true;
-                    executionContext.stepException = e;
-
-                    try {
-                        context.fireWorkflowEvent(ExecutionEvent.failure(item.getCommand().toStep(), e));
-                        break;
-                    } catch (WorkflowListenerException failureException) {
-                        context.getLogger().error(RB.$("listener.failure", failureException.getListener().getClass().getName()));
-                        context.getLogger().trace(failureException);
-                        if (!failureException.getListener().isContinueOnError()) {
-                            executionContext.listenerException = failureException.getCause();
-                            break;
-                        }
-                    }
-                }
-
-                if (!failure) {
-                    try {
-                        context.fireWorkflowEvent(ExecutionEvent.success(item.getCommand().toStep()));
-                    } catch (WorkflowListenerException afterException) {
-                        context.getLogger().error(RB.$("listener.failure", afterException.getListener().getClass().getName()));
-                        context.getLogger().trace(afterException);
-                        if (!afterException.getListener().isContinueOnError()) {
-                            executionContext.listenerException = afterException.getCause();
-                            break;
-                        }
-                    }
-                }
+            if (context.isSequential()) {
+                executeSequentially(executionContext);
+            } else {
+                executeConcurrently(executionContext);
             }
         }
 
@@ -145,10 +127,159 @@ class WorkflowImpl implements Workflow {
 
         context.getLogger().reset();
         context.report();
+        reportTimings();
 
         closeUpExecution(executionContext ,duration,  hooks);
     }
 
+    private void reportTimings() {
+        Path report = context.getOutputDirectory().resolve("timings.json");
+        Path trace = Boolean.parseBoolean(Env.resolve("timings.trace", "")) ?
+            context.getOutputDirectory().resolve("timings-trace.json") : null;
+
+        try {
+            context.getLogger().info(RB.$("context.writing.timings"), context.relativizeToBasedir(report));
+            context.getTimings().write(report, trace);
+        } catch (IOException e) {
+            context.getLogger().warn(RB.$("context.writing.timings.error"), context.relativizeToBasedir(report));
+            context.getLogger().trace(e);
+        }
+    }
+
+    private void executeSequentially(ExecutionContext executionContext) {
+        for (WorkflowItem item : items) {
+            if (!fireBeforeEvent(item, executionContext)) break;
+
+            RuntimeException failure = invokeItem(item);
+            if (null != failure) {
+                executionContext.stepException = failure;
+                if (!fireFailureEvent(item, failure, executionContext)) break;
+            } else if (!fireSuccessEvent(item, executionContext)) {
+                break;
+            }
+        }
+    }
+
+    private void executeConcurrently(ExecutionContext executionContext) {
+        WorkflowGraph graph = WorkflowGraph.of(items);
+        BitSet started = new BitSet(items.size());
+        BitSet done = new BitSet(items.size());
+        ExtensionManager extensionManager = ExtensionManagerHolder.get();
+
+        ExecutorService executor = ConcurrencyUtils.newFixedThreadPool("workflow",
+            items.size(), context.getLogger());
+        CompletionService<Outcome> completions = new ExecutorCompletionService<>(executor);
+
+        try {
+            int running = 0;
+            boolean halted = false;
+            while (true) {
+                if (!halted) {
+                    for (int index : graph.ready(started, done)) {
+                        WorkflowItem item = items.get(index);
+                        started.set(index);
+                        if (!fireBeforeEvent(item, executionContext)) {
+                            halted = true;
+                            break;
+                        }
+
+                        completions.submit(() -> {
+                            // extensions are bound per thread
+                            ExtensionManagerHolder.set(extensionManager);
+                            // lines are held back until the item is done so that items do not interleave
+                            try (LogScope scope = context.getLogger().scope(item.getCommand().toStep(), true)) {
+                                return new Outcome(index, invokeItem(item));
+                            } finally {
+                                ExtensionManagerHolder.cleanup();
+                            }
+                        });
+                        running++;
+                    }
+                }
+
+                // items in flight always run to completion, even once the workflow halts
+                if (running == 0) break;
+
+                Outcome outcome = completions.take().get();
+                running--;
+                done.set(outcome.index);
+
+                WorkflowItem item = items.get(outcome.index);
+                if (null != outcome.failure) {
+                    if (null == executionContext.stepException) {
+                        executionContext.stepException = outcome.failure;
+                    }
+                    if (!fireFailureEvent(item, outcome.failure, executionContext)) halted = true;
+                } else if (!fireSuccessEvent(item, executionContext)) {
+                    halted = true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executionContext.stepException = new JReleaserException(RB.$("ERROR_unexpected_error"), e);
+        } catch (ExecutionException e) {
+            Throwable cause = null != e.getCause() ? e.getCause() : e;
+            if (cause instanceof Error) throw (Error) cause;
+            executionContext.stepException = new JReleaserException(RB.$("ERROR_unexpected_error"), cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private RuntimeException invokeItem(WorkflowItem item) {
+        // operations with remote side effects consult the journal individually
+        try (Timings.Span span = Timings.start(Timings.CATEGORY_STEP, item.getCommand().toStep())) {
+            item.invoke(context);
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private boolean fireBeforeEvent(WorkflowItem item, ExecutionContext executionContext) {
+        try {
+            context.fireWorkflowEvent(ExecutionEvent.before(item.getCommand().toStep()));
+        } catch (WorkflowListenerException beforeException) {
+            context.getLogger().error(RB.$("listener.failure", beforeException.getListener().getClass().getName()));
+            context.getLogger().trace(beforeException);
+            if (!beforeException.getListener().isContinueOnError()) {
+                executionContext.listenerException = beforeException.getCause();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean fireFailureEvent(WorkflowItem item, RuntimeException failure, ExecutionContext executionContext) {
+        try {
+            context.fireWorkflowEvent(ExecutionEvent.failure(item.getCommand().toStep(), failure));
+            // terminate
+            return false;
+        } catch (WorkflowListenerException failureException) {
+            context.getLogger().error(RB.$("listener.failure", failureException.getListener().getClass().getName()));
+            context.getLogger().trace(failureException);
+            if (!failureException.getListener().isContinueOnError()) {
+                executionContext.listenerException = failureException.getCause();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean fireSuccessEvent(WorkflowItem item, ExecutionContext executionContext) {
+        try {
+            context.fireWorkflowEvent(ExecutionEvent.success(item.getCommand().toStep()));
+        } catch (WorkflowListenerException afterException) {
+            context.getLogger().error(RB.$("listener.failure", afterException.getListener().getClass().getName()));
+            context.getLogger().trace(afterException);
+            if (!afterException.getListener().isContinueOnError()) {
+                executionContext.listenerException = afterException.getCause();
+                return false;
+            }
+        }
+        return true;
+    }
+
     private void executeHooks(HookExecutor hooks, ExecutionContext executionContext) {
         try {
             hooks.executeHooks(ExecutionEvent.before(SESSION));
@@ -264,4 +395,14 @@ class WorkflowImpl implements Workflow {
             context.getLogger().info(RB.$(key, input));
         }
     }
+
+    private static final class Outcome {
+        private final int index;
+        private final RuntimeException failure;
+
+        private Outcome(int index, RuntimeException failure) {
+            this.index = index;
+            this.failure = failure;
+        }
+    }
 }
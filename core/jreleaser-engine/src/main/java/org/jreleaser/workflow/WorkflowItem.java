@@ -20,6 +20,10 @@ package org.jreleaser.workflow;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.internal.JReleaserContext;
 
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+
 /**
  * @author Andres Almiray
  * @since 0.1.0
@@ -27,5 +31,24 @@ import org.jreleaser.model.internal.JReleaserContext;
 public interface WorkflowItem {
     JReleaserCommand getCommand();
 
+    /**
+     * Data this item consumes. An item that declares neither inputs nor outputs
+     * runs once every preceding item is done, and before any following item.
+     *
+     * @since 1.14.0
+     */
+    default Set<WorkflowData> getInputs() {
+        return emptySet();
+    }
+
+    /**
+     * Data this item produces.
+     *
+     * @since 1.14.0
+     */
+    default Set<WorkflowData> getOutputs() {
+        return emptySet();
+    }
+
     void invoke(JReleaserContext context);
 }
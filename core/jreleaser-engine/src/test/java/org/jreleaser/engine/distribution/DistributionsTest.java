@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.engine.distribution;
+
+import org.jreleaser.extensions.api.ExtensionManager;
+import org.jreleaser.extensions.api.ExtensionManagerHolder;
+import org.jreleaser.extensions.api.ExtensionPoint;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.model.Active;
+import org.jreleaser.model.JReleaserException;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.JReleaserModel;
+import org.jreleaser.model.internal.distributions.Distribution;
+import org.jreleaser.model.spi.packagers.PackagerProcessingException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class DistributionsTest {
+    @TempDir
+    Path basedir;
+
+    private JReleaserContext context;
+
+    @BeforeEach
+    void setup() {
+        JReleaserModel model = new JReleaserModel();
+        model.getProject().setName("app");
+        model.getProject().setVersion("1.0.0");
+        model.addDistribution(distribution(model, "app"));
+        model.addDistribution(distribution(model, "tool"));
+
+        context = new JReleaserContext(
+            new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR),
+            JReleaserContext.Configurer.CLI,
+            org.jreleaser.model.api.JReleaserContext.Mode.FULL,
+            model,
+            basedir,
+            basedir.resolve("out"),
+            false,
+            false,
+            false,
+            Collections.emptyList(),
+            Collections.emptyList());
+        context.setIncludedPackagers(Arrays.asList("brew", "scoop"));
+
+        // pool threads are bound to the caller's extensions, none take part here
+        ExtensionManagerHolder.set(new ExtensionManager() {
+            @Override
+            public <T extends ExtensionPoint> Set<T> findExtensionPoints(Class<T> extensionPointType) {
+                return Collections.emptySet();
+            }
+        });
+    }
+
+    @AfterEach
+    void cleanup() {
+        ExtensionManagerHolder.cleanup();
+    }
+
+    @Test
+    void processPairsConcurrently() {
+        // given:
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        Set<String> processed = ConcurrentHashMap.newKeySet();
+
+        // when:
+        Distributions.process(context, DistributionProcessor.PackagingAction.of("Preparing",
+            DistributionProcessor.PackagingAction.Type.PREPARE, processor -> {
+                try {
+                    // only completes if at least two pairs run at the same time
+                    barrier.await(10, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new PackagerProcessingException(e);
+                }
+                processed.add(processor.getDistributionName() + "/" + processor.getPackagerName());
+            }));
+
+        // then:
+        assertThat(processed)
+            .containsExactlyInAnyOrder("app/brew", "tool/brew", "app/scoop", "tool/scoop");
+    }
+
+    @Test
+    void processPairsInOrderWhenSequential() {
+        // given:
+        context.setSequential(true);
+        List<String> processed = new CopyOnWriteArrayList<>();
+        Thread caller = Thread.currentThread();
+
+        // when:
+        Distributions.process(context, DistributionProcessor.PackagingAction.of("Preparing",
+            DistributionProcessor.PackagingAction.Type.PREPARE, processor -> {
+                assertThat(Thread.currentThread()).isSameAs(caller);
+                processed.add(processor.getDistributionName() + "/" + processor.getPackagerName());
+            }));
+
+        // then:
+        assertThat(processed)
+            .containsExactly("app/brew", "tool/brew", "app/scoop", "tool/scoop");
+    }
+
+    @Test
+    void failingPairFailsTheStep() {
+        // given:
+        Set<String> processed = ConcurrentHashMap.newKeySet();
+
+        // expect:
+        assertThatThrownBy(() -> Distributions.process(context, DistributionProcessor.PackagingAction.of("Preparing",
+            DistributionProcessor.PackagingAction.Type.PREPARE, processor -> {
+                String pair = processor.getDistributionName() + "/" + processor.getPackagerName();
+                if ("tool/brew".equals(pair)) {
+                    throw new PackagerProcessingException("boom");
+                }
+                processed.add(pair);
+            })))
+            .isInstanceOf(JReleaserException.class)
+            .hasRootCauseMessage("boom");
+        assertThat(processed).doesNotContain("tool/brew");
+    }
+
+    private static Distribution distribution(JReleaserModel model, String name) {
+        Distribution distribution = new Distribution();
+        distribution.setName(name);
+        distribution.setActive(Active.ALWAYS);
+        distribution.resolveEnabled(model.getProject());
+        return distribution;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.packagers;
+
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.JReleaserModel;
+import org.jreleaser.model.spi.packagers.PackagerProcessingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class AbstractTemplatePackagerProcessorTest {
+    private static final FileTime YESTERDAY = FileTime.from(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) - TimeUnit.DAYS.toSeconds(1), TimeUnit.SECONDS);
+    private static final String CONTENT = "class App < Formula\nend\n";
+
+    @TempDir
+    Path basedir;
+
+    private AbstractTemplatePackagerProcessor<?> processor;
+    private Path file;
+
+    @BeforeEach
+    void setup() throws IOException {
+        JReleaserModel model = new JReleaserModel();
+        model.getProject().setName("app");
+        model.getProject().setVersion("1.0.0");
+        JReleaserContext context = new JReleaserContext(
+            new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR),
+            JReleaserContext.Configurer.CLI,
+            org.jreleaser.model.api.JReleaserContext.Mode.FULL,
+            model,
+            basedir,
+            basedir.resolve("out"),
+            false,
+            false,
+            false,
+            Collections.emptyList(),
+            Collections.emptyList());
+        processor = new BrewPackagerProcessor(context);
+
+        file = basedir.resolve("prepare").resolve("app.rb");
+        Files.createDirectories(file.getParent());
+        Files.write(file, CONTENT.getBytes(UTF_8));
+        Files.setLastModifiedTime(file, YESTERDAY);
+    }
+
+    @Test
+    void keepsUnchangedContentsUntouched() throws PackagerProcessingException {
+        // when:
+        processor.writeFile(CONTENT, file);
+
+        // then:
+        assertThat(file).hasContent(CONTENT);
+        assertThat(lastModified(file)).isEqualTo(YESTERDAY);
+    }
+
+    @Test
+    void keepsUnchangedStreamsUntouched() throws PackagerProcessingException, IOException {
+        // when:
+        processor.writeFile(new ByteArrayInputStream(CONTENT.getBytes(UTF_8)), file);
+        processor.writeFile(new StringReader(CONTENT), file);
+
+        // then:
+        assertThat(file).hasContent(CONTENT);
+        assertThat(lastModified(file)).isEqualTo(YESTERDAY);
+        assertThat(siblingsOf(file)).isZero();
+    }
+
+    @Test
+    void replacesChangedContents() throws PackagerProcessingException, IOException {
+        // given:
+        String changed = CONTENT + "# 1.0.1\n";
+
+        // when:
+        processor.writeFile(changed, file);
+
+        // then:
+        assertThat(file).hasContent(changed);
+        assertThat(lastModified(file)).isNotEqualTo(YESTERDAY);
+
+        // when:
+        Files.setLastModifiedTime(file, YESTERDAY);
+        processor.writeFile(new ByteArrayInputStream(CONTENT.getBytes(UTF_8)), file);
+
+        // then:
+        assertThat(file).hasContent(CONTENT);
+        assertThat(lastModified(file)).isNotEqualTo(YESTERDAY);
+        assertThat(siblingsOf(file)).isZero();
+    }
+
+    @Test
+    void createsMissingFiles() throws PackagerProcessingException {
+        // given:
+        Path missing = basedir.resolve("prepare").resolve("nested").resolve("README.md");
+
+        // when:
+        processor.writeFile(new StringReader(CONTENT), missing);
+
+        // then:
+        assertThat(missing).hasContent(CONTENT);
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // temporary files must not be left next to the target
+    private static long siblingsOf(Path path) throws IOException {
+        try (Stream<Path> files = Files.list(path.getParent())) {
+            return files.filter(p -> !p.equals(path)).count();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.workflow;
+
+import org.jreleaser.model.api.JReleaserCommand;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jreleaser.workflow.WorkflowData.CHECKSUMS;
+import static org.jreleaser.workflow.WorkflowData.DOWNLOADS;
+import static org.jreleaser.workflow.WorkflowData.RELEASE;
+import static org.jreleaser.workflow.WorkflowData.SIGNATURES;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class WorkflowGraphTest {
+    @Test
+    void independentItemsAreReadyTogether() {
+        // given:
+        WorkflowGraph graph = graph(
+            item(EnumSet.noneOf(WorkflowData.class), EnumSet.of(CHECKSUMS)),
+            item(EnumSet.noneOf(WorkflowData.class), EnumSet.of(DOWNLOADS)));
+
+        // expect:
+        assertThat(graph.ready(bits(), bits())).containsExactly(0, 1);
+    }
+
+    @Test
+    void consumersWaitForProducers() {
+        // given:
+        WorkflowGraph graph = graph(
+            item(EnumSet.noneOf(WorkflowData.class), EnumSet.of(CHECKSUMS)),
+            item(EnumSet.of(CHECKSUMS), EnumSet.of(SIGNATURES)),
+            item(EnumSet.of(SIGNATURES), EnumSet.of(RELEASE)));
+
+        // expect:
+        assertThat(graph.ready(bits(), bits())).containsExactly(0);
+        assertThat(graph.ready(bits(0), bits(0))).containsExactly(1);
+        assertThat(graph.ready(bits(0, 1), bits(0, 1))).containsExactly(2);
+    }
+
+    @Test
+    void producersWaitForPrecedingConsumers() {
+        // given:
+        WorkflowGraph graph = graph(
+            item(EnumSet.of(CHECKSUMS), EnumSet.of(RELEASE)),
+            item(EnumSet.noneOf(WorkflowData.class), EnumSet.of(CHECKSUMS)));
+
+        // expect:
+        assertThat(graph.ready(bits(), bits())).containsExactly(0);
+    }
+
+    @Test
+    void producersOfTheSameDataKeepTheirOrder() {
+        // given:
+        WorkflowGraph graph = graph(
+            item(EnumSet.noneOf(WorkflowData.class), EnumSet.of(CHECKSUMS)),
+            item(EnumSet.noneOf(WorkflowData.class), EnumSet.of(CHECKSUMS)));
+
+        // expect:
+        assertThat(graph.ready(bits(), bits())).containsExactly(0);
+        assertThat(graph.ready(bits(0), bits(0))).containsExactly(1);
+    }
+
+    @Test
+    void itemsWithoutDeclaredDataRunOnTheirOwn() {
+        // given:
+        WorkflowGraph graph = graph(
+            item(EnumSet.noneOf(WorkflowData.class), EnumSet.of(CHECKSUMS)),
+            item(EnumSet.noneOf(WorkflowData.class), EnumSet.noneOf(WorkflowData.class)),
+            item(EnumSet.noneOf(WorkflowData.class), EnumSet.of(DOWNLOADS)));
+
+        // expect:
+        assertThat(graph.ready(bits(), bits())).containsExactly(0);
+        assertThat(graph.ready(bits(0), bits(0))).containsExactly(1);
+        assertThat(graph.ready(bits(0, 1), bits(0, 1))).containsExactly(2);
+    }
+
+    @Test
+    void startedItemsAreNotReadyAgain() {
+        // given:
+        WorkflowGraph graph = graph(
+            item(EnumSet.noneOf(WorkflowData.class), EnumSet.of(CHECKSUMS)),
+            item(EnumSet.noneOf(WorkflowData.class), EnumSet.of(DOWNLOADS)));
+
+        // expect:
+        assertThat(graph.ready(bits(0), bits())).containsExactly(1);
+        assertThat(graph.ready(bits(0, 1), bits(0))).isEmpty();
+    }
+
+    private static WorkflowGraph graph(WorkflowItem... items) {
+        return WorkflowGraph.of(Arrays.asList(items));
+    }
+
+    private static BitSet bits(int... indices) {
+        BitSet bits = new BitSet();
+        for (int index : indices) bits.set(index);
+        return bits;
+    }
+
+    private static WorkflowItem item(Set<WorkflowData> inputs, Set<WorkflowData> outputs) {
+        return new WorkflowItem() {
+            @Override
+            public JReleaserCommand getCommand() {
+                return JReleaserCommand.FULL_RELEASE;
+            }
+
+            @Override
+            public Set<WorkflowData> getInputs() {
+                return inputs;
+            }
+
+            @Override
+            public Set<WorkflowData> getOutputs() {
+                return outputs;
+            }
+
+            @Override
+            public void invoke(JReleaserContext context) {
+                // noop
+            }
+        };
+    }
+}
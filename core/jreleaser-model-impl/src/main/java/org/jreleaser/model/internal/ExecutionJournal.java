@@ -0,0 +1,285 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.model.internal;
+
+import org.apache.commons.codec.binary.Hex;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.model.api.JReleaserModel;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+/**
+ * Records work with remote side effects (uploads, deployments, signatures) as it
+ * completes, in {@code journal.properties} in the output directory. Each entry maps
+ * an operation to a digest of the contents of its inputs and is appended as soon as
+ * the operation is done. When resuming, an operation whose
+ * inputs have not changed is reported as done so that a failed release can be retried
+ * without repeating it.
+ * <p>
+ * A journal belongs to a single release, identified by project name, version and
+ * commit. A journal left by any other release is discarded.
+ *
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+public final class ExecutionJournal {
+    private static final String JOURNAL_FILE = "journal.properties";
+    private static final String RELEASE = "release";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JReleaserContext context;
+    private final Properties entries = new Properties();
+    private final Map<String, String> contentDigests = new ConcurrentHashMap<>();
+    private String release;
+    private BufferedWriter writer;
+
+    ExecutionJournal(JReleaserContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Loads the journal of a previous run when resuming, otherwise discards it.
+     */
+    public synchronized void open() {
+        load();
+    }
+
+    /**
+     * Flushes and closes the journal file. Entries recorded afterwards reopen it.
+     */
+    public synchronized void close() {
+        if (null == writer) return;
+
+        try {
+            writer.close();
+        } catch (IOException e) {
+            context.getLogger().trace(e);
+        } finally {
+            writer = null;
+        }
+    }
+
+    /**
+     * Whether the operation was done with the given inputs.
+     *
+     * @param operation the operation, such as {@code upload.s3.main.app-1.0.0.zip}
+     * @param digest    a fingerprint of the operation's inputs
+     */
+    public synchronized boolean isDone(String operation, String digest) {
+        if (!context.isResume()) return false;
+        load();
+        return digest.equals(entries.getProperty(operation));
+    }
+
+    /**
+     * Whether the operation was done with the given inputs. Inputs are only
+     * digested when resuming.
+     *
+     * @param operation the operation, such as {@code upload.s3.main.app-1.0.0.zip}
+     * @param inputs    files or directories consumed by the operation
+     */
+    public boolean isDone(String operation, Collection<Path> inputs) {
+        return context.isResume() && isDone(operation, digest(inputs));
+    }
+
+    public synchronized void done(String operation, String digest) {
+        if (context.isDryrun()) return;
+        load();
+        entries.setProperty(operation, digest);
+        append(operation, digest);
+    }
+
+    public void done(String operation, Collection<Path> inputs) {
+        if (context.isDryrun()) return;
+        done(operation, digest(inputs));
+    }
+
+    /**
+     * Digests the contents of files, walking directories. Relative names are
+     * part of the digest so that renamed inputs are not mistaken for done.
+     * File digests are reused while a file keeps its size and modification time.
+     */
+    public String digest(Collection<Path> paths) {
+        StringBuilder b = new StringBuilder();
+        for (Path path : paths) {
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> files = Files.walk(path)) {
+                    List<Path> list = new ArrayList<>();
+                    files.filter(Files::isRegularFile).sorted().forEach(list::add);
+                    for (Path file : list) {
+                        fingerprint(b, path.relativize(file).toString(), file);
+                    }
+                } catch (IOException e) {
+                    b.append(path).append('!');
+                }
+            } else {
+                fingerprint(b, String.valueOf(path.getFileName()), path);
+            }
+        }
+
+        try {
+            return ChecksumUtils.checksum(Algorithm.SHA_256, b.toString().getBytes(UTF_8));
+        } catch (IOException e) {
+            // digests are computed in memory
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void fingerprint(StringBuilder b, String name, Path file) {
+        b.append(name).append(':');
+        if (Files.exists(file)) {
+            b.append(contentDigest(file));
+        }
+        b.append('\n');
+    }
+
+    private String contentDigest(Path file) {
+        File f = file.toFile();
+        String key = f.getAbsolutePath() + ":" + f.length() + ":" + f.lastModified();
+        return contentDigests.computeIfAbsent(key, k -> {
+            try (InputStream in = Files.newInputStream(file)) {
+                MessageDigest md = ChecksumUtils.messageDigest(Algorithm.SHA_256);
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    md.update(buffer, 0, read);
+                }
+                return Hex.encodeHexString(md.digest());
+            } catch (IOException e) {
+                context.getLogger().trace(e);
+                // unreadable inputs never match a recorded digest
+                return "!" + k;
+            }
+        });
+    }
+
+    private synchronized String resolveRelease() {
+        if (null == release) {
+            JReleaserModel.Commit commit = context.getModel().getCommit();
+            release = context.getModel().getProject().getName() + ":" +
+                context.getModel().getProject().getResolvedVersion() + ":" +
+                (null != commit ? commit.getFullHash() : "");
+        }
+        return release;
+    }
+
+    private void load() {
+        if (entries.containsKey(RELEASE)) return;
+
+        String current = resolveRelease();
+        Path file = resolveJournalFile();
+        if (!context.isResume() && !context.isDryrun()) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                context.getLogger().trace(e);
+            }
+        } else if (context.isResume() && Files.exists(file)) {
+            Properties previous = new Properties();
+            try (InputStream in = Files.newInputStream(file)) {
+                previous.load(in);
+            } catch (IOException e) {
+                context.getLogger().trace(e);
+            }
+
+            if (current.equals(previous.getProperty(RELEASE))) {
+                context.getLogger().info(RB.$("context.journal.resume"), context.relativizeToBasedir(file));
+                entries.putAll(previous);
+            } else {
+                context.getLogger().info(RB.$("context.journal.stale"), context.relativizeToBasedir(file));
+            }
+        }
+
+        entries.setProperty(RELEASE, current);
+        if (!context.isDryrun()) store();
+    }
+
+    private Path resolveJournalFile() {
+        return context.getOutputDirectory().resolve(JOURNAL_FILE);
+    }
+
+    // rewrites the journal once per session, compacting entries appended by previous runs
+    private void store() {
+        Path file = resolveJournalFile();
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), JOURNAL_FILE, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                entries.store(out, null);
+            }
+            try {
+                Files.move(tmp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.move(tmp, file, REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            context.getLogger().warn(RB.$("context.journal.write.error"), context.relativizeToBasedir(file));
+            context.getLogger().trace(e);
+        }
+    }
+
+    // later lines override earlier ones when the journal is loaded
+    private void append(String operation, String digest) {
+        Path file = resolveJournalFile();
+        try {
+            if (null == writer) {
+                Files.createDirectories(file.getParent());
+                writer = Files.newBufferedWriter(file, ISO_8859_1, CREATE, APPEND);
+            }
+
+            Properties entry = new Properties();
+            entry.setProperty(operation, digest);
+            StringWriter line = new StringWriter();
+            entry.store(line, null);
+            for (String l : line.toString().split("\\R")) {
+                if (!l.startsWith("#") && !l.isEmpty()) {
+                    writer.write(l);
+                    writer.newLine();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            context.getLogger().warn(RB.$("context.journal.write.error"), context.relativizeToBasedir(file));
+            context.getLogger().trace(e);
+        }
+    }
+}
@@ -55,6 +55,7 @@ import org.jreleaser.util.Errors;
 import org.jreleaser.util.FileType;
 import org.jreleaser.util.PlatformUtils;
 import org.jreleaser.util.StringUtils;
+import org.jreleaser.util.Timings;
 import org.jreleaser.version.SemanticVersion;
 
 import java.io.FileOutputStream;
@@ -70,10 +71,12 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -156,7 +159,18 @@ public class JReleaserContext {
 
     private org.jreleaser.model.spi.release.Releaser<?> releaser;
     private JReleaserCommand command;
+    private boolean sequential;
+    private boolean resume;
+    @JsonIgnore
+    private final ExecutionJournal journal = new ExecutionJournal(this);
+    private final Timings timings = new Timings();
     private final JReleaserScriptEvaluator scriptEvaluator = new JReleaserScriptEvaluator();
+    @JsonIgnore
+    private final AtomicLong propsVersion = new AtomicLong();
+    @JsonIgnore
+    private volatile boolean propsCacheable;
+    @JsonIgnore
+    private volatile PropsSnapshot propsSnapshot;
 
     @JsonIgnore
     private final org.jreleaser.model.api.JReleaserContext immutable = new org.jreleaser.model.api.JReleaserContext() {
@@ -252,6 +266,16 @@ public class JReleaserContext {
             return JReleaserContext.this.isStrict();
         }
 
+        @Override
+        public boolean isSequential() {
+            return JReleaserContext.this.isSequential();
+        }
+
+        @Override
+        public boolean isResume() {
+            return JReleaserContext.this.isResume();
+        }
+
         @Override
         public boolean isGitRootSearch() {
             return JReleaserContext.this.isGitRootSearch();
@@ -525,6 +549,9 @@ public class JReleaserContext {
             errors.logErrors(logger);
         }
 
+        invalidateProps();
+        propsCacheable = !errors.hasErrors();
+
         return errors;
     }
 
@@ -694,6 +721,30 @@ public class JReleaserContext {
         return strict;
     }
 
+    public boolean isSequential() {
+        return sequential;
+    }
+
+    public void setSequential(boolean sequential) {
+        this.sequential = sequential;
+    }
+
+    public boolean isResume() {
+        return resume;
+    }
+
+    public void setResume(boolean resume) {
+        this.resume = resume;
+    }
+
+    public ExecutionJournal getJournal() {
+        return journal;
+    }
+
+    public Timings getTimings() {
+        return timings;
+    }
+
     public Changelog getChangelog() {
         return changelog;
     }
@@ -934,10 +985,42 @@ public class JReleaserContext {
 
     public void setCommand(JReleaserCommand command) {
         this.command = command;
+        invalidateProps();
+    }
+
+    /**
+     * Discards the cached property snapshots used by {@link #props()} and {@link #fullProps()}.
+     * Call this after mutating the model outside of configuration and validation.
+     */
+    public void invalidateProps() {
+        propsVersion.incrementAndGet();
+        propsSnapshot = null;
     }
 
     public TemplateContext props() {
-        TemplateContext props = new TemplateContext(model.props());
+        return new TemplateContext(propsSnapshot().props);
+    }
+
+    public TemplateContext fullProps() {
+        return new TemplateContext(propsSnapshot().fullProps);
+    }
+
+    private PropsSnapshot propsSnapshot() {
+        PropsKey key = new PropsKey();
+        if (!propsCacheable) return computeProps(key);
+
+        PropsSnapshot snapshot = propsSnapshot;
+        if (null != snapshot && snapshot.key.equals(key)) return snapshot;
+
+        snapshot = computeProps(key);
+        propsSnapshot = snapshot;
+        return snapshot;
+    }
+
+    private PropsSnapshot computeProps(PropsKey key) {
+        TemplateContext modelProps = model.props();
+
+        TemplateContext props = new TemplateContext(modelProps);
         props.set(Constants.KEY_BASEDIR, getBasedir());
         props.set(Constants.KEY_BASE_OUTPUT_DIRECTORY, getOutputDirectory().getParent());
         props.set(Constants.KEY_OUTPUT_DIRECTORY, getOutputDirectory());
@@ -951,13 +1034,11 @@ public class JReleaserContext {
         props.set(Constants.KEY_ARTIFACTS_DIRECTORY, getArtifactsDirectory());
         props.set(Constants.KEY_DEPLOY_DIRECTORY, getDeployDirectory());
         if (null != getCommand()) props.set(Constants.KEY_COMMAND, getCommand().toStep());
-        return props;
-    }
 
-    public TemplateContext fullProps() {
-        TemplateContext props = new TemplateContext(props());
-        props.setAll(model.props());
-        return props;
+        TemplateContext fullProps = new TemplateContext(props);
+        fullProps.setAll(modelProps);
+        // copies share the frozen snapshots, so keep them read-only once published
+        return new PropsSnapshot(key, new TemplateContext(props), new TemplateContext(fullProps));
     }
 
     public Map<String, Object> getAdditionalProperties() {
@@ -1298,4 +1379,53 @@ public class JReleaserContext {
             return iterator.next();
         }
     }
+
+    private static final class PropsSnapshot {
+        private final PropsKey key;
+        private final TemplateContext props;
+        private final TemplateContext fullProps;
+
+        private PropsSnapshot(PropsKey key, TemplateContext props, TemplateContext fullProps) {
+            this.key = key;
+            this.props = props;
+            this.fullProps = fullProps;
+        }
+    }
+
+    /**
+     * Captures the model state that is known to change after validation.
+     */
+    private final class PropsKey {
+        private final long version;
+        private final Object commit;
+        private final JReleaserCommand command;
+        private final String projectVersion;
+        private final String previousTagName;
+
+        private PropsKey() {
+            this.version = propsVersion.get();
+            this.commit = model.getCommit();
+            this.command = getCommand();
+            this.projectVersion = model.getProject().getVersion();
+            BaseReleaser<?, ?> releaser = model.getRelease().getReleaser();
+            this.previousTagName = null != releaser ? releaser.getPreviousTagName() : null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PropsKey)) return false;
+            PropsKey that = (PropsKey) o;
+            return version == that.version &&
+                commit == that.commit &&
+                command == that.command &&
+                Objects.equals(projectVersion, that.projectVersion) &&
+                Objects.equals(previousTagName, that.previousTagName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(version, System.identityHashCode(commit), command, projectVersion, previousTagName);
+        }
+    }
 }
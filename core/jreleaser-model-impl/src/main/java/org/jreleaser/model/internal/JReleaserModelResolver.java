@@ -17,6 +17,7 @@
  */
 package org.jreleaser.model.internal;
 
+import org.jreleaser.logging.LogScope;
 import org.jreleaser.util.Errors;
 
 import static org.jreleaser.model.internal.validation.assemble.AssemblersResolver.resolveAssemblers;
@@ -31,13 +32,8 @@ public final class JReleaserModelResolver {
     }
 
     public static void resolve(JReleaserContext context, Errors errors) {
-        context.getLogger().increaseIndent();
-        context.getLogger().setPrefix("resolution");
-        try {
+        try (LogScope scope = context.getLogger().scope("resolution")) {
             resolveModel(context, errors);
-        } finally {
-            context.getLogger().restorePrefix();
-            context.getLogger().decreaseIndent();
         }
     }
 
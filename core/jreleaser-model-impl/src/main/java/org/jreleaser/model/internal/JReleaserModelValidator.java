@@ -17,6 +17,7 @@
  */
 package org.jreleaser.model.internal;
 
+import org.jreleaser.logging.LogScope;
 import org.jreleaser.model.api.JReleaserContext.Mode;
 import org.jreleaser.util.Errors;
 
@@ -51,14 +52,9 @@ public final class JReleaserModelValidator {
     }
 
     public static void validate(JReleaserContext context, Mode mode, Errors errors) {
-        context.getLogger().increaseIndent();
-        context.getLogger().setPrefix("validation");
-        try {
+        try (LogScope scope = context.getLogger().scope("validation")) {
             context.getLogger().debug("--== {} ==--", mode);
             validateModel(context, mode, errors);
-        } finally {
-            context.getLogger().restorePrefix();
-            context.getLogger().decreaseIndent();
         }
     }
 
@@ -83,14 +79,11 @@ public final class JReleaserModelValidator {
         validateCatalog(context, mode, errors);
         validateAnnouncers(context, mode, errors);
 
-        context.getLogger().setPrefix("postvalidation");
-        try {
+        try (LogScope scope = context.getLogger().scope("postvalidation")) {
             postValidateProject(context, mode, errors);
             if (mode.validateConfig() || mode.validateAssembly()) postValidateAssemblers(context);
             if (mode.validateConfig()) postValidateDistributions(context, errors);
             postValidateSigning(context, mode, errors);
-        } finally {
-            context.getLogger().restorePrefix();
         }
     }
 }
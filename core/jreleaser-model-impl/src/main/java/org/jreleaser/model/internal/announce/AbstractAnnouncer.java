@@ -36,6 +36,8 @@ public abstract class AbstractAnnouncer<S extends AbstractAnnouncer<S, A>, A ext
     private String name;
     private Integer connectTimeout;
     private Integer readTimeout;
+    private Integer maxRetries;
+    private Integer retryDelay;
 
     protected AbstractAnnouncer(String name) {
         this.name = name;
@@ -46,6 +48,8 @@ public abstract class AbstractAnnouncer<S extends AbstractAnnouncer<S, A>, A ext
         super.merge(source);
         this.connectTimeout = merge(this.connectTimeout, source.getConnectTimeout());
         this.readTimeout = merge(this.readTimeout, source.getReadTimeout());
+        this.maxRetries = merge(this.maxRetries, source.getMaxRetries());
+        this.retryDelay = merge(this.retryDelay, source.getRetryDelay());
         setExtraProperties(merge(this.extraProperties, source.getExtraProperties()));
     }
 
@@ -58,6 +62,8 @@ public abstract class AbstractAnnouncer<S extends AbstractAnnouncer<S, A>, A ext
         return super.isSet() ||
             null != connectTimeout ||
             null != readTimeout ||
+            null != maxRetries ||
+            null != retryDelay ||
             !extraProperties.isEmpty();
     }
 
@@ -96,6 +102,26 @@ public abstract class AbstractAnnouncer<S extends AbstractAnnouncer<S, A>, A ext
         this.readTimeout = readTimeout;
     }
 
+    @Override
+    public Integer getMaxRetries() {
+        return maxRetries;
+    }
+
+    @Override
+    public void setMaxRetries(Integer maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    @Override
+    public Integer getRetryDelay() {
+        return retryDelay;
+    }
+
+    @Override
+    public void setRetryDelay(Integer retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+
     @Override
     public Map<String, Object> getExtraProperties() {
         return extraProperties;
@@ -121,6 +147,8 @@ public abstract class AbstractAnnouncer<S extends AbstractAnnouncer<S, A>, A ext
         props.put("active", getActive());
         props.put("connectTimeout", connectTimeout);
         props.put("readTimeout", readTimeout);
+        props.put("maxRetries", maxRetries);
+        props.put("retryDelay", retryDelay);
         asMap(full, props);
         props.put("extraProperties", getExtraProperties());
 
@@ -20,13 +20,14 @@ package org.jreleaser.model.internal.announce;
 import org.jreleaser.model.internal.common.Activatable;
 import org.jreleaser.model.internal.common.Domain;
 import org.jreleaser.model.internal.common.ExtraProperties;
+import org.jreleaser.model.internal.common.RetryAware;
 import org.jreleaser.model.internal.common.TimeoutAware;
 
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
-public interface Announcer<A extends org.jreleaser.model.api.announce.Announcer> extends Domain, Activatable, TimeoutAware, ExtraProperties {
+public interface Announcer<A extends org.jreleaser.model.api.announce.Announcer> extends Domain, Activatable, TimeoutAware, RetryAware, ExtraProperties {
     String getName();
 
     A asImmutable();
@@ -126,6 +126,16 @@ public final class ArticleAnnouncer extends AbstractAnnouncer<ArticleAnnouncer,
         public Integer getReadTimeout() {
             return ArticleAnnouncer.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return ArticleAnnouncer.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return ArticleAnnouncer.this.getRetryDelay();
+        }
     };
 
     public ArticleAnnouncer() {
@@ -139,6 +139,16 @@ public final class BlueskyAnnouncer extends AbstractAnnouncer<BlueskyAnnouncer,
         public Integer getReadTimeout() {
             return BlueskyAnnouncer.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return BlueskyAnnouncer.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return BlueskyAnnouncer.this.getRetryDelay();
+        }
     };
 
     public BlueskyAnnouncer() {
@@ -121,6 +121,16 @@ public final class DiscordAnnouncer extends AbstractAnnouncer<DiscordAnnouncer,
         public Integer getReadTimeout() {
             return DiscordAnnouncer.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return DiscordAnnouncer.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return DiscordAnnouncer.this.getRetryDelay();
+        }
     };
 
     public DiscordAnnouncer() {
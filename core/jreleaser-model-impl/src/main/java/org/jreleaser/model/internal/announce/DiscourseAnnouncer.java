@@ -133,6 +133,16 @@ public final class DiscourseAnnouncer extends AbstractMessageAnnouncer<Discourse
         public Integer getReadTimeout() {
             return DiscourseAnnouncer.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return DiscourseAnnouncer.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return DiscourseAnnouncer.this.getRetryDelay();
+        }
     };
 
     public DiscourseAnnouncer() {
@@ -118,6 +118,16 @@ public final class DiscussionsAnnouncer extends AbstractMessageAnnouncer<Discuss
         public Integer getReadTimeout() {
             return DiscussionsAnnouncer.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return DiscussionsAnnouncer.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return DiscussionsAnnouncer.this.getRetryDelay();
+        }
     };
 
     public DiscussionsAnnouncer() {
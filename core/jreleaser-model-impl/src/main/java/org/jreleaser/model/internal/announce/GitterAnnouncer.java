@@ -121,6 +121,16 @@ public final class GitterAnnouncer extends AbstractAnnouncer<GitterAnnouncer, or
         public Integer getReadTimeout() {
             return GitterAnnouncer.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return GitterAnnouncer.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return GitterAnnouncer.this.getRetryDelay();
+        }
     };
 
     public GitterAnnouncer() {
@@ -121,6 +121,16 @@ public final class GoogleChatAnnouncer extends AbstractAnnouncer<GoogleChatAnnou
         public Integer getReadTimeout() {
             return GoogleChatAnnouncer.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return GoogleChatAnnouncer.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return GoogleChatAnnouncer.this.getRetryDelay();
+        }
     };
 
     public GoogleChatAnnouncer() {
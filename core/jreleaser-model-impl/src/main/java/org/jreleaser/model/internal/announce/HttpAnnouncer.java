@@ -148,6 +148,16 @@ public final class HttpAnnouncer extends AbstractAnnouncer<HttpAnnouncer, org.jr
         public Integer getReadTimeout() {
             return HttpAnnouncer.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return HttpAnnouncer.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return HttpAnnouncer.this.getRetryDelay();
+        }
     };
 
     public HttpAnnouncer() {
@@ -103,6 +103,16 @@ public final class HttpAnnouncers extends AbstractAnnouncer<HttpAnnouncers, org.
         public Integer getReadTimeout() {
             return HttpAnnouncers.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return HttpAnnouncers.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return HttpAnnouncers.this.getRetryDelay();
+        }
     };
 
     public HttpAnnouncers() {
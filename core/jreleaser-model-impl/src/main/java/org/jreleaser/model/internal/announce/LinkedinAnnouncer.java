@@ -121,6 +121,16 @@ public final class LinkedinAnnouncer extends AbstractMessageAnnouncer<LinkedinAn
         public Integer getReadTimeout() {
             return LinkedinAnnouncer.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return LinkedinAnnouncer.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return LinkedinAnnouncer.this.getRetryDelay();
+        }
     };
 
     public LinkedinAnnouncer() {
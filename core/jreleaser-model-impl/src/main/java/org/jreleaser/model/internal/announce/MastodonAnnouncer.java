@@ -132,6 +132,16 @@ public final class MastodonAnnouncer extends AbstractAnnouncer<MastodonAnnouncer
         public Integer getReadTimeout() {
             return MastodonAnnouncer.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return MastodonAnnouncer.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return MastodonAnnouncer.this.getRetryDelay();
+        }
     };
 
     public MastodonAnnouncer() {
@@ -127,6 +127,16 @@ public final class MattermostAnnouncer extends AbstractAnnouncer<MattermostAnnou
         public Integer getReadTimeout() {
             return MattermostAnnouncer.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return MattermostAnnouncer.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return MattermostAnnouncer.this.getRetryDelay();
+        }
     };
 
     public MattermostAnnouncer() {
@@ -127,6 +127,16 @@ public final class OpenCollectiveAnnouncer extends AbstractMessageAnnouncer<Open
         public Integer getReadTimeout() {
             return OpenCollectiveAnnouncer.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return OpenCollectiveAnnouncer.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return OpenCollectiveAnnouncer.this.getRetryDelay();
+        }
     };
 
     public OpenCollectiveAnnouncer() {
@@ -131,6 +131,16 @@ public final class SdkmanAnnouncer extends AbstractAnnouncer<SdkmanAnnouncer, or
         public Integer getReadTimeout() {
             return SdkmanAnnouncer.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return SdkmanAnnouncer.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return SdkmanAnnouncer.this.getRetryDelay();
+        }
     };
 
     public SdkmanAnnouncer() {
@@ -117,6 +117,16 @@ public final class SlackAnnouncer extends AbstractMessageAnnouncer<SlackAnnounce
         public Integer getReadTimeout() {
             return SlackAnnouncer.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return SlackAnnouncer.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return SlackAnnouncer.this.getRetryDelay();
+        }
     };
 
     public SlackAnnouncer() {
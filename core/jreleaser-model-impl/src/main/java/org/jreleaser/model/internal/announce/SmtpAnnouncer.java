@@ -187,6 +187,16 @@ public final class SmtpAnnouncer extends AbstractMessageAnnouncer<SmtpAnnouncer,
         public Integer getReadTimeout() {
             return SmtpAnnouncer.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return SmtpAnnouncer.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return SmtpAnnouncer.this.getRetryDelay();
+        }
     };
 
     public SmtpAnnouncer() {
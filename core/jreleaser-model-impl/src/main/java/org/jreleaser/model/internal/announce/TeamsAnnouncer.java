@@ -114,6 +114,16 @@ public final class TeamsAnnouncer extends AbstractAnnouncer<TeamsAnnouncer, org.
         public Integer getReadTimeout() {
             return TeamsAnnouncer.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return TeamsAnnouncer.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return TeamsAnnouncer.this.getRetryDelay();
+        }
     };
 
     public TeamsAnnouncer() {
@@ -111,6 +111,16 @@ public final class TelegramAnnouncer extends AbstractMessageAnnouncer<TelegramAn
         public Integer getReadTimeout() {
             return TelegramAnnouncer.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return TelegramAnnouncer.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return TelegramAnnouncer.this.getRetryDelay();
+        }
     };
 
     public TelegramAnnouncer() {
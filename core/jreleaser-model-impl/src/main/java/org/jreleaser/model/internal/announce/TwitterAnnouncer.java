@@ -145,6 +145,16 @@ public final class TwitterAnnouncer extends AbstractAnnouncer<TwitterAnnouncer,
         public Integer getReadTimeout() {
             return TwitterAnnouncer.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return TwitterAnnouncer.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return TwitterAnnouncer.this.getRetryDelay();
+        }
     };
 
     public TwitterAnnouncer() {
@@ -116,6 +116,16 @@ public final class WebhookAnnouncer extends AbstractMessageAnnouncer<WebhookAnno
         public Integer getReadTimeout() {
             return WebhookAnnouncer.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return WebhookAnnouncer.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return WebhookAnnouncer.this.getRetryDelay();
+        }
     };
 
     public WebhookAnnouncer() {
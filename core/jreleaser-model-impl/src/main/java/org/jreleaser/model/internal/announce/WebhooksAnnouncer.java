@@ -103,6 +103,16 @@ public final class WebhooksAnnouncer extends AbstractAnnouncer<WebhooksAnnouncer
         public Integer getReadTimeout() {
             return WebhooksAnnouncer.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return WebhooksAnnouncer.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return WebhooksAnnouncer.this.getRetryDelay();
+        }
     };
 
     public WebhooksAnnouncer() {
@@ -133,6 +133,16 @@ public final class ZulipAnnouncer extends AbstractMessageAnnouncer<ZulipAnnounce
         public Integer getReadTimeout() {
             return ZulipAnnouncer.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return ZulipAnnouncer.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return ZulipAnnouncer.this.getRetryDelay();
+        }
     };
 
     public ZulipAnnouncer() {
@@ -43,6 +43,7 @@ public final class Nexus2MavenDeployer extends AbstractMavenDeployer<Nexus2Maven
     private Boolean releaseRepository;
     private int transitionDelay;
     private int transitionMaxRetries;
+    private int uploadConcurrency;
 
     private String stagingProfileId;
     private String stagingRepositoryId;
@@ -214,6 +215,11 @@ public final class Nexus2MavenDeployer extends AbstractMavenDeployer<Nexus2Maven
         public Integer getTransitionMaxRetries() {
             return transitionMaxRetries;
         }
+
+        @Override
+        public Integer getUploadConcurrency() {
+            return uploadConcurrency;
+        }
     };
 
     public Nexus2MavenDeployer() {
@@ -233,6 +239,7 @@ public final class Nexus2MavenDeployer extends AbstractMavenDeployer<Nexus2Maven
         this.releaseRepository = merge(this.releaseRepository, source.releaseRepository);
         this.transitionDelay = merge(this.transitionDelay, source.transitionDelay);
         this.transitionMaxRetries = merge(this.transitionMaxRetries, source.transitionMaxRetries);
+        this.uploadConcurrency = merge(this.uploadConcurrency, source.uploadConcurrency);
     }
 
     public String getSnapshotUrl() {
@@ -283,6 +290,14 @@ public final class Nexus2MavenDeployer extends AbstractMavenDeployer<Nexus2Maven
         this.transitionMaxRetries = transitionMaxRetries;
     }
 
+    public Integer getUploadConcurrency() {
+        return uploadConcurrency;
+    }
+
+    public void setUploadConcurrency(Integer uploadConcurrency) {
+        this.uploadConcurrency = uploadConcurrency;
+    }
+
     public String getStagingProfileId() {
         return stagingProfileId;
     }
@@ -329,6 +344,7 @@ public final class Nexus2MavenDeployer extends AbstractMavenDeployer<Nexus2Maven
         props.put("releaseRepository", isReleaseRepository());
         props.put("transitionDelay", transitionDelay);
         props.put("transitionMaxRetries", transitionMaxRetries);
+        props.put("uploadConcurrency", uploadConcurrency);
         props.put("stagingProfileId", stagingProfileId);
         props.put("stagingRepositoryId", stagingRepositoryId);
         props.put("startStage", startStage);
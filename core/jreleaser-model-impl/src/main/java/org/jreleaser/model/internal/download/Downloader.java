@@ -136,6 +136,7 @@ public interface Downloader<A extends org.jreleaser.model.api.download.Downloade
         private static final long serialVersionUID = -2850050928704465633L;
 
         private final Unpack unpack = new Unpack();
+        private final Map<String, String> checksums = new LinkedHashMap<>();
         private String input;
         private String output;
 
@@ -158,6 +159,11 @@ public interface Downloader<A extends org.jreleaser.model.api.download.Downloade
                 return unpack.asImmutable();
             }
 
+            @Override
+            public Map<String, String> getChecksums() {
+                return unmodifiableMap(checksums);
+            }
+
             @Override
             public Map<String, Object> asMap(boolean full) {
                 return unmodifiableMap(Downloader.Asset.this.asMap(full));
@@ -173,6 +179,7 @@ public interface Downloader<A extends org.jreleaser.model.api.download.Downloade
             this.input = merge(this.input, source.input);
             this.output = merge(this.output, source.output);
             setUnpack(source.unpack);
+            setChecksums(merge(this.checksums, source.checksums));
         }
 
         public String getResolvedInput(JReleaserContext context, Downloader<?> downloader) {
@@ -215,12 +222,21 @@ public interface Downloader<A extends org.jreleaser.model.api.download.Downloade
             this.unpack.merge(unpack);
         }
 
+        public Map<String, String> getChecksums() {
+            return checksums;
+        }
+
+        public void setChecksums(Map<String, String> checksums) {
+            this.checksums.putAll(checksums);
+        }
+
         @Override
         public Map<String, Object> asMap(boolean full) {
             Map<String, Object> props = new LinkedHashMap<>();
             props.put("input", input);
             props.put("output", output);
             props.put("unpack", unpack.asMap(full));
+            props.put("checksums", checksums);
             return props;
         }
     }
@@ -92,6 +92,8 @@ public abstract class BaseReleaser<A extends org.jreleaser.model.api.release.Rel
     private String apiEndpoint;
     private int connectTimeout;
     private int readTimeout;
+    private Integer maxRetries;
+    private Integer retryDelay;
     protected Boolean artifacts;
     protected Boolean files;
     protected Boolean checksums;
@@ -152,6 +154,8 @@ public abstract class BaseReleaser<A extends org.jreleaser.model.api.release.Rel
         this.apiEndpoint = merge(this.apiEndpoint, source.getApiEndpoint());
         this.connectTimeout = merge(this.getConnectTimeout(), source.getConnectTimeout());
         this.readTimeout = merge(this.getReadTimeout(), source.getReadTimeout());
+        this.maxRetries = merge(this.maxRetries, source.getMaxRetries());
+        this.retryDelay = merge(this.retryDelay, source.getRetryDelay());
         this.artifacts = merge(this.artifacts, source.artifacts);
         this.files = merge(this.files, source.files);
         this.checksums = merge(this.checksums, source.checksums);
@@ -602,6 +606,26 @@ public abstract class BaseReleaser<A extends org.jreleaser.model.api.release.Rel
         this.readTimeout = readTimeout;
     }
 
+    @Override
+    public Integer getMaxRetries() {
+        return maxRetries;
+    }
+
+    @Override
+    public void setMaxRetries(Integer maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    @Override
+    public Integer getRetryDelay() {
+        return retryDelay;
+    }
+
+    @Override
+    public void setRetryDelay(Integer retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+
     public boolean isArtifactsSet() {
         return null != artifacts;
     }
@@ -720,6 +744,8 @@ public abstract class BaseReleaser<A extends org.jreleaser.model.api.release.Rel
             map.put("apiEndpoint", apiEndpoint);
             map.put("connectTimeout", connectTimeout);
             map.put("readTimeout", readTimeout);
+            map.put("maxRetries", maxRetries);
+            map.put("retryDelay", retryDelay);
         }
         map.put("changelog", changelog.asMap(full));
         if (releaseSupported) {
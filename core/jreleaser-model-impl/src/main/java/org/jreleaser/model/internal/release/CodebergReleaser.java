@@ -266,6 +266,16 @@ public class CodebergReleaser extends BaseReleaser<org.jreleaser.model.api.relea
         public Integer getReadTimeout() {
             return CodebergReleaser.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return CodebergReleaser.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return CodebergReleaser.this.getRetryDelay();
+        }
     };
 
     public CodebergReleaser() {
@@ -259,6 +259,16 @@ public final class GenericGitReleaser extends BaseReleaser<org.jreleaser.model.a
         public Integer getReadTimeout() {
             return GenericGitReleaser.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return GenericGitReleaser.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return GenericGitReleaser.this.getRetryDelay();
+        }
     };
 
     public GenericGitReleaser() {
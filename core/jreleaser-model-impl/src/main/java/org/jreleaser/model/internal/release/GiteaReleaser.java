@@ -266,6 +266,16 @@ public class GiteaReleaser extends BaseReleaser<org.jreleaser.model.api.release.
         public Integer getReadTimeout() {
             return GiteaReleaser.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return GiteaReleaser.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return GiteaReleaser.this.getRetryDelay();
+        }
     };
 
     public GiteaReleaser() {
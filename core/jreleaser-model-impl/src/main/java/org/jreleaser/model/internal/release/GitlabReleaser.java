@@ -284,6 +284,16 @@ public final class GitlabReleaser extends BaseReleaser<org.jreleaser.model.api.r
         public Integer getReadTimeout() {
             return GitlabReleaser.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return GitlabReleaser.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return GitlabReleaser.this.getRetryDelay();
+        }
     };
 
     public GitlabReleaser() {
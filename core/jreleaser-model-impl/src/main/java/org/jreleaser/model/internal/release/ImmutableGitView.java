@@ -254,4 +254,14 @@ public final class ImmutableGitView implements org.jreleaser.model.api.release.G
     public Integer getReadTimeout() {
         return githubReleaser.getReadTimeout();
     }
+
+    @Override
+    public Integer getMaxRetries() {
+        return githubReleaser.getMaxRetries();
+    }
+
+    @Override
+    public Integer getRetryDelay() {
+        return githubReleaser.getRetryDelay();
+    }
 }
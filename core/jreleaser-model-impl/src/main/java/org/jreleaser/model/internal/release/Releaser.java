@@ -22,13 +22,14 @@ import org.jreleaser.model.internal.common.CommitAuthorAware;
 import org.jreleaser.model.internal.common.Domain;
 import org.jreleaser.model.internal.common.EnabledAware;
 import org.jreleaser.model.internal.common.OwnerAware;
+import org.jreleaser.model.internal.common.RetryAware;
 import org.jreleaser.model.internal.common.TimeoutAware;
 
 /**
  * @author Andres Almiray
  * @since 0.1.0
  */
-public interface Releaser<A extends org.jreleaser.model.api.release.Releaser> extends Domain, EnabledAware, CommitAuthorAware, OwnerAware, TimeoutAware, Active.Prereleaseable {
+public interface Releaser<A extends org.jreleaser.model.api.release.Releaser> extends Domain, EnabledAware, CommitAuthorAware, OwnerAware, TimeoutAware, RetryAware, Active.Prereleaseable {
     boolean isReleaseSupported();
 
     String getServiceName();
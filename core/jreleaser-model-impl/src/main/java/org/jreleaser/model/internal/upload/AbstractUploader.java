@@ -51,6 +51,8 @@ public abstract class AbstractUploader<A extends org.jreleaser.model.api.upload.
     private String name;
     private int connectTimeout;
     private int readTimeout;
+    private Integer maxRetries;
+    private Integer retryDelay;
     protected Boolean artifacts;
     protected Boolean files;
     protected Boolean signatures;
@@ -67,6 +69,8 @@ public abstract class AbstractUploader<A extends org.jreleaser.model.api.upload.
         this.name = merge(this.name, source.getName());
         this.connectTimeout = merge(this.getConnectTimeout(), source.getConnectTimeout());
         this.readTimeout = merge(this.getReadTimeout(), source.getReadTimeout());
+        this.maxRetries = merge(this.maxRetries, source.getMaxRetries());
+        this.retryDelay = merge(this.retryDelay, source.getRetryDelay());
         this.artifacts = merge(this.artifacts, source.artifacts);
         this.files = merge(this.files, source.files);
         this.signatures = merge(this.signatures, source.signatures);
@@ -120,6 +124,26 @@ public abstract class AbstractUploader<A extends org.jreleaser.model.api.upload.
         this.readTimeout = readTimeout;
     }
 
+    @Override
+    public Integer getMaxRetries() {
+        return maxRetries;
+    }
+
+    @Override
+    public void setMaxRetries(Integer maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    @Override
+    public Integer getRetryDelay() {
+        return retryDelay;
+    }
+
+    @Override
+    public void setRetryDelay(Integer retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+
     @Override
     public Map<String, Object> getExtraProperties() {
         return extraProperties;
@@ -220,6 +244,8 @@ public abstract class AbstractUploader<A extends org.jreleaser.model.api.upload.
         props.put("active", getActive());
         props.put("connectTimeout", connectTimeout);
         props.put("readTimeout", readTimeout);
+        props.put("maxRetries", maxRetries);
+        props.put("retryDelay", retryDelay);
         props.put("artifacts", isArtifacts());
         props.put("files", isFiles());
         props.put("signatures", isSignatures());
@@ -164,6 +164,16 @@ public final class ArtifactoryUploader extends AbstractUploader<org.jreleaser.mo
         public Integer getReadTimeout() {
             return ArtifactoryUploader.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return ArtifactoryUploader.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return ArtifactoryUploader.this.getRetryDelay();
+        }
     };
 
     public ArtifactoryUploader() {
@@ -150,6 +150,16 @@ public final class FtpUploader extends AbstractUploader<org.jreleaser.model.api.
         public Integer getReadTimeout() {
             return FtpUploader.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return FtpUploader.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return FtpUploader.this.getRetryDelay();
+        }
     };
 
     public FtpUploader() {
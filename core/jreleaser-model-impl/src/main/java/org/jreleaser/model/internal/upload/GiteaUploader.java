@@ -141,6 +141,16 @@ public final class GiteaUploader extends AbstractGitPackageUploader<org.jrelease
         public Integer getReadTimeout() {
             return GiteaUploader.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return GiteaUploader.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return GiteaUploader.this.getRetryDelay();
+        }
     };
 
     public GiteaUploader() {
@@ -141,6 +141,16 @@ public final class GitlabUploader extends AbstractGitPackageUploader<org.jreleas
         public Integer getReadTimeout() {
             return GitlabUploader.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return GitlabUploader.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return GitlabUploader.this.getRetryDelay();
+        }
     };
 
     public GitlabUploader() {
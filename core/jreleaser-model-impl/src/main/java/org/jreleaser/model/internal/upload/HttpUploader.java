@@ -149,6 +149,16 @@ public final class HttpUploader extends AbstractWebUploader<org.jreleaser.model.
         public Integer getReadTimeout() {
             return HttpUploader.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return HttpUploader.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return HttpUploader.this.getRetryDelay();
+        }
     };
 
     public HttpUploader() {
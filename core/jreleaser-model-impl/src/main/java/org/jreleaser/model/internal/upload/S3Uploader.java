@@ -176,6 +176,16 @@ public final class S3Uploader extends AbstractUploader<org.jreleaser.model.api.u
         public Integer getReadTimeout() {
             return S3Uploader.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return S3Uploader.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return S3Uploader.this.getRetryDelay();
+        }
     };
 
     public S3Uploader() {
@@ -165,6 +165,16 @@ public final class ScpUploader extends AbstractSshUploader<org.jreleaser.model.a
         public Integer getReadTimeout() {
             return ScpUploader.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return ScpUploader.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return ScpUploader.this.getRetryDelay();
+        }
     };
 
     public ScpUploader() {
@@ -165,6 +165,16 @@ public final class SftpUploader extends AbstractSshUploader<org.jreleaser.model.
         public Integer getReadTimeout() {
             return SftpUploader.this.getReadTimeout();
         }
+
+        @Override
+        public Integer getMaxRetries() {
+            return SftpUploader.this.getMaxRetries();
+        }
+
+        @Override
+        public Integer getRetryDelay() {
+            return SftpUploader.this.getRetryDelay();
+        }
     };
 
     public SftpUploader() {
@@ -22,6 +22,7 @@ import org.jreleaser.model.internal.common.Activatable;
 import org.jreleaser.model.internal.common.Artifact;
 import org.jreleaser.model.internal.common.Domain;
 import org.jreleaser.model.internal.common.ExtraProperties;
+import org.jreleaser.model.internal.common.RetryAware;
 import org.jreleaser.model.internal.common.TimeoutAware;
 import org.jreleaser.mustache.TemplateContext;
 
@@ -31,7 +32,7 @@ import java.util.List;
  * @author Andres Almiray
  * @since 0.3.0
  */
-public interface Uploader<A extends org.jreleaser.model.api.upload.Uploader> extends Domain, Activatable, TimeoutAware, ExtraProperties {
+public interface Uploader<A extends org.jreleaser.model.api.upload.Uploader> extends Domain, Activatable, TimeoutAware, RetryAware, ExtraProperties {
     String getType();
 
     String getName();
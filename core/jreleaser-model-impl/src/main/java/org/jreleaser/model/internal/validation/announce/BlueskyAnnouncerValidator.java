@@ -27,6 +27,7 @@ import java.nio.file.Files;
 import static org.jreleaser.model.api.announce.BlueskyAnnouncer.BLUESKY_PASSWORD;
 import static org.jreleaser.model.internal.validation.common.Validator.checkProperty;
 import static org.jreleaser.model.internal.validation.common.Validator.resolveActivatable;
+import static org.jreleaser.model.internal.validation.common.Validator.validateRetry;
 import static org.jreleaser.model.internal.validation.common.Validator.validateTimeout;
 import static org.jreleaser.util.CollectionUtils.listOf;
 import static org.jreleaser.util.StringUtils.isBlank;
@@ -89,5 +90,7 @@ public class BlueskyAnnouncerValidator {
         }
 
         validateTimeout(announcer);
+
+        validateRetry(announcer);
     }
 }
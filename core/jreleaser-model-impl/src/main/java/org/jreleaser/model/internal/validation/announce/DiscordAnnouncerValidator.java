@@ -27,6 +27,7 @@ import java.nio.file.Files;
 import static org.jreleaser.model.api.announce.DiscordAnnouncer.DISCORD_WEBHOOK;
 import static org.jreleaser.model.internal.validation.common.Validator.checkProperty;
 import static org.jreleaser.model.internal.validation.common.Validator.resolveActivatable;
+import static org.jreleaser.model.internal.validation.common.Validator.validateRetry;
 import static org.jreleaser.model.internal.validation.common.Validator.validateTimeout;
 import static org.jreleaser.util.CollectionUtils.listOf;
 import static org.jreleaser.util.StringUtils.isBlank;
@@ -75,5 +76,7 @@ public final class DiscordAnnouncerValidator {
         }
 
         validateTimeout(announcer);
+
+        validateRetry(announcer);
     }
 }
\ No newline at end of file
@@ -29,6 +29,7 @@ import static org.jreleaser.model.api.announce.DiscourseAnnouncer.DISCOURSE_CATE
 import static org.jreleaser.model.api.announce.DiscourseAnnouncer.DISCOURSE_USERNAME;
 import static org.jreleaser.model.internal.validation.common.Validator.checkProperty;
 import static org.jreleaser.model.internal.validation.common.Validator.resolveActivatable;
+import static org.jreleaser.model.internal.validation.common.Validator.validateRetry;
 import static org.jreleaser.model.internal.validation.common.Validator.validateTimeout;
 import static org.jreleaser.util.CollectionUtils.listOf;
 import static org.jreleaser.util.StringUtils.isBlank;
@@ -105,5 +106,7 @@ public final class DiscourseAnnouncerValidator {
         }
 
         validateTimeout(announcer);
+
+        validateRetry(announcer);
     }
 }
\ No newline at end of file
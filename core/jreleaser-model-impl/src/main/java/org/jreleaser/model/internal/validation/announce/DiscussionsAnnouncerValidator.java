@@ -25,6 +25,7 @@ import org.jreleaser.util.Errors;
 import java.nio.file.Files;
 
 import static org.jreleaser.model.internal.validation.common.Validator.resolveActivatable;
+import static org.jreleaser.model.internal.validation.common.Validator.validateRetry;
 import static org.jreleaser.model.internal.validation.common.Validator.validateTimeout;
 import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
@@ -81,5 +82,7 @@ public final class DiscussionsAnnouncerValidator {
         }
 
         validateTimeout(announcer);
+
+        validateRetry(announcer);
     }
 }
\ No newline at end of file
@@ -31,6 +31,7 @@ import java.nio.file.Files;
 import java.util.Map;
 
 import static org.jreleaser.model.internal.validation.common.Validator.resolveActivatable;
+import static org.jreleaser.model.internal.validation.common.Validator.validateRetry;
 import static org.jreleaser.model.internal.validation.common.Validator.validateTimeout;
 import static org.jreleaser.util.CollectionUtils.listOf;
 import static org.jreleaser.util.StringUtils.isBlank;
@@ -114,6 +115,8 @@ public final class HttpAnnouncerValidator {
 
         validateTimeout(announcer);
 
+        validateRetry(announcer);
+
         return true;
     }
 }
\ No newline at end of file
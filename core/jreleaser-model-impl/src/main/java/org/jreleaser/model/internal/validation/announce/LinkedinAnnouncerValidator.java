@@ -28,6 +28,7 @@ import static org.jreleaser.model.api.announce.LinkedinAnnouncer.LINKEDIN_ACCESS
 import static org.jreleaser.model.api.announce.LinkedinAnnouncer.LINKEDIN_OWNER;
 import static org.jreleaser.model.internal.validation.common.Validator.checkProperty;
 import static org.jreleaser.model.internal.validation.common.Validator.resolveActivatable;
+import static org.jreleaser.model.internal.validation.common.Validator.validateRetry;
 import static org.jreleaser.model.internal.validation.common.Validator.validateTimeout;
 import static org.jreleaser.util.CollectionUtils.listOf;
 import static org.jreleaser.util.StringUtils.isBlank;
@@ -90,5 +91,7 @@ public final class LinkedinAnnouncerValidator {
         }
 
         validateTimeout(announcer);
+
+        validateRetry(announcer);
     }
 }
\ No newline at end of file
@@ -28,6 +28,7 @@ import static org.jreleaser.model.api.announce.OpenCollectiveAnnouncer.OPENCOLLE
 import static org.jreleaser.model.api.announce.OpenCollectiveAnnouncer.OPENCOLLECTIVE_TOKEN;
 import static org.jreleaser.model.internal.validation.common.Validator.checkProperty;
 import static org.jreleaser.model.internal.validation.common.Validator.resolveActivatable;
+import static org.jreleaser.model.internal.validation.common.Validator.validateRetry;
 import static org.jreleaser.model.internal.validation.common.Validator.validateTimeout;
 import static org.jreleaser.util.CollectionUtils.listOf;
 import static org.jreleaser.util.StringUtils.isBlank;
@@ -93,5 +94,7 @@ public final class OpenCollectiveAnnouncerValidator {
         }
 
         validateTimeout(announcer);
+
+        validateRetry(announcer);
     }
 }
\ No newline at end of file
@@ -28,6 +28,7 @@ import static org.jreleaser.model.api.announce.SlackAnnouncer.SLACK_TOKEN;
 import static org.jreleaser.model.api.announce.SlackAnnouncer.SLACK_WEBHOOK;
 import static org.jreleaser.model.internal.validation.common.Validator.checkProperty;
 import static org.jreleaser.model.internal.validation.common.Validator.resolveActivatable;
+import static org.jreleaser.model.internal.validation.common.Validator.validateRetry;
 import static org.jreleaser.model.internal.validation.common.Validator.validateTimeout;
 import static org.jreleaser.util.CollectionUtils.listOf;
 import static org.jreleaser.util.StringUtils.isBlank;
@@ -99,5 +100,7 @@ public final class SlackAnnouncerValidator {
         }
 
         validateTimeout(announcer);
+
+        validateRetry(announcer);
     }
 }
\ No newline at end of file
@@ -28,6 +28,7 @@ import static org.jreleaser.model.api.announce.TelegramAnnouncer.TELEGRAM_CHAT_I
 import static org.jreleaser.model.api.announce.TelegramAnnouncer.TELEGRAM_TOKEN;
 import static org.jreleaser.model.internal.validation.common.Validator.checkProperty;
 import static org.jreleaser.model.internal.validation.common.Validator.resolveActivatable;
+import static org.jreleaser.model.internal.validation.common.Validator.validateRetry;
 import static org.jreleaser.model.internal.validation.common.Validator.validateTimeout;
 import static org.jreleaser.util.CollectionUtils.listOf;
 import static org.jreleaser.util.StringUtils.isBlank;
@@ -86,5 +87,7 @@ public final class TelegramAnnouncerValidator {
         }
 
         validateTimeout(announcer);
+
+        validateRetry(announcer);
     }
 }
\ No newline at end of file
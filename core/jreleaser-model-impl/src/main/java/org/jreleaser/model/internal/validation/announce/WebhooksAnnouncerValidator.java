@@ -30,6 +30,7 @@ import java.util.Map;
 
 import static org.jreleaser.model.internal.validation.common.Validator.checkProperty;
 import static org.jreleaser.model.internal.validation.common.Validator.resolveActivatable;
+import static org.jreleaser.model.internal.validation.common.Validator.validateRetry;
 import static org.jreleaser.model.internal.validation.common.Validator.validateTimeout;
 import static org.jreleaser.util.CollectionUtils.listOf;
 import static org.jreleaser.util.StringUtils.isBlank;
@@ -117,6 +118,8 @@ public final class WebhooksAnnouncerValidator {
 
         validateTimeout(announcer);
 
+        validateRetry(announcer);
+
         return true;
     }
 }
\ No newline at end of file
@@ -28,6 +28,7 @@ import org.jreleaser.model.internal.common.FileSet;
 import org.jreleaser.model.internal.common.Glob;
 import org.jreleaser.model.internal.common.Icon;
 import org.jreleaser.model.internal.common.OwnerAware;
+import org.jreleaser.model.internal.common.RetryAware;
 import org.jreleaser.model.internal.common.Screenshot;
 import org.jreleaser.model.internal.common.TimeoutAware;
 import org.jreleaser.model.internal.distributions.Distribution;
@@ -193,6 +194,15 @@ public final class Validator {
         }
     }
 
+    public static void validateRetry(RetryAware self) {
+        if (null == self.getMaxRetries() || self.getMaxRetries() < 0 || self.getMaxRetries() > 10) {
+            self.setMaxRetries(3);
+        }
+        if (null == self.getRetryDelay() || self.getRetryDelay() <= 0 || self.getRetryDelay() > 60) {
+            self.setRetryDelay(2);
+        }
+    }
+
     public static void validateRepository(JReleaserContext context, Distribution distribution,
                                           RepositoryTap repository, RepositoryTap parentTap, String property) {
         validateRepository(context, distribution, repository, parentTap, property, "RELEASE");
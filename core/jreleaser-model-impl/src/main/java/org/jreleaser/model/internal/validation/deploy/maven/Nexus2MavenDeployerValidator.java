@@ -66,6 +66,9 @@ public final class Nexus2MavenDeployerValidator {
         if (mavenDeployer.getTransitionMaxRetries() <= 0) {
             mavenDeployer.setTransitionMaxRetries(60);
         }
+        if (mavenDeployer.getUploadConcurrency() <= 0) {
+            mavenDeployer.setUploadConcurrency(4);
+        }
 
         validateMavenDeployer(context, mavenDeployer, errors);
         if (!mavenDeployer.isEnabled()) return;
@@ -21,13 +21,18 @@ import org.jreleaser.bundle.RB;
 import org.jreleaser.model.api.JReleaserContext.Mode;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.download.Download;
+import org.jreleaser.model.internal.download.Downloader;
+import org.jreleaser.util.Algorithm;
 import org.jreleaser.util.Errors;
 
+import java.util.Map;
+
 import static org.jreleaser.model.internal.validation.common.Validator.resolveActivatable;
 import static org.jreleaser.model.internal.validation.download.FtpDownloaderValidator.validateFtpDownloader;
 import static org.jreleaser.model.internal.validation.download.HttpDownloaderValidator.validateHttpDownloader;
 import static org.jreleaser.model.internal.validation.download.ScpDownloaderValidator.validateScpDownloader;
 import static org.jreleaser.model.internal.validation.download.SftpDownloaderValidator.validateSftpDownloader;
+import static org.jreleaser.util.StringUtils.isBlank;
 
 /**
  * @author Andres Almiray
@@ -65,4 +70,19 @@ public final class DownloadersValidator {
             }
         }
     }
-}
\ No newline at end of file
+
+    static void validateChecksums(Downloader.Asset asset, String prefix, Errors errors) {
+        for (Map.Entry<String, String> e : asset.getChecksums().entrySet()) {
+            try {
+                if (null == Algorithm.of(e.getKey())) {
+                    errors.configuration(RB.$("validation_must_not_be_blank", prefix + ".checksums.<algorithm>"));
+                }
+            } catch (IllegalArgumentException x) {
+                errors.configuration(RB.$("validation_is_invalid", prefix + ".checksums." + e.getKey(), x.getMessage()));
+            }
+            if (isBlank(e.getValue())) {
+                errors.configuration(RB.$("validation_must_not_be_blank", prefix + ".checksums." + e.getKey()));
+            }
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.jreleaser.util.Errors;
 import java.util.Map;
 
 import static org.jreleaser.model.internal.validation.common.Validator.resolveActivatable;
+import static org.jreleaser.model.internal.validation.download.DownloadersValidator.validateChecksums;
 import static org.jreleaser.model.internal.validation.common.Validator.validateTimeout;
 import static org.jreleaser.util.CollectionUtils.listOf;
 import static org.jreleaser.util.StringUtils.isBlank;
@@ -72,9 +73,11 @@ public final class HttpDownloaderValidator {
         } else {
             int index = 0;
             for (Downloader.Asset asset : downloader.getAssets()) {
+                String prefix = "download.http." + downloader.getName() + ".asset[" + (index++) + "]";
                 if (isBlank(asset.getInput())) {
-                    errors.configuration(RB.$("validation_must_not_be_null", "download.http." + downloader.getName() + ".asset[" + (index++) + "].input"));
+                    errors.configuration(RB.$("validation_must_not_be_null", prefix + ".input"));
                 }
+                validateChecksums(asset, prefix, errors);
             }
         }
     }
@@ -56,6 +56,7 @@ import static org.jreleaser.model.api.release.Releaser.SKIP_TAG;
 import static org.jreleaser.model.api.release.Releaser.TAG_NAME;
 import static org.jreleaser.model.api.release.Releaser.UPDATE;
 import static org.jreleaser.model.internal.validation.common.Validator.checkProperty;
+import static org.jreleaser.model.internal.validation.common.Validator.validateRetry;
 import static org.jreleaser.model.internal.validation.common.Validator.validateTimeout;
 import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
@@ -226,6 +227,8 @@ public final class BaseReleaserValidator {
 
         validateTimeout(service);
 
+        validateRetry(service);
+
         // FIXME: extension
         // eager resolve
         service.getResolvedTagName(context.getModel());
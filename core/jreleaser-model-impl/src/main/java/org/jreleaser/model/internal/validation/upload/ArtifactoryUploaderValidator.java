@@ -27,6 +27,7 @@ import java.util.Map;
 
 import static org.jreleaser.model.internal.validation.common.Validator.checkProperty;
 import static org.jreleaser.model.internal.validation.common.Validator.resolveActivatable;
+import static org.jreleaser.model.internal.validation.common.Validator.validateRetry;
 import static org.jreleaser.model.internal.validation.common.Validator.validateTimeout;
 import static org.jreleaser.util.CollectionUtils.listOf;
 
@@ -140,6 +141,8 @@ public final class ArtifactoryUploaderValidator {
 
         validateTimeout(uploader);
 
+        validateRetry(uploader);
+
         for (ArtifactoryUploader.ArtifactoryRepository repository : uploader.getRepositories()) {
             resolveActivatable(context, repository, baseKey1 + ".repository", "");
             if (!repository.isActiveSet()) {
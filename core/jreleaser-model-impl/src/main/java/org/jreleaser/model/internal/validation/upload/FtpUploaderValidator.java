@@ -27,6 +27,7 @@ import org.jreleaser.util.Errors;
 import java.util.Map;
 
 import static org.jreleaser.model.internal.validation.common.Validator.resolveActivatable;
+import static org.jreleaser.model.internal.validation.common.Validator.validateRetry;
 import static org.jreleaser.model.internal.validation.common.Validator.validateTimeout;
 import static org.jreleaser.util.CollectionUtils.listOf;
 import static org.jreleaser.util.StringUtils.isBlank;
@@ -76,5 +77,6 @@ public final class FtpUploaderValidator {
             errors.configuration(RB.$("validation_must_not_be_blank", "upload.ftp." + uploader.getName() + ".path"));
         }
         validateTimeout(uploader);
+        validateRetry(uploader);
     }
 }
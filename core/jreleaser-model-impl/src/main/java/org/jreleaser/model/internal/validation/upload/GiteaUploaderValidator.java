@@ -27,6 +27,7 @@ import java.util.Map;
 
 import static org.jreleaser.model.internal.validation.common.Validator.checkProperty;
 import static org.jreleaser.model.internal.validation.common.Validator.resolveActivatable;
+import static org.jreleaser.model.internal.validation.common.Validator.validateRetry;
 import static org.jreleaser.model.internal.validation.common.Validator.validateTimeout;
 import static org.jreleaser.util.CollectionUtils.listOf;
 import static org.jreleaser.util.StringUtils.isBlank;
@@ -111,5 +112,7 @@ public final class GiteaUploaderValidator {
         }
 
         validateTimeout(uploader);
+
+        validateRetry(uploader);
     }
 }
@@ -28,6 +28,7 @@ import org.jreleaser.util.Errors;
 import java.util.Map;
 
 import static org.jreleaser.model.internal.validation.common.Validator.resolveActivatable;
+import static org.jreleaser.model.internal.validation.common.Validator.validateRetry;
 import static org.jreleaser.model.internal.validation.common.Validator.validateTimeout;
 import static org.jreleaser.util.CollectionUtils.listOf;
 import static org.jreleaser.util.StringUtils.isBlank;
@@ -84,5 +85,6 @@ public final class HttpUploaderValidator {
 
         HttpValidator.validateHttp(context, uploader, "upload", uploader.getName(), errors);
         validateTimeout(uploader);
+        validateRetry(uploader);
     }
 }
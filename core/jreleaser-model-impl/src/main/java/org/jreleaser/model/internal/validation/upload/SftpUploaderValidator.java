@@ -27,6 +27,7 @@ import java.util.Map;
 
 import static org.jreleaser.model.internal.validation.common.SshValidator.validateSsh;
 import static org.jreleaser.model.internal.validation.common.Validator.resolveActivatable;
+import static org.jreleaser.model.internal.validation.common.Validator.validateRetry;
 import static org.jreleaser.model.internal.validation.common.Validator.validateTimeout;
 import static org.jreleaser.util.CollectionUtils.listOf;
 import static org.jreleaser.util.StringUtils.isBlank;
@@ -75,5 +76,6 @@ public final class SftpUploaderValidator {
             errors.configuration(RB.$("validation_must_not_be_blank", "upload.sftp." + uploader.getName() + ".path"));
         }
         validateTimeout(uploader);
+        validateRetry(uploader);
     }
 }
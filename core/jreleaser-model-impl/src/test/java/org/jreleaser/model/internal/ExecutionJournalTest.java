@@ -0,0 +1,180 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.model.internal;
+
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class ExecutionJournalTest {
+    private static final String OPERATION = "upload.http.app.app-1.0.0.zip";
+
+    @TempDir
+    Path basedir;
+
+    @Test
+    void resumingSkipsOperationsWithUnchangedInputs() throws IOException {
+        // given:
+        List<Path> inputs = singletonList(write("app-1.0.0.zip", "contents"));
+        ExecutionJournal journal = newContext("1.0.0", false, false).getJournal();
+        journal.open();
+        journal.done(OPERATION, inputs);
+        journal.close();
+
+        // when:
+        ExecutionJournal resumed = newContext("1.0.0", true, false).getJournal();
+        resumed.open();
+
+        // then:
+        assertThat(resumed.isDone(OPERATION, inputs)).isTrue();
+        assertThat(resumed.isDone("upload.http.app.other.zip", inputs)).isFalse();
+    }
+
+    @Test
+    void changedInputsAreNotDone() throws IOException {
+        // given:
+        Path file = write("app-1.0.0.zip", "contents");
+        List<Path> inputs = singletonList(file);
+        ExecutionJournal journal = newContext("1.0.0", false, false).getJournal();
+        journal.open();
+        journal.done(OPERATION, inputs);
+        journal.close();
+
+        // when:
+        write("app-1.0.0.zip", "other contents");
+        ExecutionJournal resumed = newContext("1.0.0", true, false).getJournal();
+        resumed.open();
+
+        // then:
+        assertThat(resumed.isDone(OPERATION, inputs)).isFalse();
+    }
+
+    @Test
+    void journalOfAnotherReleaseIsDiscarded() throws IOException {
+        // given:
+        List<Path> inputs = singletonList(write("app.zip", "contents"));
+        ExecutionJournal journal = newContext("1.0.0", false, false).getJournal();
+        journal.open();
+        journal.done(OPERATION, inputs);
+        journal.close();
+
+        // when:
+        ExecutionJournal resumed = newContext("1.0.1", true, false).getJournal();
+        resumed.open();
+
+        // then:
+        assertThat(resumed.isDone(OPERATION, inputs)).isFalse();
+    }
+
+    @Test
+    void freshRunsStartFromAnEmptyJournal() throws IOException {
+        // given:
+        List<Path> inputs = singletonList(write("app.zip", "contents"));
+        ExecutionJournal journal = newContext("1.0.0", false, false).getJournal();
+        journal.open();
+        journal.done(OPERATION, inputs);
+        journal.close();
+
+        // when:
+        ExecutionJournal fresh = newContext("1.0.0", false, false).getJournal();
+        fresh.open();
+        fresh.close();
+        ExecutionJournal resumed = newContext("1.0.0", true, false).getJournal();
+        resumed.open();
+
+        // then:
+        assertThat(fresh.isDone(OPERATION, inputs)).isFalse();
+        assertThat(resumed.isDone(OPERATION, inputs)).isFalse();
+    }
+
+    @Test
+    void dryrunsDoNotRecordOperations() throws IOException {
+        // given:
+        List<Path> inputs = singletonList(write("app.zip", "contents"));
+        ExecutionJournal journal = newContext("1.0.0", false, true).getJournal();
+
+        // when:
+        journal.open();
+        journal.done(OPERATION, inputs);
+        journal.close();
+
+        // then:
+        assertThat(basedir.resolve("out").resolve("journal.properties")).doesNotExist();
+    }
+
+    @Test
+    void digestsDependOnNamesAndContents() throws IOException {
+        // given:
+        Path first = write("a/app.zip", "contents");
+        Path second = write("b/app.zip", "contents");
+        Path renamed = write("c/other.zip", "contents");
+        Path changed = write("d/app.zip", "changed");
+        ExecutionJournal journal = newContext("1.0.0", false, true).getJournal();
+
+        // then:
+        assertThat(journal.digest(singletonList(first)))
+            .isEqualTo(journal.digest(singletonList(second)))
+            .isNotEqualTo(journal.digest(singletonList(renamed)))
+            .isNotEqualTo(journal.digest(singletonList(changed)));
+        assertThat(journal.digest(singletonList(first.getParent())))
+            .isEqualTo(journal.digest(singletonList(second.getParent())))
+            .isNotEqualTo(journal.digest(singletonList(renamed.getParent())));
+    }
+
+    private Path write(String name, String contents) throws IOException {
+        Path file = basedir.resolve("inputs").resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.write(file, contents.getBytes(UTF_8));
+        return file;
+    }
+
+    private JReleaserContext newContext(String version, boolean resume, boolean dryrun) {
+        JReleaserModel model = new JReleaserModel();
+        model.getProject().setName("app");
+        model.getProject().setVersion(version);
+
+        JReleaserContext context = new JReleaserContext(
+            new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR),
+            JReleaserContext.Configurer.CLI,
+            org.jreleaser.model.api.JReleaserContext.Mode.FULL,
+            model,
+            basedir,
+            basedir.resolve("out"),
+            dryrun,
+            false,
+            false,
+            Collections.emptyList(),
+            Collections.emptyList());
+        context.setResume(resume);
+        return context;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.model.internal;
+
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.model.api.JReleaserCommand;
+import org.jreleaser.mustache.TemplateContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jreleaser.model.Constants.KEY_COMMAND;
+import static org.jreleaser.model.Constants.KEY_PROJECT_DESCRIPTION;
+import static org.jreleaser.model.Constants.KEY_PROJECT_VERSION;
+import static org.jreleaser.mustache.MustacheUtils.passThrough;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class JReleaserContextPropsTest {
+    @TempDir
+    Path basedir;
+
+    @Test
+    void followModelChangesBeforeValidation() {
+        // given:
+        JReleaserContext context = newContext();
+
+        // when:
+        context.getModel().getProject().setDescription("first");
+        String first = context.props().get(KEY_PROJECT_DESCRIPTION);
+        context.getModel().getProject().setDescription("second");
+        String second = context.fullProps().get(KEY_PROJECT_DESCRIPTION);
+
+        // then:
+        assertThat(first).isEqualTo(passThrough("first"));
+        assertThat(second).isEqualTo(passThrough("second"));
+    }
+
+    @Test
+    void reusePropsAfterValidationUntilInvalidated() {
+        // given:
+        JReleaserContext context = validatedContext();
+        context.getModel().getProject().setDescription("first");
+        context.invalidateProps();
+        assertThat(context.props().<String>get(KEY_PROJECT_DESCRIPTION)).isEqualTo(passThrough("first"));
+
+        // when:
+        context.getModel().getProject().setDescription("second");
+
+        // then:
+        assertThat(context.props().<String>get(KEY_PROJECT_DESCRIPTION)).isEqualTo(passThrough("first"));
+        assertThat(context.fullProps().<String>get(KEY_PROJECT_DESCRIPTION)).isEqualTo(passThrough("first"));
+
+        // when:
+        context.invalidateProps();
+
+        // then:
+        assertThat(context.props().<String>get(KEY_PROJECT_DESCRIPTION)).isEqualTo(passThrough("second"));
+        assertThat(context.fullProps().<String>get(KEY_PROJECT_DESCRIPTION)).isEqualTo(passThrough("second"));
+    }
+
+    @Test
+    void followVersionAndCommandChangesAfterValidation() {
+        // given:
+        JReleaserContext context = validatedContext();
+        assertThat(context.props().<String>get(KEY_PROJECT_VERSION)).isEqualTo("1.0.0");
+
+        // when:
+        context.getModel().getProject().setVersion("1.0.1");
+        context.setCommand(JReleaserCommand.RELEASE);
+
+        // then:
+        TemplateContext props = context.props();
+        assertThat(props.<String>get(KEY_PROJECT_VERSION)).isEqualTo("1.0.1");
+        assertThat(props.<String>get(KEY_COMMAND)).isEqualTo(JReleaserCommand.RELEASE.toStep());
+    }
+
+    @Test
+    void returnIndependentCopies() {
+        // given:
+        JReleaserContext context = validatedContext();
+
+        // when:
+        context.props().set("extra", "value");
+        context.fullProps().set("extra", "value");
+
+        // then:
+        assertThat(context.props().contains("extra")).isFalse();
+        assertThat(context.fullProps().contains("extra")).isFalse();
+    }
+
+    private JReleaserContext validatedContext() {
+        JReleaserContext context = newContext();
+        assertThat(context.validateModel().hasErrors()).isFalse();
+        return context;
+    }
+
+    private JReleaserContext newContext() {
+        JReleaserModel model = new JReleaserModel();
+        model.getProject().setName("app");
+        model.getProject().setVersion("1.0.0");
+        model.getProject().setDescription("app");
+        model.getProject().setCopyright("2024 app");
+
+        return new JReleaserContext(
+            new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR),
+            JReleaserContext.Configurer.CLI,
+            org.jreleaser.model.api.JReleaserContext.Mode.DOWNLOAD,
+            model,
+            basedir,
+            basedir.resolve("out"),
+            true,
+            false,
+            false,
+            Collections.emptyList(),
+            Collections.emptyList());
+    }
+}
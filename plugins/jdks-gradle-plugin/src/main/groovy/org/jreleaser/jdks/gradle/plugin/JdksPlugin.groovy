@@ -216,7 +216,8 @@ class JdksPlugin implements Plugin<Project> {
             void execute(Copy t) {
                 t.group = JDKS_GROUP
                 t.description = 'Copy JDKs to Gradle cache'
-                t.dependsOn downloadJdks
+                // only verified archives may be shared through the cache
+                t.dependsOn verifyJdks
                 t.from(jdks.downloadTask*.get().dest)
                 t.into(cacheDir)
             }
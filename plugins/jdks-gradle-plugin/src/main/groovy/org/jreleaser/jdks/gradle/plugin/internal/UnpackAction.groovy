@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.jdks.gradle.plugin.internal
+
+import groovy.transform.CompileStatic
+import org.gradle.workers.WorkAction
+import org.jreleaser.util.FileUtils
+
+/**
+ * Unpacks a single JDK archive off the task thread, letting Gradle
+ * unpack several JDKs at the same time.
+ *
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+@CompileStatic
+abstract class UnpackAction implements WorkAction<UnpackParameters> {
+    @Override
+    void execute() {
+        FileUtils.unpackArchive(
+            parameters.inputFile.get().asFile.toPath(),
+            parameters.outputDirectory.get().asFile.toPath(),
+            false)
+    }
+}
@@ -18,6 +18,7 @@
 package org.jreleaser.jdks.gradle.plugin.tasks
 
 import groovy.transform.CompileStatic
+import org.gradle.api.Action
 import org.gradle.api.DefaultTask
 import org.gradle.api.file.DirectoryProperty
 import org.gradle.api.file.RegularFileProperty
@@ -25,7 +26,9 @@ import org.gradle.api.model.ObjectFactory
 import org.gradle.api.tasks.InputFile
 import org.gradle.api.tasks.OutputDirectory
 import org.gradle.api.tasks.TaskAction
-import org.jreleaser.util.FileUtils
+import org.gradle.workers.WorkerExecutor
+import org.jreleaser.jdks.gradle.plugin.internal.UnpackAction
+import org.jreleaser.jdks.gradle.plugin.internal.UnpackParameters
 
 import javax.inject.Inject
 
@@ -48,11 +51,17 @@ abstract class UnpackTask extends DefaultTask {
         outputDirectory = objects.directoryProperty()
     }
 
+    @Inject
+    abstract WorkerExecutor getWorkerExecutor()
+
     @TaskAction
     void unpack() {
-        FileUtils.unpackArchive(
-            inputFile.get().asFile.toPath(),
-            outputDirectory.get().asFile.toPath(),
-            false)
+        workerExecutor.noIsolation().submit(UnpackAction, new Action<UnpackParameters>() {
+            @Override
+            void execute(UnpackParameters parameters) {
+                parameters.inputFile.set(inputFile)
+                parameters.outputDirectory.set(outputDirectory)
+            }
+        })
     }
 }
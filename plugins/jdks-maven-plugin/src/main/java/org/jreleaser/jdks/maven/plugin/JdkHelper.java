@@ -17,6 +17,7 @@
  */
 package org.jreleaser.jdks.maven.plugin;
 
+import org.apache.commons.codec.binary.Hex;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.BuildPluginManager;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -27,15 +28,28 @@ import org.codehaus.plexus.archiver.manager.ArchiverManager;
 import org.codehaus.plexus.archiver.manager.NoSuchArchiverException;
 import org.jreleaser.util.Algorithm;
 import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.ConcurrencyUtils;
+import org.jreleaser.util.FileType;
 import org.jreleaser.util.FileUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 import static org.twdata.maven.mojoexecutor.MojoExecutor.configuration;
@@ -71,15 +85,90 @@ public class JdkHelper {
     }
 
     public void setupJdk(Jdk jdk, boolean unpack) throws MojoExecutionException {
+        setupJdks(Collections.singletonList(jdk), unpack, 1);
+    }
+
+    /**
+     * Provisions every JDK. Downloads run sequentially on the calling thread as they are
+     * delegated to another mojo that shares the session and its cache directory, while
+     * archives are extracted concurrently, bounded by {@code parallelism}.
+     *
+     * @since 1.14.0
+     */
+    public void setupJdks(List<Jdk> jdks, boolean unpack, int parallelism) throws MojoExecutionException {
+        if (jdks.isEmpty()) return;
+
+        List<Extraction> extractions = new ArrayList<>();
+        Boolean interactiveMode = session.getSettings().getInteractiveMode();
+        session.getSettings().setInteractiveMode(false);
+        try {
+            for (Jdk jdk : jdks) {
+                Extraction extraction = prepareJdk(jdk, unpack);
+                if (null != extraction) extractions.add(extraction);
+            }
+        } finally {
+            session.getSettings().setInteractiveMode(interactiveMode);
+        }
+
+        if (extractions.isEmpty()) return;
+        if (extractions.size() == 1 || parallelism <= 1) {
+            for (Extraction extraction : extractions) {
+                log.info("Extracting " + extraction.inputFile.getName());
+                try {
+                    extraction.extract();
+                } catch (IOException e) {
+                    throw new MojoExecutionException("Unexpected error when extracting " + extraction.inputFile.getName(), e);
+                }
+            }
+            return;
+        }
+
+        int concurrency = Math.max(1, Math.min(parallelism, extractions.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, ConcurrencyUtils.threadFactory("jdks"));
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Extraction extraction : extractions) {
+                // Maven's Log is not meant to be used outside of the mojo thread
+                log.info("Extracting " + extraction.inputFile.getName());
+                futures.add(executor.submit(() -> {
+                    extraction.extract();
+                    return null;
+                }));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    Throwable cause = null != e.getCause() ? e.getCause() : e;
+                    throw new MojoExecutionException("Unexpected error when extracting " +
+                        extractions.get(i).inputFile.getName(), cause);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted while setting up JDKs", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Extraction prepareJdk(Jdk jdk, boolean unpack) throws MojoExecutionException {
         File jdkExtractDirectory = new File(outputDirectory, jdk.getName());
 
         boolean downloaded = false;
+        boolean verified = false;
         if (!new File(jdkExtractDirectory, getFilename(jdk)).exists()) {
-            downloadJdk(jdkExtractDirectory, jdk);
+            verified = copyFromCache(jdkExtractDirectory, jdk);
+            if (!verified) downloadJdk(jdkExtractDirectory, jdk);
             downloaded = true;
         }
 
-        verifyJdk(jdkExtractDirectory, jdk);
+        if (!verified) {
+            verifyJdk(jdkExtractDirectory, jdk);
+            copyToCache(jdkExtractDirectory, jdk);
+        }
 
         File jdkDir = new File(jdkExtractDirectory, getDirname(jdk));
         if (jdkDir.exists()) {
@@ -89,54 +178,98 @@ public class JdkHelper {
                 } catch (IOException e) {
                     throw new MojoExecutionException("Unexpected error", e);
                 }
-                extractJdk(jdkExtractDirectory, jdk, unpack);
+                return extraction(jdkExtractDirectory, jdk, unpack);
             }
-        } else {
-            extractJdk(jdkExtractDirectory, jdk, unpack);
+            return null;
         }
+
+        return extraction(jdkExtractDirectory, jdk, unpack);
     }
 
     private void downloadJdk(File jdkExtractDirectory, Jdk jdk) throws MojoExecutionException {
         String filename = getFilename(jdk);
         log.info("Downloading " + jdk.getUrl() + " to " + jdkExtractDirectory + File.separator + filename);
 
-        Boolean interactiveMode = session.getSettings().getInteractiveMode();
-        session.getSettings().setInteractiveMode(false);
+        String cacheDirectory = resolveCacheDirectory("download-maven-plugin")
+            .toAbsolutePath().toString();
+
+        executeMojo(
+            plugin("com.googlecode.maven-download-plugin",
+                "download-maven-plugin",
+                "1.8.1"),
+            goal("wget"),
+            configuration(
+                element("uri", jdk.getUrl()),
+                element("followRedirects", "true"),
+                element("outputDirectory", jdkExtractDirectory.getAbsolutePath()),
+                element("cacheDirectory", cacheDirectory),
+                element("outputFileName", filename)
+            ),
+            executionEnvironment(
+                project,
+                session,
+                pluginManager));
+    }
+
+    private Path resolveCacheDirectory(String name) {
+        return Paths.get(session.getSettings().getLocalRepository())
+            .resolve(".cache")
+            .resolve(name);
+    }
+
+    private Path resolveCachedArchive(Jdk jdk) {
+        String[] checksum = resolveChecksum(jdk);
+        if (null == checksum) return null;
+
+        // archives are keyed by their checksum, so a hit is already verified
+        return resolveCacheDirectory("jdks")
+            .resolve(checksum[0].toLowerCase(Locale.ENGLISH))
+            .resolve(checksum[1].toLowerCase(Locale.ENGLISH))
+            .resolve(getFilename(jdk));
+    }
+
+    private boolean copyFromCache(File jdkExtractDirectory, Jdk jdk) throws MojoExecutionException {
+        Path cachedArchive = resolveCachedArchive(jdk);
+        if (null == cachedArchive || !Files.exists(cachedArchive)) return false;
 
+        String filename = getFilename(jdk);
+        log.info("Copying verified " + filename + " from " + cachedArchive.getParent());
         try {
-            String cacheDirectory = Paths.get(session.getSettings().getLocalRepository())
-                .resolve(".cache/download-maven-plugin")
-                .toAbsolutePath().toString();
-
-            executeMojo(
-                plugin("com.googlecode.maven-download-plugin",
-                    "download-maven-plugin",
-                    "1.8.1"),
-                goal("wget"),
-                configuration(
-                    element("uri", jdk.getUrl()),
-                    element("followRedirects", "true"),
-                    element("outputDirectory", jdkExtractDirectory.getAbsolutePath()),
-                    element("cacheDirectory", cacheDirectory),
-                    element("outputFileName", filename)
-                ),
-                executionEnvironment(
-                    project,
-                    session,
-                    pluginManager));
-        } finally {
-            session.getSettings().setInteractiveMode(interactiveMode);
+            Files.createDirectories(jdkExtractDirectory.toPath());
+            Files.copy(cachedArchive, jdkExtractDirectory.toPath().resolve(filename), REPLACE_EXISTING);
+            return true;
+        } catch (IOException e) {
+            throw new MojoExecutionException("Unexpected error when copying " + filename + " from cache", e);
         }
     }
 
-    private void verifyJdk(File jdkExtractDirectory, Jdk jdk) throws MojoExecutionException {
-        String checksum = jdk.getChecksum();
-        String filename = getFilename(jdk);
+    private void copyToCache(File jdkExtractDirectory, Jdk jdk) {
+        Path cachedArchive = resolveCachedArchive(jdk);
+        if (null == cachedArchive || Files.exists(cachedArchive)) return;
 
-        if (isBlank(checksum)) {
-            log.info("Checksum not available. Skipping verification of " + filename);
-            return;
+        Path tmp = null;
+        try {
+            Files.createDirectories(cachedArchive.getParent());
+            tmp = Files.createTempFile(cachedArchive.getParent(), "jdk", ".tmp");
+            Files.copy(new File(jdkExtractDirectory, getFilename(jdk)).toPath(), tmp, REPLACE_EXISTING);
+            Files.move(tmp, cachedArchive, ATOMIC_MOVE);
+        } catch (IOException e) {
+            // the cache is an optimization, the archive in place is already verified
+            log.debug("Could not cache " + getFilename(jdk), e);
+        } finally {
+            if (null != tmp) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                    // noop
+                }
+            }
         }
+    }
+
+    private String[] resolveChecksum(Jdk jdk) {
+        String checksum = jdk.getChecksum();
+        if (isBlank(checksum)) return null;
 
         String algo = Algorithm.SHA_256.formatted();
         if (checksum.contains("/")) {
@@ -145,21 +278,42 @@ public class JdkHelper {
             checksum = parts[1];
         }
 
+        return new String[]{algo, checksum};
+    }
+
+    private void verifyJdk(File jdkExtractDirectory, Jdk jdk) throws MojoExecutionException {
+        String[] checksum = resolveChecksum(jdk);
+        String filename = getFilename(jdk);
+
+        if (null == checksum) {
+            log.info("Checksum not available. Skipping verification of " + filename);
+            return;
+        }
+
+        String calculatedChecksum = null;
         try {
-            // calculate checksum
+            // calculate checksum, streaming as archives are too large to be held in memory
             Path input = new File(jdkExtractDirectory, filename).toPath();
-            String calculatedChecksum = ChecksumUtils.checksum(Algorithm.of(algo), Files.readAllBytes(input));
-
-            // verify checksum
-            log.info("Verifying " + filename);
-            if (!calculatedChecksum.equalsIgnoreCase(checksum)) {
-                throw new MojoExecutionException("Invalid checksum for file '" +
-                    filename + "'. Expected " + checksum.toLowerCase(Locale.ENGLISH) +
-                    " but got " + calculatedChecksum.toLowerCase(Locale.ENGLISH) + ".");
+            MessageDigest digest = ChecksumUtils.messageDigest(Algorithm.of(checksum[0]));
+            try (InputStream in = Files.newInputStream(input)) {
+                byte[] buffer = new byte[64 * 1024];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
             }
+            calculatedChecksum = Hex.encodeHexString(digest.digest());
         } catch (Exception e) {
             throw new MojoExecutionException("Unexpected error when verifying " + filename, e);
         }
+
+        // verify checksum
+        log.info("Verifying " + filename);
+        if (!calculatedChecksum.equalsIgnoreCase(checksum[1])) {
+            throw new MojoExecutionException("Invalid checksum for file '" +
+                filename + "'. Expected " + checksum[1].toLowerCase(Locale.ENGLISH) +
+                " but got " + calculatedChecksum.toLowerCase(Locale.ENGLISH) + ".");
+        }
     }
 
     private String getFilename(Jdk jdk) {
@@ -175,18 +329,43 @@ public class JdkHelper {
         return filename.substring(0, filename.lastIndexOf('.'));
     }
 
-    private void extractJdk(File jdkExtractDirectory, Jdk jdk, boolean unpack) throws MojoExecutionException {
-        if (!unpack) return;
+    private Extraction extraction(File jdkExtractDirectory, Jdk jdk, boolean unpack) throws MojoExecutionException {
+        if (!unpack) return null;
         File inputFile = new File(jdkExtractDirectory, getFilename(jdk));
 
+        if (inputFile.getName().endsWith(FileType.ZIP.extension())) {
+            return new Extraction(inputFile, jdkExtractDirectory, null);
+        }
+
         try {
-            log.info("Extracting " + inputFile.getName());
+            // component lookup stays on the mojo thread, only the extraction is handed off
             UnArchiver unarchiver = archiverManager.getUnArchiver(inputFile);
             unarchiver.setSourceFile(inputFile);
             unarchiver.setDestDirectory(jdkExtractDirectory);
-            unarchiver.extract();
+            return new Extraction(inputFile, jdkExtractDirectory, unarchiver);
         } catch (NoSuchArchiverException e) {
             throw new MojoExecutionException("Unexpected error when extracting " + inputFile.getName(), e);
         }
     }
+
+    private static final class Extraction {
+        private final File inputFile;
+        private final File destination;
+        private final UnArchiver unarchiver;
+
+        private Extraction(File inputFile, File destination, UnArchiver unarchiver) {
+            this.inputFile = inputFile;
+            this.destination = destination;
+            this.unarchiver = unarchiver;
+        }
+
+        private void extract() throws IOException {
+            if (null == unarchiver) {
+                // single pass over the central directory, entries are inflated in parallel
+                FileUtils.unpackArchive(inputFile.toPath(), destination.toPath(), false, false);
+            } else {
+                unarchiver.extract();
+            }
+        }
+    }
 }
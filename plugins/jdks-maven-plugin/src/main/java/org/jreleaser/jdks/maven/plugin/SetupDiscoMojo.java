@@ -27,6 +27,7 @@ import org.jreleaser.sdk.disco.Disco;
 import org.jreleaser.sdk.disco.RestAPIException;
 import org.jreleaser.sdk.disco.api.EphemeralId;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -43,17 +44,26 @@ public class SetupDiscoMojo extends AbstractDiscoMojo {
     @Parameter(property = "disco.setup.unpack", defaultValue = "true")
     private boolean unpack;
 
+    /**
+     * Maximum number of JDK archives to be extracted concurrently.
+     */
+    @Parameter(property = "disco.setup.parallelism", defaultValue = "4")
+    private int parallelism;
+
     @Override
     protected void doExecute(Disco disco) throws MojoExecutionException {
         JdkHelper jdkHelper = new JdkHelper(project, getLog(), outputDirectory,
             session, pluginManager, archiverManager);
 
+        List<Jdk> resolvedJdks = new ArrayList<>();
         for (Pkg pkg : pkgs) {
             Jdk jdk = resolvePkg(pkg, disco);
             if (null != jdk) {
-                jdkHelper.setupJdk(jdk, unpack);
+                resolvedJdks.add(jdk);
             }
         }
+
+        jdkHelper.setupJdks(resolvedJdks, unpack, parallelism);
     }
 
     private Jdk resolvePkg(Pkg pkg, Disco disco) throws MojoExecutionException {
@@ -61,6 +61,12 @@ public class SetupJdksMojo extends AbstractJdksMojo {
     @Parameter(property = "jdks.setup.unpack", defaultValue = "true")
     private boolean unpack;
 
+    /**
+     * Maximum number of JDK archives to be extracted concurrently.
+     */
+    @Parameter(property = "jdks.setup.parallelism", defaultValue = "4")
+    private int parallelism;
+
     @Component
     private ArchiverManager archiverManager;
 
@@ -77,9 +83,7 @@ public class SetupJdksMojo extends AbstractJdksMojo {
                 .orElseThrow(() -> new IllegalArgumentException("Jdk " + jdkName + " was not found"));
             jdkHelper.setupJdk(jdk, unpack);
         } else {
-            for (Jdk jdk : jdks) {
-                jdkHelper.setupJdk(jdk, unpack);
-            }
+            jdkHelper.setupJdks(jdks, unpack, parallelism);
         }
     }
 }
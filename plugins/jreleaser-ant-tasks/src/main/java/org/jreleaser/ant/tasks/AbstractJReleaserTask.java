@@ -22,6 +22,7 @@ import org.apache.tools.ant.Task;
 import org.jreleaser.ant.tasks.internal.JReleaserLoggerAdapter;
 import org.jreleaser.config.JReleaserConfigParser;
 import org.jreleaser.engine.context.ContextCreator;
+import org.jreleaser.logging.AsyncTraceWriter;
 import org.jreleaser.logging.JReleaserLogger;
 import org.jreleaser.model.JReleaserVersion;
 import org.jreleaser.model.api.JReleaserContext.Mode;
@@ -31,7 +32,6 @@ import org.jreleaser.util.PlatformUtils;
 import org.jreleaser.util.StringUtils;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.nio.file.Files;
@@ -63,6 +63,8 @@ abstract class AbstractJReleaserTask extends Task {
     protected Boolean dryrun;
     protected Boolean gitRootSearch;
     protected Boolean strict;
+    protected Boolean sequential;
+    protected Boolean resume;
     protected boolean skip;
     protected Path outputDir;
 
@@ -90,6 +92,14 @@ abstract class AbstractJReleaserTask extends Task {
         this.strict = strict;
     }
 
+    public void setSequential(Boolean sequential) {
+        this.sequential = sequential;
+    }
+
+    public void setResume(Boolean resume) {
+        this.resume = resume;
+    }
+
     public void setSkip(boolean skip) {
         this.skip = skip;
     }
@@ -156,8 +166,7 @@ abstract class AbstractJReleaserTask extends Task {
     protected PrintWriter createTracer() {
         try {
             Files.createDirectories(getOutputDirectory());
-            return newPrintWriter(new FileOutputStream(
-                getOutputDirectory().resolve("trace.log").toFile()));
+            return AsyncTraceWriter.open(getOutputDirectory().resolve("trace.log"));
         } catch (IOException e) {
             throw new IllegalStateException("Could not initialize trace file", e);
         }
@@ -168,7 +177,7 @@ abstract class AbstractJReleaserTask extends Task {
     }
 
     protected JReleaserContext createContext() {
-        return ContextCreator.create(
+        JReleaserContext context = ContextCreator.create(
             logger,
             resolveConfigurer(actualConfigFile),
             getMode(),
@@ -180,6 +189,9 @@ abstract class AbstractJReleaserTask extends Task {
             resolveBoolean(org.jreleaser.model.api.JReleaserContext.STRICT, strict),
             collectSelectedPlatforms(),
             collectRejectedPlatforms());
+        context.setSequential(resolveBoolean(org.jreleaser.model.api.JReleaserContext.SEQUENTIAL, sequential));
+        context.setResume(resolveBoolean(org.jreleaser.model.api.JReleaserContext.RESUME, resume));
+        return context;
     }
 
     protected boolean resolveBoolean(String key, Boolean value) {
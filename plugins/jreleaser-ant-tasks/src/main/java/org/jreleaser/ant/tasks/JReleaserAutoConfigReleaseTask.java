@@ -23,6 +23,7 @@ import org.apache.tools.ant.types.FileSet;
 import org.apache.tools.ant.types.Resource;
 import org.jreleaser.ant.tasks.internal.JReleaserLoggerAdapter;
 import org.jreleaser.engine.context.ModelAutoConfigurer;
+import org.jreleaser.logging.AsyncTraceWriter;
 import org.jreleaser.logging.JReleaserLogger;
 import org.jreleaser.model.UpdateSection;
 import org.jreleaser.model.internal.JReleaserContext;
@@ -32,7 +33,6 @@ import org.jreleaser.util.StringUtils;
 import org.jreleaser.workflow.Workflows;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.nio.file.Files;
@@ -360,8 +360,7 @@ public class JReleaserAutoConfigReleaseTask extends Task {
     private PrintWriter createTracer() {
         try {
             Files.createDirectories(getOutputDirectory());
-            return newPrintWriter(new FileOutputStream(
-                getOutputDirectory().resolve("trace.log").toFile()));
+            return AsyncTraceWriter.open(getOutputDirectory().resolve("trace.log"));
         } catch (IOException e) {
             throw new IllegalStateException("Could not initialize trace file", e);
         }
@@ -42,37 +42,47 @@ public class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
 
     @Override
     public void plain(String message) {
-        String msg = formatMessage(message);
-        delegate.log(msg, Project.MSG_INFO);
-        trace(msg);
+        emit(() -> {
+            String msg = formatMessage(message);
+            delegate.log(msg, Project.MSG_INFO);
+            trace(msg);
+        });
     }
 
     @Override
     public void debug(String message) {
-        String msg = DEBUG + formatMessage(message);
-        delegate.log(msg, Project.MSG_DEBUG);
-        trace(msg);
+        emit(() -> {
+            String msg = DEBUG + formatMessage(message);
+            delegate.log(msg, Project.MSG_DEBUG);
+            trace(msg);
+        });
     }
 
     @Override
     public void info(String message) {
-        String msg = INFO + formatMessage(message);
-        delegate.log(msg, Project.MSG_INFO);
-        trace(msg);
+        emit(() -> {
+            String msg = INFO + formatMessage(message);
+            delegate.log(msg, Project.MSG_INFO);
+            trace(msg);
+        });
     }
 
     @Override
     public void warn(String message) {
-        String msg = WARN + formatMessage(message);
-        delegate.log(msg, Project.MSG_WARN);
-        trace(msg);
+        emit(() -> {
+            String msg = WARN + formatMessage(message);
+            delegate.log(msg, Project.MSG_WARN);
+            trace(msg);
+        });
     }
 
     @Override
     public void error(String message) {
-        String msg = ERROR + formatMessage(message);
-        delegate.log(msg, Project.MSG_ERR);
-        trace(msg);
+        emit(() -> {
+            String msg = ERROR + formatMessage(message);
+            delegate.log(msg, Project.MSG_ERR);
+            trace(msg);
+        });
     }
 
     @Override
@@ -102,36 +112,46 @@ public class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
 
     @Override
     public void plain(String message, Throwable throwable) {
-        String msg = formatMessage(message);
-        delegate.log(msg, throwable, Project.MSG_INFO);
-        trace(msg, throwable);
+        emit(() -> {
+            String msg = formatMessage(message);
+            delegate.log(msg, throwable, Project.MSG_INFO);
+            trace(msg, throwable);
+        });
     }
 
     @Override
     public void debug(String message, Throwable throwable) {
-        String msg = DEBUG + formatMessage(message);
-        delegate.log(msg, throwable, Project.MSG_DEBUG);
-        trace(msg, throwable);
+        emit(() -> {
+            String msg = DEBUG + formatMessage(message);
+            delegate.log(msg, throwable, Project.MSG_DEBUG);
+            trace(msg, throwable);
+        });
     }
 
     @Override
     public void info(String message, Throwable throwable) {
-        String msg = INFO + formatMessage(message);
-        delegate.log(msg, throwable, Project.MSG_INFO);
-        trace(msg, throwable);
+        emit(() -> {
+            String msg = INFO + formatMessage(message);
+            delegate.log(msg, throwable, Project.MSG_INFO);
+            trace(msg, throwable);
+        });
     }
 
     @Override
     public void warn(String message, Throwable throwable) {
-        String msg = WARN + formatMessage(message);
-        delegate.log(msg, throwable, Project.MSG_WARN);
-        trace(msg, throwable);
+        emit(() -> {
+            String msg = WARN + formatMessage(message);
+            delegate.log(msg, throwable, Project.MSG_WARN);
+            trace(msg, throwable);
+        });
     }
 
     @Override
     public void error(String message, Throwable throwable) {
-        String msg = ERROR + formatMessage(message);
-        delegate.log(msg, throwable, Project.MSG_ERR);
-        trace(msg, throwable);
+        emit(() -> {
+            String msg = ERROR + formatMessage(message);
+            delegate.log(msg, throwable, Project.MSG_ERR);
+            trace(msg, throwable);
+        });
     }
 }
@@ -32,4 +32,8 @@ interface Announcer extends Activatable, ExtraProperties {
     Property<Integer> getConnectTimeout()
 
     Property<Integer> getReadTimeout()
+
+    Property<Integer> getMaxRetries()
+
+    Property<Integer> getRetryDelay()
 }
\ No newline at end of file
@@ -37,6 +37,8 @@ interface Nexus2MavenDeployer extends MavenDeployer {
 
     Property<Integer> getTransitionMaxRetries()
 
+    Property<Integer> getUploadConcurrency()
+
     Property<String> getStagingProfileId()
 
     Property<String> getStagingRepositoryId()
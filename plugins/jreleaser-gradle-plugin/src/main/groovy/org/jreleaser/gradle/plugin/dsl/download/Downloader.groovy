@@ -19,6 +19,7 @@ package org.jreleaser.gradle.plugin.dsl.download
 
 import groovy.transform.CompileStatic
 import org.gradle.api.Action
+import org.gradle.api.provider.MapProperty
 import org.gradle.api.provider.Property
 import org.jreleaser.gradle.plugin.dsl.common.Activatable
 import org.jreleaser.gradle.plugin.dsl.common.ExtraProperties
@@ -51,6 +52,10 @@ interface Downloader extends Activatable, ExtraProperties {
 
         Unpack getUnpack()
 
+        MapProperty<String, String> getChecksums()
+
+        void checksum(String algorithm, String value)
+
         void unpack(Action<? super Unpack> action)
 
         void unpack(@DelegatesTo(strategy = Closure.DELEGATE_FIRST, value = Unpack) Closure<Void> action)
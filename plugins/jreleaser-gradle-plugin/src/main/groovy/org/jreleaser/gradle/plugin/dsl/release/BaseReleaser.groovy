@@ -81,6 +81,10 @@ interface BaseReleaser extends Releaser {
 
     Property<Integer> getReadTimeout()
 
+    Property<Integer> getMaxRetries()
+
+    Property<Integer> getRetryDelay()
+
     Property<Boolean> getArtifacts()
 
     Property<Boolean> getFiles()
@@ -33,6 +33,10 @@ interface Uploader extends Activatable, ExtraProperties {
 
     Property<Integer> getReadTimeout()
 
+    Property<Integer> getMaxRetries()
+
+    Property<Integer> getRetryDelay()
+
     Property<Boolean> getArtifacts()
 
     Property<Boolean> getFiles()
@@ -48,41 +48,51 @@ class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
 
     @Override
     void plain(String message) {
-        String msg = formatMessage(message)
-        out.println(msg)
-        trace(msg)
+        emit {
+            String msg = formatMessage(message)
+            out.println(msg)
+            trace(msg)
+        }
     }
 
     @Override
     void debug(String message) {
-        if (isLevelEnabled(Level.DEBUG)) {
-            log(Level.DEBUG, message)
+        emit {
+            if (isLevelEnabled(Level.DEBUG)) {
+                log(Level.DEBUG, message)
+            }
+            trace(Level.DEBUG, message)
         }
-        trace(Level.DEBUG, message)
     }
 
     @Override
     void info(String message) {
-        if (isLevelEnabled(Level.INFO)) {
-            log(Level.INFO, message)
+        emit {
+            if (isLevelEnabled(Level.INFO)) {
+                log(Level.INFO, message)
+            }
+            trace(Level.INFO, message)
         }
-        trace(Level.INFO, message)
     }
 
     @Override
     void warn(String message) {
-        if (isLevelEnabled(Level.WARN)) {
-            log(Level.WARN, message)
+        emit {
+            if (isLevelEnabled(Level.WARN)) {
+                log(Level.WARN, message)
+            }
+            trace(Level.WARN, message)
         }
-        trace(Level.WARN, message)
     }
 
     @Override
     void error(String message) {
-        if (isLevelEnabled(Level.ERROR)) {
-            log(Level.ERROR, message)
+        emit {
+            if (isLevelEnabled(Level.ERROR)) {
+                log(Level.ERROR, message)
+            }
+            trace(Level.ERROR, message)
         }
-        trace(Level.ERROR, message)
     }
 
     @Override
@@ -92,80 +102,98 @@ class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
 
     @Override
     void debug(String message, Object... args) {
-        String msg = MessageFormatter.arrayFormat(message, args).getMessage()
-        if (isLevelEnabled(Level.DEBUG)) {
-            log(Level.DEBUG, msg)
+        emit {
+            String msg = MessageFormatter.arrayFormat(message, args).getMessage()
+            if (isLevelEnabled(Level.DEBUG)) {
+                log(Level.DEBUG, msg)
+            }
+            trace(Level.DEBUG, msg)
         }
-        trace(Level.DEBUG, msg)
     }
 
     @Override
     void info(String message, Object... args) {
-        String msg = MessageFormatter.arrayFormat(message, args).getMessage()
-        if (isLevelEnabled(Level.INFO)) {
-            log(Level.INFO, msg)
+        emit {
+            String msg = MessageFormatter.arrayFormat(message, args).getMessage()
+            if (isLevelEnabled(Level.INFO)) {
+                log(Level.INFO, msg)
+            }
+            trace(Level.INFO, msg)
         }
-        trace(Level.INFO, msg)
     }
 
     @Override
     void warn(String message, Object... args) {
-        String msg = MessageFormatter.arrayFormat(message, args).getMessage()
-        if (isLevelEnabled(Level.WARN)) {
-            log(Level.WARN, msg)
+        emit {
+            String msg = MessageFormatter.arrayFormat(message, args).getMessage()
+            if (isLevelEnabled(Level.WARN)) {
+                log(Level.WARN, msg)
+            }
+            trace(Level.WARN, msg)
         }
-        trace(Level.WARN, msg)
     }
 
     @Override
     void error(String message, Object... args) {
-        String msg = MessageFormatter.arrayFormat(message, args).getMessage()
-        if (isLevelEnabled(Level.ERROR)) {
-            log(Level.ERROR, msg)
+        emit {
+            String msg = MessageFormatter.arrayFormat(message, args).getMessage()
+            if (isLevelEnabled(Level.ERROR)) {
+                log(Level.ERROR, msg)
+            }
+            trace(Level.ERROR, msg)
         }
-        trace(Level.ERROR, msg)
     }
 
     @Override
     void plain(String message, Throwable throwable) {
-        String msg = formatMessage(message)
-        out.println(msg)
-        if (throwable) {
-            throwable.printStackTrace(out)
+        emit {
+            String msg = formatMessage(message)
+            out.println(msg)
+            if (throwable) {
+                throwable.printStackTrace(out)
+            }
+            trace(msg, throwable)
         }
-        trace(msg, throwable)
     }
 
     @Override
     void debug(String message, Throwable throwable) {
-        if (isLevelEnabled(Level.DEBUG)) {
-            log(Level.DEBUG, message, throwable)
+        emit {
+            if (isLevelEnabled(Level.DEBUG)) {
+                log(Level.DEBUG, message, throwable)
+            }
+            trace(Level.DEBUG, message, throwable)
         }
-        trace(Level.DEBUG, message, throwable)
     }
 
     @Override
     void info(String message, Throwable throwable) {
-        if (isLevelEnabled(Level.INFO)) {
-            log(Level.INFO, message, throwable)
+        emit {
+            if (isLevelEnabled(Level.INFO)) {
+                log(Level.INFO, message, throwable)
+            }
+            trace(Level.INFO, message, throwable)
         }
-        trace(Level.INFO, message, throwable)
     }
 
     @Override
     void warn(String message, Throwable throwable) {
-        if (isLevelEnabled(Level.WARN)) {
-            log(Level.WARN, message, throwable)
+        emit {
+            if (isLevelEnabled(Level.WARN)) {
+                log(Level.WARN, message, throwable)
+            }
+            trace(Level.WARN, message, throwable)
         }
-        trace(Level.WARN, message, throwable)
     }
 
     @Override
     void error(String message, Throwable throwable) {
-        if (isLevelEnabled(Level.ERROR)) {
-            log(Level.ERROR, message, throwable)
+        emit {
+            if (isLevelEnabled(Level.ERROR)) {
+                log(Level.ERROR, message, throwable)
+            }
+            trace(Level.ERROR, message, throwable)
         }
-        trace(Level.ERROR, message, throwable)
     }
 
     private void log(Level level, String message) {
@@ -223,6 +251,11 @@ class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
         }
     }
 
+    @Override
+    boolean isDebugEnabled() {
+        isTracing() || isLevelEnabled(Level.DEBUG)
+    }
+
     private boolean isLevelEnabled(Level requested) {
         return requested.ordinal() >= level.ordinal()
     }
@@ -22,12 +22,10 @@ import org.gradle.api.logging.LogLevel;
 import org.gradle.api.provider.Property;
 import org.gradle.api.services.BuildService;
 import org.gradle.api.services.BuildServiceParameters;
+import org.jreleaser.logging.AsyncTraceWriter;
 import org.jreleaser.logging.JReleaserLogger;
-import org.jreleaser.util.IoUtils;
 import org.kordamp.gradle.util.AnsiConsole;
 
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.nio.file.Files;
@@ -52,8 +50,7 @@ public abstract class JReleaserLoggerService implements BuildService<JReleaserLo
         try {
             Path outputDirectoryPath = getParameters().getOutputDirectory().get().getAsFile().toPath();
             Files.createDirectories(outputDirectoryPath);
-            File traceLogFile = outputDirectoryPath.resolve("trace.log").toFile();
-            PrintWriter tracer = IoUtils.newPrintWriter(new FileOutputStream(traceLogFile));
+            PrintWriter tracer = AsyncTraceWriter.open(outputDirectoryPath.resolve("trace.log"));
 
             logger = new JReleaserLoggerAdapter(getParameters().getConsole().get(),
                 getParameters().getLogLevel().get(), tracer);
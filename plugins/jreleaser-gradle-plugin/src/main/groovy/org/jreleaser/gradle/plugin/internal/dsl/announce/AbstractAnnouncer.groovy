@@ -40,6 +40,8 @@ abstract class AbstractAnnouncer implements Announcer {
     final Property<Active> active
     final Property<Integer> connectTimeout
     final Property<Integer> readTimeout
+    final Property<Integer> maxRetries
+    final Property<Integer> retryDelay
     final MapProperty<String, Object> extraProperties
 
     @Inject
@@ -47,6 +49,8 @@ abstract class AbstractAnnouncer implements Announcer {
         active = objects.property(Active).convention(Providers.<Active> notDefined())
         connectTimeout = objects.property(Integer).convention(Providers.<Integer> notDefined())
         readTimeout = objects.property(Integer).convention(Providers.<Integer> notDefined())
+        maxRetries = objects.property(Integer).convention(Providers.<Integer> notDefined())
+        retryDelay = objects.property(Integer).convention(Providers.<Integer> notDefined())
         extraProperties = objects.mapProperty(String, Object).convention(Providers.notDefined())
     }
 
@@ -55,6 +59,8 @@ abstract class AbstractAnnouncer implements Announcer {
         active.present ||
             connectTimeout.present ||
             readTimeout.present ||
+            maxRetries.present ||
+            retryDelay.present ||
             extraProperties.present
     }
 
@@ -69,6 +75,8 @@ abstract class AbstractAnnouncer implements Announcer {
         if (active.present) announcer.active = active.get()
         if (connectTimeout.present) announcer.connectTimeout = connectTimeout.get()
         if (readTimeout.present) announcer.readTimeout = readTimeout.get()
+        if (maxRetries.present) announcer.maxRetries = maxRetries.get()
+        if (retryDelay.present) announcer.retryDelay = retryDelay.get()
         if (extraProperties.present) announcer.extraProperties.putAll(extraProperties.get())
     }
 }
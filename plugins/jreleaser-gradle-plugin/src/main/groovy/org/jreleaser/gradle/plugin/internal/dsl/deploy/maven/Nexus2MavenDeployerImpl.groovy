@@ -40,6 +40,7 @@ class Nexus2MavenDeployerImpl extends AbstractMavenDeployer implements Nexus2Mav
     final Property<Boolean> releaseRepository
     final Property<Integer> transitionDelay
     final Property<Integer> transitionMaxRetries
+    final Property<Integer> uploadConcurrency
     final Property<String> stagingProfileId
     final Property<String> stagingRepositoryId
     final Property<org.jreleaser.model.api.deploy.maven.Nexus2MavenDeployer.Stage> startStage
@@ -53,6 +54,7 @@ class Nexus2MavenDeployerImpl extends AbstractMavenDeployer implements Nexus2Mav
         releaseRepository = objects.property(Boolean).convention(Providers.<Boolean> notDefined())
         transitionDelay = objects.property(Integer).convention(Providers.<Integer> notDefined())
         transitionMaxRetries = objects.property(Integer).convention(Providers.<Integer> notDefined())
+        uploadConcurrency = objects.property(Integer).convention(Providers.<Integer> notDefined())
         stagingProfileId = objects.property(String).convention(Providers.<String> notDefined())
         stagingRepositoryId = objects.property(String).convention(Providers.<String> notDefined())
         startStage = objects.property(org.jreleaser.model.api.deploy.maven.Nexus2MavenDeployer.Stage).convention(Providers.<org.jreleaser.model.api.deploy.maven.Nexus2MavenDeployer.Stage> notDefined())
@@ -81,6 +83,7 @@ class Nexus2MavenDeployerImpl extends AbstractMavenDeployer implements Nexus2Mav
             releaseRepository.present ||
             transitionDelay.present ||
             transitionMaxRetries.present ||
+            uploadConcurrency.present ||
             stagingProfileId.present ||
             stagingRepositoryId.present ||
             startStage.present ||
@@ -95,6 +98,7 @@ class Nexus2MavenDeployerImpl extends AbstractMavenDeployer implements Nexus2Mav
         if (releaseRepository.present) deployer.releaseRepository = releaseRepository.get()
         if (transitionDelay.present) deployer.transitionDelay = transitionDelay.get()
         if (transitionMaxRetries.present) deployer.transitionMaxRetries = transitionMaxRetries.get()
+        if (uploadConcurrency.present) deployer.uploadConcurrency = uploadConcurrency.get()
         if (stagingProfileId.present) deployer.stagingProfileId = stagingProfileId.get()
         if (stagingRepositoryId.present) deployer.stagingRepositoryId = stagingRepositoryId.get()
         if (startStage.present) deployer.startStage = startStage.get()
@@ -132,12 +132,14 @@ abstract class AbstractDownloader implements Downloader {
         String name
         final Property<String> input
         final Property<String> output
+        final MapProperty<String, String> checksums
         final UnpackImpl unpack
 
         @Inject
         AssetImpl(ObjectFactory objects) {
             input = objects.property(String).convention(Providers.<String> notDefined())
             output = objects.property(String).convention(Providers.<String> notDefined())
+            checksums = objects.mapProperty(String, String).convention(Providers.notDefined())
             unpack = objects.newInstance(UnpackImpl, objects)
         }
 
@@ -145,9 +147,17 @@ abstract class AbstractDownloader implements Downloader {
         boolean isSet() {
             input.present ||
                 output.present ||
+                checksums.present ||
                 unpack.isSet()
         }
 
+        @Override
+        void checksum(String algorithm, String value) {
+            if (isNotBlank(algorithm) && isNotBlank(value)) {
+                checksums.put(algorithm.trim(), value.trim())
+            }
+        }
+
         @Override
         void unpack(Action<? super Unpack> action) {
             action.execute(unpack)
@@ -163,6 +173,7 @@ abstract class AbstractDownloader implements Downloader {
             org.jreleaser.model.internal.download.Downloader.Asset asset = new org.jreleaser.model.internal.download.Downloader.Asset()
             if (input.present) asset.input = input.get()
             if (output.present) asset.output = output.get()
+            if (checksums.present) asset.checksums.putAll(checksums.get())
             if (unpack.isSet()) asset.unpack = unpack.toModel()
             asset
         }
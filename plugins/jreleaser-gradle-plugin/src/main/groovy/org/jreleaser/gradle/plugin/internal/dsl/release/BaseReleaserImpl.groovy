@@ -69,6 +69,8 @@ abstract class BaseReleaserImpl implements BaseReleaser {
     final Property<String> apiEndpoint
     final Property<Integer> connectTimeout
     final Property<Integer> readTimeout
+    final Property<Integer> maxRetries
+    final Property<Integer> retryDelay
     final Property<Boolean> artifacts
     final Property<Boolean> files
     final Property<Boolean> checksums
@@ -108,6 +110,8 @@ abstract class BaseReleaserImpl implements BaseReleaser {
         apiEndpoint = objects.property(String).convention(Providers.<String> notDefined())
         connectTimeout = objects.property(Integer).convention(Providers.<Integer> notDefined())
         readTimeout = objects.property(Integer).convention(Providers.<Integer> notDefined())
+        maxRetries = objects.property(Integer).convention(Providers.<Integer> notDefined())
+        retryDelay = objects.property(Integer).convention(Providers.<Integer> notDefined())
         artifacts = objects.property(Boolean).convention(Providers.<Boolean> notDefined())
         files = objects.property(Boolean).convention(Providers.<Boolean> notDefined())
         checksums = objects.property(Boolean).convention(Providers.<Boolean> notDefined())
@@ -147,6 +151,8 @@ abstract class BaseReleaserImpl implements BaseReleaser {
             apiEndpoint.present ||
             connectTimeout.present ||
             readTimeout.present ||
+            maxRetries.present ||
+            retryDelay.present ||
             artifacts.present ||
             files.present ||
             checksums.present ||
@@ -243,6 +249,8 @@ abstract class BaseReleaserImpl implements BaseReleaser {
         if (apiEndpoint.present) service.apiEndpoint = apiEndpoint.get()
         if (connectTimeout.present) service.connectTimeout = connectTimeout.get()
         if (readTimeout.present) service.readTimeout = readTimeout.get()
+        if (maxRetries.present) service.maxRetries = maxRetries.get()
+        if (retryDelay.present) service.retryDelay = retryDelay.get()
         if (artifacts.present) service.artifacts = artifacts.get()
         if (files.present) service.files = files.get()
         if (checksums.present) service.checksums = checksums.get()
@@ -40,6 +40,8 @@ abstract class AbstractUploader implements Uploader {
     final Property<Active> active
     final Property<Integer> connectTimeout
     final Property<Integer> readTimeout
+    final Property<Integer> maxRetries
+    final Property<Integer> retryDelay
     final Property<Boolean> artifacts
     final Property<Boolean> files
     final Property<Boolean> signatures
@@ -52,6 +54,8 @@ abstract class AbstractUploader implements Uploader {
         active = objects.property(Active).convention(Providers.<Active> notDefined())
         connectTimeout = objects.property(Integer).convention(Providers.<Integer> notDefined())
         readTimeout = objects.property(Integer).convention(Providers.<Integer> notDefined())
+        maxRetries = objects.property(Integer).convention(Providers.<Integer> notDefined())
+        retryDelay = objects.property(Integer).convention(Providers.<Integer> notDefined())
         extraProperties = objects.mapProperty(String, Object).convention(Providers.notDefined())
         artifacts = objects.property(Boolean).convention(Providers.<Boolean> notDefined())
         files = objects.property(Boolean).convention(Providers.<Boolean> notDefined())
@@ -65,6 +69,8 @@ abstract class AbstractUploader implements Uploader {
         active.present ||
             connectTimeout.present ||
             readTimeout.present ||
+            maxRetries.present ||
+            retryDelay.present ||
             extraProperties.present ||
             artifacts.present ||
             files.present ||
@@ -84,6 +90,8 @@ abstract class AbstractUploader implements Uploader {
         if (active.present) uploader.active = active.get()
         if (connectTimeout.present) uploader.connectTimeout = connectTimeout.get()
         if (readTimeout.present) uploader.readTimeout = readTimeout.get()
+        if (maxRetries.present) uploader.maxRetries = maxRetries.get()
+        if (retryDelay.present) uploader.retryDelay = retryDelay.get()
         if (extraProperties.present) uploader.extraProperties.putAll(extraProperties.get())
         if (artifacts.present) uploader.artifacts = artifacts.get()
         if (files.present) uploader.files = files.get()
@@ -25,6 +25,7 @@ import org.gradle.api.provider.Property
 import org.gradle.api.tasks.Input
 import org.gradle.api.tasks.InputDirectory
 import org.gradle.api.tasks.Internal
+import org.gradle.api.tasks.Optional
 import org.gradle.api.tasks.options.Option
 import org.jreleaser.engine.context.ContextCreator
 import org.jreleaser.gradle.plugin.JReleaserExtension
@@ -61,6 +62,14 @@ abstract class AbstractJReleaserTask extends DefaultTask {
     @Input
     final Property<Boolean> strict
 
+    @Input
+    @Optional
+    final Property<Boolean> sequential
+
+    @Input
+    @Optional
+    final Property<Boolean> resume
+
     @InputDirectory
     final DirectoryProperty outputDirectory
 
@@ -81,6 +90,8 @@ abstract class AbstractJReleaserTask extends DefaultTask {
         dryrun = objects.property(Boolean)
         gitRootSearch = objects.property(Boolean)
         strict = objects.property(Boolean)
+        sequential = objects.property(Boolean)
+        resume = objects.property(Boolean)
         outputDirectory = objects.directoryProperty()
     }
 
@@ -99,6 +110,16 @@ abstract class AbstractJReleaserTask extends DefaultTask {
         this.strict.set(strict)
     }
 
+    @Option(option = 'sequential', description = 'Run workflow steps one at a time (OPTIONAL).')
+    void setSequential(boolean sequential) {
+        this.sequential.set(sequential)
+    }
+
+    @Option(option = 'resume', description = 'Skip work already done by a previous run of the same release (OPTIONAL).')
+    void setResume(boolean resume) {
+        this.resume.set(resume)
+    }
+
     protected JReleaserContext createContext() {
         JReleaserLogger logger = jlogger.get().logger
         PlatformUtils.resolveCurrentPlatform(logger)
@@ -110,7 +131,7 @@ abstract class AbstractJReleaserTask extends DefaultTask {
         logger.info('- outputdir set to {}', outputDirectory.get().asFile.toPath().toAbsolutePath())
         logger.decreaseIndent()
 
-        return ContextCreator.create(
+        JReleaserContext context = ContextCreator.create(
             logger,
             resolveConfigurer(project.extensions.findByType(JReleaserExtension)),
             mode,
@@ -122,6 +143,9 @@ abstract class AbstractJReleaserTask extends DefaultTask {
             strict.getOrElse(false),
             collectSelectedPlatforms(),
             collectRejectedPlatforms())
+        context.sequential = resolveBoolean(org.jreleaser.model.api.JReleaserContext.SEQUENTIAL, sequential.orNull, false)
+        context.resume = resolveBoolean(org.jreleaser.model.api.JReleaserContext.RESUME, resume.orNull, false)
+        context
     }
 
     protected boolean resolveBoolean(String key, Boolean value, Boolean defaultValue) {
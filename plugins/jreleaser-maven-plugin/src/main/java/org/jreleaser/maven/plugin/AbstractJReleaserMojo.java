@@ -24,6 +24,7 @@ import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 import org.jreleaser.engine.context.ContextCreator;
+import org.jreleaser.logging.AsyncTraceWriter;
 import org.jreleaser.logging.JReleaserLogger;
 import org.jreleaser.maven.plugin.internal.JReleaserLoggerAdapter;
 import org.jreleaser.maven.plugin.internal.JReleaserModelConfigurer;
@@ -37,7 +38,6 @@ import org.jreleaser.util.PlatformUtils;
 import org.jreleaser.util.StringUtils;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.nio.file.Path;
@@ -50,7 +50,6 @@ import java.util.Locale;
 
 import static java.util.stream.Collectors.toList;
 import static org.jreleaser.model.JReleaserOutput.JRELEASER_QUIET;
-import static org.jreleaser.util.IoUtils.newPrintWriter;
 import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
@@ -92,6 +91,18 @@ abstract class AbstractJReleaserMojo extends AbstractMojo {
     @Parameter(property = "jreleaser.strict")
     protected Boolean strict;
 
+    /**
+     * Run workflow steps one at a time.
+     */
+    @Parameter(property = "jreleaser.sequential")
+    protected Boolean sequential;
+
+    /**
+     * Skip work already done by a previous run of the same release.
+     */
+    @Parameter(property = "jreleaser.resume")
+    protected Boolean resume;
+
     @Parameter(defaultValue = "${session}", required = true)
     private MavenSession session;
 
@@ -127,8 +138,7 @@ abstract class AbstractJReleaserMojo extends AbstractMojo {
     protected PrintWriter createTracer() throws MojoExecutionException {
         try {
             java.nio.file.Files.createDirectories(outputDirectory.toPath());
-            return newPrintWriter(new FileOutputStream(
-                outputDirectory.toPath().resolve("trace.log").toFile()));
+            return AsyncTraceWriter.open(outputDirectory.toPath().resolve("trace.log"));
         } catch (IOException e) {
             throw new MojoExecutionException("Could not initialize trace file", e);
         }
@@ -164,7 +174,7 @@ abstract class AbstractJReleaserMojo extends AbstractMojo {
             logger.info("- outputdir set to {}", outputDirectory.toPath().toAbsolutePath());
             logger.decreaseIndent();
 
-            return ContextCreator.create(
+            JReleaserContext context = ContextCreator.create(
                 logger,
                 resolveConfigurer(configFile),
                 getMode(),
@@ -176,6 +186,9 @@ abstract class AbstractJReleaserMojo extends AbstractMojo {
                 resolveBoolean(org.jreleaser.model.api.JReleaserContext.STRICT, strict),
                 collectSelectedPlatforms(),
                 collectRejectedPlatforms());
+            context.setSequential(resolveBoolean(org.jreleaser.model.api.JReleaserContext.SEQUENTIAL, sequential));
+            context.setResume(resolveBoolean(org.jreleaser.model.api.JReleaserContext.RESUME, resume));
+            return context;
         } catch (JReleaserException e) {
             throw new MojoExecutionException("JReleaser for project " + project.getArtifactId() + " has not been properly configured.", e);
         }
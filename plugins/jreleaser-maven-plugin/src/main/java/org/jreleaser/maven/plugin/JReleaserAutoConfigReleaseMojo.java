@@ -24,6 +24,7 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 import org.jreleaser.engine.context.ModelAutoConfigurer;
+import org.jreleaser.logging.AsyncTraceWriter;
 import org.jreleaser.logging.JReleaserLogger;
 import org.jreleaser.maven.plugin.internal.JReleaserLoggerAdapter;
 import org.jreleaser.model.UpdateSection;
@@ -34,7 +35,6 @@ import org.jreleaser.util.StringUtils;
 import org.jreleaser.workflow.Workflows;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.ArrayList;
@@ -45,7 +45,6 @@ import java.util.List;
 import java.util.Set;
 
 import static java.util.stream.Collectors.toList;
-import static org.jreleaser.util.IoUtils.newPrintWriter;
 import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
@@ -324,8 +323,7 @@ public class JReleaserAutoConfigReleaseMojo extends AbstractMojo {
     private PrintWriter createTracer() throws MojoExecutionException {
         try {
             java.nio.file.Files.createDirectories(outputDirectory.toPath());
-            return newPrintWriter(new FileOutputStream(
-                outputDirectory.toPath().resolve("trace.log").toFile()));
+            return AsyncTraceWriter.open(outputDirectory.toPath().resolve("trace.log"));
         } catch (IOException e) {
             throw new MojoExecutionException("Could not initialize trace file", e);
         }
@@ -35,47 +35,62 @@ public class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
         this.delegate = delegate;
     }
 
+    @Override
+    public boolean isDebugEnabled() {
+        return isTracing() || delegate.isDebugEnabled();
+    }
+
     @Override
     public void plain(String message) {
-        String msg = formatMessage(message);
-        delegate.info(msg);
-        trace(msg);
+        emit(() -> {
+            String msg = formatMessage(message);
+            delegate.info(msg);
+            trace(msg);
+        });
     }
 
     @Override
     public void debug(String message) {
-        String msg1 = formatMessage(message);
-        String msg2 = msg1;
-        if (isIndented()) {
-            msg1 = msg1.substring(1);
-        }
-        delegate.debug(msg1);
-        trace(Level.DEBUG + msg2);
+        emit(() -> {
+            String msg1 = formatMessage(message);
+            String msg2 = msg1;
+            if (isIndented()) {
+                msg1 = msg1.substring(1);
+            }
+            delegate.debug(msg1);
+            trace(Level.DEBUG + msg2);
+        });
     }
 
     @Override
     public void info(String message) {
-        String msg = formatMessage(message);
-        delegate.info(msg);
-        trace(Level.INFO + msg);
+        emit(() -> {
+            String msg = formatMessage(message);
+            delegate.info(msg);
+            trace(Level.INFO + msg);
+        });
     }
 
     @Override
     public void warn(String message) {
-        String msg = formatMessage(message);
-        delegate.warn(msg);
-        trace(Level.WARN + msg);
+        emit(() -> {
+            String msg = formatMessage(message);
+            delegate.warn(msg);
+            trace(Level.WARN + msg);
+        });
     }
 
     @Override
     public void error(String message) {
-        String msg1 = formatMessage(message);
-        String msg2 = msg1;
-        if (isIndented()) {
-            msg1 = msg1.substring(1);
-        }
-        delegate.error(msg1);
-        trace(Level.ERROR + msg2);
+        emit(() -> {
+            String msg1 = formatMessage(message);
+            String msg2 = msg1;
+            if (isIndented()) {
+                msg1 = msg1.substring(1);
+            }
+            delegate.error(msg1);
+            trace(Level.ERROR + msg2);
+        });
     }
 
     @Override
@@ -85,81 +100,99 @@ public class JReleaserLoggerAdapter extends AbstractJReleaserLogger {
 
     @Override
     public void debug(String message, Object... args) {
-        String msg1 = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
-        String msg2 = msg1;
-        if (isIndented()) {
-            msg1 = msg1.substring(1);
-        }
-        delegate.debug(msg1);
-        trace(Level.DEBUG + msg2);
+        emit(() -> {
+            String msg1 = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
+            String msg2 = msg1;
+            if (isIndented()) {
+                msg1 = msg1.substring(1);
+            }
+            delegate.debug(msg1);
+            trace(Level.DEBUG + msg2);
+        });
     }
 
     @Override
     public void info(String message, Object... args) {
-        String msg = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
-        delegate.info(msg);
-        trace(Level.INFO + msg);
+        emit(() -> {
+            String msg = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
+            delegate.info(msg);
+            trace(Level.INFO + msg);
+        });
     }
 
     @Override
     public void warn(String message, Object... args) {
-        String msg = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
-        delegate.warn(msg);
-        trace(Level.WARN + msg);
+        emit(() -> {
+            String msg = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
+            delegate.warn(msg);
+            trace(Level.WARN + msg);
+        });
     }
 
     @Override
     public void error(String message, Object... args) {
-        String msg1 = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
-        String msg2 = msg1;
-        if (isIndented()) {
-            msg1 = msg1.substring(1);
-        }
-        delegate.error(msg1);
-        trace(Level.ERROR + msg2);
+        emit(() -> {
+            String msg1 = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
+            String msg2 = msg1;
+            if (isIndented()) {
+                msg1 = msg1.substring(1);
+            }
+            delegate.error(msg1);
+            trace(Level.ERROR + msg2);
+        });
     }
 
     @Override
     public void plain(String message, Throwable throwable) {
-        String msg = formatMessage(message);
-        delegate.info(msg, throwable);
-        trace(msg, throwable);
+        emit(() -> {
+            String msg = formatMessage(message);
+            delegate.info(msg, throwable);
+            trace(msg, throwable);
+        });
     }
 
     @Override
     public void debug(String message, Throwable throwable) {
-        String msg1 = formatMessage(message);
-        String msg2 = msg1;
-        if (isIndented()) {
-            msg1 = msg1.substring(1);
-        }
-        delegate.debug(msg1, throwable);
-        trace(Level.DEBUG + msg2, throwable);
+        emit(() -> {
+            String msg1 = formatMessage(message);
+            String msg2 = msg1;
+            if (isIndented()) {
+                msg1 = msg1.substring(1);
+            }
+            delegate.debug(msg1, throwable);
+            trace(Level.DEBUG + msg2, throwable);
+        });
     }
 
     @Override
     public void info(String message, Throwable throwable) {
-        String msg = formatMessage(message);
-        delegate.info(msg, throwable);
-        trace(Level.INFO + msg, throwable);
+        emit(() -> {
+            String msg = formatMessage(message);
+            delegate.info(msg, throwable);
+            trace(Level.INFO + msg, throwable);
+        });
     }
 
     @Override
     public void warn(String message, Throwable throwable) {
-        String msg = formatMessage(message);
-        delegate.warn(msg, throwable);
-        trace(Level.WARN + msg, throwable);
+        emit(() -> {
+            String msg = formatMessage(message);
+            delegate.warn(msg, throwable);
+            trace(Level.WARN + msg, throwable);
+        });
     }
 
     @Override
     public void error(String message, Throwable throwable) {
-        String msg1 = formatMessage(message);
-        String msg2 = msg1;
-        if (isIndented()) {
-            msg1 = msg1.substring(1);
-        }
-        delegate.error(msg1, throwable);
-        trace(Level.ERROR + msg2, throwable);
+        emit(() -> {
+            String msg1 = formatMessage(message);
+            String msg2 = msg1;
+            if (isIndented()) {
+                msg1 = msg1.substring(1);
+            }
+            delegate.error(msg1, throwable);
+            trace(Level.ERROR + msg2, throwable);
+        });
     }
 
     public enum Level {
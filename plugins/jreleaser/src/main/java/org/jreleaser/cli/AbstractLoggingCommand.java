@@ -18,11 +18,11 @@
 package org.jreleaser.cli;
 
 import org.jreleaser.cli.internal.ColorizedJReleaserLoggerAdapter;
+import org.jreleaser.logging.AsyncTraceWriter;
 import org.jreleaser.logging.JReleaserLogger;
 import org.jreleaser.util.StringUtils;
 import picocli.CommandLine;
 
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.nio.file.Files;
@@ -34,7 +34,6 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 
 import static org.jreleaser.model.JReleaserOutput.JRELEASER_QUIET;
-import static org.jreleaser.util.IoUtils.newPrintWriter;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
 /**
@@ -96,8 +95,7 @@ abstract class AbstractLoggingCommand<C extends IO> extends AbstractCommand<C> i
     protected PrintWriter createTracer() {
         try {
             Files.createDirectories(getOutputDirectory());
-            return newPrintWriter(new FileOutputStream(
-                    getOutputDirectory().resolve("trace.log").toFile()));
+            return AsyncTraceWriter.open(getOutputDirectory().resolve("trace.log"));
         } catch (IOException e) {
             throw new IllegalStateException($("ERROR_trace_file_init"), e);
         }
@@ -25,6 +25,7 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.JReleaserModel;
 import org.jreleaser.model.internal.environment.Environment;
 import org.jreleaser.util.Env;
+import org.jreleaser.util.JfrEvents;
 import org.jreleaser.util.PlatformUtils;
 import org.jreleaser.util.StringUtils;
 import picocli.CommandLine;
@@ -60,6 +61,15 @@ public abstract class AbstractModelCommand<C extends IO> extends AbstractLogging
     @CommandLine.Option(names = {"--strict"})
     Boolean strict;
 
+    @CommandLine.Option(names = {"--sequential"})
+    Boolean sequential;
+
+    @CommandLine.Option(names = {"--resume"})
+    Boolean resume;
+
+    @CommandLine.Option(names = {"--jfr"})
+    Boolean jfr;
+
     @CommandLine.Option(names = {"-P", "--set-property"},
         paramLabel = "<key=value>")
     String[] properties;
@@ -86,7 +96,14 @@ public abstract class AbstractModelCommand<C extends IO> extends AbstractLogging
         logger.info($("TEXT_basedir_set"), actualBasedir.toAbsolutePath());
         logger.info($("TEXT_outputdir_set"), getOutputDirectory().toAbsolutePath());
         logger.decreaseIndent();
-        doExecute(createContext());
+
+        if (resolveBoolean("jfr", jfr)) {
+            try (JfrEvents.Session recording = JfrEvents.record(logger, getOutputDirectory().resolve("jreleaser.jfr"))) {
+                doExecute(createContext());
+            }
+        } else {
+            doExecute(createContext());
+        }
     }
 
     private void resolveConfigFile() {
@@ -146,7 +163,7 @@ public abstract class AbstractModelCommand<C extends IO> extends AbstractLogging
         Environment.PropertiesSource propertiesSource = new Environment.PropertiesPropertiesSource(collectProperties());
         model.getEnvironment().setPropertiesSource(propertiesSource);
 
-        return ContextCreator.create(
+        JReleaserContext context = ContextCreator.create(
             logger,
             resolveConfigurer(actualConfigFile),
             getMode(),
@@ -158,6 +175,9 @@ public abstract class AbstractModelCommand<C extends IO> extends AbstractLogging
             resolveBoolean(org.jreleaser.model.api.JReleaserContext.STRICT, strict()),
             collectSelectedPlatforms(),
             collectRejectedPlatforms());
+        context.setSequential(resolveBoolean(org.jreleaser.model.api.JReleaserContext.SEQUENTIAL, sequential));
+        context.setResume(resolveBoolean(org.jreleaser.model.api.JReleaserContext.RESUME, resume));
+        return context;
     }
 
     protected boolean resolveBoolean(String key, Boolean value) {
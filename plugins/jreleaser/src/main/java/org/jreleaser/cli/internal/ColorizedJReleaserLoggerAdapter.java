@@ -43,45 +43,55 @@ public class ColorizedJReleaserLoggerAdapter extends AbstractJReleaserLogger {
 
     @Override
     public void plain(String message) {
-        String msg = formatMessage(message);
-        out.println(msg);
-        trace(msg);
+        emit(() -> {
+            String msg = formatMessage(message);
+            out.println(msg);
+            trace(msg);
+        });
     }
 
     @Override
     public void debug(String message) {
-        String msg = formatMessage(message);
-        if (isLevelEnabled(Level.DEBUG)) {
-            out.println(Level.DEBUG + msg);
-        }
-        trace(Level.DEBUG.asString() + msg);
+        emit(() -> {
+            String msg = formatMessage(message);
+            if (isLevelEnabled(Level.DEBUG)) {
+                out.println(Level.DEBUG + msg);
+            }
+            trace(Level.DEBUG.asString() + msg);
+        });
     }
 
     @Override
     public void info(String message) {
-        String msg = formatMessage(message);
-        if (isLevelEnabled(Level.INFO)) {
-            out.println(Level.INFO + msg);
-        }
-        trace(Level.INFO.asString() + msg);
+        emit(() -> {
+            String msg = formatMessage(message);
+            if (isLevelEnabled(Level.INFO)) {
+                out.println(Level.INFO + msg);
+            }
+            trace(Level.INFO.asString() + msg);
+        });
     }
 
     @Override
     public void warn(String message) {
-        String msg = formatMessage(message);
-        if (isLevelEnabled(Level.WARN)) {
-            out.println(Level.WARN + msg);
-        }
-        trace(Level.WARN.asString() + msg);
+        emit(() -> {
+            String msg = formatMessage(message);
+            if (isLevelEnabled(Level.WARN)) {
+                out.println(Level.WARN + msg);
+            }
+            trace(Level.WARN.asString() + msg);
+        });
     }
 
     @Override
     public void error(String message) {
-        String msg = formatMessage(message);
-        if (isLevelEnabled(Level.ERROR)) {
-            out.println(Level.ERROR + msg);
-        }
-        trace(Level.ERROR.asString() + msg);
+        emit(() -> {
+            String msg = formatMessage(message);
+            if (isLevelEnabled(Level.ERROR)) {
+                out.println(Level.ERROR + msg);
+            }
+            trace(Level.ERROR.asString() + msg);
+        });
     }
 
     @Override
@@ -91,88 +101,106 @@ public class ColorizedJReleaserLoggerAdapter extends AbstractJReleaserLogger {
 
     @Override
     public void debug(String message, Object... args) {
-        String msg = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
-        if (isLevelEnabled(Level.DEBUG)) {
-            out.println(Level.DEBUG + msg);
-        }
-        trace(Level.DEBUG.asString() + msg);
+        emit(() -> {
+            String msg = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
+            if (isLevelEnabled(Level.DEBUG)) {
+                out.println(Level.DEBUG + msg);
+            }
+            trace(Level.DEBUG.asString() + msg);
+        });
     }
 
     @Override
     public void info(String message, Object... args) {
-        String msg = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
-        if (isLevelEnabled(Level.INFO)) {
-            out.println(Level.INFO + msg);
-        }
-        trace(Level.INFO.asString() + msg);
+        emit(() -> {
+            String msg = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
+            if (isLevelEnabled(Level.INFO)) {
+                out.println(Level.INFO + msg);
+            }
+            trace(Level.INFO.asString() + msg);
+        });
     }
 
     @Override
     public void warn(String message, Object... args) {
-        String msg = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
-        if (isLevelEnabled(Level.WARN)) {
-            out.println(Level.WARN + msg);
-        }
-        trace(Level.WARN.asString() + msg);
+        emit(() -> {
+            String msg = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
+            if (isLevelEnabled(Level.WARN)) {
+                out.println(Level.WARN + msg);
+            }
+            trace(Level.WARN.asString() + msg);
+        });
     }
 
     @Override
     public void error(String message, Object... args) {
-        String msg = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
-        if (isLevelEnabled(Level.ERROR)) {
-            out.println(Level.ERROR + msg);
-        }
-        trace(Level.ERROR.asString() + msg);
+        emit(() -> {
+            String msg = formatMessage(MessageFormatter.arrayFormat(message, args).getMessage());
+            if (isLevelEnabled(Level.ERROR)) {
+                out.println(Level.ERROR + msg);
+            }
+            trace(Level.ERROR.asString() + msg);
+        });
     }
 
     @Override
     public void plain(String message, Throwable throwable) {
-        String msg = formatMessage(message);
-        out.println(msg);
-        if (null != throwable) {
-            throwable.printStackTrace(out);
-        }
-        trace(msg, throwable);
+        emit(() -> {
+            String msg = formatMessage(message);
+            out.println(msg);
+            if (null != throwable) {
+                throwable.printStackTrace(out);
+            }
+            trace(msg, throwable);
+        });
     }
 
     @Override
     public void debug(String message, Throwable throwable) {
-        String msg = formatMessage(message);
-        if (isLevelEnabled(Level.DEBUG)) {
-            out.println(Level.DEBUG + msg);
-            printThrowable(throwable);
-        }
-        trace(Level.DEBUG.asString() + msg, throwable);
+        emit(() -> {
+            String msg = formatMessage(message);
+            if (isLevelEnabled(Level.DEBUG)) {
+                out.println(Level.DEBUG + msg);
+                printThrowable(throwable);
+            }
+            trace(Level.DEBUG.asString() + msg, throwable);
+        });
     }
 
     @Override
     public void info(String message, Throwable throwable) {
-        String msg = formatMessage(message);
-        if (isLevelEnabled(Level.INFO)) {
-            out.println(Level.INFO + msg);
-            printThrowable(throwable);
-        }
-        trace(Level.INFO.asString() + msg, throwable);
+        emit(() -> {
+            String msg = formatMessage(message);
+            if (isLevelEnabled(Level.INFO)) {
+                out.println(Level.INFO + msg);
+                printThrowable(throwable);
+            }
+            trace(Level.INFO.asString() + msg, throwable);
+        });
     }
 
     @Override
     public void warn(String message, Throwable throwable) {
-        String msg = formatMessage(message);
-        if (isLevelEnabled(Level.WARN)) {
-            out.println(Level.WARN + msg);
-            printThrowable(throwable);
-        }
-        trace(Level.WARN.asString() + msg, throwable);
+        emit(() -> {
+            String msg = formatMessage(message);
+            if (isLevelEnabled(Level.WARN)) {
+                out.println(Level.WARN + msg);
+                printThrowable(throwable);
+            }
+            trace(Level.WARN.asString() + msg, throwable);
+        });
     }
 
     @Override
     public void error(String message, Throwable throwable) {
-        String msg = formatMessage(message);
-        if (isLevelEnabled(Level.ERROR)) {
-            out.println(Level.ERROR + msg);
-            printThrowable(throwable);
-        }
-        trace(Level.ERROR.asString() + msg, throwable);
+        emit(() -> {
+            String msg = formatMessage(message);
+            if (isLevelEnabled(Level.ERROR)) {
+                out.println(Level.ERROR + msg);
+                printThrowable(throwable);
+            }
+            trace(Level.ERROR.asString() + msg, throwable);
+        });
     }
 
     private void printThrowable(Throwable throwable) {
@@ -181,6 +209,11 @@ public class ColorizedJReleaserLoggerAdapter extends AbstractJReleaserLogger {
         }
     }
 
+    @Override
+    public boolean isDebugEnabled() {
+        return isTracing() || isLevelEnabled(Level.DEBUG);
+    }
+
     private boolean isLevelEnabled(Level requested) {
         return requested.ordinal() >= level.ordinal();
     }
@@ -25,6 +25,7 @@ import org.jreleaser.model.internal.upload.ArtifactoryUploader;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.util.Algorithm;
 import org.jreleaser.util.ChecksumUtils;
 
@@ -107,7 +108,9 @@ public class ArtifactoryArtifactUploader extends AbstractArtifactUploader<org.jr
                         uploader.getConnectTimeout(),
                         uploader.getReadTimeout(),
                         data,
-                        headers);
+                        headers,
+                        Resilience.of(uploader));
+                    uploaded(artifact);
                 } catch (IOException e) {
                     context.getLogger().trace(e);
                     throw new UploadException(RB.$("ERROR_unexpected_upload",
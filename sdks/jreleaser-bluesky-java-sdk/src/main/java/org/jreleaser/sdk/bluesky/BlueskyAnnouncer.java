@@ -22,6 +22,7 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.spi.announce.AnnounceException;
 import org.jreleaser.model.spi.announce.Announcer;
 import org.jreleaser.mustache.TemplateContext;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.util.StringUtils;
 
 import java.util.ArrayList;
@@ -101,6 +102,7 @@ public class BlueskyAnnouncer implements Announcer<org.jreleaser.model.api.annou
                 .password(bluesky.getPassword())
                 .connectTimeout(bluesky.getConnectTimeout())
                 .readTimeout(bluesky.getReadTimeout())
+                .resilience(Resilience.of(bluesky))
                 .dryrun(context.isDryrun())
                 .build();
             sdk.skeet(statuses);
@@ -33,6 +33,7 @@ import org.jreleaser.sdk.bluesky.api.CreateSessionRequest;
 import org.jreleaser.sdk.bluesky.api.CreateSessionResponse;
 import org.jreleaser.sdk.bluesky.api.CreateTextRecordRequest;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.sdk.commons.RestAPIException;
 
 import java.util.List;
@@ -59,7 +60,8 @@ public class BlueskySdk {
                        String handle,
                        String password,
                        int connectTimeout,
-                       int readTimeout) {
+                       int readTimeout,
+                       Resilience resilience) {
         this.context = requireNonNull(context, "'context' must not be null");
         requireNonBlank(host, "'host' must not be blank");
         this.handle = requireNonBlank(handle, "'handle' must not be blank");
@@ -72,7 +74,7 @@ public class BlueskySdk {
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .configure(SerializationFeature.INDENT_OUTPUT, true);
 
-        api = ClientUtils.builder(context, connectTimeout, readTimeout)
+        api = ClientUtils.builder(context, connectTimeout, readTimeout, resilience)
             .encoder(new FormEncoder(new JacksonEncoder(objectMapper)))
             .decoder(new JacksonDecoder(objectMapper))
             .target(BlueskyAPI.class, host);
@@ -126,6 +128,7 @@ public class BlueskySdk {
         private String password;
         private int connectTimeout = 20;
         private int readTimeout = 60;
+        private Resilience resilience = Resilience.defaults();
 
         private Builder(JReleaserContext context) {
             this.context = requireNonNull(context, "'context' must not be null");
@@ -161,6 +164,11 @@ public class BlueskySdk {
             return this;
         }
 
+        public Builder resilience(Resilience resilience) {
+            this.resilience = requireNonNull(resilience, "'resilience' must not be null");
+            return this;
+        }
+
         private void validate() {
             requireNonBlank(host, "'host' must not be blank");
             requireNonBlank(handle, "'handle' must not be blank");
@@ -177,7 +185,8 @@ public class BlueskySdk {
                 handle,
                 password,
                 connectTimeout,
-                readTimeout);
+                readTimeout,
+                resilience);
         }
     }
 
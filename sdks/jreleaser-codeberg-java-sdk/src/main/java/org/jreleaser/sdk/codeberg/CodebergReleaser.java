@@ -29,6 +29,7 @@ import org.jreleaser.model.spi.release.ReleaseException;
 import org.jreleaser.model.spi.release.Repository;
 import org.jreleaser.model.spi.release.User;
 import org.jreleaser.mustache.TemplateContext;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.git.ChangelogProvider;
 import org.jreleaser.sdk.git.GitSdk;
@@ -88,7 +89,8 @@ public class CodebergReleaser extends AbstractReleaser<org.jreleaser.model.api.r
                 codeberg.getApiEndpoint(),
                 codeberg.getToken(),
                 codeberg.getConnectTimeout(),
-                codeberg.getReadTimeout());
+                codeberg.getReadTimeout(),
+                Resilience.of(codeberg));
 
             if (!context.isDryrun()) {
                 List<String> branchNames = api.listBranches(codeberg.getOwner(), codeberg.getName());
@@ -174,7 +176,8 @@ public class CodebergReleaser extends AbstractReleaser<org.jreleaser.model.api.r
             codeberg.getApiEndpoint(),
             password,
             codeberg.getConnectTimeout(),
-            codeberg.getReadTimeout());
+            codeberg.getReadTimeout(),
+            Resilience.of(codeberg));
         GtRepository repository = api.findRepository(owner, repo);
         if (null == repository) {
             repository = api.createRepository(owner, repo);
@@ -206,7 +209,8 @@ public class CodebergReleaser extends AbstractReleaser<org.jreleaser.model.api.r
                 codeberg.getApiEndpoint(),
                 codeberg.getToken(),
                 codeberg.getConnectTimeout(),
-                codeberg.getReadTimeout())
+                codeberg.getReadTimeout(),
+                Resilience.of(codeberg))
                 .findUser(email, name, host);
         } catch (RestAPIException e) {
             context.getLogger().trace(e);
@@ -222,7 +226,8 @@ public class CodebergReleaser extends AbstractReleaser<org.jreleaser.model.api.r
             codeberg.getApiEndpoint(),
             codeberg.getToken(),
             codeberg.getConnectTimeout(),
-            codeberg.getReadTimeout());
+            codeberg.getReadTimeout(),
+            Resilience.of(codeberg));
 
         List<Release> releases = api.listReleases(owner, repo);
 
@@ -275,7 +280,8 @@ public class CodebergReleaser extends AbstractReleaser<org.jreleaser.model.api.r
         }
 
         release = api.createRelease(codeberg.getOwner(), codeberg.getName(), release);
-        api.uploadAssets(codeberg.getOwner(), codeberg.getName(), release, assets);
+        GtRelease created = release;
+        uploadAssets(assets, batch -> api.uploadAssets(codeberg.getOwner(), codeberg.getName(), created, batch));
 
         if (codeberg.getMilestone().isClose() && !context.getModel().getProject().isSnapshot()) {
             Optional<GtMilestone> milestone = api.findMilestoneByName(
@@ -398,14 +404,15 @@ public class CodebergReleaser extends AbstractReleaser<org.jreleaser.model.api.r
 
         assetsToBePublished.keySet().forEach(name -> {
             if (existingAssets.containsKey(name)) {
-                assetsToBeUpdated.add(assetsToBePublished.get(name));
+                Asset asset = assetsToBePublished.get(name);
+                if (!isUploaded(asset)) assetsToBeUpdated.add(asset);
             } else {
                 assetsToBeUploaded.add(assetsToBePublished.get(name));
             }
         });
 
-        api.updateAssets(codeberg.getOwner(), codeberg.getName(), release, assetsToBeUpdated, existingAssets);
-        api.uploadAssets(codeberg.getOwner(), codeberg.getName(), release, assetsToBeUploaded);
+        uploadAssets(assetsToBeUpdated, batch -> api.updateAssets(codeberg.getOwner(), codeberg.getName(), release, batch, existingAssets));
+        uploadAssets(assetsToBeUploaded, batch -> api.uploadAssets(codeberg.getOwner(), codeberg.getName(), release, batch));
     }
 
     private void deleteTags(Gitea api, String owner, String repo, String tagName) {
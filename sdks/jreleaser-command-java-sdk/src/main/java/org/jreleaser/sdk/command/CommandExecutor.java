@@ -20,6 +20,7 @@ package org.jreleaser.sdk.command;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.logging.JReleaserLogger;
 import org.jreleaser.util.IoUtils;
+import org.jreleaser.util.JfrEvents;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
@@ -71,12 +72,13 @@ public class CommandExecutor {
     }
 
     private Command.Result executeCommand(ProcessExecutor processExecutor) throws CommandException {
-        try {
+        try (JfrEvents.Probe probe = JfrEvents.begin(JfrEvents.Type.COMMAND, processExecutor.executable())) {
             ByteArrayOutputStream out = new ByteArrayOutputStream();
             ByteArrayOutputStream err = new ByteArrayOutputStream();
 
             int exitValue = processExecutor
                 .execute(logger, output, out, err);
+            probe.bytes(out.size() + err.size());
 
             return Command.Result.of(IoUtils.toString(out), IoUtils.toString(err), exitValue);
         } catch (InterruptedException e) {
@@ -145,6 +147,10 @@ public class CommandExecutor {
             return this;
         }
 
+        private String executable() {
+            return builder.command().isEmpty() ? "" : builder.command().get(0);
+        }
+
         private int execute(JReleaserLogger logger, Output output, OutputStream out, OutputStream err) throws IOException, InterruptedException {
             Process process = builder.start();
 
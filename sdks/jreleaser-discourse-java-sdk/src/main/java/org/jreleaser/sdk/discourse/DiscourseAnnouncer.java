@@ -21,6 +21,7 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.spi.announce.AnnounceException;
 import org.jreleaser.model.spi.announce.Announcer;
 import org.jreleaser.mustache.TemplateContext;
+import org.jreleaser.sdk.commons.Resilience;
 
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
@@ -78,6 +79,7 @@ public class DiscourseAnnouncer implements Announcer<org.jreleaser.model.api.ann
                 .userName(discourse.getUsername())
                 .connectTimeout(discourse.getConnectTimeout())
                 .readTimeout(discourse.getReadTimeout())
+                .resilience(Resilience.of(discourse))
                 .dryrun(context.isDryrun())
                 .build();
             sdk.createPost(title, message, categoryName);
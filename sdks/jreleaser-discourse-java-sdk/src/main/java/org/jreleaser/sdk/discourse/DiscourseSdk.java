@@ -28,6 +28,7 @@ import org.jreleaser.bundle.RB;
 import org.jreleaser.model.JReleaserVersion;
 import org.jreleaser.model.api.JReleaserContext;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.discourse.api.Category;
 import org.jreleaser.sdk.discourse.api.CategoryList;
@@ -54,6 +55,7 @@ public class DiscourseSdk {
                          String apiKey,
                          int connectTimeout,
                          int readTimeout,
+                         Resilience resilience,
                          boolean dryrun) {
         requireNonNull(context, "'context' must not be null");
         requireNonBlank(host, "'host' must not be blank");
@@ -69,7 +71,7 @@ public class DiscourseSdk {
         this.context = context;
         this.dryrun = dryrun;
 
-        this.api = ClientUtils.builder(context, connectTimeout, readTimeout)
+        this.api = ClientUtils.builder(context, connectTimeout, readTimeout, resilience)
             .encoder(new JacksonEncoder(objectMapper))
             .decoder(new JacksonDecoder(objectMapper))
             .requestInterceptor(template -> {
@@ -128,6 +130,7 @@ public class DiscourseSdk {
         private String host;
         private int connectTimeout = 20;
         private int readTimeout = 60;
+        private Resilience resilience = Resilience.defaults();
 
         private Builder(JReleaserContext context) {
             this.context = requireNonNull(context, "'context' must not be null");
@@ -163,6 +166,11 @@ public class DiscourseSdk {
             return this;
         }
 
+        public Builder resilience(Resilience resilience) {
+            this.resilience = requireNonNull(resilience, "'resilience' must not be null");
+            return this;
+        }
+
         private void validate() {
             requireNonBlank(host, "'host' must not be blank");
             requireNonBlank(userName, "'userName' must not be blank");
@@ -179,6 +187,7 @@ public class DiscourseSdk {
                 apiKey,
                 connectTimeout,
                 readTimeout,
+                resilience,
                 dryrun);
         }
     }
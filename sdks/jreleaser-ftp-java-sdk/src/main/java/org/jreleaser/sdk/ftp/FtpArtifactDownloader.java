@@ -24,17 +24,21 @@ import org.jreleaser.model.internal.download.Downloader;
 import org.jreleaser.model.internal.download.FtpDownloader;
 import org.jreleaser.model.spi.download.DownloadException;
 import org.jreleaser.sdk.commons.AbstractArtifactDownloader;
+import org.jreleaser.sdk.tool.DownloadCache;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
 
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static java.nio.file.StandardOpenOption.WRITE;
 import static org.jreleaser.util.StringUtils.isBlank;
+import static org.jreleaser.util.StringUtils.isNotBlank;
 
 /**
  * @author Andres Almiray
@@ -88,19 +92,52 @@ public class FtpArtifactDownloader extends AbstractArtifactDownloader<org.jrelea
 
         if (!context.isDryrun()) {
             try {
-                Files.createDirectories(outputPath.getParent());
+                downloadAsset(ftp, input, outputPath);
             } catch (IOException e) {
                 throw new DownloadException(RB.$("ERROR_unexpected_download", input), e);
             }
+        }
+
+        verifyChecksums(asset, input, outputPath, cacheUrl(input));
+        unpack(asset.getUnpack(), outputPath);
+    }
+
+    private void downloadAsset(FTPClient ftp, String input, Path outputPath) throws IOException {
+        DownloadCache cache = DownloadCache.defaults();
+        String url = cacheUrl(input);
+
+        // MDTM and SIZE replies act as validators, FTP has no conditional retrieval
+        String modificationTime = ftp.getModificationTime(input);
+        String size = ftp.getSize(input);
+        String validator = isNotBlank(modificationTime) && isNotBlank(size) ? modificationTime.trim() + "/" + size.trim() : null;
+
+        Optional<DownloadCache.Entry> cached = cache.lookup(url, null, validator);
+        if (cached.isPresent()) {
+            context.getLogger().debug(RB.$("download.cache.hit"), url);
+            cache.link(cached.get(), outputPath);
+            return;
+        }
 
-            try (OutputStream out = Files.newOutputStream(outputPath, CREATE, TRUNCATE_EXISTING, WRITE)) {
+        Path tmp = cache.newTempFile();
+        try {
+            try (OutputStream out = Files.newOutputStream(tmp, CREATE, TRUNCATE_EXISTING, WRITE)) {
+                if (!ftp.retrieveFile(input, out)) {
+                    throw new IOException(ftp.getReplyString());
+                }
+            }
+
+            if (isNotBlank(validator)) {
+                cache.link(cache.store(url, tmp, null, validator), outputPath);
+            } else {
                 Files.createDirectories(outputPath.toAbsolutePath().getParent());
-                ftp.retrieveFile(input, out);
-            } catch (IOException e) {
-                throw new DownloadException(RB.$("ERROR_unexpected_download", input), e);
+                Files.move(tmp, outputPath, REPLACE_EXISTING);
             }
+        } finally {
+            Files.deleteIfExists(tmp);
         }
+    }
 
-        unpack(asset.getUnpack(), outputPath);
+    private String cacheUrl(String input) {
+        return "ftp://" + downloader.getHost() + ":" + downloader.getPort() + "/" + input;
     }
 }
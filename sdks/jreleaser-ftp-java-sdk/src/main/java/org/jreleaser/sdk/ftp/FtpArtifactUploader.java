@@ -24,6 +24,7 @@ import org.jreleaser.model.internal.common.Artifact;
 import org.jreleaser.model.internal.upload.FtpUploader;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
+import org.jreleaser.sdk.commons.Resilience;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -66,6 +67,7 @@ public class FtpArtifactUploader extends AbstractArtifactUploader<org.jreleaser.
         }
 
         FTPClient ftp = FtpUtils.open(context, uploader);
+        Resilience resilience = Resilience.of(uploader);
 
         try {
             for (Artifact artifact : artifacts) {
@@ -73,10 +75,15 @@ public class FtpArtifactUploader extends AbstractArtifactUploader<org.jreleaser.
                 context.getLogger().info(" - {}", path.getFileName());
 
                 if (!context.isDryrun()) {
-                    try (InputStream in = Files.newInputStream(path)) {
+                    try {
                         String uploadPath = uploader.getResolvedPath(context, artifact);
                         context.getLogger().debug("   " + RB.$("uploader.uploading.to", uploadPath));
-                        ftp.storeFile(uploadPath, in);
+                        resilience.execute(context.getLogger(), uploader.getHost(), () -> {
+                            try (InputStream in = Files.newInputStream(path)) {
+                                ftp.storeFile(uploadPath, in);
+                            }
+                        });
+                        uploaded(artifact);
                     } catch (IOException e) {
                         context.getLogger().trace(e);
                         throw new UploadException(RB.$("ERROR_unexpected_upload",
@@ -105,7 +105,7 @@ public class ChangelogGenerator {
             if (changelog.getSort() == org.jreleaser.model.Changelog.Sort.ASC) {
                 revCommitComparator = Comparator.comparing(RevCommit::getCommitTime);
             }
-            context.getLogger().debug(RB.$("changelog.generator.sort.commits", changelog.getSort()));
+            context.getLogger().debug(() -> RB.$("changelog.generator.sort.commits", changelog.getSort()));
 
             // collect
             List<RevCommit> commitList = StreamSupport.stream(commits.spliterator(), false)
@@ -251,8 +251,9 @@ public class ChangelogGenerator {
                 }
 
                 if (tag.isPresent()) {
-                    context.getLogger().debug(RB.$("changelog.generator.tag.found"), extractTagName(tag.get()));
-                    context.getModel().getRelease().getReleaser().setPreviousTagName(extractTagName(tag.get()));
+                    String foundTag = extractTagName(tag.get());
+                    context.getLogger().debug(RB.$("changelog.generator.tag.found"), foundTag);
+                    context.getModel().getRelease().getReleaser().setPreviousTagName(foundTag);
                     return Tags.previous(tag.get());
                 }
 
@@ -277,8 +278,9 @@ public class ChangelogGenerator {
             }
 
             if (tag.isPresent()) {
-                context.getLogger().debug(RB.$("changelog.generator.tag.found"), extractTagName(tag.get()));
-                context.getModel().getRelease().getReleaser().setPreviousTagName(extractTagName(tag.get()));
+                String foundTag = extractTagName(tag.get());
+                context.getLogger().debug(RB.$("changelog.generator.tag.found"), foundTag);
+                context.getModel().getRelease().getReleaser().setPreviousTagName(foundTag);
                 return Tags.previous(tag.get());
             }
 
@@ -296,8 +298,9 @@ public class ChangelogGenerator {
         }
 
         if (previousTag.isPresent()) {
-            context.getLogger().debug(RB.$("changelog.generator.tag.found"), extractTagName(previousTag.get()));
-            context.getModel().getRelease().getReleaser().setPreviousTagName(extractTagName(previousTag.get()));
+            String foundTag = extractTagName(previousTag.get());
+            context.getLogger().debug(RB.$("changelog.generator.tag.found"), foundTag);
+            context.getModel().getRelease().getReleaser().setPreviousTagName(foundTag);
             return Tags.of(tag.get(), previousTag.get());
         }
 
@@ -37,6 +37,7 @@ import org.jreleaser.model.internal.release.BaseReleaser;
 import org.jreleaser.model.spi.release.Commit;
 import org.jreleaser.model.spi.release.Repository;
 import org.jreleaser.util.Env;
+import org.jreleaser.util.JfrEvents;
 import org.jreleaser.util.StringUtils;
 
 import java.io.File;
@@ -174,6 +175,12 @@ public class GitSdk {
     }
 
     public Commit head() throws IOException {
+        try (JfrEvents.Probe probe = JfrEvents.begin(JfrEvents.Type.GIT, "head")) {
+            return resolveHead();
+        }
+    }
+
+    private Commit resolveHead() throws IOException {
         Git git = open();
 
         RevWalk walk = new RevWalk(git.getRepository());
@@ -229,7 +236,7 @@ public class GitSdk {
     public void deleteTag(String tagName) throws IOException {
         Git git = open();
 
-        try {
+        try (JfrEvents.Probe probe = JfrEvents.begin(JfrEvents.Type.GIT, "deleteTag " + tagName)) {
             git.tagDelete()
                 .setTags(tagName)
                 .call();
@@ -241,7 +248,7 @@ public class GitSdk {
     public boolean findTag(String tagName) throws IOException {
         Git git = open();
 
-        try {
+        try (JfrEvents.Probe probe = JfrEvents.begin(JfrEvents.Type.GIT, "findTag " + tagName)) {
             return git.tagList().call().stream()
                 .map(GitSdk::extractTagName)
                 .anyMatch(tagName::matches);
@@ -255,7 +262,8 @@ public class GitSdk {
     }
 
     public void checkoutBranch(BaseReleaser<?, ?> releaser, String branch, boolean create) throws IOException {
-        try (Git git = open()) {
+        try (JfrEvents.Probe probe = JfrEvents.begin(JfrEvents.Type.GIT, "checkout " + branch);
+             Git git = open()) {
             git.checkout()
                 .setName(branch)
                 .setCreateBranch(create)
@@ -289,7 +297,7 @@ public class GitSdk {
     public void tag(String tagName, boolean force, JReleaserContext context) throws IOException {
         Git git = open();
 
-        try {
+        try (JfrEvents.Probe probe = JfrEvents.begin(JfrEvents.Type.GIT, "tag " + tagName)) {
             boolean signEnabled = context.getModel().getRelease().getReleaser().isSign();
             git.tag()
                 .setSigned(signEnabled)
@@ -30,6 +30,9 @@ import java.io.IOException;
 import java.util.Set;
 import java.util.TreeSet;
 
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+
 /**
  * @author Andres Almiray
  * @since 0.7.0
@@ -74,4 +77,55 @@ public abstract class AbstractReleaser<A extends org.jreleaser.model.api.release
     }
 
     protected abstract void createRelease() throws ReleaseException;
+
+    /**
+     * Uploads assets one at a time, recording each one in the execution journal once it is uploaded.
+     *
+     * @param assets the assets to upload
+     * @param upload uploads a single asset, given as a set
+     * @since 1.14.0
+     */
+    protected void uploadAssets(Set<Asset> assets, AssetUpload upload) throws IOException {
+        for (Asset asset : assets) {
+            upload.upload(singleton(asset));
+            uploaded(asset);
+        }
+    }
+
+    /**
+     * Records an asset as uploaded so that a resumed release does not upload it again.
+     *
+     * @param asset the asset that was uploaded
+     * @since 1.14.0
+     */
+    protected void uploaded(Asset asset) {
+        context.getJournal().done(journalOperation(asset), singletonList(asset.getPath()));
+    }
+
+    /**
+     * Whether a previous run of the same release uploaded this asset with the same contents.
+     * Only meaningful for assets the remote release still lists, a recreated release has none.
+     *
+     * @param asset the asset to check
+     * @since 1.14.0
+     */
+    protected boolean isUploaded(Asset asset) {
+        if (context.getJournal().isDone(journalOperation(asset), singletonList(asset.getPath()))) {
+            context.getLogger().info(RB.$("context.journal.skip"), asset.getFilename());
+            return true;
+        }
+        return false;
+    }
+
+    private String journalOperation(Asset asset) {
+        return "release." + context.getModel().getRelease().getReleaser().getServiceName() + "." + asset.getFilename();
+    }
+
+    /**
+     * @since 1.14.0
+     */
+    @FunctionalInterface
+    protected interface AssetUpload {
+        void upload(Set<Asset> assets) throws IOException;
+    }
 }
@@ -24,7 +24,6 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import feign.form.FormData;
 import feign.form.FormEncoder;
-import feign.httpclient.ApacheHttpClient;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
 import org.apache.tika.Tika;
@@ -35,10 +34,12 @@ import org.jreleaser.model.spi.release.Asset;
 import org.jreleaser.model.spi.release.Release;
 import org.jreleaser.model.spi.release.User;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.HttpResponseCache;
+import org.jreleaser.sdk.commons.Paginator;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.gitea.api.GiteaAPI;
 import org.jreleaser.sdk.gitea.api.GtAsset;
-import org.jreleaser.sdk.gitea.api.GtBranch;
 import org.jreleaser.sdk.gitea.api.GtIssue;
 import org.jreleaser.sdk.gitea.api.GtLabel;
 import org.jreleaser.sdk.gitea.api.GtMilestone;
@@ -47,7 +48,6 @@ import org.jreleaser.sdk.gitea.api.GtRelease;
 import org.jreleaser.sdk.gitea.api.GtRepository;
 import org.jreleaser.sdk.gitea.api.GtSearchUser;
 import org.jreleaser.sdk.gitea.api.GtUser;
-import org.jreleaser.sdk.gitea.internal.Page;
 import org.jreleaser.sdk.gitea.internal.PaginatingDecoder;
 import org.jreleaser.util.CollectionUtils;
 
@@ -70,6 +70,8 @@ import static org.jreleaser.util.StringUtils.requireNonBlank;
  * @since 0.1.0
  */
 public class Gitea {
+    // Gitea caps page sizes at its MAX_RESPONSE_ITEMS setting, 50 by default
+    private static final int MAX_PAGE_SIZE = 50;
     private static final String API_V1 = "/api/v1";
     private final Tika tika = new Tika();
 
@@ -81,6 +83,15 @@ public class Gitea {
                  String token,
                  int connectTimeout,
                  int readTimeout) {
+        this(context, endpoint, token, connectTimeout, readTimeout, Resilience.defaults());
+    }
+
+    public Gitea(JReleaserContext context,
+                 String endpoint,
+                 String token,
+                 int connectTimeout,
+                 int readTimeout,
+                 Resilience resilience) {
         requireNonNull(context, "'context' must not be null");
         requireNonBlank(token, "'token' must not be blank");
         requireNonBlank(endpoint, "'endpoint' must not be blank");
@@ -99,8 +110,7 @@ public class Gitea {
             .configure(SerializationFeature.INDENT_OUTPUT, true);
 
         this.context = context;
-        this.api = ClientUtils.builder(context, connectTimeout, readTimeout)
-            .client(new ApacheHttpClient())
+        this.api = ClientUtils.builder(context, connectTimeout, readTimeout, resilience, HttpResponseCache.defaults())
             .encoder(new FormEncoder(new JacksonEncoder(objectMapper)))
             .decoder(new PaginatingDecoder(new JacksonDecoder(objectMapper)))
             .requestInterceptor(template -> template.header("Authorization", String.format("token %s", token)))
@@ -125,30 +135,18 @@ public class Gitea {
 
         List<Release> releases = new ArrayList<>();
 
-        int pageCount = 0;
         Map<String, Object> params = CollectionUtils.<String, Object>map()
             .e("draft", false)
             .e("prerelease", false)
-            .e("limit", 20);
-
-        boolean consume = true;
-        do {
-            params.put("page", ++pageCount);
-            Page<List<GtRelease>> page = api.listReleases(owner, repoName, params);
-            page.getContent().stream()
-                .map(r -> new Release(
-                    r.getName(),
-                    r.getTagName(),
-                    r.getHtmlUrl(),
-                    r.getPublishedAt()
-                ))
-                .forEach(releases::add);
-
-            if (!page.hasLinks() || !page.getLinks().hasNext()) {
-                consume = false;
-            }
-        }
-        while (consume);
+            .e("limit", MAX_PAGE_SIZE);
+
+        Paginator.forEach(context.getLogger(), page -> api.listReleases(owner, repoName, withPage(params, page)),
+            r -> releases.add(new Release(
+                r.getName(),
+                r.getTagName(),
+                r.getHtmlUrl(),
+                r.getPublishedAt()
+            )));
 
         return releases;
     }
@@ -158,23 +156,11 @@ public class Gitea {
 
         List<String> branches = new ArrayList<>();
 
-        int pageCount = 0;
         Map<String, Object> params = CollectionUtils.<String, Object>map()
-            .e("limit", 20);
-
-        boolean consume = true;
-        do {
-            params.put("page", ++pageCount);
-            Page<List<GtBranch>> page = api.listBranches(owner, repoName, params);
-            page.getContent().stream()
-                .map(GtBranch::getName)
-                .forEach(branches::add);
-
-            if (!page.hasLinks() || !page.getLinks().hasNext()) {
-                consume = false;
-            }
-        }
-        while (consume);
+            .e("limit", MAX_PAGE_SIZE);
+
+        Paginator.forEach(context.getLogger(), page -> api.listBranches(owner, repoName, withPage(params, page)),
+            b -> branches.add(b.getName()));
 
         return branches;
     }
@@ -419,25 +405,16 @@ public class Gitea {
     private List<GtLabel> listLabels(String owner, String repoName) {
         context.getLogger().debug(RB.$("git.list.labels"), owner, repoName);
 
-        List<GtLabel> labels = new ArrayList<>();
-
-        int pageCount = 0;
         Map<String, Object> params = CollectionUtils.<String, Object>map()
-            .e("limit", 20);
+            .e("limit", MAX_PAGE_SIZE);
 
-        boolean consume = true;
-        do {
-            params.put("page", ++pageCount);
-            Page<List<GtLabel>> page = api.listLabels(owner, repoName, params);
-            labels.addAll(page.getContent());
-
-            if (!page.hasLinks() || !page.getLinks().hasNext()) {
-                consume = false;
-            }
-        }
-        while (consume);
+        return Paginator.collect(context.getLogger(), page -> api.listLabels(owner, repoName, withPage(params, page)));
+    }
 
-        return labels;
+    private static Map<String, Object> withPage(Map<String, Object> params, int page) {
+        Map<String, Object> copy = new LinkedHashMap<>(params);
+        copy.put("page", page);
+        return copy;
     }
 
     private FormData toFormData(Path asset) throws IOException {
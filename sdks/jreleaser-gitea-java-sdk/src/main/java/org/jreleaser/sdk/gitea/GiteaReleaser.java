@@ -29,6 +29,7 @@ import org.jreleaser.model.spi.release.ReleaseException;
 import org.jreleaser.model.spi.release.Repository;
 import org.jreleaser.model.spi.release.User;
 import org.jreleaser.mustache.TemplateContext;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.git.ChangelogProvider;
 import org.jreleaser.sdk.git.GitSdk;
@@ -87,7 +88,8 @@ public class GiteaReleaser extends AbstractReleaser<org.jreleaser.model.api.rele
                 gitea.getApiEndpoint(),
                 gitea.getToken(),
                 gitea.getConnectTimeout(),
-                gitea.getReadTimeout());
+                gitea.getReadTimeout(),
+                Resilience.of(gitea));
 
             if (!context.isDryrun()) {
                 List<String> branchNames = api.listBranches(gitea.getOwner(), gitea.getName());
@@ -173,7 +175,8 @@ public class GiteaReleaser extends AbstractReleaser<org.jreleaser.model.api.rele
             gitea.getApiEndpoint(),
             password,
             gitea.getConnectTimeout(),
-            gitea.getReadTimeout());
+            gitea.getReadTimeout(),
+            Resilience.of(gitea));
         GtRepository repository = api.findRepository(owner, repo);
         if (null == repository) {
             repository = api.createRepository(owner, repo);
@@ -205,7 +208,8 @@ public class GiteaReleaser extends AbstractReleaser<org.jreleaser.model.api.rele
                 gitea.getApiEndpoint(),
                 gitea.getToken(),
                 gitea.getConnectTimeout(),
-                gitea.getReadTimeout())
+                gitea.getReadTimeout(),
+                Resilience.of(gitea))
                 .findUser(email, name, host);
         } catch (RestAPIException e) {
             context.getLogger().trace(e);
@@ -221,7 +225,8 @@ public class GiteaReleaser extends AbstractReleaser<org.jreleaser.model.api.rele
             gitea.getApiEndpoint(),
             gitea.getToken(),
             gitea.getConnectTimeout(),
-            gitea.getReadTimeout());
+            gitea.getReadTimeout(),
+            Resilience.of(gitea));
 
         List<Release> releases = api.listReleases(owner, repo);
 
@@ -274,7 +279,8 @@ public class GiteaReleaser extends AbstractReleaser<org.jreleaser.model.api.rele
         }
 
         release = api.createRelease(gitea.getOwner(), gitea.getName(), release);
-        api.uploadAssets(gitea.getOwner(), gitea.getName(), release, assets);
+        GtRelease created = release;
+        uploadAssets(assets, batch -> api.uploadAssets(gitea.getOwner(), gitea.getName(), created, batch));
 
         if (gitea.getMilestone().isClose() && !context.getModel().getProject().isSnapshot()) {
             Optional<GtMilestone> milestone = api.findMilestoneByName(
@@ -397,14 +403,15 @@ public class GiteaReleaser extends AbstractReleaser<org.jreleaser.model.api.rele
 
         assetsToBePublished.keySet().forEach(name -> {
             if (existingAssets.containsKey(name)) {
-                assetsToBeUpdated.add(assetsToBePublished.get(name));
+                Asset asset = assetsToBePublished.get(name);
+                if (!isUploaded(asset)) assetsToBeUpdated.add(asset);
             } else {
                 assetsToBeUploaded.add(assetsToBePublished.get(name));
             }
         });
 
-        api.updateAssets(gitea.getOwner(), gitea.getName(), release, assetsToBeUpdated, existingAssets);
-        api.uploadAssets(gitea.getOwner(), gitea.getName(), release, assetsToBeUploaded);
+        uploadAssets(assetsToBeUpdated, batch -> api.updateAssets(gitea.getOwner(), gitea.getName(), release, batch, existingAssets));
+        uploadAssets(assetsToBeUploaded, batch -> api.uploadAssets(gitea.getOwner(), gitea.getName(), release, batch));
     }
 
     private void deleteTags(Gitea api, String owner, String repo, String tagName) {
@@ -23,6 +23,7 @@ import org.jreleaser.model.internal.release.GithubReleaser;
 import org.jreleaser.model.spi.announce.AnnounceException;
 import org.jreleaser.model.spi.announce.Announcer;
 import org.jreleaser.mustache.TemplateContext;
+import org.jreleaser.sdk.commons.Resilience;
 
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
@@ -79,7 +80,8 @@ public class DiscussionsAnnouncer implements Announcer<org.jreleaser.model.api.a
                 github.getApiEndpoint(),
                 github.getToken(),
                 discussions.getConnectTimeout(),
-                discussions.getReadTimeout());
+                discussions.getReadTimeout(),
+                Resilience.of(discussions));
 
             if (api.findDiscussion(discussions.getOrganization(), discussions.getTeam(), title).isPresent()) {
                 throw new IllegalStateException(RB.$("ERROR_git_discussion_duplicate",
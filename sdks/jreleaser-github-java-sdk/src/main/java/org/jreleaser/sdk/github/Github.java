@@ -19,12 +19,12 @@ package org.jreleaser.sdk.github;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import feign.form.FormData;
 import feign.form.FormEncoder;
-import feign.httpclient.ApacheHttpClient;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
 import org.jreleaser.bundle.RB;
@@ -34,10 +34,12 @@ import org.jreleaser.model.spi.release.Release;
 import org.jreleaser.model.spi.release.User;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.HttpResponseCache;
+import org.jreleaser.sdk.commons.Paginator;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.github.api.GhAsset;
 import org.jreleaser.sdk.github.api.GhAttachment;
-import org.jreleaser.sdk.github.api.GhBranch;
 import org.jreleaser.sdk.github.api.GhDiscussion;
 import org.jreleaser.sdk.github.api.GhIssue;
 import org.jreleaser.sdk.github.api.GhLabel;
@@ -52,9 +54,9 @@ import org.jreleaser.sdk.github.api.GhSearchUser;
 import org.jreleaser.sdk.github.api.GhTag;
 import org.jreleaser.sdk.github.api.GhUser;
 import org.jreleaser.sdk.github.api.GithubAPI;
-import org.jreleaser.sdk.github.internal.Page;
 import org.jreleaser.sdk.github.internal.PaginatingDecoder;
 import org.jreleaser.util.CollectionUtils;
+import org.jreleaser.util.ConcurrencyUtils;
 
 import java.io.IOException;
 import java.io.Reader;
@@ -63,13 +65,20 @@ import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
+import static org.jreleaser.sdk.commons.Paginator.MAX_PAGE_SIZE;
 import static org.jreleaser.sdk.commons.ClientUtils.toFormData;
 import static org.jreleaser.util.StringUtils.requireNonBlank;
 
@@ -82,13 +91,20 @@ class Github {
     private static final String ENDPOINT = "https://api.github.com";
     private static final String GITHUB_API_VERSION = "2022-11-28";
     private static final String GITHUB_MIME_TYPE = "application/vnd.github+json";
+    private static final int ISSUE_QUERY_BATCH_SIZE = 50;
+    private static final int ISSUE_MUTATION_BATCH_SIZE = 20;
+    private static final Pattern MUTATION_ALIAS = Pattern.compile("([lcm]\\d+): ");
+    private static final String ISSUE_FRAGMENTS = "fragment issueFields on Issue { id number state milestone { title } labels(first: 100) { nodes { name } } } " +
+        "fragment pullRequestFields on PullRequest { id number state milestone { title } labels(first: 100) { nodes { name } } }";
 
     private final JReleaserContext context;
     private final ObjectMapper objectMapper;
     private final GithubAPI api;
+    private final URI graphQlEndpoint;
     private final String token;
     private final int connectTimeout;
     private final int readTimeout;
+    private final Resilience resilience;
 
     Github(JReleaserContext context,
            String token,
@@ -102,15 +118,28 @@ class Github {
            String token,
            int connectTimeout,
            int readTimeout) {
+        this(context, endpoint, token, connectTimeout, readTimeout, Resilience.defaults());
+    }
+
+    Github(JReleaserContext context,
+           String endpoint,
+           String token,
+           int connectTimeout,
+           int readTimeout,
+           Resilience resilience) {
         this.context = requireNonNull(context, "'context' must not be null");
         this.token = requireNonBlank(token, "'token' must not be blank");
         this.connectTimeout = connectTimeout;
         this.readTimeout = readTimeout;
+        this.resilience = requireNonNull(resilience, "'resilience' must not be null");
         requireNonBlank(endpoint, "'endpoint' must not be blank");
 
         if (endpoint.endsWith("/")) {
             endpoint = endpoint.substring(0, endpoint.length() - 1);
         }
+        this.graphQlEndpoint = URI.create(endpoint.endsWith("/api/v3") ?
+            endpoint.substring(0, endpoint.length() - 3) + "/graphql" :
+            endpoint + "/graphql");
 
         this.objectMapper = new ObjectMapper()
             .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
@@ -118,8 +147,7 @@ class Github {
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .configure(SerializationFeature.INDENT_OUTPUT, true);
 
-        this.api = ClientUtils.builder(context, connectTimeout, readTimeout)
-            .client(new ApacheHttpClient())
+        this.api = ClientUtils.builder(context, connectTimeout, readTimeout, resilience, HttpResponseCache.defaults())
             .encoder(new FormEncoder(new JacksonEncoder(objectMapper)))
             .decoder(new PaginatingDecoder(new JacksonDecoder(objectMapper)))
             .requestInterceptor(template -> {
@@ -148,30 +176,18 @@ class Github {
 
         List<Release> releases = new ArrayList<>();
 
-        int pageCount = 0;
         Map<String, Object> params = new LinkedHashMap<>();
         params.put("draft", false);
         params.put("prerelease", false);
-        params.put("per_page", 20);
-
-        boolean consume = true;
-        do {
-            params.put("page", ++pageCount);
-            Page<List<GhRelease>> page = api.listReleases(owner, repoName, params);
-            page.getContent().stream()
-                .map(r -> new Release(
-                    r.getName(),
-                    r.getTagName(),
-                    r.getHtmlUrl(),
-                    r.getPublishedAt()
-                ))
-                .forEach(releases::add);
-
-            if (!page.hasLinks() || !page.getLinks().hasNext()) {
-                consume = false;
-            }
-        }
-        while (consume);
+        params.put("per_page", MAX_PAGE_SIZE);
+
+        Paginator.forEach(context.getLogger(), page -> api.listReleases(owner, repoName, withPage(params, page)),
+            r -> releases.add(new Release(
+                r.getName(),
+                r.getTagName(),
+                r.getHtmlUrl(),
+                r.getPublishedAt()
+            )));
 
         return releases;
     }
@@ -181,23 +197,11 @@ class Github {
 
         List<String> branches = new ArrayList<>();
 
-        int pageCount = 0;
         Map<String, Object> params = new LinkedHashMap<>();
-        params.put("per_page", 20);
-
-        boolean consume = true;
-        do {
-            params.put("page", ++pageCount);
-            Page<List<GhBranch>> page = api.listBranches(owner, repoName, params);
-            page.getContent().stream()
-                .map(GhBranch::getName)
-                .forEach(branches::add);
-
-            if (!page.hasLinks() || !page.getLinks().hasNext()) {
-                consume = false;
-            }
-        }
-        while (consume);
+        params.put("per_page", MAX_PAGE_SIZE);
+
+        Paginator.forEach(context.getLogger(), page -> api.listBranches(owner, repoName, withPage(params, page)),
+            b -> branches.add(b.getName()));
 
         return branches;
     }
@@ -216,26 +220,11 @@ class Github {
     List<GhMilestone> listMilestones(String owner, String repoName, String state) {
         context.getLogger().debug(RB.$("git.list.milestones"), owner, repoName, state);
 
-        List<GhMilestone> milestones = new ArrayList<>();
-
-        int pageCount = 0;
         Map<String, Object> params = new LinkedHashMap<>();
         params.put("state", state);
-        params.put("per_page", 20);
+        params.put("per_page", MAX_PAGE_SIZE);
 
-        boolean consume = true;
-        do {
-            params.put("page", ++pageCount);
-            Page<List<GhMilestone>> page = api.listMilestones(owner, repoName, params);
-            milestones.addAll(page.getContent());
-
-            if (!page.hasLinks() || !page.getLinks().hasNext()) {
-                consume = false;
-            }
-        }
-        while (consume);
-
-        return milestones;
+        return Paginator.collect(context.getLogger(), page -> api.listMilestones(owner, repoName, withPage(params, page)));
     }
 
     Optional<GhMilestone> findMilestoneByName(String owner, String repo, String milestoneName) {
@@ -281,25 +270,10 @@ class Github {
     List<GhTag> listTags(String owner, String repoName) {
         context.getLogger().debug(RB.$("git.list.milestones"), owner, repoName);
 
-        List<GhTag> tags = new ArrayList<>();
-
-        int pageCount = 0;
         Map<String, Object> params = new LinkedHashMap<>();
-        params.put("per_page", 20);
-
-        boolean consume = true;
-        do {
-            params.put("page", ++pageCount);
-            Page<List<GhTag>> page = api.listTags(owner, repoName, params);
-            tags.addAll(page.getContent());
+        params.put("per_page", MAX_PAGE_SIZE);
 
-            if (!page.hasLinks() || !page.getLinks().hasNext()) {
-                consume = false;
-            }
-        }
-        while (consume);
-
-        return tags;
+        return Paginator.collect(context.getLogger(), page -> api.listTags(owner, repoName, withPage(params, page)));
     }
 
     GhRelease findReleaseByTag(String owner, String repo, String tagName) {
@@ -423,7 +397,8 @@ class Github {
             connectTimeout,
             readTimeout,
             data,
-            headers);
+            headers,
+            resilience);
 
         return objectMapper.readValue(reader, GhAttachment.class);
     }
@@ -437,25 +412,10 @@ class Github {
     List<GhDiscussion> listDiscussions(String organization, String team) {
         context.getLogger().debug(RB.$("git.list.discussions"), organization, team);
 
-        List<GhDiscussion> discussions = new ArrayList<>();
-
-        int pageCount = 0;
         Map<String, Object> params = new LinkedHashMap<>();
-        params.put("per_page", 20);
+        params.put("per_page", MAX_PAGE_SIZE);
 
-        boolean consume = true;
-        do {
-            params.put("page", ++pageCount);
-            Page<List<GhDiscussion>> page = api.listDiscussions(organization, team, params);
-            discussions.addAll(page.getContent());
-
-            if (!page.hasLinks() || !page.getLinks().hasNext()) {
-                consume = false;
-            }
-        }
-        while (consume);
-
-        return discussions;
+        return Paginator.collect(context.getLogger(), page -> api.listDiscussions(organization, team, withPage(params, page)));
     }
 
     void createDiscussion(String organization, String team, String title, String message) {
@@ -523,28 +483,237 @@ class Github {
         api.updateIssue(params, owner, name, issue.getNumber());
     }
 
-    private List<GhLabel> listLabels(String owner, String repoName) {
-        context.getLogger().debug(RB.$("git.list.labels"), owner, repoName);
+    /**
+     * Resolves issues and pull requests with aliased GraphQL queries. Numbers that
+     * do not match an issue nor a pull request are left out of the result.
+     */
+    Map<Integer, GhIssue> findIssues(String owner, String name, List<Integer> issueNumbers) throws IOException {
+        context.getLogger().debug(RB.$("git.issue.fetch.batch", issueNumbers.size()));
 
-        List<GhLabel> labels = new ArrayList<>();
+        List<List<Integer>> batches = partition(issueNumbers, ISSUE_QUERY_BATCH_SIZE);
+        Map<Integer, GhIssue> issues = new LinkedHashMap<>();
 
-        int pageCount = 0;
-        Map<String, Object> params = new LinkedHashMap<>();
-        params.put("limit", 20);
+        ExecutorService executor = ConcurrencyUtils.newFixedThreadPool("graphql",
+            batches.size(), context.getLogger());
+        try {
+            List<Future<Map<Integer, GhIssue>>> futures = new ArrayList<>();
+            for (List<Integer> batch : batches) {
+                futures.add(executor.submit(() -> queryIssues(owner, name, batch)));
+            }
+            for (Future<Map<Integer, GhIssue>> future : futures) {
+                issues.putAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new IOException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return issues;
+    }
 
-        boolean consume = true;
-        do {
-            params.put("page", ++pageCount);
-            Page<List<GhLabel>> page = api.listLabels(owner, repoName, params);
-            labels.addAll(page.getContent());
+    /**
+     * Labels, comments and optionally sets a milestone on the given issues with aliased
+     * GraphQL mutations. Batches are sent one after the other as GitHub recommends
+     * serializing mutations to stay clear of its secondary rate limits.
+     * <p>
+     * Aliased mutations are applied independently of each other, so a batch may be
+     * partially applied. Mutations reported as failed are retried one by one with REST.
+     */
+    void updateIssues(String owner, String name, List<GhIssue> issues, GhLabel label, String comment,
+                      GhMilestone milestone, Set<Long> milestoneTargets) {
+        for (List<GhIssue> batch : partition(issues, ISSUE_MUTATION_BATCH_SIZE)) {
+            StringBuilder declarations = new StringBuilder("$label: ID!, $body: String!");
+            StringBuilder mutations = new StringBuilder();
+            Map<String, Object> variables = new LinkedHashMap<>();
+            variables.put("label", label.getNodeId());
+            variables.put("body", comment);
+
+            boolean withMilestone = false;
+            for (int i = 0; i < batch.size(); i++) {
+                GhIssue issue = batch.get(i);
+                context.getLogger().debug(RB.$("git.issue.label", label.getName(), issue.getNumber()));
+                context.getLogger().debug(RB.$("git.issue.comment", issue.getNumber()));
+
+                declarations.append(", $s").append(i).append(": ID!");
+                variables.put("s" + i, issue.getNodeId());
+                mutations.append("l").append(i).append(": addLabelsToLabelable(input: {labelableId: $s").append(i)
+                    .append(", labelIds: [$label]}) { clientMutationId } ")
+                    .append("c").append(i).append(": addComment(input: {subjectId: $s").append(i)
+                    .append(", body: $body}) { clientMutationId } ");
+
+                if (null != milestone && milestoneTargets.contains(issue.getNumber())) {
+                    withMilestone = true;
+                    if (issue.isPullRequest()) {
+                        mutations.append("m").append(i).append(": updatePullRequest(input: {pullRequestId: $s").append(i);
+                    } else {
+                        mutations.append("m").append(i).append(": updateIssue(input: {id: $s").append(i);
+                    }
+                    mutations.append(", milestoneId: $milestone}) { clientMutationId } ");
+                }
+            }
 
-            if (!page.hasLinks() || !page.getLinks().hasNext()) {
-                consume = false;
+            if (withMilestone) {
+                declarations.append(", $milestone: ID!");
+                variables.put("milestone", milestone.getNodeId());
             }
+
+            Set<String> failed = mutate("mutation(" + declarations + ") { " + mutations + "}", variables);
+            if (failed.isEmpty()) continue;
+
+            context.getLogger().warn(RB.$("git.issue.update.fallback", failed.size()));
+            for (int i = 0; i < batch.size(); i++) {
+                GhIssue issue = batch.get(i);
+                if (failed.contains("l" + i)) addLabelToIssue(owner, name, issue, label);
+                if (failed.contains("c" + i)) commentOnIssue(owner, name, issue, comment);
+                if (failed.contains("m" + i)) setMilestoneOnIssue(owner, name, issue, milestone);
+            }
+        }
+    }
+
+    /**
+     * Sends aliased mutations, returning the aliases of those that failed. All aliases
+     * are reported when the request fails as a whole.
+     */
+    private Set<String> mutate(String query, Map<String, Object> variables) {
+        Set<String> aliases = new LinkedHashSet<>();
+        Matcher m = MUTATION_ALIAS.matcher(query);
+        while (m.find()) aliases.add(m.group(1));
+
+        JsonNode response;
+        try {
+            response = api.graphql(graphQlEndpoint, graphqlRequest(query, variables));
+        } catch (RestAPIException e) {
+            context.getLogger().trace(e);
+            return aliases;
         }
-        while (consume);
 
-        return labels;
+        JsonNode data = response.path("data");
+        JsonNode errors = response.path("errors");
+        if (data.isMissingNode() || data.isNull()) {
+            context.getLogger().debug(RB.$("ERROR_github_graphql", errorMessages(errors)));
+            return aliases;
+        }
+
+        Set<String> failed = new LinkedHashSet<>();
+        for (String alias : aliases) {
+            if (data.path(alias).isNull() || data.path(alias).isMissingNode()) failed.add(alias);
+        }
+        if (errors.isArray()) {
+            for (JsonNode error : errors) {
+                String alias = error.path("path").path(0).asText();
+                if (aliases.contains(alias)) failed.add(alias);
+            }
+            if (!failed.isEmpty()) {
+                context.getLogger().debug(RB.$("ERROR_github_graphql", errorMessages(errors)));
+            }
+        }
+        return failed;
+    }
+
+    private Map<Integer, GhIssue> queryIssues(String owner, String name, List<Integer> issueNumbers) {
+        StringBuilder query = new StringBuilder("query($owner: String!, $name: String!) { repository(owner: $owner, name: $name) { ");
+        for (Integer number : issueNumbers) {
+            query.append("i").append(number).append(": issueOrPullRequest(number: ").append(number)
+                .append(") { __typename ...issueFields ...pullRequestFields } ");
+        }
+        query.append("} } ").append(ISSUE_FRAGMENTS);
+
+        Map<String, Object> variables = new LinkedHashMap<>();
+        variables.put("owner", owner);
+        variables.put("name", name);
+
+        JsonNode repository = graphql(query.toString(), variables).path("repository");
+
+        Map<Integer, GhIssue> issues = new LinkedHashMap<>();
+        for (Integer number : issueNumbers) {
+            JsonNode node = repository.path("i" + number);
+            if (node.isMissingNode() || node.isNull()) continue;
+            issues.put(number, toIssue(node));
+        }
+        return issues;
+    }
+
+    private static Map<String, Object> graphqlRequest(String query, Map<String, Object> variables) {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("query", query);
+        request.put("variables", variables);
+        return request;
+    }
+
+    private static String errorMessages(JsonNode errors) {
+        List<String> messages = new ArrayList<>();
+        for (JsonNode error : errors) {
+            messages.add(error.path("message").asText());
+        }
+        return String.join("; ", messages);
+    }
+
+    private JsonNode graphql(String query, Map<String, Object> variables) {
+        JsonNode response = api.graphql(graphQlEndpoint, graphqlRequest(query, variables));
+        JsonNode data = response.path("data");
+        JsonNode errors = response.path("errors");
+
+        // missing issues resolve to null and are reported as NOT_FOUND errors
+        if (errors.isArray()) {
+            List<String> messages = new ArrayList<>();
+            for (JsonNode error : errors) {
+                if (!"NOT_FOUND".equals(error.path("type").asText())) {
+                    messages.add(error.path("message").asText());
+                }
+            }
+            if (!messages.isEmpty() || data.isMissingNode() || data.isNull()) {
+                throw new IllegalStateException(RB.$("ERROR_github_graphql", String.join("; ", messages)));
+            }
+        }
+
+        return data;
+    }
+
+    private static GhIssue toIssue(JsonNode node) {
+        GhIssue issue = new GhIssue();
+        issue.setNodeId(node.path("id").asText());
+        issue.setNumber(node.path("number").asLong());
+        issue.setPullRequest("PullRequest".equals(node.path("__typename").asText()));
+        // REST reports merged pull requests as closed
+        String state = node.path("state").asText();
+        issue.setState("OPEN".equals(state) ? "open" : "closed");
+
+        JsonNode milestone = node.path("milestone");
+        if (milestone.isObject()) {
+            GhMilestone ghMilestone = new GhMilestone();
+            ghMilestone.setTitle(milestone.path("title").asText());
+            issue.setMilestone(ghMilestone);
+        }
+
+        for (JsonNode label : node.path("labels").path("nodes")) {
+            GhLabel ghLabel = new GhLabel();
+            ghLabel.setName(label.path("name").asText());
+            issue.getLabels().add(ghLabel);
+        }
+
+        return issue;
+    }
+
+    private static <T> List<List<T>> partition(List<T> list, int size) {
+        List<List<T>> partitions = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += size) {
+            partitions.add(list.subList(i, Math.min(i + size, list.size())));
+        }
+        return partitions;
+    }
+
+    private List<GhLabel> listLabels(String owner, String repoName) {
+        context.getLogger().debug(RB.$("git.list.labels"), owner, repoName);
+
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("per_page", MAX_PAGE_SIZE);
+
+        return Paginator.collect(context.getLogger(), page -> api.listLabels(owner, repoName, withPage(params, page)));
     }
 
     private GhOrganization resolveOrganization(String name) {
@@ -603,31 +772,20 @@ class Github {
     List<GhPackageVersion> listPackageVersions(String packageType, String packageName) throws IOException {
         context.getLogger().debug(RB.$("github.list.versions"), packageType, packageName);
 
-        List<GhPackageVersion> issues = new ArrayList<>();
-        Page<List<GhPackageVersion>> page = api.listPackageVersions0(packageType, packageName);
-        issues.addAll(page.getContent());
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            try {
-                collectPackageVersions(page, issues);
-            } catch (URISyntaxException e) {
-                throw new IOException(e);
-            }
+        try {
+            return Paginator.collect(context.getLogger(),
+                api.listPackageVersions0(packageType, packageName),
+                api::listPackageVersions1);
+        } catch (IllegalArgumentException e) {
+            // malformed link
+            throw new IOException(e);
         }
-
-        return issues;
     }
 
-    private void collectPackageVersions(Page<List<GhPackageVersion>> page, List<GhPackageVersion> issues) throws URISyntaxException {
-        URI next = new URI(page.getLinks().next());
-        context.getLogger().debug(next.toString());
-
-        page = api.listPackageVersions1(next);
-        issues.addAll(page.getContent());
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            collectPackageVersions(page, issues);
-        }
+    private static Map<String, Object> withPage(Map<String, Object> params, int page) {
+        Map<String, Object> copy = new LinkedHashMap<>(params);
+        copy.put("page", page);
+        return copy;
     }
 
     void deletePackageVersion(String packageType, String packageName, String packageVersion) throws RestAPIException {
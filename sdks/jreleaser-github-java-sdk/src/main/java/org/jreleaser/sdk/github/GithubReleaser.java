@@ -32,6 +32,7 @@ import org.jreleaser.model.spi.release.ReleaseException;
 import org.jreleaser.model.spi.release.Repository;
 import org.jreleaser.model.spi.release.User;
 import org.jreleaser.mustache.TemplateContext;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.git.ChangelogGenerator;
 import org.jreleaser.sdk.git.ChangelogProvider;
@@ -49,7 +50,9 @@ import org.jreleaser.sdk.github.api.GhRepository;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -58,6 +61,7 @@ import java.util.TreeSet;
 import java.util.regex.Pattern;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
 import static org.jreleaser.mustache.Templates.resolveTemplate;
 import static org.jreleaser.sdk.git.ChangelogProvider.extractIssues;
 import static org.jreleaser.sdk.git.ChangelogProvider.storeIssues;
@@ -127,7 +131,8 @@ public class GithubReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
                 github.getApiEndpoint(),
                 github.getToken(),
                 github.getConnectTimeout(),
-                github.getReadTimeout())
+                github.getReadTimeout(),
+                Resilience.of(github))
                 .generateReleaseNotes(github.getOwner(), github.getName(), params);
             return releaseNotes.getBody().replace("...HEAD", "..." + tagName);
         } catch (IOException | GitAPIException e) {
@@ -142,7 +147,8 @@ public class GithubReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
             github.getApiEndpoint(),
             github.getToken(),
             github.getConnectTimeout(),
-            github.getReadTimeout());
+            github.getReadTimeout(),
+            Resilience.of(github));
         GhRepository repository = api.findRepository(github.getOwner(), github.getName());
         if (null == repository) {
             // remote does not exist!
@@ -167,7 +173,8 @@ public class GithubReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
                 github.getApiEndpoint(),
                 github.getToken(),
                 github.getConnectTimeout(),
-                github.getReadTimeout());
+                github.getReadTimeout(),
+                Resilience.of(github));
 
             if (!context.isDryrun()) {
                 List<String> branchNames = api.listBranches(github.getOwner(), github.getName());
@@ -266,7 +273,8 @@ public class GithubReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
             github.getApiEndpoint(),
             password,
             github.getConnectTimeout(),
-            github.getReadTimeout());
+            github.getReadTimeout(),
+            Resilience.of(github));
         GhRepository repository = api.findRepository(owner, repo);
         if (null == repository) {
             repository = api.createRepository(owner, repo);
@@ -289,7 +297,8 @@ public class GithubReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
                 github.getApiEndpoint(),
                 github.getToken(),
                 github.getConnectTimeout(),
-                github.getReadTimeout())
+                github.getReadTimeout(),
+                Resilience.of(github))
                 .findUser(email, name);
         } catch (RestAPIException e) {
             context.getLogger().trace(e);
@@ -305,7 +314,8 @@ public class GithubReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
             github.getApiEndpoint(),
             github.getToken(),
             github.getConnectTimeout(),
-            github.getReadTimeout());
+            github.getReadTimeout(),
+            Resilience.of(github));
 
         List<Release> releases = api.listReleases(owner, repo);
 
@@ -359,7 +369,8 @@ public class GithubReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
 
         boolean isDraftBefore = release.isDraft();
         release = api.createRelease(github.getOwner(), github.getName(), release);
-        api.uploadAssets(release, assets);
+        GhRelease created = release;
+        uploadAssets(assets, batch -> api.uploadAssets(created, batch));
 
         if (github.getMilestone().isClose() && !context.getModel().getProject().isSnapshot()) {
             Optional<GhMilestone> milestone = api.findMilestoneByName(
@@ -442,46 +453,93 @@ public class GithubReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
             }
         }
 
+        if (null != ghLabel.getNodeId() && (!milestone.isPresent() || null != milestone.get().getNodeId())) {
+            Map<Integer, GhIssue> issues = null;
+            try {
+                issues = api.findIssues(github.getOwner(), github.getName(),
+                    issueNumbers.stream().map(Integer::parseInt).collect(toList()));
+            } catch (RuntimeException e) {
+                context.getLogger().debug(RB.$("git.issue.batch.fallback"));
+                context.getLogger().trace(e);
+            }
+
+            if (null != issues) {
+                updateIssues(github, api, issueNumbers, issues, ghLabel, comment, milestone.orElse(null), applyMilestone);
+                return;
+            }
+        }
+
         for (String issueNumber : issueNumbers) {
             Optional<GhIssue> op = api.findIssue(github.getOwner(), github.getName(), Integer.parseInt(issueNumber));
             if (!op.isPresent()) continue;
 
             GhIssue ghIssue = op.get();
-            if ("closed".equals(ghIssue.getState()) && ghIssue.getLabels().stream().noneMatch(l -> l.getName().equals(labelName))) {
+            if (isReleasable(ghIssue, labelName)) {
                 context.getLogger().debug(RB.$("git.issue.release", issueNumber));
                 api.addLabelToIssue(github.getOwner(), github.getName(), ghIssue, ghLabel);
                 api.commentOnIssue(github.getOwner(), github.getName(), ghIssue, comment);
 
-                milestone.ifPresent(ghMilestone -> applyMilestone(github, api, issueNumber, ghIssue, applyMilestone, ghMilestone));
+                milestone.ifPresent(ghMilestone -> {
+                    if (isMilestoneApplicable(issueNumber, ghIssue, applyMilestone, ghMilestone)) {
+                        api.setMilestoneOnIssue(github.getOwner(), github.getName(), ghIssue, ghMilestone);
+                    }
+                });
             }
         }
     }
 
-    private void applyMilestone(org.jreleaser.model.internal.release.GithubReleaser github, Github api, String issueNumber, GhIssue ghIssue, Apply applyMilestone, GhMilestone targetMilestone) {
+    private void updateIssues(org.jreleaser.model.internal.release.GithubReleaser github, Github api, List<String> issueNumbers,
+                              Map<Integer, GhIssue> issues, GhLabel ghLabel, String comment, GhMilestone milestone, Apply applyMilestone) {
+        List<GhIssue> releasable = new ArrayList<>();
+        Set<Long> milestoneTargets = new LinkedHashSet<>();
+
+        for (String issueNumber : issueNumbers) {
+            GhIssue ghIssue = issues.get(Integer.parseInt(issueNumber));
+            if (null == ghIssue || !isReleasable(ghIssue, ghLabel.getName())) continue;
+
+            context.getLogger().debug(RB.$("git.issue.release", issueNumber));
+            releasable.add(ghIssue);
+            if (null != milestone && isMilestoneApplicable(issueNumber, ghIssue, applyMilestone, milestone)) {
+                milestoneTargets.add(ghIssue.getNumber());
+            }
+        }
+
+        if (!releasable.isEmpty()) {
+            api.updateIssues(github.getOwner(), github.getName(), releasable, ghLabel, comment, milestone, milestoneTargets);
+        }
+    }
+
+    private boolean isReleasable(GhIssue ghIssue, String labelName) {
+        return "closed".equals(ghIssue.getState()) && ghIssue.getLabels().stream().noneMatch(l -> l.getName().equals(labelName));
+    }
+
+    private boolean isMilestoneApplicable(String issueNumber, GhIssue ghIssue, Apply applyMilestone, GhMilestone targetMilestone) {
         GhMilestone issueMilestone = ghIssue.getMilestone();
         String targetMilestoneTitle = targetMilestone.getTitle();
 
         if (null == issueMilestone) {
             context.getLogger().debug(RB.$("git.issue.milestone.apply", targetMilestoneTitle, issueNumber));
-            api.setMilestoneOnIssue(github.getOwner(), github.getName(), ghIssue, targetMilestone);
-        } else {
-            String milestoneTitle = issueMilestone.getTitle();
+            return true;
+        }
+
+        String milestoneTitle = issueMilestone.getTitle();
 
-            if (applyMilestone == Apply.ALWAYS) {
+        if (applyMilestone == Apply.ALWAYS) {
+            context.getLogger().debug(uncapitalize(RB.$("git.issue.milestone.warn", issueNumber, milestoneTitle)));
+        } else if (applyMilestone == Apply.WARN) {
+            if (!milestoneTitle.equals(targetMilestoneTitle)) {
+                context.getLogger().warn(RB.$("git.issue.milestone.warn", issueNumber, milestoneTitle));
+            }
+        } else if (applyMilestone == Apply.FORCE) {
+            if (!milestoneTitle.equals(targetMilestoneTitle)) {
+                context.getLogger().warn(RB.$("git.issue.milestone.force", targetMilestoneTitle, issueNumber, milestoneTitle));
+                return true;
+            } else {
                 context.getLogger().debug(uncapitalize(RB.$("git.issue.milestone.warn", issueNumber, milestoneTitle)));
-            } else if (applyMilestone == Apply.WARN) {
-                if (!milestoneTitle.equals(targetMilestoneTitle)) {
-                    context.getLogger().warn(RB.$("git.issue.milestone.warn", issueNumber, milestoneTitle));
-                }
-            } else if (applyMilestone == Apply.FORCE) {
-                if (!milestoneTitle.equals(targetMilestoneTitle)) {
-                    context.getLogger().warn(RB.$("git.issue.milestone.force", targetMilestoneTitle, issueNumber, milestoneTitle));
-                    api.setMilestoneOnIssue(github.getOwner(), github.getName(), ghIssue, targetMilestone);
-                } else {
-                    context.getLogger().debug(uncapitalize(RB.$("git.issue.milestone.warn", issueNumber, milestoneTitle)));
-                }
             }
         }
+
+        return false;
     }
 
     private void updateAssets(Github api, GhRelease release) throws IOException {
@@ -494,14 +552,15 @@ public class GithubReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
 
         assetsToBePublished.keySet().forEach(name -> {
             if (existingAssets.containsKey(name)) {
-                assetsToBeUpdated.add(assetsToBePublished.get(name));
+                Asset asset = assetsToBePublished.get(name);
+                if (!isUploaded(asset)) assetsToBeUpdated.add(asset);
             } else {
                 assetsToBeUploaded.add(assetsToBePublished.get(name));
             }
         });
 
-        api.updateAssets(github.getOwner(), github.getName(), release, assetsToBeUpdated, existingAssets);
-        api.uploadAssets(release, assetsToBeUploaded);
+        uploadAssets(assetsToBeUpdated, batch -> api.updateAssets(github.getOwner(), github.getName(), release, batch, existingAssets));
+        uploadAssets(assetsToBeUploaded, batch -> api.uploadAssets(release, batch));
     }
 
     private void linkDiscussion(String tagName, GhRelease release, Github api) {
@@ -17,6 +17,7 @@
  */
 package org.jreleaser.sdk.github.api;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import java.util.ArrayList;
@@ -30,6 +31,9 @@ import java.util.List;
 public class GhIssue {
     private final List<GhLabel> labels = new ArrayList<>();
     private Long id;
+    private String nodeId;
+    @JsonIgnore
+    private boolean pullRequest;
     private Long number;
     private String title;
     private String state;
@@ -43,6 +47,22 @@ public class GhIssue {
         this.id = id;
     }
 
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public boolean isPullRequest() {
+        return pullRequest;
+    }
+
+    public void setPullRequest(boolean pullRequest) {
+        this.pullRequest = pullRequest;
+    }
+
     public Long getNumber() {
         return number;
     }
@@ -26,6 +26,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class GhLabel {
     private Long id;
+    private String nodeId;
     private String name;
     private String color;
     private String description;
@@ -39,6 +40,14 @@ public class GhLabel {
         this.id = id;
     }
 
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
     public String getName() {
         return name;
     }
@@ -26,6 +26,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class GhMilestone {
     private Integer id;
+    private String nodeId;
     private Integer number;
     private String title;
     private String state;
@@ -38,6 +39,14 @@ public class GhMilestone {
         this.id = id;
     }
 
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
     public Integer getNumber() {
         return number;
     }
@@ -17,6 +17,7 @@
  */
 package org.jreleaser.sdk.github.api;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import feign.Headers;
 import feign.Param;
 import feign.QueryMap;
@@ -120,6 +121,10 @@ public interface GithubAPI {
     @Headers("Content-Type: application/json")
     void updateIssue(Map<String, Object> params, @Param("owner") String owner, @Param("repo") String repo, @Param("issueNumber") Long issueNumber);
 
+    @RequestLine("POST")
+    @Headers("Content-Type: application/json")
+    JsonNode graphql(URI graphQlEndpoint, Map<String, Object> request);
+
     @RequestLine("GET /orgs/{org}/teams/{team}/discussions")
     @Headers("Content-Type: application/json")
     Page<List<GhDiscussion>> listDiscussions(@Param("org") String org, @Param("team") String team, @QueryMap Map<String, Object> q);
@@ -148,7 +153,7 @@ public interface GithubAPI {
     @Headers("Content-Type: application/json")
     void deletePackage(@Param("packageType") String packageType, @Param("packageName") String packageName);
 
-    @RequestLine("GET /user/packages/{packageType}/{packageName}/versions")
+    @RequestLine("GET /user/packages/{packageType}/{packageName}/versions?per_page=100")
     @Headers("Content-Type: application/json")
     Page<List<GhPackageVersion>> listPackageVersions0(@Param("packageType") String packageType, @Param("packageName") String packageName);
 
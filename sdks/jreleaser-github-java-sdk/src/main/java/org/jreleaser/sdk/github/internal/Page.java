@@ -18,6 +18,7 @@
 package org.jreleaser.sdk.github.internal;
 
 import org.jreleaser.sdk.commons.Links;
+import org.jreleaser.sdk.commons.Paginated;
 
 import java.util.Collection;
 import java.util.Map;
@@ -26,7 +27,7 @@ import java.util.Map;
  * @author Andres Almiray
  * @since 1.3.0
  */
-public class Page<T> {
+public class Page<T> implements Paginated<T> {
 
     private final Links links;
     private final T content;
@@ -40,10 +41,12 @@ public class Page<T> {
         return !links.isEmpty();
     }
 
+    @Override
     public Links getLinks() {
         return links;
     }
 
+    @Override
     public T getContent() {
         return content;
     }
@@ -0,0 +1,176 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.github;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.sdk.github.api.GhIssue;
+import org.jreleaser.sdk.github.api.GhLabel;
+import org.jreleaser.test.WireMockExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class GithubIssuesTest {
+    private static final String GRAPHQL = "/graphql";
+    private static final String OWNER = "jreleaser";
+    private static final String REPO = "app";
+
+    @RegisterExtension
+    WireMockExtension api = new WireMockExtension(options().dynamicPort());
+
+    @Test
+    void resolvesIssuesWithBatchedQueries() throws Exception {
+        // given:
+        stubFor(post(urlEqualTo(GRAPHQL))
+            .withRequestBody(containing("i1: issueOrPullRequest"))
+            .willReturn(json("{\"data\":{\"repository\":{" +
+                "\"i1\":{\"__typename\":\"Issue\",\"id\":\"I_1\",\"number\":1,\"state\":\"OPEN\",\"labels\":{\"nodes\":[]}}," +
+                "\"i2\":null}}," +
+                "\"errors\":[{\"type\":\"NOT_FOUND\",\"path\":[\"repository\",\"i2\"],\"message\":\"Not found\"}]}")));
+        stubFor(post(urlEqualTo(GRAPHQL))
+            .withRequestBody(containing("i51: issueOrPullRequest"))
+            .willReturn(json("{\"data\":{\"repository\":{" +
+                "\"i51\":{\"__typename\":\"PullRequest\",\"id\":\"PR_51\",\"number\":51,\"state\":\"MERGED\"," +
+                "\"milestone\":{\"title\":\"v1.0.0\"},\"labels\":{\"nodes\":[{\"name\":\"bug\"}]}}}}}")));
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 1; i <= 60; i++) numbers.add(i);
+
+        // when:
+        Map<Integer, GhIssue> issues = github().findIssues(OWNER, REPO, numbers);
+
+        // then:
+        verify(2, postRequestedFor(urlEqualTo(GRAPHQL)));
+        assertThat(issues).containsOnlyKeys(1, 51);
+        assertThat(issues.get(1).isPullRequest()).isFalse();
+        assertThat(issues.get(1).getState()).isEqualTo("open");
+        assertThat(issues.get(51).isPullRequest()).isTrue();
+        assertThat(issues.get(51).getState()).isEqualTo("closed");
+        assertThat(issues.get(51).getMilestone().getTitle()).isEqualTo("v1.0.0");
+        assertThat(issues.get(51).getLabels()).extracting(GhLabel::getName).containsExactly("bug");
+    }
+
+    @Test
+    void updatesIssuesWithASingleMutation() {
+        // given:
+        stubFor(post(urlEqualTo(GRAPHQL))
+            .willReturn(json("{\"data\":{" +
+                "\"l0\":{\"clientMutationId\":null},\"c0\":{\"clientMutationId\":null}," +
+                "\"l1\":{\"clientMutationId\":null},\"c1\":{\"clientMutationId\":null}}}")));
+
+        // when:
+        github().updateIssues(OWNER, REPO, Arrays.asList(issue(1), issue(2)), label(), "Released",
+            null, Collections.emptySet());
+
+        // then:
+        verify(1, postRequestedFor(urlEqualTo(GRAPHQL)));
+        verify(0, postRequestedFor(urlEqualTo(restPath(1, "labels"))));
+        verify(0, postRequestedFor(urlEqualTo(restPath(2, "comments"))));
+    }
+
+    @Test
+    void retriesFailedMutationsWithRest() {
+        // given:
+        stubFor(post(urlEqualTo(GRAPHQL))
+            .willReturn(json("{\"data\":{" +
+                "\"l0\":{\"clientMutationId\":null},\"c0\":{\"clientMutationId\":null}," +
+                "\"l1\":null,\"c1\":{\"clientMutationId\":null}}," +
+                "\"errors\":[{\"path\":[\"l1\"],\"message\":\"Resource not accessible\"}]}")));
+        stubFor(post(urlEqualTo(restPath(2, "labels")))
+            .willReturn(json("[]")));
+
+        // when:
+        github().updateIssues(OWNER, REPO, Arrays.asList(issue(1), issue(2)), label(), "Released",
+            null, Collections.emptySet());
+
+        // then:
+        verify(1, postRequestedFor(urlEqualTo(restPath(2, "labels"))));
+        verify(0, postRequestedFor(urlEqualTo(restPath(1, "labels"))));
+        verify(0, postRequestedFor(urlEqualTo(restPath(2, "comments"))));
+    }
+
+    @Test
+    void retriesAllMutationsWithRestWhenTheBatchFails() {
+        // given:
+        stubFor(post(urlEqualTo(GRAPHQL))
+            .willReturn(json("{\"data\":null,\"errors\":[{\"message\":\"Something went wrong\"}]}")));
+        stubFor(post(urlEqualTo(restPath(1, "labels")))
+            .willReturn(json("[]")));
+        stubFor(post(urlEqualTo(restPath(1, "comments")))
+            .willReturn(json("{}")));
+
+        // when:
+        github().updateIssues(OWNER, REPO, Collections.singletonList(issue(1)), label(), "Released",
+            null, Collections.emptySet());
+
+        // then:
+        verify(1, postRequestedFor(urlEqualTo(restPath(1, "labels"))));
+        verify(1, postRequestedFor(urlEqualTo(restPath(1, "comments"))));
+    }
+
+    private Github github() {
+        return new Github(JReleaserContext.empty().asImmutable(),
+            api.baseUrl(),
+            "GH_TOKEN",
+            10000,
+            10000);
+    }
+
+    private static GhIssue issue(long number) {
+        GhIssue issue = new GhIssue();
+        issue.setNumber(number);
+        issue.setNodeId("I_" + number);
+        return issue;
+    }
+
+    private static GhLabel label() {
+        GhLabel label = new GhLabel();
+        label.setName("released");
+        label.setNodeId("LA_1");
+        return label;
+    }
+
+    private static String restPath(long number, String resource) {
+        return "/repos/" + OWNER + "/" + REPO + "/issues/" + number + "/" + resource;
+    }
+
+    private static ResponseDefinitionBuilder json(String body) {
+        return aResponse().withStatus(200)
+            .withHeader("Content-Type", "application/json")
+            .withBody(body);
+    }
+}
@@ -26,8 +26,6 @@ import feign.form.FormData;
 import feign.form.FormEncoder;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
-import org.apache.tika.Tika;
-import org.apache.tika.mime.MediaType;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.api.JReleaserContext;
 import org.jreleaser.model.spi.release.Asset;
@@ -36,9 +34,11 @@ import org.jreleaser.model.spi.release.User;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.mustache.TemplateContext;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.HttpResponseCache;
+import org.jreleaser.sdk.commons.Paginator;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.gitlab.api.GitlabAPI;
-import org.jreleaser.sdk.gitlab.api.GlBranch;
 import org.jreleaser.sdk.gitlab.api.GlFileUpload;
 import org.jreleaser.sdk.gitlab.api.GlIssue;
 import org.jreleaser.sdk.gitlab.api.GlLabel;
@@ -48,24 +48,30 @@ import org.jreleaser.sdk.gitlab.api.GlMilestone;
 import org.jreleaser.sdk.gitlab.api.GlPackage;
 import org.jreleaser.sdk.gitlab.api.GlProject;
 import org.jreleaser.sdk.gitlab.api.GlRelease;
+import org.jreleaser.sdk.gitlab.api.GlReleaseAssets;
 import org.jreleaser.sdk.gitlab.api.GlUser;
 import org.jreleaser.sdk.gitlab.internal.Page;
 import org.jreleaser.sdk.gitlab.internal.PaginatingDecoder;
 import org.jreleaser.util.CollectionUtils;
+import org.jreleaser.util.ConcurrencyUtils;
 import org.jreleaser.util.StringUtils;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.net.URI;
-import java.net.URISyntaxException;
 import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -90,13 +96,16 @@ class Gitlab {
         "}\n";
     private static final Pattern UPLOADS_PATTERN = Pattern.compile("(.*?)/uploads/(.*?)");
 
-    private final Tika tika = new Tika();
     private final JReleaserContext context;
     private final GitlabAPI api;
+    private final ObjectMapper objectMapper;
+    private final String endpoint;
+    private final String token;
     private final String apiHost;
     private final String graphQlEndpoint;
     private final int connectTimeout;
     private final int readTimeout;
+    private final Resilience resilience;
 
     private GlUser user;
     private GlProject project;
@@ -106,6 +115,15 @@ class Gitlab {
            String token,
            int connectTimeout,
            int readTimeout) {
+        this(context, endpoint, token, connectTimeout, readTimeout, Resilience.defaults());
+    }
+
+    Gitlab(JReleaserContext context,
+           String endpoint,
+           String token,
+           int connectTimeout,
+           int readTimeout,
+           Resilience resilience) {
         requireNonNull(context, "'context' must not be null");
         requireNonBlank(token, "'token' must not be blank");
 
@@ -120,19 +138,22 @@ class Gitlab {
             endpoint += API_V4;
         }
 
+        this.endpoint = endpoint;
+        this.token = token;
         this.apiHost = endpoint.substring(0, endpoint.length() - API_V4.length());
         this.graphQlEndpoint = endpoint.replace("v4", "graphql");
         this.connectTimeout = connectTimeout;
         this.readTimeout = readTimeout;
+        this.resilience = requireNonNull(resilience, "'resilience' must not be null");
 
-        ObjectMapper objectMapper = new ObjectMapper()
+        this.objectMapper = new ObjectMapper()
             .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
             .setSerializationInclusion(JsonInclude.Include.NON_NULL)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .configure(SerializationFeature.INDENT_OUTPUT, true);
 
         this.context = context;
-        this.api = ClientUtils.builder(context, connectTimeout, readTimeout)
+        this.api = ClientUtils.builder(context, connectTimeout, readTimeout, resilience, HttpResponseCache.defaults())
             .encoder(new FormEncoder(new JacksonEncoder(objectMapper)))
             .decoder(new PaginatingDecoder(new JacksonDecoder(objectMapper)))
             .requestInterceptor(template -> template.header("Authorization", String.format("Bearer %s", token)))
@@ -153,46 +174,17 @@ class Gitlab {
             projectIdentifier = project.getId().toString();
         }
 
-        Page<List<GlRelease>> page = api.listReleases0(projectIdentifier);
-        page.getContent().stream()
-            .map(r -> new Release(
+        forEach(api.listReleases0(projectIdentifier), api::listReleases1,
+            r -> releases.add(new Release(
                 r.getName(),
                 r.getTagName(),
                 apiHost + r.getTagPath(),
                 r.getReleasedAt()
-            ))
-            .forEach(releases::add);
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            try {
-                collectReleases(page, releases);
-            } catch (URISyntaxException e) {
-                throw new IOException(e);
-            }
-        }
+            )));
 
         return releases;
     }
 
-    private void collectReleases(Page<List<GlRelease>> page, List<Release> releases) throws URISyntaxException {
-        URI next = new URI(page.getLinks().next());
-        context.getLogger().debug(next.toString());
-
-        page = api.listReleases1(next);
-        page.getContent().stream()
-            .map(r -> new Release(
-                r.getName(),
-                r.getTagName(),
-                apiHost + r.getTagPath(),
-                r.getReleasedAt()
-            ))
-            .forEach(releases::add);
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            collectReleases(page, releases);
-        }
-    }
-
     List<String> listBranches(String owner, String repoName, String projectIdentifier) throws IOException {
         context.getLogger().debug(RB.$("git.list.branches"), owner, repoName);
 
@@ -203,36 +195,12 @@ class Gitlab {
             projectIdentifier = project.getId().toString();
         }
 
-        Page<List<GlBranch>> page = api.listBranches0(projectIdentifier);
-        page.getContent().stream()
-            .map(GlBranch::getName)
-            .forEach(branches::add);
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            try {
-                collectBranches(page, branches);
-            } catch (URISyntaxException e) {
-                throw new IOException(e);
-            }
-        }
+        forEach(api.listBranches0(projectIdentifier), api::listBranches1,
+            b -> branches.add(b.getName()));
 
         return branches;
     }
 
-    private void collectBranches(Page<List<GlBranch>> page, List<String> branches) throws URISyntaxException {
-        URI next = new URI(page.getLinks().next());
-        context.getLogger().debug(next.toString());
-
-        page = api.listBranches1(next);
-        page.getContent().stream()
-            .map(GlBranch::getName)
-            .forEach(branches::add);
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            collectBranches(page, branches);
-        }
-    }
-
     Optional<GlMilestone> findMilestoneByName(String owner, String repo, Integer projectIdentifier, String milestoneName) {
         context.getLogger().debug(RB.$("git.milestone.lookup"), milestoneName, owner, repo);
 
@@ -355,6 +323,31 @@ class Gitlab {
         api.createRelease(release, projectIdentifier);
     }
 
+    void createRelease(String owner, String repoName, Integer projectIdentifier, GlRelease release,
+                       Collection<GlFileUpload> uploads, Collection<GlLinkRequest> links) throws RestAPIException {
+        GlReleaseAssets assets = new GlReleaseAssets();
+        for (GlFileUpload upload : uploads) {
+            assets.getLinks().add(upload.toLinkRequest(apiHost));
+        }
+        assets.getLinks().addAll(links);
+
+        if (!assets.getLinks().isEmpty()) {
+            // a single request creates the release together with all of its links
+            context.getLogger().info(RB.$("git.upload.asset.links"), owner, repoName, release.getTagName());
+            for (GlLinkRequest link : assets.getLinks()) {
+                context.getLogger().info(" " + RB.$("git.upload.asset.link"), link.getName());
+            }
+            release.setAssets(assets);
+        }
+
+        try {
+            createRelease(owner, repoName, projectIdentifier, release);
+        } catch (RuntimeException e) {
+            deleteUploads(uploads);
+            throw e;
+        }
+    }
+
     void updateRelease(String owner, String repoName, String projectIdentifier, GlRelease release) throws RestAPIException {
         context.getLogger().debug(RB.$("git.update.release"), owner, repoName, release.getTagName());
 
@@ -363,40 +356,96 @@ class Gitlab {
         api.updateRelease(release, project.getId());
     }
 
-    Collection<GlFileUpload> uploadAssets(String owner, String repoName, Integer projectIdentifier, Set<Asset> assets) throws IOException, RestAPIException {
+    Collection<GlFileUpload> uploadAssets(String owner, String repoName, Integer projectIdentifier, Set<Asset> assets) throws IOException {
         context.getLogger().debug(RB.$("git.upload.assets"), owner, repoName);
 
-        List<GlFileUpload> uploads = new ArrayList<>();
-
+        List<Asset> uploadables = new ArrayList<>();
         for (Asset asset : assets) {
             if (0 == Files.size(asset.getPath()) || !Files.exists(asset.getPath())) {
                 // do not upload empty or non existent files
                 continue;
             }
+            uploadables.add(asset);
+        }
 
-            context.getLogger().info(" " + RB.$("git.upload.asset"), asset.getFilename());
-            try {
-                GlFileUpload upload = api.uploadFile(projectIdentifier, toFormData(asset.getPath()));
-                upload.setName(asset.getFilename());
-                uploads.add(upload);
-            } catch (IOException | RestAPIException e) {
-                context.getLogger().error(" " + RB.$("git.upload.asset.failure"), asset.getFilename());
-                throw e;
+        List<GlFileUpload> uploads = new ArrayList<>();
+        if (uploadables.isEmpty()) return uploads;
+
+        ExecutorService executor = ConcurrencyUtils.newFixedThreadPool("gitlab-upload",
+            uploadables.size(), context.getLogger());
+
+        try {
+            List<Future<GlFileUpload>> futures = new ArrayList<>();
+            for (Asset asset : uploadables) {
+                futures.add(executor.submit(() -> uploadAsset(projectIdentifier, asset)));
+            }
+
+            // every upload runs to completion so that none is left behind when another fails
+            Throwable failure = null;
+            Iterator<Asset> it = uploadables.iterator();
+            for (Future<GlFileUpload> future : futures) {
+                Asset asset = it.next();
+                try {
+                    uploads.add(future.get());
+                } catch (ExecutionException e) {
+                    context.getLogger().error(" " + RB.$("git.upload.asset.failure"), asset.getFilename());
+                    if (null == failure) failure = null != e.getCause() ? e.getCause() : e;
+                }
+            }
+
+            if (null != failure) {
+                deleteUploads(uploads);
+                if (failure instanceof IOException) throw (IOException) failure;
+                if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+                throw new IOException(failure);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            deleteUploads(uploads);
+            throw new IOException(e);
+        } finally {
+            executor.shutdownNow();
         }
 
         return uploads;
     }
 
+    private GlFileUpload uploadAsset(Integer projectIdentifier, Asset asset) throws IOException {
+        context.getLogger().info(" " + RB.$("git.upload.asset"), asset.getFilename());
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Authorization", "Bearer " + token);
+        headers.put("Accept", "application/json");
+
+        try (Reader reader = ClientUtils.postMultipartFile(context.getLogger(),
+            endpoint + "/projects/" + projectIdentifier + "/uploads",
+            connectTimeout,
+            readTimeout,
+            "file",
+            asset.getPath(),
+            headers,
+            resilience)) {
+            GlFileUpload upload = objectMapper.readValue(reader, GlFileUpload.class);
+            upload.setName(asset.getFilename());
+            return upload;
+        } catch (UploadException e) {
+            if (e.getCause() instanceof IOException) throw (IOException) e.getCause();
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
     void linkReleaseAssets(String owner, String repoName, GlRelease release, Integer projectIdentifier, Collection<GlFileUpload> uploads) throws RestAPIException {
         context.getLogger().info(RB.$("git.upload.asset.links"), owner, repoName, release.getTagName());
 
+        List<GlFileUpload> unlinked = new ArrayList<>(uploads);
         for (GlFileUpload upload : uploads) {
             context.getLogger().info(" " + RB.$("git.upload.asset.link"), upload.getName());
             try {
                 api.linkAsset(upload.toLinkRequest(apiHost), projectIdentifier, release.getTagName());
+                unlinked.remove(upload);
             } catch (RestAPIException e) {
                 context.getLogger().error(" " + RB.$("git.upload.asset.link.failure"), upload.getName());
+                deleteUploads(unlinked);
                 throw e;
             }
         }
@@ -483,62 +532,18 @@ class Gitlab {
         context.getLogger().debug(RB.$("gitlab.list.labels"), projectIdentifier);
 
         List<GlLabel> labels = new ArrayList<>();
-        Page<List<GlLabel>> page = api.listLabels0(projectIdentifier);
-        labels.addAll(page.getContent());
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            try {
-                collectLabels(page, labels);
-            } catch (URISyntaxException e) {
-                throw new IOException(e);
-            }
-        }
-
+        forEach(api.listLabels0(projectIdentifier), api::listLabels1, labels::add);
         return labels;
     }
 
-    private void collectLabels(Page<List<GlLabel>> page, List<GlLabel> labels) throws URISyntaxException {
-        URI next = new URI(page.getLinks().next());
-        context.getLogger().debug(next.toString());
-
-        page = api.listLabels1(next);
-        labels.addAll(page.getContent());
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            collectLabels(page, labels);
-        }
-    }
-
     List<GlIssue> listIssues(Integer projectIdentifier) throws IOException {
         context.getLogger().debug(RB.$("gitlab.list.issues"), projectIdentifier);
 
         List<GlIssue> issues = new ArrayList<>();
-        Page<List<GlIssue>> page = api.listIssues0(projectIdentifier);
-        issues.addAll(page.getContent());
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            try {
-                collectIssues(page, issues);
-            } catch (URISyntaxException e) {
-                throw new IOException(e);
-            }
-        }
-
+        forEach(api.listIssues0(projectIdentifier), api::listIssues1, issues::add);
         return issues;
     }
 
-    private void collectIssues(Page<List<GlIssue>> page, List<GlIssue> issues) throws URISyntaxException {
-        URI next = new URI(page.getLinks().next());
-        context.getLogger().debug(next.toString());
-
-        page = api.listIssues1(next);
-        issues.addAll(page.getContent());
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            collectIssues(page, issues);
-        }
-    }
-
     List<GlPackage> listPackages(Integer projectIdentifier, String packageType) throws IOException {
         context.getLogger().debug(RB.$("gitlab.list.packages"), projectIdentifier);
 
@@ -546,82 +551,61 @@ class Gitlab {
         params.put("package_type", packageType);
 
         List<GlPackage> packages = new ArrayList<>();
-        Page<List<GlPackage>> page = api.listPackages0(projectIdentifier, params);
-        packages.addAll(page.getContent());
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            try {
-                collectPackages(page, packages);
-            } catch (URISyntaxException e) {
-                throw new IOException(e);
-            }
-        }
-
+        forEach(api.listPackages0(projectIdentifier, params), api::listPackages1, packages::add);
         return packages;
     }
 
-    private void collectPackages(Page<List<GlPackage>> page, List<GlPackage> packages) throws URISyntaxException {
-        URI next = new URI(page.getLinks().next());
-        context.getLogger().debug(next.toString());
-
-        page = api.listPackages1(next);
-        packages.addAll(page.getContent());
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            collectPackages(page, packages);
-        }
-    }
-
     Map<String, GlLink> listLinks(Integer projectIdentifier, String tagName) throws IOException {
         context.getLogger().debug(RB.$("gitlab.list.links"), tagName, projectIdentifier);
 
         List<GlLink> links = new ArrayList<>();
-        Page<List<GlLink>> page = api.listLinks0(projectIdentifier, tagName);
-        links.addAll(page.getContent());
-
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            try {
-                collectLinks(page, links);
-            } catch (URISyntaxException e) {
-                throw new IOException(e);
-            }
-        }
+        forEach(api.listLinks0(projectIdentifier, tagName), api::listLinks1, links::add);
 
         return links.stream()
             .collect(Collectors.toMap(GlLink::getName, Function.identity()));
     }
 
-    private void collectLinks(Page<List<GlLink>> page, List<GlLink> links) throws URISyntaxException {
-        URI next = new URI(page.getLinks().next());
-        context.getLogger().debug(next.toString());
+    void deleteLinkedAsset(String token, Integer projectIdentifier, String tagName, GlLink link) throws IOException {
+        context.getLogger().info(" " + RB.$("git.delete.asset"), link.getName());
 
-        page = api.listLinks1(next);
-        links.addAll(page.getContent());
+        deleteUploadedFile(token, link.getName(), link.getUrl());
 
-        if (page.hasLinks() && page.getLinks().hasNext()) {
-            collectLinks(page, links);
-        }
+        context.getLogger().debug(RB.$("gitlab.delete.link", link.getId(), link.getName()));
+        api.deleteLink(projectIdentifier, tagName, link.getId());
     }
 
-    void deleteLinkedAsset(String token, Integer projectIdentifier, String tagName, GlLink link) throws IOException {
-        context.getLogger().info(" " + RB.$("git.delete.asset"), link.getName());
+    /**
+     * Deletes files uploaded for a release that could not be created or linked to them,
+     * as uploads are not bound to a release. Failures are reported but not rethrown.
+     */
+    void deleteUploads(Collection<GlFileUpload> uploads) {
+        for (GlFileUpload upload : uploads) {
+            try {
+                deleteUploadedFile(token, upload.getName(), apiHost + upload.getFullPath());
+            } catch (IOException | RuntimeException e) {
+                context.getLogger().warn(" " + RB.$("gitlab.delete.file.failure"), upload.getName());
+                context.getLogger().trace(e);
+            }
+        }
+    }
 
+    private void deleteUploadedFile(String token, String filename, String fileUrl) throws IOException {
         Map<String, String> headers = new LinkedHashMap<>();
         headers.put("Authorization", "Bearer " + token);
 
-        context.getLogger().debug(RB.$("gitlab.delete.file", link.getName()));
+        context.getLogger().debug(RB.$("gitlab.delete.file", filename));
         try {
             TemplateContext props = new TemplateContext();
-            props.set("filename", link.getName());
+            props.set("filename", filename);
 
-            String url = link.getUrl().substring(apiHost.length() + 1);
-            url = url.substring(0, url.length() - link.getName().length() - 1);
+            String url = fileUrl.substring(apiHost.length() + 1);
+            url = url.substring(0, url.length() - filename.length() - 1);
             Matcher matcher = UPLOADS_PATTERN.matcher(url);
             if (matcher.matches()) {
                 props.set("projectPath", matcher.group(1));
                 props.set("secret", matcher.group(2));
             } else {
-                throw new IOException(RB.$("ERROR_gitlab_invalid_upload_link", link.getUrl()));
+                throw new IOException(RB.$("ERROR_gitlab_invalid_upload_link", fileUrl));
             }
 
             String payload = resolveTemplate(GRAPQL_DELETE_PAYLOAD, props);
@@ -636,21 +620,20 @@ class Gitlab {
                 connectTimeout,
                 readTimeout,
                 data,
-                headers);
+                headers,
+                resilience);
         } catch (UploadException e) {
             if (e.getCause() instanceof IOException) throw (IOException) e.getCause();
             throw new IOException(e);
         }
-
-        context.getLogger().debug(RB.$("gitlab.delete.link", link.getId(), link.getName()));
-        api.deleteLink(projectIdentifier, tagName, link.getId());
     }
 
-    private FormData toFormData(Path asset) throws IOException {
-        return FormData.builder()
-            .fileName(asset.getFileName().toString())
-            .contentType(MediaType.parse(tika.detect(asset)).toString())
-            .data(Files.readAllBytes(asset))
-            .build();
+    private <T> void forEach(Page<List<T>> first, Function<URI, Page<List<T>>> fetcher, Consumer<? super T> consumer) throws IOException {
+        try {
+            Paginator.forEach(context.getLogger(), first, fetcher, consumer);
+        } catch (IllegalArgumentException e) {
+            // malformed link
+            throw new IOException(e);
+        }
     }
 }
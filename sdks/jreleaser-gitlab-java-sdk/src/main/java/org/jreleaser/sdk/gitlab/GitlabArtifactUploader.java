@@ -25,6 +25,7 @@ import org.jreleaser.model.internal.upload.GitlabUploader;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.Resilience;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -82,7 +83,9 @@ public class GitlabArtifactUploader extends AbstractArtifactUploader<org.jreleas
                         uploader.getConnectTimeout(),
                         uploader.getReadTimeout(),
                         data,
-                        headers);
+                        headers,
+                        Resilience.of(uploader));
+                    uploaded(artifact);
                 } catch (IOException e) {
                     context.getLogger().trace(e);
                     throw new UploadException(RB.$("ERROR_unexpected_upload",
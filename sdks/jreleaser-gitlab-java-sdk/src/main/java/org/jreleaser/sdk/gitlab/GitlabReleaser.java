@@ -33,6 +33,7 @@ import org.jreleaser.model.spi.release.ReleaseException;
 import org.jreleaser.model.spi.release.Repository;
 import org.jreleaser.model.spi.release.User;
 import org.jreleaser.mustache.TemplateContext;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.git.ChangelogProvider;
 import org.jreleaser.sdk.git.GitSdk;
@@ -98,7 +99,8 @@ public class GitlabReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
                 gitlab.getApiEndpoint(),
                 gitlab.getToken(),
                 gitlab.getConnectTimeout(),
-                gitlab.getReadTimeout());
+                gitlab.getReadTimeout(),
+                Resilience.of(gitlab));
 
             if (!context.isDryrun()) {
                 List<String> branchNames = api.listBranches(gitlab.getOwner(), gitlab.getName(), gitlab.getProjectIdentifier());
@@ -179,7 +181,8 @@ public class GitlabReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
             gitlab.getApiEndpoint(),
             password,
             gitlab.getConnectTimeout(),
-            gitlab.getReadTimeout());
+            gitlab.getReadTimeout(),
+            Resilience.of(gitlab));
         GlProject project = null;
 
         try {
@@ -212,7 +215,8 @@ public class GitlabReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
                 gitlab.getApiEndpoint(),
                 gitlab.getToken(),
                 gitlab.getConnectTimeout(),
-                gitlab.getReadTimeout())
+                gitlab.getReadTimeout(),
+                Resilience.of(gitlab))
                 .findUser(email, name);
         } catch (RestAPIException e) {
             context.getLogger().trace(e);
@@ -228,7 +232,8 @@ public class GitlabReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
             gitlab.getApiEndpoint(),
             gitlab.getToken(),
             gitlab.getConnectTimeout(),
-            gitlab.getReadTimeout());
+            gitlab.getReadTimeout(),
+            Resilience.of(gitlab));
 
         List<Release> releases = api.listReleases(owner, repo, gitlab.getProjectIdentifier());
 
@@ -285,17 +290,17 @@ public class GitlabReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
         release.setRef(gitlab.getResolvedBranchPush(context.getModel()));
         release.setDescription(changelog);
 
-        // remote tag/release
-        api.createRelease(gitlab.getOwner(), gitlab.getName(), projectIdentifier, release);
-
+        // uploads are not bound to a release, their links are sent along with the release payload
+        Collection<GlFileUpload> uploads = new ArrayList<>();
         if (!assets.isEmpty()) {
-            Collection<GlFileUpload> uploads = api.uploadAssets(gitlab.getOwner(), gitlab.getName(), projectIdentifier, assets);
-            api.linkReleaseAssets(gitlab.getOwner(), gitlab.getName(), release, projectIdentifier, uploads);
-        }
-        if (!links.isEmpty()) {
-            api.linkAssets(gitlab.getOwner(), gitlab.getName(), release, projectIdentifier, links);
+            uploads = api.uploadAssets(gitlab.getOwner(), gitlab.getName(), projectIdentifier, assets);
         }
 
+        // remote tag/release
+        api.createRelease(gitlab.getOwner(), gitlab.getName(), projectIdentifier, release, uploads, links);
+        // uploads only become release assets once the release links them
+        assets.forEach(this::uploaded);
+
         if (gitlab.getMilestone().isClose() && !context.getModel().getProject().isSnapshot()) {
             Optional<GlMilestone> milestone = api.findMilestoneByName(
                 gitlab.getOwner(),
@@ -323,7 +328,8 @@ public class GitlabReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
 
         assetsToBePublished.keySet().forEach(name -> {
             if (existingAssets.containsKey(name)) {
-                assetsToBeUpdated.add(assetsToBePublished.get(name));
+                Asset asset = assetsToBePublished.get(name);
+                if (!isUploaded(asset)) assetsToBeUpdated.add(asset);
             } else {
                 assetsToBeUploaded.add(assetsToBePublished.get(name));
             }
@@ -346,6 +352,7 @@ public class GitlabReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
 
             Collection<GlFileUpload> uploads = api.uploadAssets(gitlab.getOwner(), gitlab.getName(), projectIdentifier, assetsToBeUpdated);
             api.linkReleaseAssets(gitlab.getOwner(), gitlab.getName(), release, projectIdentifier, uploads);
+            assetsToBeUpdated.forEach(this::uploaded);
         }
     }
 
@@ -353,6 +360,7 @@ public class GitlabReleaser extends AbstractReleaser<org.jreleaser.model.api.rel
         if (!assetsToBeUploaded.isEmpty()) {
             Collection<GlFileUpload> uploads = api.uploadAssets(gitlab.getOwner(), gitlab.getName(), projectIdentifier, assetsToBeUploaded);
             api.linkReleaseAssets(gitlab.getOwner(), gitlab.getName(), release, projectIdentifier, uploads);
+            assetsToBeUploaded.forEach(this::uploaded);
         }
     }
 
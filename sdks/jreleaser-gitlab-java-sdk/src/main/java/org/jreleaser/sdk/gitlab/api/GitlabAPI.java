@@ -85,7 +85,7 @@ public interface GitlabAPI {
     @Headers("Content-Type: application/json")
     List<GlUser> searchUser(@QueryMap Map<String, String> q);
 
-    @RequestLine("GET /projects/{projectId}/releases")
+    @RequestLine("GET /projects/{projectId}/releases?per_page=100")
     @Headers("Content-Type: application/json")
     Page<List<GlRelease>> listReleases0(@Param("projectId") String projectId);
 
@@ -93,7 +93,7 @@ public interface GitlabAPI {
     @Headers("Content-Type: application/json")
     Page<List<GlRelease>> listReleases1(URI uri);
 
-    @RequestLine("GET /projects/{projectId}/repository/branches")
+    @RequestLine("GET /projects/{projectId}/repository/branches?per_page=100")
     @Headers("Content-Type: application/json")
     Page<List<GlBranch>> listBranches0(@Param("projectId") String projectId);
 
@@ -101,7 +101,7 @@ public interface GitlabAPI {
     @Headers("Content-Type: application/json")
     Page<List<GlBranch>> listBranches1(URI uri);
 
-    @RequestLine("GET /projects/{projectId}/labels")
+    @RequestLine("GET /projects/{projectId}/labels?per_page=100")
     @Headers("Content-Type: application/json")
     Page<List<GlLabel>> listLabels0(@Param("projectId") Integer projectId);
 
@@ -113,7 +113,7 @@ public interface GitlabAPI {
     @Headers("Content-Type: application/json")
     GlLabel createLabel(@Param("projectId") Integer projectId, @Param("name") String name, @Param("color") String color, @Param("description") String description);
 
-    @RequestLine("GET /projects/{projectId}/issues")
+    @RequestLine("GET /projects/{projectId}/issues?per_page=100")
     @Headers("Content-Type: application/json")
     Page<List<GlIssue>> listIssues0(@Param("projectId") Integer projectId);
 
@@ -129,7 +129,7 @@ public interface GitlabAPI {
     @Headers("Content-Type: application/json")
     void commentIssue(Map<String, String> params, @Param("projectId") Integer projectId, @Param("issue_iid") Integer iid);
 
-    @RequestLine("GET /projects/{projectId}/packages")
+    @RequestLine("GET /projects/{projectId}/packages?per_page=100")
     @Headers("Content-Type: application/json")
     Page<List<GlPackage>> listPackages0(@Param("projectId") Integer projectId, @QueryMap Map<String, Object> queryMap);
 
@@ -140,7 +140,7 @@ public interface GitlabAPI {
     @RequestLine("DELETE /projects/{projectId}/packages/{packageId}")
     void deletePackage(@Param("projectId") Integer projectId, @Param("packageId") Integer packageId);
 
-    @RequestLine("GET /projects/{projectId}/releases/{tagName}/assets/links")
+    @RequestLine("GET /projects/{projectId}/releases/{tagName}/assets/links?per_page=100")
     @Headers("Content-Type: application/json")
     Page<List<GlLink>> listLinks0(@Param("projectId") Integer projectId, @Param("tagName") String tagName);
 
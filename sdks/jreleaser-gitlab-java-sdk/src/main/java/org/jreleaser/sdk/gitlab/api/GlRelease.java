@@ -34,6 +34,7 @@ public class GlRelease {
     private String tagPath;
     private Date createdAt;
     private Date releasedAt;
+    private GlReleaseAssets assets;
 
     public String getName() {
         return name;
@@ -90,4 +91,12 @@ public class GlRelease {
     public void setReleasedAt(Date releasedAt) {
         this.releasedAt = releasedAt;
     }
+
+    public GlReleaseAssets getAssets() {
+        return assets;
+    }
+
+    public void setAssets(GlReleaseAssets assets) {
+        this.assets = assets;
+    }
 }
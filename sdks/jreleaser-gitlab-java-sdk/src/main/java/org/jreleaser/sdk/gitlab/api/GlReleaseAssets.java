@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.gitlab.api;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GlReleaseAssets {
+    private List<GlLinkRequest> links = new ArrayList<>();
+
+    public List<GlLinkRequest> getLinks() {
+        return links;
+    }
+
+    public void setLinks(List<GlLinkRequest> links) {
+        this.links = links;
+    }
+}
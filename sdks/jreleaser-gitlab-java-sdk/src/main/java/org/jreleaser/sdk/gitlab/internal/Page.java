@@ -18,6 +18,7 @@
 package org.jreleaser.sdk.gitlab.internal;
 
 import org.jreleaser.sdk.commons.Links;
+import org.jreleaser.sdk.commons.Paginated;
 
 import java.util.Collection;
 import java.util.Map;
@@ -26,7 +27,7 @@ import java.util.Map;
  * @author Andres Almiray
  * @since 1.2.0
  */
-public class Page<T> {
+public class Page<T> implements Paginated<T> {
     private final int nextPage;
     private final int page;
     private final int perPage;
@@ -75,10 +76,12 @@ public class Page<T> {
         return totalPages;
     }
 
+    @Override
     public Links getLinks() {
         return links;
     }
 
+    @Override
     public T getContent() {
         return content;
     }
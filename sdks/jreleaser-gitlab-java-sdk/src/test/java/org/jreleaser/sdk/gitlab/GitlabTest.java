@@ -0,0 +1,185 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.gitlab;
+
+import org.jreleaser.extensions.api.ExtensionManager;
+import org.jreleaser.extensions.api.ExtensionManagerHolder;
+import org.jreleaser.extensions.api.ExtensionPoint;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.spi.release.Asset;
+import org.jreleaser.sdk.commons.HttpTransport;
+import org.jreleaser.sdk.commons.Resilience;
+import org.jreleaser.sdk.commons.RestAPIException;
+import org.jreleaser.sdk.gitlab.api.GlFileUpload;
+import org.jreleaser.sdk.gitlab.api.GlRelease;
+import org.jreleaser.test.WireMockExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class GitlabTest {
+    private static final Integer PROJECT_ID = 42;
+    private static final String UPLOADS = "/api/v4/projects/42/uploads";
+    private static final String RELEASES = "/api/v4/projects/42/releases";
+    private static final String GRAPHQL = "/api/graphql";
+
+    @RegisterExtension
+    WireMockExtension api = new WireMockExtension(options().dynamicPort());
+
+    @TempDir
+    Path directory;
+
+    private final JReleaserContext context = JReleaserContext.empty();
+
+    @BeforeEach
+    void setup() {
+        // deleting uploads renders a GraphQL payload, no extensions take part in it
+        ExtensionManagerHolder.set(new ExtensionManager() {
+            @Override
+            public <T extends ExtensionPoint> Set<T> findExtensionPoints(Class<T> extensionPointType) {
+                return Collections.emptySet();
+            }
+        });
+    }
+
+    @AfterEach
+    void cleanup() {
+        ExtensionManagerHolder.cleanup();
+        HttpTransport.shutdown(context.getLogger());
+    }
+
+    @Test
+    void createsReleaseTogetherWithItsLinks() throws Exception {
+        // given:
+        stubUpload("app-1.0.0.zip", "s1");
+        stubUpload("app-1.0.0.tar", "s2");
+        stubFor(post(urlEqualTo(RELEASES)).willReturn(aResponse().withStatus(201)));
+        Gitlab gitlab = gitlab();
+
+        // when:
+        Collection<GlFileUpload> uploads = gitlab.uploadAssets("jreleaser", "app", PROJECT_ID,
+            assets("app-1.0.0.zip", "app-1.0.0.tar"));
+        gitlab.createRelease("jreleaser", "app", PROJECT_ID, release(), uploads, Collections.emptyList());
+
+        // then:
+        assertThat(uploads).extracting(GlFileUpload::getName)
+            .containsExactlyInAnyOrder("app-1.0.0.zip", "app-1.0.0.tar");
+        verify(2, postRequestedFor(urlEqualTo(UPLOADS)));
+        verify(1, postRequestedFor(urlEqualTo(RELEASES))
+            .withRequestBody(containing(api.baseUrl() + "/jreleaser/app/uploads/s1/app-1.0.0.zip"))
+            .withRequestBody(containing(api.baseUrl() + "/jreleaser/app/uploads/s2/app-1.0.0.tar")));
+        verify(0, postRequestedFor(urlPathMatching(RELEASES + "/.*/assets/links")));
+        verify(0, postRequestedFor(urlEqualTo(GRAPHQL)));
+    }
+
+    @Test
+    void deletesUploadsWhenTheReleaseCannotBeCreated() throws Exception {
+        // given:
+        stubUpload("app-1.0.0.zip", "s1");
+        stubFor(post(urlEqualTo(RELEASES)).willReturn(aResponse().withStatus(422)));
+        stubFor(post(urlEqualTo(GRAPHQL)).willReturn(aResponse().withStatus(200).withBody("{}")));
+        Gitlab gitlab = gitlab();
+        Collection<GlFileUpload> uploads = gitlab.uploadAssets("jreleaser", "app", PROJECT_ID, assets("app-1.0.0.zip"));
+
+        // when:
+        assertThrows(RestAPIException.class, () ->
+            gitlab.createRelease("jreleaser", "app", PROJECT_ID, release(), uploads, Collections.emptyList()));
+
+        // then:
+        verify(1, postRequestedFor(urlEqualTo(GRAPHQL))
+            .withRequestBody(containing("uploadDelete"))
+            .withRequestBody(containing("s1")));
+    }
+
+    @Test
+    void deletesCompletedUploadsWhenAnotherUploadFails() throws Exception {
+        // given:
+        stubUpload("app-1.0.0.zip", "s1");
+        stubFor(post(urlEqualTo(UPLOADS))
+            .withRequestBody(containing("app-1.0.0.tar"))
+            .willReturn(aResponse().withStatus(403)));
+        stubFor(post(urlEqualTo(GRAPHQL)).willReturn(aResponse().withStatus(200).withBody("{}")));
+        Set<Asset> assets = assets("app-1.0.0.zip", "app-1.0.0.tar");
+
+        // when:
+        assertThrows(IOException.class, () -> gitlab().uploadAssets("jreleaser", "app", PROJECT_ID, assets));
+
+        // then:
+        verify(2, postRequestedFor(urlEqualTo(UPLOADS)));
+        verify(1, postRequestedFor(urlEqualTo(GRAPHQL))
+            .withRequestBody(containing("uploadDelete"))
+            .withRequestBody(containing("s1")));
+    }
+
+    private Gitlab gitlab() {
+        return new Gitlab(context.asImmutable(), api.baseUrl(), "GL_TOKEN", 20, 60, Resilience.of(0, 1));
+    }
+
+    private void stubUpload(String filename, String secret) {
+        stubFor(post(urlEqualTo(UPLOADS))
+            .withRequestBody(containing(filename))
+            .willReturn(aResponse().withStatus(201)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"alt\":\"" + filename + "\",\"url\":\"/uploads/" + secret + "/" + filename + "\"," +
+                    "\"full_path\":\"/jreleaser/app/uploads/" + secret + "/" + filename + "\"}")));
+    }
+
+    private Set<Asset> assets(String... filenames) throws IOException {
+        Set<Asset> assets = new LinkedHashSet<>();
+        for (String filename : filenames) {
+            Path file = directory.resolve(filename);
+            Files.write(file, filename.getBytes(UTF_8));
+            assets.add(Asset.file(file));
+        }
+        return assets;
+    }
+
+    private static GlRelease release() {
+        GlRelease release = new GlRelease();
+        release.setName("v1.0.0");
+        release.setTagName("v1.0.0");
+        return release;
+    }
+}
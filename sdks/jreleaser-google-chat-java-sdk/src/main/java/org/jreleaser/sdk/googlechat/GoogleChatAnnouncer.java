@@ -17,6 +17,7 @@
  */
 package org.jreleaser.sdk.googlechat;
 
+import org.jreleaser.logging.LogScope;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.spi.announce.AnnounceException;
 import org.jreleaser.model.spi.announce.Announcer;
@@ -53,13 +54,10 @@ public class GoogleChatAnnouncer implements Announcer<org.jreleaser.model.api.an
 
     @Override
     public void announce() throws AnnounceException {
-        context.getLogger().setPrefix("webhook." + getName());
-        try {
+        try (LogScope scope = context.getLogger().scope("webhook." + getName())) {
             WebhooksAnnouncer.announce(context, googleChat.asWebhookAnnouncer(), false);
         } catch (AnnounceException x) {
             context.getLogger().warn(x.getMessage().trim());
-        } finally {
-            context.getLogger().restorePrefix();
         }
     }
 }
@@ -20,6 +20,7 @@ package org.jreleaser.sdk.http;
 import feign.form.FormData;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.extensions.api.workflow.WorkflowListenerException;
+import org.jreleaser.logging.LogScope;
 import org.jreleaser.model.Http;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.api.announce.HttpAnnouncers;
@@ -30,6 +31,7 @@ import org.jreleaser.model.spi.announce.Announcer;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.mustache.TemplateContext;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.Resilience;
 
 import java.util.Base64;
 import java.util.LinkedHashMap;
@@ -74,13 +76,10 @@ public class HttpAnnouncer implements Announcer<org.jreleaser.model.api.announce
 
         for (Map.Entry<String, org.jreleaser.model.internal.announce.HttpAnnouncer> e : http.entrySet()) {
             if (e.getValue().isEnabled()) {
-                context.getLogger().setPrefix("http." + e.getKey());
-                try {
+                try (LogScope scope = context.getLogger().scope("http." + e.getKey())) {
                     announce(e.getValue());
                 } catch (AnnounceException x) {
                     context.getLogger().warn(x.getMessage().trim());
-                } finally {
-                    context.getLogger().restorePrefix();
                 }
             }
         }
@@ -136,14 +135,16 @@ public class HttpAnnouncer implements Announcer<org.jreleaser.model.api.announce
                     announcer.getConnectTimeout(),
                     announcer.getReadTimeout(),
                     data,
-                    headers);
+                    headers,
+                    Resilience.of(announcer));
             } else {
                 ClientUtils.putFile(context.getLogger(),
                     resolvedUrl,
                     announcer.getConnectTimeout(),
                     announcer.getReadTimeout(),
                     data,
-                    headers);
+                    headers,
+                    Resilience.of(announcer));
             }
 
             fireAnnouncerEvent(ExecutionEvent.success(JReleaserCommand.ANNOUNCE.toStep()), announcer);
@@ -23,11 +23,17 @@ import org.jreleaser.model.internal.download.Downloader;
 import org.jreleaser.model.internal.download.HttpDownloader;
 import org.jreleaser.model.spi.download.DownloadException;
 import org.jreleaser.sdk.commons.AbstractArtifactDownloader;
+import org.jreleaser.sdk.commons.Resilience;
+import org.jreleaser.sdk.commons.SegmentedDownloader;
+import org.jreleaser.sdk.tool.DownloadCache;
+import org.jreleaser.util.ConcurrencyUtils;
 
-import java.io.IOException;
-import java.net.URI;
-import java.net.URISyntaxException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import static org.jreleaser.util.StringUtils.isBlank;
 
@@ -36,6 +42,7 @@ import static org.jreleaser.util.StringUtils.isBlank;
  * @since 1.1.0
  */
 public class HttpArtifactDownloader extends AbstractArtifactDownloader<org.jreleaser.model.api.download.HttpDownloader, HttpDownloader> {
+
     private HttpDownloader downloader;
 
     public HttpArtifactDownloader(JReleaserContext context) {
@@ -59,12 +66,23 @@ public class HttpArtifactDownloader extends AbstractArtifactDownloader<org.jrele
 
     @Override
     public void download(String name) throws DownloadException {
-        for (Downloader.Asset asset : downloader.getAssets()) {
-            downloadAsset(name, asset);
+        List<Downloader.Asset> assets = downloader.getAssets();
+        List<Path> outputPaths = new ArrayList<>();
+        for (Downloader.Asset asset : assets) {
+            outputPaths.add(resolveOutputPath(name, asset));
+        }
+
+        if (!context.isDryrun()) {
+            downloadAssets(assets, outputPaths);
+        }
+
+        // archives are unpacked in declaration order once every download has completed
+        for (int i = 0; i < assets.size(); i++) {
+            unpack(assets.get(i).getUnpack(), outputPaths.get(i));
         }
     }
 
-    private void downloadAsset(String name, Downloader.Asset asset) throws DownloadException {
+    private Path resolveOutputPath(String name, Downloader.Asset asset) {
         String input = asset.getResolvedInput(context, downloader);
         String output = asset.getResolvedOutput(context, downloader, getFilename(input));
 
@@ -74,20 +92,47 @@ public class HttpArtifactDownloader extends AbstractArtifactDownloader<org.jrele
 
         Path outputPath = context.getDownloadDirectory().resolve(name).resolve(output);
         context.getLogger().info("{} -> {}", input, context.relativizeToBasedir(outputPath));
+        return outputPath;
+    }
 
-        if (!context.isDryrun()) {
-            try {
-                org.apache.commons.io.FileUtils.copyURLToFile(
-                    new URI(input).toURL(),
-                    outputPath.toFile(),
-                    downloader.getConnectTimeout() * 1000,
-                    downloader.getReadTimeout() * 1000);
-            } catch (URISyntaxException | IOException e) {
-                throw new DownloadException(RB.$("ERROR_unexpected_download", input), e);
+    private void downloadAssets(List<Downloader.Asset> assets, List<Path> outputPaths) throws DownloadException {
+        // assets and their segments share a single pool, bounding connections to its size
+        ExecutorService executor = ConcurrencyUtils.newFixedThreadPool("download",
+            ConcurrencyUtils.concurrency(), context.getLogger());
+        SegmentedDownloader engine = SegmentedDownloader.of(context.getLogger(),
+                downloader.getConnectTimeout(),
+                downloader.getReadTimeout(),
+                Resilience.defaults(),
+                DownloadCache.defaults())
+            .sharing(executor);
+
+        try {
+            List<Future<?>> downloads = new ArrayList<>();
+            for (int i = 0; i < assets.size(); i++) {
+                Downloader.Asset asset = assets.get(i);
+                Path outputPath = outputPaths.get(i);
+                downloads.add(executor.submit(() -> {
+                    engine.download(asset.getResolvedInput(context, downloader), outputPath, resolveChecksums(asset));
+                    return null;
+                }));
             }
-        }
 
-        unpack(asset.getUnpack(), outputPath);
+            for (int i = 0; i < downloads.size(); i++) {
+                String input = assets.get(i).getResolvedInput(context, downloader);
+                try {
+                    downloads.get(i).get();
+                } catch (ExecutionException e) {
+                    Throwable cause = null != e.getCause() ? e.getCause() : e;
+                    context.getLogger().trace(cause);
+                    throw new DownloadException(RB.$("ERROR_unexpected_download", input), cause);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DownloadException(RB.$("ERROR_unexpected_error"), e);
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     private String getFilename(String name) {
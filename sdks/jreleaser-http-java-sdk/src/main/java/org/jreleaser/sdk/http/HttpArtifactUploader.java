@@ -27,6 +27,7 @@ import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.mustache.TemplateContext;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.Resilience;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -106,15 +107,18 @@ public class HttpArtifactUploader extends AbstractArtifactUploader<org.jreleaser
                             uploader.getConnectTimeout(),
                             uploader.getReadTimeout(),
                             data,
-                            headers);
+                            headers,
+                            Resilience.of(uploader));
                     } else {
                         ClientUtils.putFile(context.getLogger(),
                             uploader.getResolvedUploadUrl(context, artifact),
                             uploader.getConnectTimeout(),
                             uploader.getReadTimeout(),
                             data,
-                            headers);
+                            headers,
+                            Resilience.of(uploader));
                     }
+                    uploaded(artifact);
                 } catch (IOException e) {
                     context.getLogger().trace(e);
                     throw new UploadException(RB.$("ERROR_unexpected_upload",
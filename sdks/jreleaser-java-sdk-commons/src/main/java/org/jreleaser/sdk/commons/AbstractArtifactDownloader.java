@@ -17,16 +17,25 @@
  */
 package org.jreleaser.sdk.commons;
 
+import org.apache.commons.codec.binary.Hex;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.download.Downloader;
 import org.jreleaser.model.spi.download.ArtifactDownloader;
 import org.jreleaser.model.spi.download.DownloadException;
+import org.jreleaser.sdk.tool.DownloadCache;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
 import org.jreleaser.util.FileType;
 import org.jreleaser.util.FileUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -55,4 +64,51 @@ public abstract class AbstractArtifactDownloader<A extends org.jreleaser.model.a
             }
         }
     }
+
+    protected Map<Algorithm, String> resolveChecksums(Downloader.Asset asset) {
+        Map<Algorithm, String> checksums = new LinkedHashMap<>();
+        asset.getChecksums().forEach((k, v) -> checksums.put(Algorithm.of(k), v));
+        return checksums;
+    }
+
+    protected void verifyChecksums(Downloader.Asset asset, String input, Path outputPath) throws DownloadException {
+        verifyChecksums(asset, input, outputPath, null);
+    }
+
+    /**
+     * Verifies the checksums of a downloaded asset, evicting {@code cacheUrl} from the
+     * {@link DownloadCache} when they do not match.
+     *
+     * @param cacheUrl the URL the asset was cached with, may be {@code null}.
+     * @since 1.14.0
+     */
+    protected void verifyChecksums(Downloader.Asset asset, String input, Path outputPath, String cacheUrl) throws DownloadException {
+        if (context.isDryrun() || asset.getChecksums().isEmpty()) return;
+
+        try {
+            byte[] buffer = new byte[8192];
+            for (Map.Entry<Algorithm, String> e : resolveChecksums(asset).entrySet()) {
+                if (null == e.getKey()) {
+                    throw new DownloadException(RB.$("ERROR_download_checksum_algorithm", input, e.getValue()));
+                }
+                MessageDigest digest = ChecksumUtils.messageDigest(e.getKey());
+                try (InputStream in = Files.newInputStream(outputPath)) {
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        digest.update(buffer, 0, read);
+                    }
+                }
+
+                String actual = Hex.encodeHexString(digest.digest());
+                if (!e.getValue().trim().equalsIgnoreCase(actual)) {
+                    Files.deleteIfExists(outputPath);
+                    if (null != cacheUrl) DownloadCache.defaults().evict(cacheUrl);
+                    throw new DownloadException(RB.$("ERROR_download_checksum_mismatch", e.getKey().formatted(), input, e.getValue(), actual));
+                }
+                context.getLogger().debug(RB.$("download.checksum.verified"), e.getKey().formatted(), input);
+            }
+        } catch (IOException e) {
+            throw new DownloadException(RB.$("ERROR_unexpected_download", input), e);
+        }
+    }
 }
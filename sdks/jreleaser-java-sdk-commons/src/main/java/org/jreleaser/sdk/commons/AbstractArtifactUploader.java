@@ -17,6 +17,7 @@
  */
 package org.jreleaser.sdk.commons;
 
+import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.internal.catalog.sbom.SbomCataloger;
 import org.jreleaser.model.internal.checksum.Checksum;
@@ -30,6 +31,7 @@ import org.jreleaser.model.internal.util.Artifacts;
 import org.jreleaser.model.spi.catalog.sbom.SbomCatalogerProcessorHelper;
 import org.jreleaser.model.spi.upload.ArtifactUploader;
 import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.Timings;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -38,6 +40,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
+import static java.util.Collections.singletonList;
 import static org.jreleaser.model.Constants.KEY_PLATFORM_REPLACED;
 import static org.jreleaser.model.api.checksum.Checksum.INDIVIDUAL_CHECKSUM;
 import static org.jreleaser.model.api.checksum.Checksum.KEY_SKIP_CHECKSUM;
@@ -154,9 +157,39 @@ public abstract class AbstractArtifactUploader<A extends org.jreleaser.model.api
             artifacts.addAll(SbomCatalogerProcessorHelper.resolveArtifacts(context));
         }
 
+        if (context.isResume()) {
+            artifacts.removeIf(this::isUploaded);
+        }
+
         return artifacts;
     }
 
+    /**
+     * Records an artifact as uploaded so that a resumed release does not upload it again.
+     * Its size is added to the bytes transferred by the current timing span.
+     *
+     * @param artifact the artifact that was uploaded
+     * @since 1.14.0
+     */
+    protected void uploaded(Artifact artifact) {
+        Path path = artifact.getEffectivePath(context);
+        Timings.current().add(Timings.BYTES, path.toFile().length());
+        context.getJournal().done(journalOperation(path), singletonList(path));
+    }
+
+    private boolean isUploaded(Artifact artifact) {
+        Path path = artifact.getEffectivePath(context);
+        if (context.getJournal().isDone(journalOperation(path), singletonList(path))) {
+            context.getLogger().info(RB.$("context.journal.skip"), path.getFileName());
+            return true;
+        }
+        return false;
+    }
+
+    private String journalOperation(Path path) {
+        return "upload." + getUploader().getType() + "." + getUploader().getName() + "." + path.getFileName();
+    }
+
     private boolean isSkip(ExtraProperties props, List<String> keys) {
         for (String key : keys) {
             if (props.extraPropertyIsTrue(key)) {
@@ -18,7 +18,12 @@
 package org.jreleaser.sdk.commons;
 
 import feign.form.FormData;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.util.EntityUtils;
 import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.LogScope;
 import org.jreleaser.model.JReleaserException;
 import org.jreleaser.model.api.signing.SigningException;
 import org.jreleaser.model.internal.JReleaserContext;
@@ -45,11 +50,8 @@ import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 import java.io.IOException;
-import java.net.HttpURLConnection;
-import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.URL;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -318,14 +320,11 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
                 continue;
             }
 
-            try {
-                context.getLogger().setPrefix("sign");
+            try (LogScope scope = context.getLogger().scope("sign")) {
                 SigningUtils.sign(context.asImmutable(), deployable.getLocalPath());
                 deployables.add(signedDeployable);
             } catch (SigningException e) {
                 throw new JReleaserException(RB.$("ERROR_unexpected_error_signing_file", deployable.getFilename()), e);
-            } finally {
-                context.getLogger().restorePrefix();
             }
         }
     }
@@ -377,17 +376,21 @@ public abstract class AbstractMavenDeployer<A extends org.jreleaser.model.api.de
         context.getLogger().info(RB.$("signing.check.published.key", keyID));
         for (Map.Entry<String, String> e : KEY_SERVERS.entrySet()) {
             try {
-                URL url = new URI(String.format(e.getValue(), keyID)).toURL();
-                HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-                connection.setConnectTimeout(20_000);
-                connection.setReadTimeout(40_000);
-                if (connection.getResponseCode() < 400) {
-                    context.getLogger().debug(" + " + e.getKey());
-                    published = true;
-                } else {
-                    context.getLogger().debug(" x " + e.getKey());
+                HttpGet request = new HttpGet(new URI(String.format(e.getValue(), keyID)));
+                request.setConfig(RequestConfig.custom()
+                    .setConnectTimeout(20_000)
+                    .setSocketTimeout(40_000)
+                    .build());
+                try (CloseableHttpResponse response = HttpTransport.get().httpClient().execute(request)) {
+                    EntityUtils.consumeQuietly(response.getEntity());
+                    if (response.getStatusLine().getStatusCode() < 400) {
+                        context.getLogger().debug(" + " + e.getKey());
+                        published = true;
+                    } else {
+                        context.getLogger().debug(" x " + e.getKey());
+                    }
                 }
-            } catch (MalformedURLException | URISyntaxException ignored) {
+            } catch (URISyntaxException ignored) {
                 // ignored
             } catch (IOException ex) {
                 context.getLogger().debug(RB.$("ERROR_unexpected_error") + " " + ex.getMessage());
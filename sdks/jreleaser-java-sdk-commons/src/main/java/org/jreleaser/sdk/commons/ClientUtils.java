@@ -23,11 +23,21 @@ import feign.Client;
 import feign.Feign;
 import feign.Request;
 import feign.Response;
+import feign.Retryer;
 import feign.form.FormData;
 import feign.form.FormEncoder;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
 import org.apache.commons.io.IOUtils;
+import org.apache.http.Header;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.util.EntityUtils;
 import org.apache.tika.Tika;
 import org.apache.tika.mime.MediaType;
 import org.jreleaser.bundle.RB;
@@ -39,30 +49,32 @@ import org.jreleaser.model.internal.JReleaserModelPrinter;
 import org.jreleaser.model.spi.announce.AnnounceException;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.feign.FeignLogger;
+import org.jreleaser.util.JfrEvents;
 
-import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
-import javax.net.ssl.SSLSession;
-import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
-import java.net.HttpURLConnection;
+import java.io.SequenceInputStream;
+import java.io.StringReader;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
-import static org.jreleaser.util.IoUtils.newInputStreamReader;
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
 /**
@@ -98,18 +110,44 @@ public final class ClientUtils {
     public static Feign.Builder builder(JReleaserContext context,
                                         int connectTimeout,
                                         int readTimeout) {
-        requireNonNull(context, "'logger' must not be null");
+        return builder(context, connectTimeout, readTimeout, Resilience.defaults());
+    }
 
-        Feign.Builder builder = Feign.builder();
+    public static Feign.Builder builder(JReleaserContext context,
+                                        int connectTimeout,
+                                        int readTimeout,
+                                        Resilience resilience) {
+        requireNonNull(resilience, "'resilience' must not be null");
+        return builder(context, connectTimeout, readTimeout,
+            resilience.wrap(context.getLogger(), HttpTransport.get().feignClient()));
+    }
+
+    public static Feign.Builder builder(JReleaserContext context,
+                                        int connectTimeout,
+                                        int readTimeout,
+                                        Resilience resilience,
+                                        HttpResponseCache cache) {
+        requireNonNull(resilience, "'resilience' must not be null");
+        requireNonNull(cache, "'cache' must not be null");
+        // conditional requests are retried as a whole, revalidating on every attempt
+        return builder(context, connectTimeout, readTimeout,
+            resilience.wrap(context.getLogger(), cache.wrap(context.getLogger(), HttpTransport.get().feignClient())));
+    }
+
+    private static Feign.Builder builder(JReleaserContext context,
+                                         int connectTimeout,
+                                         int readTimeout,
+                                         Client client) {
+        requireNonNull(context, "'logger' must not be null");
 
         if (Boolean.getBoolean("jreleaser.disableSslValidation")) {
             context.getLogger().warn(RB.$("warn_ssl_disabled"));
-            builder = builder.client(
-                new Client.Default(nonValidatingSSLSocketFactory(),
-                    new NonValidatingHostnameVerifier()));
         }
 
-        return builder
+        return Feign.builder()
+            .client(client)
+            // retries are handled by the resilience policy
+            .retryer(Retryer.NEVER_RETRY)
             .logger(new FeignLogger(context.getLogger()))
             .logLevel(FeignLogger.resolveLevel(context))
             .encoder(new FormEncoder(new JacksonEncoder()))
@@ -135,13 +173,22 @@ public final class ClientUtils {
                                int connectTimeout,
                                int readTimeout,
                                Object message) throws AnnounceException {
+        webhook(logger, webhookUrl, connectTimeout, readTimeout, message, Resilience.defaults());
+    }
+
+    public static void webhook(JReleaserLogger logger,
+                               String webhookUrl,
+                               int connectTimeout,
+                               int readTimeout,
+                               Object message,
+                               Resilience resilience) throws AnnounceException {
         if (message instanceof String) {
-            webhook(logger, webhookUrl, connectTimeout, readTimeout, (String) message);
+            webhook(logger, webhookUrl, connectTimeout, readTimeout, (String) message, resilience);
         }
 
         try {
             ObjectMapper objectMapper = new ObjectMapper();
-            webhook(logger, webhookUrl, connectTimeout, readTimeout, objectMapper.writeValueAsString(message));
+            webhook(logger, webhookUrl, connectTimeout, readTimeout, objectMapper.writeValueAsString(message), resilience);
         } catch (JsonProcessingException e) {
             throw new AnnounceException(e);
         }
@@ -152,7 +199,16 @@ public final class ClientUtils {
                                int connectTimeout,
                                int readTimeout,
                                String message) throws AnnounceException {
-        post(logger, webhookUrl, connectTimeout, readTimeout, message, emptyMap());
+        webhook(logger, webhookUrl, connectTimeout, readTimeout, message, Resilience.defaults());
+    }
+
+    public static void webhook(JReleaserLogger logger,
+                               String webhookUrl,
+                               int connectTimeout,
+                               int readTimeout,
+                               String message,
+                               Resilience resilience) throws AnnounceException {
+        post(logger, webhookUrl, connectTimeout, readTimeout, message, emptyMap(), resilience);
     }
 
     public static void post(JReleaserLogger logger,
@@ -161,52 +217,46 @@ public final class ClientUtils {
                             int readTimeout,
                             String message,
                             Map<String, String> headers) throws AnnounceException {
+        post(logger, theUrl, connectTimeout, readTimeout, message, headers, Resilience.defaults());
+    }
+
+    public static void post(JReleaserLogger logger,
+                            String theUrl,
+                            int connectTimeout,
+                            int readTimeout,
+                            String message,
+                            Map<String, String> headers,
+                            Resilience resilience) throws AnnounceException {
         try {
-            // create URL
-            URL url = new URI(theUrl).toURL();
-            // open connection
-            logger.debug(RB.$("webhook.connection.open"));
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            // set options
             logger.debug(RB.$("webhook.connection.configure"));
-            connection.setConnectTimeout(connectTimeout * 1000);
-            connection.setReadTimeout(readTimeout * 1000);
-            connection.setAllowUserInteraction(false);
-            connection.setInstanceFollowRedirects(true);
-
-            connection.setRequestMethod("POST");
-            connection.addRequestProperty("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion());
-            connection.addRequestProperty("Content-Type", "application/json");
-            connection.addRequestProperty("Accept", "application/json");
-            headers.forEach(connection::addRequestProperty);
-            connection.setDoOutput(true);
+            HttpPost request = new HttpPost(new URI(theUrl));
+            request.setConfig(requestConfig(connectTimeout, readTimeout));
+            request.addHeader("Content-Type", "application/json");
+            request.addHeader("Accept", "application/json");
+            headers.forEach(request::addHeader);
+            request.setEntity(new ByteArrayEntity(message.getBytes(UTF_8)));
 
             // write message
             logger.debug(RB.$("webhook.message.send"));
-            try (OutputStream os = connection.getOutputStream()) {
-                byte[] input = message.getBytes(UTF_8);
-                os.write(input, 0, input.length);
-            }
-
-            // handle response
-            logger.debug(RB.$("webhook.response.handle"));
-            int status = connection.getResponseCode();
-            if (status >= 400) {
-                String reason = connection.getResponseMessage();
-                StringBuilder b = new StringBuilder("Webhook replied with: ")
-                    .append(status);
-                if (isNotBlank(reason)) {
-                    b.append(" reason: ")
-                        .append(reason);
-                }
-                try (Reader reader = newInputStreamReader(connection.getErrorStream())) {
-                    message = IOUtils.toString(reader);
-                    if (isNotBlank(message)) {
+            try (CloseableHttpResponse response = resilience.execute(logger, request)) {
+                // handle response
+                logger.debug(RB.$("webhook.response.handle"));
+                int status = response.getStatusLine().getStatusCode();
+                String body = null != response.getEntity() ? EntityUtils.toString(response.getEntity(), UTF_8) : "";
+                if (status >= 400) {
+                    String reason = response.getStatusLine().getReasonPhrase();
+                    StringBuilder b = new StringBuilder("Webhook replied with: ")
+                        .append(status);
+                    if (isNotBlank(reason)) {
+                        b.append(" reason: ")
+                            .append(reason);
+                    }
+                    if (isNotBlank(body)) {
                         b.append(",")
-                            .append(message);
+                            .append(body);
                     }
+                    throw new AnnounceException(b.toString());
                 }
-                throw new AnnounceException(b.toString());
             }
         } catch (URISyntaxException | IOException e) {
             logger.trace(e);
@@ -220,8 +270,18 @@ public final class ClientUtils {
                                   int readTimeout,
                                   FormData data,
                                   Map<String, String> headers) throws UploadException {
+        return postFile(logger, uri, connectTimeout, readTimeout, data, headers, Resilience.defaults());
+    }
+
+    public static Reader postFile(JReleaserLogger logger,
+                                  URI uri,
+                                  int connectTimeout,
+                                  int readTimeout,
+                                  FormData data,
+                                  Map<String, String> headers,
+                                  Resilience resilience) throws UploadException {
         headers.put("METHOD", "POST");
-        return uploadFile(logger, uri, connectTimeout, readTimeout, data, headers);
+        return uploadFile(logger, uri, connectTimeout, readTimeout, data, headers, resilience);
     }
 
     public static Reader postFile(JReleaserLogger logger,
@@ -230,9 +290,19 @@ public final class ClientUtils {
                                   int readTimeout,
                                   FormData data,
                                   Map<String, String> headers) throws UploadException {
+        return postFile(logger, url, connectTimeout, readTimeout, data, headers, Resilience.defaults());
+    }
+
+    public static Reader postFile(JReleaserLogger logger,
+                                  String url,
+                                  int connectTimeout,
+                                  int readTimeout,
+                                  FormData data,
+                                  Map<String, String> headers,
+                                  Resilience resilience) throws UploadException {
         headers.put("METHOD", "POST");
         try {
-            return uploadFile(logger, new URI(url), connectTimeout, readTimeout, data, headers);
+            return uploadFile(logger, new URI(url), connectTimeout, readTimeout, data, headers, resilience);
         } catch (URISyntaxException e) {
             logger.trace(e);
             throw new UploadException(e);
@@ -245,98 +315,216 @@ public final class ClientUtils {
                                  int readTimeout,
                                  FormData data,
                                  Map<String, String> headers) throws UploadException {
+        return putFile(logger, url, connectTimeout, readTimeout, data, headers, Resilience.defaults());
+    }
+
+    public static Reader putFile(JReleaserLogger logger,
+                                 String url,
+                                 int connectTimeout,
+                                 int readTimeout,
+                                 FormData data,
+                                 Map<String, String> headers,
+                                 Resilience resilience) throws UploadException {
         headers.put("METHOD", "PUT");
         headers.put("Expect", "100-continue");
         try {
-            return uploadFile(logger, new URI(url), connectTimeout, readTimeout, data, headers);
+            return uploadFile(logger, new URI(url), connectTimeout, readTimeout, data, headers, resilience);
         } catch (URISyntaxException e) {
             logger.trace(e);
             throw new UploadException(e);
         }
     }
 
+    public static Reader putFile(JReleaserLogger logger,
+                                 String url,
+                                 int connectTimeout,
+                                 int readTimeout,
+                                 Path file,
+                                 Map<String, String> headers) throws UploadException {
+        return putFile(logger, url, connectTimeout, readTimeout, file, headers, Resilience.defaults());
+    }
+
+    public static Reader putFile(JReleaserLogger logger,
+                                 String url,
+                                 int connectTimeout,
+                                 int readTimeout,
+                                 Path file,
+                                 Map<String, String> headers,
+                                 Resilience resilience) throws UploadException {
+        headers.put("METHOD", "PUT");
+        headers.put("Expect", "100-continue");
+        try {
+            String contentType = MediaType.parse(TIKA.detect(file)).toString();
+            long contentLength = Files.size(file);
+            return uploadFile(logger, new URI(url), connectTimeout, readTimeout, contentType, contentLength,
+                () -> Files.newInputStream(file), headers, resilience);
+        } catch (URISyntaxException | IOException e) {
+            logger.trace(e);
+            throw new UploadException(e);
+        }
+    }
+
+    public static Reader postMultipartFile(JReleaserLogger logger,
+                                           String url,
+                                           int connectTimeout,
+                                           int readTimeout,
+                                           String fieldName,
+                                           Path file,
+                                           Map<String, String> headers,
+                                           Resilience resilience) throws UploadException {
+        headers.put("METHOD", "POST");
+        try {
+            String boundary = "jreleaser-" + UUID.randomUUID().toString().replace("-", "");
+            String fileName = file.getFileName().toString().replace("\"", "%22");
+            byte[] head = ("--" + boundary + "\r\n" +
+                "Content-Disposition: form-data; name=\"" + fieldName + "\"; filename=\"" + fileName + "\"\r\n" +
+                "Content-Type: " + MediaType.parse(TIKA.detect(file)) + "\r\n\r\n").getBytes(UTF_8);
+            byte[] tail = ("\r\n--" + boundary + "--\r\n").getBytes(UTF_8);
+            long contentLength = head.length + Files.size(file) + tail.length;
+
+            // the file is streamed straight into the request instead of being buffered as a byte[]
+            return uploadFile(logger, new URI(url), connectTimeout, readTimeout,
+                "multipart/form-data; boundary=" + boundary, contentLength, () -> new SequenceInputStream(
+                    Collections.enumeration(Arrays.asList(
+                        new ByteArrayInputStream(head),
+                        Files.newInputStream(file),
+                        new ByteArrayInputStream(tail)))), headers, resilience);
+        } catch (URISyntaxException | IOException e) {
+            logger.trace(e);
+            throw new UploadException(e);
+        }
+    }
+
     private static Reader uploadFile(JReleaserLogger logger,
                                      URI uri,
                                      int connectTimeout,
                                      int readTimeout,
                                      FormData data,
-                                     Map<String, String> headers) throws UploadException {
-        try {
-            // create URL
-            URL theUrl = uri.toURL();
-            logger.debug("url: {}", theUrl);
-
-            // open connection
-            logger.debug(RB.$("webhook.connection.open"));
-            HttpURLConnection connection = (HttpURLConnection) theUrl.openConnection();
-            // set options
-            logger.debug(RB.$("webhook.connection.configure"));
-            connection.setConnectTimeout(connectTimeout * 1000);
-            connection.setReadTimeout(readTimeout * 1000);
-            connection.setAllowUserInteraction(false);
-            connection.setInstanceFollowRedirects(true);
+                                     Map<String, String> headers,
+                                     Resilience resilience) throws UploadException {
+        return uploadFile(logger, uri, connectTimeout, readTimeout, data.getContentType(), data.getData().length,
+            () -> new ByteArrayInputStream(data.getData()), headers, resilience);
+    }
+
+    private static Reader uploadFile(JReleaserLogger logger,
+                                     URI uri,
+                                     int connectTimeout,
+                                     int readTimeout,
+                                     String contentType,
+                                     long contentLength,
+                                     BodySource body,
+                                     Map<String, String> headers,
+                                     Resilience resilience) throws UploadException {
+        try (JfrEvents.Probe probe = JfrEvents.begin(JfrEvents.Type.UPLOAD, uri.getHost()).bytes(contentLength)) {
+            logger.debug("url: {}", uri);
 
-            connection.setRequestMethod(headers.remove("METHOD"));
+            logger.debug(RB.$("webhook.connection.configure"));
+            String method = headers.remove("METHOD");
+            HttpEntityEnclosingRequestBase request = "PUT".equals(method) ? new HttpPut(uri) : new HttpPost(uri);
+            request.setConfig(requestConfig(connectTimeout, readTimeout));
             if (!headers.containsKey("Accept")) {
-                connection.addRequestProperty("Accept", "*/*");
+                request.addHeader("Accept", "*/*");
+            }
+            request.setHeader("Content-Type", contentType);
+            headers.forEach(request::setHeader);
+
+            for (Header header : request.getAllHeaders()) {
+                logger.debug(() -> header.getName() + ": " +
+                    (JReleaserModelPrinter.isSecret(header.getName()) ? Constants.HIDE : header.getValue()));
             }
-            connection.addRequestProperty("User-Agent", "JReleaser/" + JReleaserVersion.getPlainVersion());
-            connection.addRequestProperty("Content-Length", data.getData().length + "");
-            connection.setRequestProperty("Content-Type", data.getContentType());
-            headers.forEach(connection::setRequestProperty);
-
-            connection.getRequestProperties().forEach((k, v) -> {
-                if (JReleaserModelPrinter.isSecret(k)) {
-                    logger.debug("{}: {}", k, Constants.HIDE);
-                } else {
-                    logger.debug("{}: {}", k, v);
-                }
-            });
 
-            connection.setDoOutput(true);
+            request.setEntity(new BodyEntity(body, contentType, contentLength));
 
             // write message
             logger.debug(RB.$("webhook.data.send"));
-            try (OutputStream os = connection.getOutputStream()) {
-                os.write(data.getData(), 0, data.getData().length);
-                os.flush();
-            }
-
-            // handle response
-            logger.debug(RB.$("webhook.response.handle"));
-            int status = connection.getResponseCode();
-            if (status >= 400) {
-                String reason = connection.getResponseMessage();
-                StringBuilder b = new StringBuilder("Got ")
-                    .append(status);
-                if (isNotBlank(reason)) {
-                    b.append(" reason: ")
-                        .append(reason);
-                }
-                logger.trace(RB.$("webhook.server.reply", status, reason));
+            try (CloseableHttpResponse response = resilience.execute(logger, request)) {
+                // handle response
+                logger.debug(RB.$("webhook.response.handle"));
+                int status = response.getStatusLine().getStatusCode();
+                String message = null != response.getEntity() ? EntityUtils.toString(response.getEntity(), UTF_8) : "";
+                if (status >= 400) {
+                    String reason = response.getStatusLine().getReasonPhrase();
+                    StringBuilder b = new StringBuilder("Got ")
+                        .append(status);
+                    if (isNotBlank(reason)) {
+                        b.append(" reason: ")
+                            .append(reason);
+                    }
+                    logger.trace(() -> RB.$("webhook.server.reply", status, reason));
 
-                try (Reader reader = newInputStreamReader(connection.getErrorStream())) {
-                    String message = IOUtils.toString(reader);
                     if (isNotBlank(message)) {
                         b.append(", ")
                             .append(message);
                     }
+                    throw new UploadException(b.toString());
                 }
-                throw new UploadException(b.toString());
-            }
 
-            return newInputStreamReader(connection.getInputStream());
+                // the response is fully consumed so that the connection can go back to the pool
+                return new StringReader(message);
+            }
         } catch (IOException e) {
             logger.trace(e);
             throw new UploadException(e);
         }
     }
 
-    private static SSLSocketFactory nonValidatingSSLSocketFactory() {
+    private static RequestConfig requestConfig(int connectTimeout, int readTimeout) {
+        return RequestConfig.custom()
+            .setConnectTimeout(connectTimeout * 1000)
+            .setSocketTimeout(readTimeout * 1000)
+            .setRedirectsEnabled(true)
+            .build();
+    }
+
+    private static final class BodyEntity extends AbstractHttpEntity {
+        private final BodySource body;
+        private final long contentLength;
+
+        private BodyEntity(BodySource body, String contentType, long contentLength) {
+            this.body = body;
+            this.contentLength = contentLength;
+            setContentType(contentType);
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return true;
+        }
+
+        @Override
+        public long getContentLength() {
+            return contentLength;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            return body.open();
+        }
+
+        @Override
+        public void writeTo(OutputStream os) throws IOException {
+            try (InputStream in = body.open()) {
+                IOUtils.copy(in, os);
+            }
+            os.flush();
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface BodySource {
+        InputStream open() throws IOException;
+    }
+
+    static SSLContext nonValidatingSSLContext() {
         try {
             SSLContext sslContext = SSLContext.getInstance("SSL");
             sslContext.init(null, new TrustManager[]{new NonValidatingTrustManager()}, null); // lgtm [java/insecure-trustmanager]
-            return sslContext.getSocketFactory();
+            return sslContext;
         } catch (Exception e) {
             throw new IllegalStateException(e);
         }
@@ -360,11 +548,4 @@ public final class ClientUtils {
             return EMPTY_CERTIFICATES;
         }
     }
-
-    private static class NonValidatingHostnameVerifier implements HostnameVerifier {
-        @Override
-        public boolean verify(String hostname, SSLSession session) {
-            return true;
-        }
-    }
 }
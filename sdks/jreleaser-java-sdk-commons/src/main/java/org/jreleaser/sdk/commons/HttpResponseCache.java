@@ -0,0 +1,314 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.util.FileUtils;
+import org.jreleaser.util.Timings;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.requireNonNull;
+import static org.jreleaser.util.StringUtils.isNotBlank;
+
+/**
+ * On-disk cache for {@code GET} responses that revalidates entries with
+ * {@code If-None-Match} and {@code If-Modified-Since}.
+ * <p>
+ * Entries are keyed by URL and by the credentials sent with the request, so
+ * responses fetched with one token are never served to another. Only JSON
+ * responses carrying an {@code ETag} or {@code Last-Modified} header are stored.
+ * <p>
+ * Each entry is a single file holding the validators, headers and body of a
+ * response, replaced atomically. Credentials are never written, but responses
+ * fetched with them are stored unencrypted, in files readable by their owner
+ * only where the file system supports it. The cache is bounded in size, least
+ * recently used entries are evicted first.
+ *
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+public final class HttpResponseCache {
+    private static final String GET = "GET";
+    private static final String ETAG = "ETag";
+    private static final String LAST_MODIFIED = "Last-Modified";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String[] AUTH_HEADERS = {"Authorization", "PRIVATE-TOKEN"};
+    private static final int MAX_ENTRY_SIZE = 8 * 1024 * 1024;
+    private static final long MAX_CACHE_SIZE = 64L * 1024 * 1024;
+    private static final String ENTRY_SUFFIX = ".json";
+    private static final String TMP_SUFFIX = ".tmp";
+    private static final int NOT_MODIFIED = 304;
+    private static final int OK = 200;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final Path directory;
+    private final long maxSize;
+
+    private HttpResponseCache(Path directory, long maxSize) {
+        this.directory = requireNonNull(directory, "'directory' must not be null");
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Cache stored in the {@code http} directory of the JReleaser cache.
+     */
+    public static HttpResponseCache defaults() {
+        return of(FileUtils.resolveJReleaserCacheDir().resolve("http"));
+    }
+
+    public static HttpResponseCache of(Path directory) {
+        return of(directory, MAX_CACHE_SIZE);
+    }
+
+    static HttpResponseCache of(Path directory, long maxSize) {
+        return new HttpResponseCache(directory, maxSize);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Decorates a Feign client with this cache.
+     */
+    public Client wrap(JReleaserLogger logger, Client client) {
+        return new CachingClient(this, logger, client);
+    }
+
+    Response execute(JReleaserLogger logger, Client delegate, Request request, Request.Options options) throws IOException {
+        if (!isCacheable(request)) {
+            return delegate.execute(request, options);
+        }
+
+        String key = keyOf(request);
+        Entry entry = read(logger, key);
+
+        Request effectiveRequest = request;
+        if (null != entry) {
+            Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+            if (isNotBlank(entry.etag)) headers.put(IF_NONE_MATCH, Collections.singletonList(entry.etag));
+            if (isNotBlank(entry.lastModified)) headers.put(IF_MODIFIED_SINCE, Collections.singletonList(entry.lastModified));
+            effectiveRequest = Request.create(request.httpMethod(), request.url(), headers,
+                request.body(), request.charset(), request.requestTemplate());
+        }
+
+        Response response = delegate.execute(effectiveRequest, options);
+
+        if (null != entry && response.status() == NOT_MODIFIED) {
+            response.close();
+            touch(key);
+            logger.debug(RB.$("http.cache.not.modified"), request.url());
+            Timings.current().add(Timings.CACHE_HITS, 1);
+            return Response.builder()
+                .status(OK)
+                .reason("OK")
+                .request(request)
+                .headers(entry.headers)
+                .body(entry.body)
+                .build();
+        }
+
+        if (response.status() == OK && isStorable(response)) {
+            byte[] body = toByteArray(response);
+            if (null != body) {
+                write(logger, key, request.url(), response, body);
+                return response.toBuilder()
+                    .request(request)
+                    .body(body)
+                    .build();
+            }
+        }
+
+        return response;
+    }
+
+    private static boolean isCacheable(Request request) {
+        return GET.equals(request.httpMethod().name()) &&
+            !request.headers().containsKey(IF_NONE_MATCH) &&
+            !request.headers().containsKey(IF_MODIFIED_SINCE);
+    }
+
+    private static boolean isStorable(Response response) {
+        if (null == response.body()) return false;
+        Integer length = response.body().length();
+        if (null != length && length > MAX_ENTRY_SIZE) return false;
+
+        String contentType = header(response.headers(), CONTENT_TYPE);
+        return isNotBlank(contentType) && contentType.toLowerCase(Locale.ENGLISH).contains("json") &&
+            (isNotBlank(header(response.headers(), ETAG)) || isNotBlank(header(response.headers(), LAST_MODIFIED)));
+    }
+
+    private static byte[] toByteArray(Response response) throws IOException {
+        try (InputStream in = response.body().asInputStream()) {
+            byte[] bytes = Util.toByteArray(in);
+            return bytes.length > MAX_ENTRY_SIZE ? null : bytes;
+        }
+    }
+
+    private static String keyOf(Request request) {
+        StringBuilder b = new StringBuilder(request.url());
+        for (String name : AUTH_HEADERS) {
+            Collection<String> values = request.headers().get(name);
+            if (null != values) {
+                b.append('\n').append(name).append(':').append(String.join(",", values));
+            }
+        }
+        return DigestUtils.sha256Hex(b.toString().getBytes(UTF_8));
+    }
+
+    private static String header(Map<String, Collection<String>> headers, String name) {
+        for (Map.Entry<String, Collection<String>> e : headers.entrySet()) {
+            if (name.equalsIgnoreCase(e.getKey()) && null != e.getValue() && !e.getValue().isEmpty()) {
+                return e.getValue().iterator().next();
+            }
+        }
+        return null;
+    }
+
+    private Entry read(JReleaserLogger logger, String key) {
+        Path file = directory.resolve(key + ENTRY_SUFFIX);
+        if (!Files.exists(file)) return null;
+
+        try {
+            Entry entry = objectMapper.readValue(file.toFile(), Entry.class);
+            return null != entry.body ? entry : null;
+        } catch (IOException e) {
+            logger.trace(e);
+            return null;
+        }
+    }
+
+    private void touch(String key) {
+        try {
+            Files.setLastModifiedTime(directory.resolve(key + ENTRY_SUFFIX), FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignored) {
+            // only affects the order of eviction
+        }
+    }
+
+    private void write(JReleaserLogger logger, String key, String url, Response response, byte[] body) {
+        Entry entry = new Entry();
+        entry.url = url;
+        entry.etag = header(response.headers(), ETAG);
+        entry.lastModified = header(response.headers(), LAST_MODIFIED);
+        response.headers().forEach((k, v) -> entry.headers.put(k, new ArrayList<>(v)));
+        entry.body = body;
+
+        try {
+            Files.createDirectories(directory);
+            // validators and body are replaced together, they can never belong to different responses
+            writeAtomically(directory.resolve(key + ENTRY_SUFFIX), objectMapper.writeValueAsBytes(entry));
+            evict();
+        } catch (IOException e) {
+            // the cache is an optimization, failing to write an entry is not an error
+            logger.trace(e);
+        }
+    }
+
+    private void evict() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> stream = Files.list(directory)) {
+            stream.filter(f -> Files.isRegularFile(f) && !f.getFileName().toString().endsWith(TMP_SUFFIX))
+                .forEach(files::add);
+        }
+
+        long size = 0;
+        Map<Path, FileTime> lastModified = new LinkedHashMap<>();
+        for (Path file : files) {
+            size += Files.size(file);
+            lastModified.put(file, Files.getLastModifiedTime(file));
+        }
+        if (size <= maxSize) return;
+
+        files.sort(Comparator.comparing(lastModified::get));
+        for (Path file : files) {
+            if (size <= maxSize) break;
+            long length = Files.size(file);
+            if (Files.deleteIfExists(file)) size -= length;
+        }
+    }
+
+    private void writeAtomically(Path target, byte[] bytes) throws IOException {
+        // temporary files are only readable by their owner on POSIX file systems
+        Path tmp = Files.createTempFile(directory, target.getFileName().toString(), TMP_SUFFIX);
+        try {
+            Files.write(tmp, bytes);
+            try {
+                Files.move(tmp, target, ATOMIC_MOVE, REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, target, REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    static final class Entry {
+        public String url;
+        public String etag;
+        public String lastModified;
+        public Map<String, Collection<String>> headers = new LinkedHashMap<>();
+        public byte[] body;
+    }
+
+    private static final class CachingClient implements Client {
+        private final HttpResponseCache cache;
+        private final JReleaserLogger logger;
+        private final Client delegate;
+
+        private CachingClient(HttpResponseCache cache, JReleaserLogger logger, Client delegate) {
+            this.cache = cache;
+            this.logger = logger;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Response execute(Request request, Request.Options options) throws IOException {
+            return cache.execute(logger, delegate, request, options);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.sdk.tool.DownloadCache;
+import org.jreleaser.sdk.tool.ToolDownloader;
+import org.kordamp.jipsy.annotations.ServiceProviderFor;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * Downloads tools through the shared {@link HttpTransport}, retrying transient failures and
+ * revalidating contents already stored in the {@link DownloadCache}.
+ *
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+@ServiceProviderFor(ToolDownloader.class)
+public class HttpToolDownloader implements ToolDownloader {
+    private final Resilience resilience;
+    private final DownloadCache cache;
+
+    public HttpToolDownloader() {
+        this(Resilience.defaults(), DownloadCache.defaults());
+    }
+
+    HttpToolDownloader(Resilience resilience, DownloadCache cache) {
+        this.resilience = resilience;
+        this.cache = cache;
+    }
+
+    @Override
+    public void download(JReleaserLogger logger, String url, Path target) throws IOException {
+        SegmentedDownloader.of(logger, 0, 0, resilience, cache)
+            .download(url, target, emptyMap());
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import feign.Client;
+import feign.httpclient.ApacheHttpClient;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.config.ConnectionConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.HttpConnectionFactory;
+import org.apache.http.conn.ManagedHttpClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.DefaultConnectionReuseStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.ManagedHttpClientConnectionFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.model.JReleaserVersion;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HTTP transport shared by all remote SDKs and by every session running in the same JVM.
+ * <p>
+ * Connections are pooled and kept alive across clients, with a bounded number of
+ * connections per host. A transport is created lazily on first use for each value of
+ * the {@code jreleaser.disableSslValidation} system property. Sessions register with
+ * {@link #open()} and release with {@link #shutdown(JReleaserLogger)}; transports are
+ * closed once the last session ends.
+ *
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+public final class HttpTransport {
+    private static final int MAX_CONNECTIONS = 64;
+    private static final int MAX_CONNECTIONS_PER_HOST = 8;
+    private static final long IDLE_TIMEOUT_SECONDS = 30L;
+    private static final Object LOCK = new Object();
+    // keyed by whether SSL validation is disabled
+    private static final Map<Boolean, HttpTransport> INSTANCES = new LinkedHashMap<>();
+    private static int sessions;
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final Client feignClient;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong connections = new AtomicLong();
+
+    private HttpTransport(boolean disableSslValidation) {
+        SSLConnectionSocketFactory sslSocketFactory = disableSslValidation ?
+            new SSLConnectionSocketFactory(ClientUtils.nonValidatingSSLContext(), NoopHostnameVerifier.INSTANCE) :
+            SSLConnectionSocketFactory.getSocketFactory();
+
+        Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
+            .register("http", PlainConnectionSocketFactory.getSocketFactory())
+            .register("https", sslSocketFactory)
+            .build();
+
+        HttpConnectionFactory<HttpRoute, ManagedHttpClientConnection> connectionFactory = new CountingConnectionFactory(connections);
+
+        this.connectionManager = new PoolingHttpClientConnectionManager(registry, connectionFactory);
+        this.connectionManager.setMaxTotal(MAX_CONNECTIONS);
+        this.connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_HOST);
+        this.connectionManager.setValidateAfterInactivity(2000);
+
+        HttpRequestInterceptor counter = (request, context) -> requests.incrementAndGet();
+
+        this.httpClient = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setConnectionManagerShared(true)
+            .setConnectionReuseStrategy(DefaultConnectionReuseStrategy.INSTANCE)
+            .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+            .evictIdleConnections(IDLE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .addInterceptorFirst(counter)
+            .setUserAgent("JReleaser/" + JReleaserVersion.getPlainVersion())
+            .disableCookieManagement()
+            .build();
+        this.feignClient = new ApacheHttpClient(httpClient);
+    }
+
+    /**
+     * Returns the shared transport matching the current SSL validation setting, creating it if needed.
+     */
+    public static HttpTransport get() {
+        boolean disableSslValidation = Boolean.getBoolean("jreleaser.disableSslValidation");
+        synchronized (LOCK) {
+            return INSTANCES.computeIfAbsent(disableSslValidation, HttpTransport::new);
+        }
+    }
+
+    /**
+     * Registers a session, keeping shared transports open until it calls {@link #shutdown(JReleaserLogger)}.
+     */
+    public static void open() {
+        synchronized (LOCK) {
+            sessions++;
+        }
+    }
+
+    /**
+     * Releases a session, discarding its circuit breakers. Shared transports are closed once no
+     * other session remains open, reporting connection reuse metrics.
+     */
+    public static void shutdown(JReleaserLogger logger) {
+        Resilience.release(logger);
+
+        List<HttpTransport> transports;
+        synchronized (LOCK) {
+            if (sessions > 0) sessions--;
+            if (sessions > 0) return;
+            transports = new ArrayList<>(INSTANCES.values());
+            INSTANCES.clear();
+        }
+
+        for (HttpTransport transport : transports) {
+            transport.close(logger);
+        }
+    }
+
+    private void close(JReleaserLogger logger) {
+        if (getRequestCount() > 0) {
+            logger.debug(RB.$("http.transport.metrics"),
+                getRequestCount(),
+                getConnectionCount(),
+                getReusedConnectionCount());
+        }
+
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            logger.trace(e);
+        } finally {
+            connectionManager.shutdown();
+        }
+    }
+
+    public CloseableHttpClient httpClient() {
+        return httpClient;
+    }
+
+    public Client feignClient() {
+        return feignClient;
+    }
+
+    /**
+     * Total number of requests sent through this transport.
+     */
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * Total number of physical connections opened by this transport.
+     */
+    public long getConnectionCount() {
+        return connections.get();
+    }
+
+    /**
+     * Number of requests that were served by an already open connection.
+     */
+    public long getReusedConnectionCount() {
+        return Math.max(0L, requests.get() - connections.get());
+    }
+
+    public PoolStats getPoolStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    private static final class CountingConnectionFactory implements HttpConnectionFactory<HttpRoute, ManagedHttpClientConnection> {
+        private final HttpConnectionFactory<HttpRoute, ManagedHttpClientConnection> delegate = ManagedHttpClientConnectionFactory.INSTANCE;
+        private final AtomicLong counter;
+
+        private CountingConnectionFactory(AtomicLong counter) {
+            this.counter = counter;
+        }
+
+        @Override
+        public ManagedHttpClientConnection create(HttpRoute route, ConnectionConfig config) {
+            counter.incrementAndGet();
+            return delegate.create(route, config);
+        }
+    }
+}
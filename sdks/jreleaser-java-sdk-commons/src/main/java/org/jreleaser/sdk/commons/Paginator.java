@@ -0,0 +1,207 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.util.ConcurrencyUtils;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.jreleaser.util.StringUtils.isBlank;
+
+/**
+ * Walks paginated listings.
+ * <p>
+ * The first page is fetched on its own. When its {@code Link} header reveals the
+ * last page, the remaining pages are fetched concurrently; otherwise {@code next}
+ * links are followed one at a time. Either way items are handed to the consumer
+ * in page order, as soon as each page is available.
+ *
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+public final class Paginator {
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final Pattern PAGE_PATTERN = Pattern.compile("([?&]page=)(\\d+)");
+
+    private Paginator() {
+        // noop
+    }
+
+    /**
+     * Walks a listing whose pages are requested by number, starting at 1.
+     */
+    public static <T> void forEach(JReleaserLogger logger,
+                                   IntFunction<? extends Paginated<? extends Collection<T>>> fetcher,
+                                   Consumer<? super T> consumer) {
+        Paginated<? extends Collection<T>> page = fetcher.apply(1);
+        page.getContent().forEach(consumer);
+
+        Links links = page.getLinks();
+        if (!links.hasNext()) return;
+
+        int last = pageOf(links.last());
+        if (last > 1) {
+            List<IntFunctionTask<T>> tasks = new ArrayList<>();
+            for (int i = 2; i <= last; i++) {
+                tasks.add(new IntFunctionTask<>(fetcher, i));
+            }
+            fetchAll(logger, tasks, consumer);
+            return;
+        }
+
+        int number = 1;
+        while (page.getLinks().hasNext()) {
+            page = fetcher.apply(++number);
+            page.getContent().forEach(consumer);
+        }
+    }
+
+    /**
+     * Walks a listing whose pages are requested by following links, given its first page.
+     */
+    public static <T> void forEach(JReleaserLogger logger,
+                                   Paginated<? extends Collection<T>> first,
+                                   Function<URI, ? extends Paginated<? extends Collection<T>>> fetcher,
+                                   Consumer<? super T> consumer) {
+        first.getContent().forEach(consumer);
+
+        Links links = first.getLinks();
+        if (!links.hasNext()) return;
+
+        int last = pageOf(links.last());
+        if (last > 1) {
+            List<UriTask<T>> tasks = new ArrayList<>();
+            for (int i = 2; i <= last; i++) {
+                URI uri = URI.create(withPage(links.last(), i));
+                logger.debug(uri.toString());
+                tasks.add(new UriTask<>(fetcher, uri));
+            }
+            fetchAll(logger, tasks, consumer);
+            return;
+        }
+
+        Paginated<? extends Collection<T>> page = first;
+        while (page.getLinks().hasNext()) {
+            URI next = URI.create(page.getLinks().next());
+            logger.debug(next.toString());
+            page = fetcher.apply(next);
+            page.getContent().forEach(consumer);
+        }
+    }
+
+    /**
+     * Collects all items of a listing whose pages are requested by number.
+     */
+    public static <T> List<T> collect(JReleaserLogger logger,
+                                      IntFunction<? extends Paginated<? extends Collection<T>>> fetcher) {
+        List<T> items = new ArrayList<>();
+        forEach(logger, fetcher, items::add);
+        return items;
+    }
+
+    /**
+     * Collects all items of a listing whose pages are requested by following links.
+     */
+    public static <T> List<T> collect(JReleaserLogger logger,
+                                      Paginated<? extends Collection<T>> first,
+                                      Function<URI, ? extends Paginated<? extends Collection<T>>> fetcher) {
+        List<T> items = new ArrayList<>();
+        forEach(logger, first, fetcher, items::add);
+        return items;
+    }
+
+    private static <T> void fetchAll(JReleaserLogger logger, List<? extends PageTask<T>> tasks, Consumer<? super T> consumer) {
+        ExecutorService executor = ConcurrencyUtils.newFixedThreadPool("page", tasks.size(), logger);
+        try {
+            List<Future<Paginated<? extends Collection<T>>>> futures = new ArrayList<>();
+            for (PageTask<T> task : tasks) {
+                futures.add(executor.submit(task::fetch));
+            }
+
+            for (Future<Paginated<? extends Collection<T>>> future : futures) {
+                future.get().getContent().forEach(consumer);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    static int pageOf(String url) {
+        if (isBlank(url)) return -1;
+        Matcher matcher = PAGE_PATTERN.matcher(url);
+        return matcher.find() ? Integer.parseInt(matcher.group(2)) : -1;
+    }
+
+    static String withPage(String url, int page) {
+        Matcher matcher = PAGE_PATTERN.matcher(url);
+        return matcher.find() ? matcher.replaceFirst("$1" + page) : url;
+    }
+
+    private interface PageTask<T> {
+        Paginated<? extends Collection<T>> fetch();
+    }
+
+    private static final class IntFunctionTask<T> implements PageTask<T> {
+        private final IntFunction<? extends Paginated<? extends Collection<T>>> fetcher;
+        private final int page;
+
+        private IntFunctionTask(IntFunction<? extends Paginated<? extends Collection<T>>> fetcher, int page) {
+            this.fetcher = fetcher;
+            this.page = page;
+        }
+
+        @Override
+        public Paginated<? extends Collection<T>> fetch() {
+            return fetcher.apply(page);
+        }
+    }
+
+    private static final class UriTask<T> implements PageTask<T> {
+        private final Function<URI, ? extends Paginated<? extends Collection<T>>> fetcher;
+        private final URI uri;
+
+        private UriTask(Function<URI, ? extends Paginated<? extends Collection<T>>> fetcher, URI uri) {
+            this.fetcher = fetcher;
+            this.uri = uri;
+        }
+
+        @Override
+        public Paginated<? extends Collection<T>> fetch() {
+            return fetcher.apply(uri);
+        }
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import dev.failsafe.CircuitBreaker;
+import dev.failsafe.CircuitBreakerOpenException;
+import dev.failsafe.Failsafe;
+import dev.failsafe.FailsafeException;
+import dev.failsafe.RetryPolicy;
+import dev.failsafe.RetryPolicyBuilder;
+import dev.failsafe.function.CheckedRunnable;
+import dev.failsafe.function.CheckedSupplier;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.apache.http.Header;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.model.internal.common.RetryAware;
+import org.jreleaser.util.Timings;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.unmodifiableSet;
+import static org.jreleaser.util.StringUtils.isBlank;
+
+/**
+ * Retry, backoff and circuit breaking policy shared by all remote SDKs.
+ * <p>
+ * Failed attempts are retried with exponential backoff and jitter, honoring
+ * {@code Retry-After} when the server sends it. Requests that are not idempotent
+ * are only retried when the server did not process them. Consecutive failures
+ * against the same host open a circuit breaker that fails fast for a while.
+ * Circuit breakers belong to the session whose logger they report to and are
+ * discarded by {@link #release(JReleaserLogger)} once it ends.
+ *
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+public final class Resilience {
+    public static final int DEFAULT_MAX_RETRIES = 3;
+    public static final int DEFAULT_RETRY_DELAY = 2;
+
+    private static final Duration MAX_DELAY = Duration.ofSeconds(60);
+    private static final Duration MAX_RETRY_AFTER = Duration.ofMinutes(5);
+    private static final double JITTER = 0.25d;
+    private static final int CIRCUIT_FAILURE_THRESHOLD = 5;
+    private static final Duration CIRCUIT_OPEN_DELAY = Duration.ofSeconds(30);
+
+    private static final Set<String> IDEMPOTENT_METHODS = unmodifiableSet(new HashSet<>(
+        Arrays.asList("GET", "HEAD", "OPTIONS", "PUT", "DELETE", "TRACE")));
+    private static final Set<Integer> TRANSIENT_STATUSES = unmodifiableSet(new HashSet<>(
+        Arrays.asList(408, 429, 500, 502, 503, 504)));
+    private static final Set<Integer> UNPROCESSED_STATUSES = unmodifiableSet(new HashSet<>(
+        Arrays.asList(429, 503)));
+
+    // keyed by the session logger, loggers compare by identity
+    private static final Map<JReleaserLogger, Map<String, CircuitBreaker<Object>>> CIRCUIT_BREAKERS = new ConcurrentHashMap<>();
+    private static final Resilience DEFAULTS = new Resilience(DEFAULT_MAX_RETRIES, DEFAULT_RETRY_DELAY);
+
+    private final int maxRetries;
+    private final int retryDelay;
+
+    private Resilience(int maxRetries, int retryDelay) {
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryDelay = Math.max(1, retryDelay);
+    }
+
+    public static Resilience defaults() {
+        return DEFAULTS;
+    }
+
+    public static Resilience of(int maxRetries, int retryDelay) {
+        return new Resilience(maxRetries, retryDelay);
+    }
+
+    public static Resilience of(RetryAware retryAware) {
+        if (null == retryAware) return DEFAULTS;
+        return new Resilience(
+            null != retryAware.getMaxRetries() ? retryAware.getMaxRetries() : DEFAULT_MAX_RETRIES,
+            null != retryAware.getRetryDelay() ? retryAware.getRetryDelay() : DEFAULT_RETRY_DELAY);
+    }
+
+    /**
+     * Discards the circuit breakers of the session that logs through {@code logger}.
+     */
+    public static void release(JReleaserLogger logger) {
+        CIRCUIT_BREAKERS.remove(logger);
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public int getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * Decorates a Feign client with this policy.
+     */
+    public Client wrap(JReleaserLogger logger, Client client) {
+        return new ResilientClient(this, logger, client);
+    }
+
+    /**
+     * Executes a request through the shared {@link HttpTransport} using this policy.
+     * The returned response may carry an error status once all attempts have been exhausted.
+     */
+    public CloseableHttpResponse execute(JReleaserLogger logger, HttpUriRequest request) throws IOException {
+        String host = hostOf(request.getURI().toString());
+        try (Timings.Span span = Timings.start(Timings.CATEGORY_REMOTE, request.getMethod() + " " + host)) {
+            if (request instanceof HttpEntityEnclosingRequest && null != ((HttpEntityEnclosingRequest) request).getEntity()) {
+                long length = ((HttpEntityEnclosingRequest) request).getEntity().getContentLength();
+                if (length >= 0) span.set(Timings.BYTES, length);
+            }
+            return call(logger, host, request.getMethod(),
+                () -> HttpTransport.get().httpClient().execute(request));
+        }
+    }
+
+    /**
+     * Executes a non HTTP operation against the given target, such as an FTP or SSH transfer.
+     * The operation is assumed to be safe to repeat; only {@code IOException}s are retried.
+     */
+    public void execute(JReleaserLogger logger, String target, CheckedRunnable operation) throws IOException {
+        RetryPolicy<Object> retryPolicy = retryPolicy(logger, target)
+            .handle(IOException.class)
+            .onRetry(e -> Timings.current().add(Timings.RETRIES, 1))
+            .build();
+
+        try (Timings.Span span = Timings.start(Timings.CATEGORY_REMOTE, target)) {
+            Failsafe.with(retryPolicy, circuitBreaker(logger, target))
+                .run(operation);
+        } catch (CircuitBreakerOpenException e) {
+            throw new IOException(RB.$("resilience.circuit.open", target), e);
+        } catch (FailsafeException e) {
+            throw unwrap(e);
+        }
+    }
+
+    <T> T call(JReleaserLogger logger, String host, String method, CheckedSupplier<T> operation) throws IOException {
+        boolean idempotent = IDEMPOTENT_METHODS.contains(method.toUpperCase(Locale.ENGLISH));
+
+        RetryPolicy<Object> retryPolicy = retryPolicy(logger, host)
+            .handleIf((result, failure) -> null != failure ?
+                isRetryable(failure, idempotent) :
+                isRetryable(statusOf(result), idempotent))
+            .withDelayFn(ctx -> retryAfterOf(ctx.getLastResult()))
+            .onRetry(e -> {
+                Timings.current().add(Timings.RETRIES, 1);
+                discard(logger, e.getLastResult());
+            })
+            .build();
+
+        try {
+            return Failsafe.with(retryPolicy, circuitBreaker(logger, host))
+                .get(operation);
+        } catch (CircuitBreakerOpenException e) {
+            throw new IOException(RB.$("resilience.circuit.open", host), e);
+        } catch (FailsafeException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private RetryPolicyBuilder<Object> retryPolicy(JReleaserLogger logger, String target) {
+        final int maxAttempts = maxRetries + 1;
+        return RetryPolicy.builder()
+            .abortOn(CircuitBreakerOpenException.class)
+            .withBackoff(Duration.ofSeconds(retryDelay), MAX_DELAY)
+            .withJitter(JITTER)
+            .withMaxRetries(maxRetries)
+            .onFailedAttempt(e -> logger.debug(RB.$("resilience.failed.attempt"), target,
+                e.getAttemptCount(), maxAttempts, null != e.getLastException() ? e.getLastException() : statusOf(e.getLastResult())));
+    }
+
+    private static CircuitBreaker<Object> circuitBreaker(JReleaserLogger logger, String target) {
+        Map<String, CircuitBreaker<Object>> breakers = CIRCUIT_BREAKERS.computeIfAbsent(logger, k -> new ConcurrentHashMap<>());
+        return breakers.computeIfAbsent(target, k -> CircuitBreaker.builder()
+            .handleIf((result, failure) -> null != failure ?
+                isRetryable(failure, true) :
+                TRANSIENT_STATUSES.contains(statusOf(result)))
+            .withFailureThreshold(CIRCUIT_FAILURE_THRESHOLD)
+            .withDelay(CIRCUIT_OPEN_DELAY)
+            .onOpen(e -> logger.warn(RB.$("resilience.circuit.opened", k, CIRCUIT_OPEN_DELAY.getSeconds())))
+            .build());
+    }
+
+    private static boolean isRetryable(Throwable failure, boolean idempotent) {
+        if (failure instanceof CircuitBreakerOpenException) return false;
+        if (idempotent) return failure instanceof IOException;
+        // only retry when the request never reached the server
+        return failure instanceof ConnectException || failure instanceof ConnectTimeoutException;
+    }
+
+    private static boolean isRetryable(int status, boolean idempotent) {
+        return idempotent ? TRANSIENT_STATUSES.contains(status) : UNPROCESSED_STATUSES.contains(status);
+    }
+
+    private static int statusOf(Object result) {
+        if (result instanceof Response) {
+            return ((Response) result).status();
+        } else if (result instanceof HttpResponse) {
+            return ((HttpResponse) result).getStatusLine().getStatusCode();
+        }
+        return -1;
+    }
+
+    private static Duration retryAfterOf(Object result) {
+        String value = null;
+        if (result instanceof Response) {
+            Collection<String> values = ((Response) result).headers().get("Retry-After");
+            if (null != values && !values.isEmpty()) value = values.iterator().next();
+        } else if (result instanceof HttpResponse) {
+            Header header = ((HttpResponse) result).getFirstHeader("Retry-After");
+            if (null != header) value = header.getValue();
+        }
+
+        Duration delay = parseRetryAfter(value);
+        if (null != delay && delay.compareTo(MAX_RETRY_AFTER) > 0) {
+            return MAX_RETRY_AFTER;
+        }
+        // null falls back to the configured backoff
+        return delay;
+    }
+
+    static Duration parseRetryAfter(String value) {
+        if (isBlank(value)) return null;
+
+        try {
+            return Duration.ofSeconds(Math.max(0L, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                Duration delay = Duration.between(ZonedDateTime.now(date.getZone()), date);
+                return delay.isNegative() ? Duration.ZERO : delay;
+            } catch (RuntimeException ignored) {
+                return null;
+            }
+        }
+    }
+
+    private static String hostOf(String url) {
+        try {
+            String host = new URL(url).getHost();
+            return isBlank(host) ? url : host;
+        } catch (MalformedURLException e) {
+            return url;
+        }
+    }
+
+    private static void discard(JReleaserLogger logger, Object result) {
+        try {
+            if (result instanceof Closeable) {
+                ((Closeable) result).close();
+            }
+        } catch (IOException e) {
+            logger.trace(e);
+        }
+    }
+
+    private static IOException unwrap(FailsafeException e) {
+        if (e.getCause() instanceof IOException) {
+            return (IOException) e.getCause();
+        }
+        return new IOException(null != e.getCause() ? e.getCause() : e);
+    }
+
+    private static final class ResilientClient implements Client {
+        private final Resilience resilience;
+        private final JReleaserLogger logger;
+        private final Client delegate;
+
+        private ResilientClient(Resilience resilience, JReleaserLogger logger, Client delegate) {
+            this.resilience = resilience;
+            this.logger = logger;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Response execute(Request request, Request.Options options) throws IOException {
+            String host = hostOf(request.url());
+            try (Timings.Span span = Timings.start(Timings.CATEGORY_REMOTE, request.httpMethod().name() + " " + host)) {
+                if (null != request.body()) span.set(Timings.BYTES, request.body().length);
+                return resilience.call(logger, host, request.httpMethod().name(),
+                    () -> delegate.execute(request, options));
+            }
+        }
+    }
+}
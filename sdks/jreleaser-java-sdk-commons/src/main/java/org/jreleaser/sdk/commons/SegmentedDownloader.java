@@ -0,0 +1,537 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import org.apache.commons.codec.binary.Hex;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpHead;
+import org.apache.http.util.EntityUtils;
+import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.sdk.tool.DownloadCache;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.jreleaser.util.ConcurrencyUtils;
+import org.jreleaser.util.JfrEvents;
+import org.jreleaser.util.Timings;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static org.jreleaser.util.StringUtils.isBlank;
+import static org.jreleaser.util.StringUtils.isNotBlank;
+
+/**
+ * Downloads files over HTTP(S) through the shared {@link HttpTransport}.
+ * <p>
+ * Large files served with {@code Accept-Ranges: bytes} are split into {@code Range}
+ * segments fetched concurrently. Bytes are written to a {@code .part} file next to the
+ * target; its progress is recorded in a {@code .part.properties} file so that a later
+ * attempt resumes where the previous one stopped, provided the server reports the same
+ * validator ({@code ETag} or {@code Last-Modified}) and length. Expected checksums are
+ * verified before the target is replaced.
+ * <p>
+ * When a {@link DownloadCache} is configured, cached contents are revalidated with a
+ * conditional {@code HEAD} request and linked into place when unchanged; fresh downloads
+ * carrying a validator are added to the cache.
+ * <p>
+ * Concurrent downloads should share their pool with segments, see {@link #sharing(ExecutorService)},
+ * so that the number of connections stays bounded by the size of that pool.
+ *
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+public final class SegmentedDownloader {
+    private static final long SEGMENT_THRESHOLD = 16L * 1024L * 1024L;
+    private static final long MIN_SEGMENT_SIZE = 8L * 1024L * 1024L;
+    private static final long STATE_FLUSH_INTERVAL = 4L * 1024L * 1024L;
+    private static final int MAX_SEGMENTS = 4;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String PART = ".part";
+    private static final String STATE = ".part.properties";
+    private static final String KEY_URL = "url";
+    private static final String KEY_VALIDATOR = "validator";
+    private static final String KEY_LENGTH = "length";
+    private static final String KEY_SEGMENTS = "segments";
+    private static final String KEY_SEGMENT = "segment.";
+
+    private final JReleaserLogger logger;
+    private final int connectTimeout;
+    private final int readTimeout;
+    private final Resilience resilience;
+    private final DownloadCache cache;
+    private final ExecutorService executor;
+
+    private SegmentedDownloader(JReleaserLogger logger, int connectTimeout, int readTimeout, Resilience resilience,
+                                DownloadCache cache, ExecutorService executor) {
+        this.logger = requireNonNull(logger, "'logger' must not be null");
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.resilience = requireNonNull(resilience, "'resilience' must not be null");
+        this.cache = cache;
+        this.executor = executor;
+    }
+
+    public static SegmentedDownloader of(JReleaserLogger logger, int connectTimeout, int readTimeout) {
+        return of(logger, connectTimeout, readTimeout, Resilience.defaults());
+    }
+
+    public static SegmentedDownloader of(JReleaserLogger logger, int connectTimeout, int readTimeout, Resilience resilience) {
+        return new SegmentedDownloader(logger, connectTimeout, readTimeout, resilience, null, null);
+    }
+
+    public static SegmentedDownloader of(JReleaserLogger logger, int connectTimeout, int readTimeout, Resilience resilience, DownloadCache cache) {
+        return new SegmentedDownloader(logger, connectTimeout, readTimeout, resilience, requireNonNull(cache, "'cache' must not be null"), null);
+    }
+
+    /**
+     * Fetches segments on the given pool, which may also run the downloads themselves.
+     * A download runs the segments that no pool thread has picked up yet on its own
+     * thread, so it never waits on a pool that is busy with other downloads.
+     *
+     * @param executor the pool shared by downloads and their segments
+     * @return a downloader sharing the given pool
+     */
+    public SegmentedDownloader sharing(ExecutorService executor) {
+        return new SegmentedDownloader(logger, connectTimeout, readTimeout, resilience, cache,
+            requireNonNull(executor, "'executor' must not be null"));
+    }
+
+    /**
+     * Downloads {@code url} into {@code target}.
+     *
+     * @param url       the resource to download.
+     * @param target    the file to be written. It is only replaced once all bytes have been received and verified.
+     * @param checksums expected checksums as hex strings, may be empty.
+     */
+    public void download(String url, Path target, Map<Algorithm, String> checksums) throws IOException {
+        try (Timings.Span span = Timings.start(Timings.CATEGORY_REMOTE, "GET " + URI.create(url).getHost() + " " + target.getFileName());
+             JfrEvents.Probe probe = JfrEvents.begin(JfrEvents.Type.DOWNLOAD, URI.create(url).getHost())) {
+            doDownload(url, target, checksums);
+            long bytes = Files.size(target);
+            span.set(Timings.BYTES, bytes);
+            probe.bytes(bytes);
+        }
+    }
+
+    private void doDownload(String url, Path target, Map<Algorithm, String> checksums) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        if (null != parent) Files.createDirectories(parent);
+        Path part = target.resolveSibling(target.getFileName() + PART);
+        Path statePath = target.resolveSibling(target.getFileName() + STATE);
+
+        URI uri = URI.create(url);
+        Optional<DownloadCache.Entry> cached = null != cache ? cache.lookup(url) : Optional.empty();
+        Probe probe = probe(uri, cached.orElse(null));
+
+        if (cached.isPresent() && (probe.notModified || cache.lookup(url, probe.etag, probe.lastModified).isPresent())) {
+            cache.link(cached.get(), target);
+            try {
+                verify(url, checksums.isEmpty() ? checksums : digest(target, checksums), checksums);
+                logger.debug(RB.$("download.cache.hit"), url);
+                Timings.current().add(Timings.CACHE_HITS, 1);
+                return;
+            } catch (IOException e) {
+                // cached content no longer matches what is expected, fetch it again
+                logger.debug(e.getMessage());
+                Files.deleteIfExists(target);
+                cache.evict(url);
+                probe = probe(uri, null);
+            }
+        }
+
+        Properties state = loadState(statePath, part, url, probe);
+
+        Map<Algorithm, String> actual;
+        if (probe.ranges && probe.length >= SEGMENT_THRESHOLD) {
+            downloadSegments(uri, part, statePath, state, probe);
+            actual = checksums.isEmpty() ? checksums : digest(part, checksums);
+        } else {
+            actual = downloadStream(uri, part, statePath, state, probe, checksums);
+        }
+
+        try {
+            verify(url, actual, checksums);
+        } catch (IOException e) {
+            // corrupted bytes must not be resumed
+            Files.deleteIfExists(part);
+            Files.deleteIfExists(statePath);
+            throw e;
+        }
+
+        if (null != cache && (isNotBlank(probe.etag) || isNotBlank(probe.lastModified))) {
+            cache.link(cache.store(url, part, probe.etag, probe.lastModified), target);
+        } else {
+            try {
+                Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(part, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.deleteIfExists(statePath);
+    }
+
+    private Probe probe(URI uri, DownloadCache.Entry cached) {
+        HttpHead request = new HttpHead(uri);
+        request.setConfig(requestConfig());
+        if (null != cached) {
+            if (isNotBlank(cached.getEtag())) request.setHeader("If-None-Match", cached.getEtag());
+            if (isNotBlank(cached.getLastModified())) request.setHeader("If-Modified-Since", cached.getLastModified());
+        }
+
+        try (CloseableHttpResponse response = resilience.execute(logger, request)) {
+            int status = response.getStatusLine().getStatusCode();
+            if (status == 304) return Probe.NOT_MODIFIED;
+            if (status >= 400) return Probe.UNKNOWN;
+
+            long length = -1L;
+            Header contentLength = response.getFirstHeader("Content-Length");
+            if (null != contentLength) {
+                try {
+                    length = Long.parseLong(contentLength.getValue().trim());
+                } catch (NumberFormatException ignored) {
+                    // unknown length
+                }
+            }
+
+            Header acceptRanges = response.getFirstHeader("Accept-Ranges");
+            boolean ranges = null != acceptRanges && "bytes".equalsIgnoreCase(acceptRanges.getValue().trim()) && length > 0;
+
+            return new Probe(length, ranges, headerValue(response, "ETag"), headerValue(response, "Last-Modified"));
+        } catch (IOException e) {
+            // some servers reject HEAD, the GET request reports the actual failure
+            logger.trace(e);
+            return Probe.UNKNOWN;
+        }
+    }
+
+    private Properties loadState(Path statePath, Path part, String url, Probe probe) throws IOException {
+        Properties state = new Properties();
+        if (Files.exists(statePath) && Files.exists(part)) {
+            try (Reader reader = Files.newBufferedReader(statePath, UTF_8)) {
+                state.load(reader);
+            }
+
+            if (probe.ranges && isNotBlank(probe.validator) &&
+                url.equals(state.getProperty(KEY_URL)) &&
+                probe.validator.equals(state.getProperty(KEY_VALIDATOR)) &&
+                String.valueOf(probe.length).equals(state.getProperty(KEY_LENGTH))) {
+                return state;
+            }
+        }
+
+        Files.deleteIfExists(part);
+        Files.deleteIfExists(statePath);
+        state.clear();
+        state.setProperty(KEY_URL, url);
+        if (isNotBlank(probe.validator)) state.setProperty(KEY_VALIDATOR, probe.validator);
+        state.setProperty(KEY_LENGTH, String.valueOf(probe.length));
+        return state;
+    }
+
+    private void downloadSegments(URI uri, Path part, Path statePath, Properties state, Probe probe) throws IOException {
+        int count = Integer.parseInt(state.getProperty(KEY_SEGMENTS,
+            String.valueOf(Math.min(MAX_SEGMENTS, Math.max(1L, probe.length / MIN_SEGMENT_SIZE)))));
+        state.setProperty(KEY_SEGMENTS, String.valueOf(count));
+
+        long size = probe.length / count;
+        AtomicLongArray done = new AtomicLongArray(count);
+        long resumed = 0L;
+        for (int i = 0; i < count; i++) {
+            done.set(i, Long.parseLong(state.getProperty(KEY_SEGMENT + i, "0")));
+            resumed += done.get(i);
+        }
+
+        if (resumed > 0) {
+            logger.info(RB.$("download.resume"), uri, resumed);
+        }
+        logger.debug(RB.$("download.segmented"), uri, count);
+
+        ExecutorService pool = null != executor ? executor :
+            ConcurrencyUtils.newFixedThreadPool("download-segment", count, logger);
+        List<FutureTask<Void>> segments = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            for (int i = 0; i < count; i++) {
+                int segment = i;
+                long start = segment * size;
+                long end = segment == count - 1 ? probe.length - 1 : start + size - 1;
+                FutureTask<Void> task = new FutureTask<>(() -> {
+                    fetchSegment(uri, channel, segment, start, end, done, statePath, state);
+                    return null;
+                });
+                segments.add(task);
+                pool.execute(task);
+            }
+
+            for (FutureTask<Void> segment : segments) {
+                // no-op if a pool thread already took it
+                segment.run();
+                segment.get();
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = null != e.getCause() ? e.getCause() : e;
+            if (cause instanceof IOException) throw (IOException) cause;
+            throw new IOException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } finally {
+            if (pool != executor) {
+                pool.shutdownNow();
+            } else {
+                for (FutureTask<Void> segment : segments) segment.cancel(true);
+            }
+            saveState(statePath, state, done);
+        }
+    }
+
+    private void fetchSegment(URI uri, FileChannel channel, int segment, long start, long end,
+                              AtomicLongArray done, Path statePath, Properties state) throws IOException {
+        int attempt = 0;
+        while (true) {
+            long from = start + done.get(segment);
+            if (from > end) return;
+
+            HttpGet request = new HttpGet(uri);
+            request.setConfig(requestConfig());
+            request.setHeader("Range", "bytes=" + from + "-" + end);
+
+            try (CloseableHttpResponse response = resilience.execute(logger, request)) {
+                int status = response.getStatusLine().getStatusCode();
+                if (status != 206) {
+                    EntityUtils.consumeQuietly(response.getEntity());
+                    throw new IOException(RB.$("ERROR_download_status", uri, status));
+                }
+
+                long position = from;
+                long unflushed = 0L;
+                byte[] buffer = new byte[BUFFER_SIZE];
+                try (InputStream in = response.getEntity().getContent()) {
+                    int read;
+                    while (position <= end && (read = in.read(buffer)) != -1) {
+                        int length = (int) Math.min(read, end - position + 1);
+                        ByteBuffer bb = ByteBuffer.wrap(buffer, 0, length);
+                        while (bb.hasRemaining()) {
+                            position += channel.write(bb, position);
+                        }
+                        done.set(segment, position - start);
+                        unflushed += length;
+                        if (unflushed >= STATE_FLUSH_INTERVAL) {
+                            channel.force(false);
+                            saveState(statePath, state, done);
+                            unflushed = 0L;
+                        }
+                    }
+                } catch (IOException e) {
+                    if (++attempt > resilience.getMaxRetries()) throw e;
+                    logger.debug(RB.$("download.interrupted"), uri, e.getMessage());
+                    continue;
+                }
+
+                if (position <= end) {
+                    if (++attempt > resilience.getMaxRetries()) {
+                        throw new IOException(RB.$("ERROR_download_incomplete", uri));
+                    }
+                    continue;
+                }
+                return;
+            }
+        }
+    }
+
+    private Map<Algorithm, String> downloadStream(URI uri, Path part, Path statePath, Properties state,
+                                                  Probe probe, Map<Algorithm, String> checksums) throws IOException {
+        int attempt = 0;
+        while (true) {
+            long existing = probe.ranges && Files.exists(part) ? Files.size(part) : 0L;
+            if (existing > 0 && existing >= probe.length) {
+                return checksums.isEmpty() ? checksums : digest(part, checksums);
+            }
+
+            HttpGet request = new HttpGet(uri);
+            request.setConfig(requestConfig());
+            if (existing > 0) request.setHeader("Range", "bytes=" + existing + "-");
+
+            try (CloseableHttpResponse response = resilience.execute(logger, request)) {
+                int status = response.getStatusLine().getStatusCode();
+                HttpEntity entity = response.getEntity();
+                if (status >= 400 || null == entity) {
+                    EntityUtils.consumeQuietly(entity);
+                    throw new IOException(RB.$("ERROR_download_status", uri, status));
+                }
+
+                boolean append = status == 206 && existing > 0;
+                if (append) {
+                    logger.info(RB.$("download.resume"), uri, existing);
+                }
+
+                Map<Algorithm, MessageDigest> digests = digests(checksums);
+                if (append) {
+                    // account for the bytes received by a previous attempt
+                    try (InputStream in = Files.newInputStream(part)) {
+                        update(digests, in, null);
+                    }
+                }
+
+                try (InputStream in = entity.getContent();
+                     OutputStream out = append ?
+                         Files.newOutputStream(part, StandardOpenOption.APPEND) :
+                         Files.newOutputStream(part)) {
+                    saveState(statePath, state, null);
+                    update(digests, in, out);
+                } catch (IOException e) {
+                    if (++attempt > resilience.getMaxRetries()) throw e;
+                    logger.debug(RB.$("download.interrupted"), uri, e.getMessage());
+                    continue;
+                }
+
+                return hex(digests);
+            }
+        }
+    }
+
+    private void verify(String url, Map<Algorithm, String> actual, Map<Algorithm, String> expected) throws IOException {
+        for (Map.Entry<Algorithm, String> e : expected.entrySet()) {
+            if (null == e.getKey()) {
+                throw new IOException(RB.$("ERROR_download_checksum_algorithm", url, e.getValue()));
+            }
+            String value = actual.get(e.getKey());
+            if (!e.getValue().trim().equalsIgnoreCase(value)) {
+                throw new IOException(RB.$("ERROR_download_checksum_mismatch", e.getKey().formatted(), url, e.getValue(), value));
+            }
+            logger.debug(RB.$("download.checksum.verified"), e.getKey().formatted(), url);
+        }
+    }
+
+    private synchronized void saveState(Path statePath, Properties state, AtomicLongArray done) throws IOException {
+        if (isBlank(state.getProperty(KEY_VALIDATOR))) return;
+
+        if (null != done) {
+            for (int i = 0; i < done.length(); i++) {
+                state.setProperty(KEY_SEGMENT + i, String.valueOf(done.get(i)));
+            }
+        }
+
+        try (Writer writer = Files.newBufferedWriter(statePath, UTF_8)) {
+            state.store(writer, null);
+        }
+    }
+
+    private RequestConfig requestConfig() {
+        return RequestConfig.custom()
+            .setConnectTimeout(connectTimeout * 1000)
+            .setSocketTimeout(readTimeout * 1000)
+            .setRedirectsEnabled(true)
+            .build();
+    }
+
+    private static Map<Algorithm, String> digest(Path file, Map<Algorithm, String> checksums) throws IOException {
+        Map<Algorithm, MessageDigest> digests = digests(checksums);
+        try (InputStream in = Files.newInputStream(file)) {
+            update(digests, in, null);
+        }
+        return hex(digests);
+    }
+
+    private static Map<Algorithm, MessageDigest> digests(Map<Algorithm, String> checksums) throws IOException {
+        Map<Algorithm, MessageDigest> digests = new LinkedHashMap<>();
+        for (Algorithm algorithm : checksums.keySet()) {
+            // reported by verify()
+            if (null != algorithm) digests.put(algorithm, ChecksumUtils.messageDigest(algorithm));
+        }
+        return digests;
+    }
+
+    private static void update(Map<Algorithm, MessageDigest> digests, InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            for (MessageDigest digest : digests.values()) {
+                digest.update(buffer, 0, read);
+            }
+            if (null != out) out.write(buffer, 0, read);
+        }
+    }
+
+    private static Map<Algorithm, String> hex(Map<Algorithm, MessageDigest> digests) {
+        Map<Algorithm, String> values = new LinkedHashMap<>();
+        for (Map.Entry<Algorithm, MessageDigest> e : digests.entrySet()) {
+            values.put(e.getKey(), Hex.encodeHexString(e.getValue().digest()));
+        }
+        return values;
+    }
+
+    private static String headerValue(CloseableHttpResponse response, String name) {
+        Header header = response.getFirstHeader(name);
+        return null != header ? header.getValue().trim() : null;
+    }
+
+    private static final class Probe {
+        private static final Probe UNKNOWN = new Probe(-1L, false, null, null);
+        private static final Probe NOT_MODIFIED = new Probe(-1L, false, null, null, true);
+
+        private final long length;
+        private final boolean ranges;
+        private final String etag;
+        private final String lastModified;
+        private final String validator;
+        private final boolean notModified;
+
+        private Probe(long length, boolean ranges, String etag, String lastModified) {
+            this(length, ranges, etag, lastModified, false);
+        }
+
+        private Probe(long length, boolean ranges, String etag, String lastModified, boolean notModified) {
+            this.length = length;
+            this.ranges = ranges;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            // weak validators do not guarantee byte equality, which resuming requires
+            this.validator = isNotBlank(etag) && !etag.startsWith("W/") ? etag : lastModified;
+            this.notModified = notModified;
+        }
+    }
+}
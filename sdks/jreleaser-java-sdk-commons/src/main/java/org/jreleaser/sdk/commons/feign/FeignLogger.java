@@ -41,7 +41,7 @@ public class FeignLogger extends feign.Logger {
 
     @Override
     protected void log(String configKey, String format, Object... args) {
-        logger.trace(String.format(methodTag(configKey) + format, args));
+        logger.trace(() -> String.format(methodTag(configKey) + format, args));
     }
 
     public static Level resolveLevel(JReleaserContext context) {
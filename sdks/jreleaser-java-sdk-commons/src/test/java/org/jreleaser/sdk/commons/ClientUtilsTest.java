@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.test.WireMockExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.put;
+import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class ClientUtilsTest {
+    private static final String PATH = "/uploads/app-1.0.0.txt";
+    private static final String CONTENT = "JReleaser 1.0.0";
+
+    @RegisterExtension
+    WireMockExtension api = new WireMockExtension(options().dynamicPort());
+
+    @TempDir
+    Path directory;
+
+    private final JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR);
+
+    @Test
+    void retriedUploadsSendTheWholeFileAgain() throws Exception {
+        // given:
+        Path file = directory.resolve("app-1.0.0.txt");
+        Files.write(file, CONTENT.getBytes(UTF_8));
+        stubFor(put(urlEqualTo(PATH))
+            .inScenario("retry")
+            .whenScenarioStateIs(Scenario.STARTED)
+            .willReturn(aResponse().withStatus(503).withHeader("Retry-After", "0"))
+            .willSetStateTo("retried"));
+        stubFor(put(urlEqualTo(PATH))
+            .inScenario("retry")
+            .whenScenarioStateIs("retried")
+            .willReturn(aResponse().withStatus(200).withBody("uploaded")));
+
+        try {
+            // when:
+            Reader reply = ClientUtils.putFile(logger, api.baseUrl() + PATH, 20, 60, file,
+                new LinkedHashMap<>(), Resilience.of(1, 1));
+
+            // then:
+            assertThat(read(reply)).isEqualTo("uploaded");
+            verify(2, putRequestedFor(urlEqualTo(PATH)).withRequestBody(equalTo(CONTENT)));
+        } finally {
+            HttpTransport.shutdown(logger);
+        }
+    }
+
+    @Test
+    void streamsMultipartUploads() throws Exception {
+        // given:
+        Path file = directory.resolve("app-1.0.0.txt");
+        Files.write(file, CONTENT.getBytes(UTF_8));
+        stubFor(post(urlEqualTo(PATH)).willReturn(aResponse().withStatus(201).withBody("created")));
+        Map<String, String> headers = new LinkedHashMap<>();
+
+        try {
+            // when:
+            Reader reply = ClientUtils.postMultipartFile(logger, api.baseUrl() + PATH, 20, 60, "file", file,
+                headers, Resilience.of(0, 1));
+
+            // then:
+            assertThat(read(reply)).isEqualTo("created");
+            verify(1, postRequestedFor(urlEqualTo(PATH))
+                .withHeader("Content-Type", containing("multipart/form-data; boundary=jreleaser-"))
+                .withRequestBody(containing("name=\"file\"; filename=\"app-1.0.0.txt\""))
+                .withRequestBody(containing(CONTENT)));
+        } finally {
+            HttpTransport.shutdown(logger);
+        }
+    }
+
+    private static String read(Reader reader) throws IOException {
+        try (BufferedReader in = new BufferedReader(reader)) {
+            return in.readLine();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class HttpResponseCacheTest {
+    private static final String URL = "https://api.example.com/repos/jreleaser/app/releases";
+    private static final String BODY = "[{\"name\":\"v1.0.0\"}]";
+    private static final String ETAG = "\"abc123\"";
+
+    private final JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR);
+    private final List<Request> requests = new ArrayList<>();
+    private final Request.Options options = new Request.Options();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void revalidatesStoredResponsesWithTheirETag() throws IOException {
+        // given:
+        Client client = HttpResponseCache.of(directory).wrap(logger, server(200, "ETag", ETAG));
+        read(client.execute(get("token"), options));
+
+        // when:
+        Client revalidating = HttpResponseCache.of(directory).wrap(logger, server(304, "ETag", ETAG));
+        Response response = revalidating.execute(get("token"), options);
+
+        // then:
+        assertThat(response.status()).isEqualTo(200);
+        assertThat(read(response)).isEqualTo(BODY);
+        assertThat(requests).hasSize(2);
+        assertThat(header(requests.get(0), "If-None-Match")).isNull();
+        assertThat(header(requests.get(1), "If-None-Match")).isEqualTo(ETAG);
+    }
+
+    @Test
+    void revalidatesStoredResponsesWithTheirLastModifiedDate() throws IOException {
+        // given:
+        String lastModified = "Wed, 21 Oct 2015 07:28:00 GMT";
+        Client client = HttpResponseCache.of(directory).wrap(logger, server(200, "Last-Modified", lastModified));
+        read(client.execute(get("token"), options));
+
+        // when:
+        read(client.execute(get("token"), options));
+
+        // then:
+        assertThat(header(requests.get(1), "If-Modified-Since")).isEqualTo(lastModified);
+        assertThat(header(requests.get(1), "If-None-Match")).isNull();
+    }
+
+    @Test
+    void keepsEntriesOfDifferentCredentialsApart() throws IOException {
+        // given:
+        Client client = HttpResponseCache.of(directory).wrap(logger, server(200, "ETag", ETAG));
+        read(client.execute(get("token"), options));
+
+        // when:
+        read(client.execute(get("other"), options));
+
+        // then:
+        assertThat(header(requests.get(1), "If-None-Match")).isNull();
+    }
+
+    @Test
+    void skipsResponsesWithoutValidators() throws IOException {
+        // given:
+        Client client = HttpResponseCache.of(directory).wrap(logger, server(200, "X-Request-Id", "1"));
+        read(client.execute(get("token"), options));
+
+        // when:
+        read(client.execute(get("token"), options));
+
+        // then:
+        assertThat(header(requests.get(1), "If-None-Match")).isNull();
+        assertThat(header(requests.get(1), "If-Modified-Since")).isNull();
+        assertThat(directory).isEmptyDirectory();
+    }
+
+    @Test
+    void bypassesRequestsOtherThanGet() throws IOException {
+        // given:
+        Client client = HttpResponseCache.of(directory).wrap(logger, server(200, "ETag", ETAG));
+        Request post = Request.create(Request.HttpMethod.POST, URL, Collections.emptyMap(),
+            BODY.getBytes(UTF_8), UTF_8, null);
+
+        // when:
+        read(client.execute(post, options));
+        read(client.execute(post, options));
+
+        // then:
+        assertThat(header(requests.get(1), "If-None-Match")).isNull();
+        assertThat(directory).isEmptyDirectory();
+    }
+
+    @Test
+    void storesEachResponseInASingleEntry() throws IOException {
+        // given:
+        Client client = HttpResponseCache.of(directory).wrap(logger, server(200, "ETag", ETAG));
+
+        // when:
+        read(client.execute(get("token"), options));
+
+        // then:
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).hasSize(1)
+                .allMatch(file -> file.getFileName().toString().endsWith(".json"));
+        }
+    }
+
+    @Test
+    void fetchesAgainWhenTheStoredEntryIsCorrupt() throws IOException {
+        // given:
+        Client client = HttpResponseCache.of(directory).wrap(logger, server(200, "ETag", ETAG));
+        read(client.execute(get("token"), options));
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.write(file, "{\"url\":".getBytes(UTF_8));
+            }
+        }
+
+        // when:
+        Response response = client.execute(get("token"), options);
+
+        // then:
+        assertThat(read(response)).isEqualTo(BODY);
+        assertThat(header(requests.get(1), "If-None-Match")).isNull();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntriesBeyondTheSizeLimit() throws IOException {
+        // given:
+        read(HttpResponseCache.of(directory).wrap(logger, server(200, "ETag", ETAG)).execute(get("token"), options));
+        Path stored;
+        try (Stream<Path> files = Files.list(directory)) {
+            stored = files.findFirst().orElseThrow(IllegalStateException::new);
+        }
+        Files.setLastModifiedTime(stored, FileTime.fromMillis(System.currentTimeMillis() - 3_600_000L));
+        // room for a single entry
+        Client client = HttpResponseCache.of(directory, Files.size(stored) * 3 / 2).wrap(logger, server(200, "ETag", ETAG));
+
+        // when:
+        read(client.execute(get("other"), options));
+
+        // then:
+        assertThat(stored).doesNotExist();
+        read(client.execute(get("other"), options));
+        assertThat(header(requests.get(2), "If-None-Match")).isEqualTo(ETAG);
+    }
+
+    private Client server(int status, String header, String value) {
+        return (request, opts) -> {
+            requests.add(request);
+            Map<String, Collection<String>> headers = new LinkedHashMap<>();
+            headers.put("Content-Type", Collections.singletonList("application/json; charset=utf-8"));
+            headers.put(header, Collections.singletonList(value));
+            Response.Builder builder = Response.builder()
+                .status(status)
+                .reason("status " + status)
+                .request(request)
+                .headers(headers);
+            if (status == 200) builder.body(BODY, UTF_8);
+            return builder.build();
+        };
+    }
+
+    private static Request get(String token) {
+        Map<String, Collection<String>> headers = new LinkedHashMap<>();
+        headers.put("Authorization", Collections.singletonList("token " + token));
+        return Request.create(Request.HttpMethod.GET, URL, headers, null, UTF_8, null);
+    }
+
+    private static String header(Request request, String name) {
+        Collection<String> values = request.headers().get(name);
+        return null != values && !values.isEmpty() ? values.iterator().next() : null;
+    }
+
+    private static String read(Response response) throws IOException {
+        try (Response r = response) {
+            return Util.toString(r.body().asReader(UTF_8));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.sdk.tool.DownloadCache;
+import org.jreleaser.test.WireMockExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.head;
+import static com.github.tomakehurst.wiremock.client.WireMock.headRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class HttpToolDownloaderTest {
+    private static final String PATH = "/tools/tool-1.0.0.zip";
+    private static final String ETAG = "\"v1\"";
+    private static final String CONTENT = "JReleaser 1.0.0";
+
+    @RegisterExtension
+    WireMockExtension api = new WireMockExtension(options().dynamicPort());
+
+    @TempDir
+    Path directory;
+
+    private final JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR);
+
+    @AfterEach
+    void cleanup() {
+        HttpTransport.shutdown(logger);
+    }
+
+    @Test
+    void reusesCachedContentWhenNotModified() throws Exception {
+        // given:
+        stubTool();
+        stubFor(head(urlEqualTo(PATH))
+            .withHeader("If-None-Match", equalTo(ETAG))
+            .willReturn(aResponse().withStatus(304)));
+        HttpToolDownloader downloader = downloader();
+
+        // when:
+        downloader.download(logger, url(), directory.resolve("first").resolve("tool-1.0.0.zip"));
+        downloader.download(logger, url(), directory.resolve("second").resolve("tool-1.0.0.zip"));
+
+        // then:
+        assertThat(directory.resolve("second").resolve("tool-1.0.0.zip")).hasContent(CONTENT);
+        verify(1, getRequestedFor(urlEqualTo(PATH)));
+        verify(1, headRequestedFor(urlEqualTo(PATH)).withHeader("If-None-Match", equalTo(ETAG)));
+    }
+
+    @Test
+    void fetchesAgainWhenCachedContentIsCorrupt() throws Exception {
+        // given:
+        stubTool();
+        DownloadCache cache = DownloadCache.of(directory.resolve("cache"));
+        HttpToolDownloader downloader = new HttpToolDownloader(Resilience.of(0, 1), cache);
+        downloader.download(logger, url(), directory.resolve("first").resolve("tool-1.0.0.zip"));
+        Path content = cache.lookup(url()).get().getContent();
+        Files.delete(directory.resolve("first").resolve("tool-1.0.0.zip"));
+        Files.write(content, "jreleaser 1.0.0".getBytes(UTF_8));
+        // verified contents are only digested again once their modification time changes
+        Files.setLastModifiedTime(content, FileTime.fromMillis(0L));
+
+        // when:
+        downloader.download(logger, url(), directory.resolve("second").resolve("tool-1.0.0.zip"));
+
+        // then:
+        assertThat(directory.resolve("second").resolve("tool-1.0.0.zip")).hasContent(CONTENT);
+        verify(2, getRequestedFor(urlEqualTo(PATH)));
+    }
+
+    @Test
+    void retriesTransientFailures() throws Exception {
+        // given:
+        stubFor(get(urlEqualTo(PATH))
+            .inScenario("retry")
+            .whenScenarioStateIs(Scenario.STARTED)
+            .willReturn(aResponse().withStatus(503).withHeader("Retry-After", "0"))
+            .willSetStateTo("retried"));
+        stubFor(get(urlEqualTo(PATH))
+            .inScenario("retry")
+            .whenScenarioStateIs("retried")
+            .willReturn(aResponse().withStatus(200).withBody(CONTENT)));
+        Path target = directory.resolve("tool-1.0.0.zip");
+
+        // when:
+        new HttpToolDownloader(Resilience.of(1, 1), DownloadCache.of(directory.resolve("cache")))
+            .download(logger, url(), target);
+
+        // then:
+        assertThat(target).hasContent(CONTENT);
+        verify(2, getRequestedFor(urlEqualTo(PATH)));
+    }
+
+    private HttpToolDownloader downloader() {
+        return new HttpToolDownloader(Resilience.of(0, 1), DownloadCache.of(directory.resolve("cache")));
+    }
+
+    private void stubTool() {
+        stubFor(head(urlEqualTo(PATH))
+            .atPriority(10)
+            .willReturn(aResponse().withStatus(200).withHeader("ETag", ETAG)));
+        stubFor(get(urlEqualTo(PATH))
+            .willReturn(aResponse().withStatus(200).withHeader("ETag", ETAG).withBody(CONTENT)));
+    }
+
+    private String url() {
+        return api.baseUrl() + PATH;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import feign.Request;
+import feign.Response;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.util.EntityUtils;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.test.WireMockExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class HttpTransportTest {
+    private static final String PATH = "/api/items";
+
+    @RegisterExtension
+    WireMockExtension api = new WireMockExtension(options().dynamicPort());
+
+    private final JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR);
+
+    @BeforeEach
+    void setup() {
+        HttpTransport.shutdown(logger);
+        stubFor(get(urlEqualTo(PATH)).willReturn(okJson("[]")));
+    }
+
+    @AfterEach
+    void cleanup() {
+        HttpTransport.shutdown(logger);
+    }
+
+    @Test
+    void reusesConnectionsAcrossRequests() throws IOException {
+        // given:
+        HttpTransport transport = HttpTransport.get();
+
+        // when:
+        for (int i = 0; i < 5; i++) {
+            try (CloseableHttpResponse response = transport.httpClient().execute(new HttpGet(api.baseUrl() + PATH))) {
+                EntityUtils.consume(response.getEntity());
+            }
+        }
+
+        // then:
+        assertThat(transport.getRequestCount()).isEqualTo(5);
+        assertThat(transport.getConnectionCount()).isEqualTo(1);
+        assertThat(transport.getReusedConnectionCount()).isEqualTo(4);
+    }
+
+    @Test
+    void sharesConnectionsWithFeignClients() throws IOException {
+        // given:
+        HttpTransport transport = HttpTransport.get();
+        Request request = Request.create(Request.HttpMethod.GET, api.baseUrl() + PATH,
+            Collections.emptyMap(), null, UTF_8, null);
+
+        // when:
+        try (Response response = transport.feignClient().execute(request, new Request.Options())) {
+            assertThat(response.status()).isEqualTo(200);
+            response.body().asInputStream().close();
+        }
+        try (CloseableHttpResponse response = transport.httpClient().execute(new HttpGet(api.baseUrl() + PATH))) {
+            EntityUtils.consume(response.getEntity());
+        }
+
+        // then:
+        assertThat(transport.getRequestCount()).isEqualTo(2);
+        assertThat(transport.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shutdownReleasesTheSharedTransport() {
+        // given:
+        HttpTransport transport = HttpTransport.get();
+
+        // when:
+        HttpTransport.shutdown(logger);
+
+        // then:
+        assertThat(HttpTransport.get()).isNotSameAs(transport);
+    }
+
+    @Test
+    void keepsTheSharedTransportWhileOtherSessionsAreOpen() {
+        // given:
+        HttpTransport.open();
+        HttpTransport.open();
+        HttpTransport transport = HttpTransport.get();
+        JReleaserLogger other = new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR);
+
+        // when:
+        HttpTransport.shutdown(other);
+
+        // then:
+        assertThat(HttpTransport.get()).isSameAs(transport);
+
+        // when:
+        HttpTransport.shutdown(logger);
+
+        // then:
+        assertThat(HttpTransport.get()).isNotSameAs(transport);
+    }
+
+    @Test
+    void keysTheSharedTransportBySslValidation() {
+        // given:
+        HttpTransport validating = HttpTransport.get();
+
+        // when:
+        HttpTransport nonValidating;
+        System.setProperty("jreleaser.disableSslValidation", "true");
+        try {
+            nonValidating = HttpTransport.get();
+        } finally {
+            System.clearProperty("jreleaser.disableSslValidation");
+        }
+
+        // then:
+        assertThat(nonValidating).isNotSameAs(validating);
+        assertThat(HttpTransport.get()).isSameAs(validating);
+    }
+}
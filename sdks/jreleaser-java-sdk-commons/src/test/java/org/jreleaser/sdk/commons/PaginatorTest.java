@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class PaginatorTest {
+    private static final String URL = "https://api.example.com/items?per_page=2&page=";
+    private static final int PAGES = 5;
+
+    private final JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR);
+
+    @Test
+    void fetchesRemainingPagesConcurrentlyInPageOrder() {
+        // given:
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        // when:
+        List<Integer> items = Paginator.collect(logger, number -> {
+            threads.add(Thread.currentThread().getName());
+            // later pages complete first
+            sleep(PAGES - number);
+            return page(number, true);
+        });
+
+        // then:
+        assertThat(items).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(threads).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    void followsNextLinksWithoutALastLink() {
+        // given:
+        List<Integer> requested = new ArrayList<>();
+
+        // when:
+        List<Integer> items = Paginator.collect(logger, number -> {
+            requested.add(number);
+            return page(number, false);
+        });
+
+        // then:
+        assertThat(items).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(requested).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void stopsAtASinglePage() {
+        // given:
+        List<Integer> requested = new ArrayList<>();
+
+        // when:
+        List<Integer> items = Paginator.collect(logger, number -> {
+            requested.add(number);
+            return new Page(Links.of(""), Arrays.asList(1, 2));
+        });
+
+        // then:
+        assertThat(items).containsExactly(1, 2);
+        assertThat(requested).containsExactly(1);
+    }
+
+    @Test
+    void requestsRemainingPagesByLink() {
+        // given:
+        Set<URI> requested = ConcurrentHashMap.newKeySet();
+
+        // when:
+        List<Integer> items = Paginator.collect(logger,
+            page(1, true),
+            uri -> {
+                requested.add(uri);
+                return page(Paginator.pageOf(uri.toString()), true);
+            });
+
+        // then:
+        assertThat(items).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(requested).containsExactlyInAnyOrder(
+            URI.create(URL + 2), URI.create(URL + 3), URI.create(URL + 4), URI.create(URL + 5));
+    }
+
+    @Test
+    void failuresOfConcurrentPagesAreRethrown() {
+        // expected:
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> Paginator.collect(logger, number -> {
+            if (number == 3) throw new IllegalStateException("page 3");
+            return page(number, true);
+        }));
+        assertThat(e).hasMessage("page 3");
+    }
+
+    @Test
+    void resolvesPageNumbers() {
+        // expected:
+        assertThat(Paginator.pageOf(URL + 12)).isEqualTo(12);
+        assertThat(Paginator.pageOf("https://api.example.com/items?page=3&per_page=2")).isEqualTo(3);
+        assertThat(Paginator.pageOf("https://api.example.com/items?per_page=2")).isEqualTo(-1);
+        assertThat(Paginator.pageOf(null)).isEqualTo(-1);
+        assertThat(Paginator.withPage(URL + 12, 4)).isEqualTo(URL + 4);
+    }
+
+    private static Page page(int number, boolean withLast) {
+        StringBuilder links = new StringBuilder();
+        if (number < PAGES) {
+            links.append('<').append(URL).append(number + 1).append(">; rel=\"next\"");
+            if (withLast) {
+                links.append(", <").append(URL).append(PAGES).append(">; rel=\"last\"");
+            }
+        }
+        return new Page(Links.of(links.toString()), Arrays.asList(number * 2 - 1, number * 2));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis * 20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Page implements Paginated<List<Integer>> {
+        private final Links links;
+        private final List<Integer> content;
+
+        private Page(Links links, List<Integer> content) {
+            this.links = links;
+            this.content = Collections.unmodifiableList(content);
+        }
+
+        @Override
+        public Links getLinks() {
+            return links;
+        }
+
+        @Override
+        public List<Integer> getContent() {
+            return content;
+        }
+    }
+}
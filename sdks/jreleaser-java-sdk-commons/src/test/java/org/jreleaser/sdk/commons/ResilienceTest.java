@@ -0,0 +1,197 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import feign.Request;
+import feign.Response;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class ResilienceTest {
+    private static final String HOST = "api.example.com";
+    private static final String URL = "https://" + HOST + "/items";
+
+    private final JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR);
+
+    @AfterEach
+    void release() {
+        Resilience.release(logger);
+    }
+
+    @Test
+    void retriesTransientStatusesOfIdempotentRequests() throws IOException {
+        // given:
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when:
+        Response response = Resilience.of(3, 1).call(logger, HOST, "GET",
+            () -> attempts.incrementAndGet() < 3 ? response(503) : response(200));
+
+        // then:
+        assertThat(response.status()).isEqualTo(200);
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void returnsTheLastResponseOnceRetriesAreExhausted() throws IOException {
+        // given:
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when:
+        Response response = Resilience.of(2, 1).call(logger, HOST, "GET", () -> {
+            attempts.incrementAndGet();
+            return response(502);
+        });
+
+        // then:
+        assertThat(response.status()).isEqualTo(502);
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void retriesNonIdempotentRequestsOnlyWhenUnprocessed() throws IOException {
+        // given:
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger throttled = new AtomicInteger();
+
+        // when:
+        Response error = Resilience.of(3, 1).call(logger, HOST, "POST", () -> {
+            failed.incrementAndGet();
+            return response(500);
+        });
+        Response accepted = Resilience.of(3, 1).call(logger, HOST, "POST",
+            () -> throttled.incrementAndGet() < 2 ? response(429) : response(201));
+
+        // then:
+        assertThat(error.status()).isEqualTo(500);
+        assertThat(failed).hasValue(1);
+        assertThat(accepted.status()).isEqualTo(201);
+        assertThat(throttled).hasValue(2);
+    }
+
+    @Test
+    void doesNotRetryFailuresOfNonIdempotentRequests() {
+        // given:
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when:
+        IOException e = assertThrows(IOException.class, () -> Resilience.of(3, 1).call(logger, HOST, "POST", () -> {
+            attempts.incrementAndGet();
+            throw new SocketTimeoutException("read timed out");
+        }));
+
+        // then:
+        assertThat(e).isInstanceOf(SocketTimeoutException.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void opensTheCircuitAfterConsecutiveFailures() throws IOException {
+        // given:
+        Resilience resilience = Resilience.of(0, 1);
+        AtomicInteger attempts = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            resilience.call(logger, HOST, "GET", () -> {
+                attempts.incrementAndGet();
+                return response(503);
+            });
+        }
+
+        // when:
+        IOException e = assertThrows(IOException.class, () -> resilience.call(logger, HOST, "GET", () -> {
+            attempts.incrementAndGet();
+            return response(200);
+        }));
+
+        // then:
+        assertThat(e).hasMessageContaining(HOST);
+        assertThat(attempts).hasValue(5);
+
+        // when:
+        Resilience.release(logger);
+        Response response = resilience.call(logger, HOST, "GET", () -> response(200));
+
+        // then:
+        assertThat(response.status()).isEqualTo(200);
+    }
+
+    @Test
+    void circuitsBelongToTheirSession() throws IOException {
+        // given:
+        Resilience resilience = Resilience.of(0, 1);
+        for (int i = 0; i < 5; i++) {
+            resilience.call(logger, HOST, "GET", () -> response(503));
+        }
+        JReleaserLogger other = new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR);
+
+        try {
+            // when:
+            Response response = resilience.call(other, HOST, "GET", () -> response(200));
+
+            // then:
+            assertThat(response.status()).isEqualTo(200);
+        } finally {
+            Resilience.release(other);
+        }
+    }
+
+    @Test
+    void parsesRetryAfter() {
+        // given:
+        String past = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now().minusMinutes(1));
+
+        // expected:
+        assertThat(Resilience.parseRetryAfter("120")).isEqualTo(Duration.ofSeconds(120));
+        assertThat(Resilience.parseRetryAfter(" 5 ")).isEqualTo(Duration.ofSeconds(5));
+        assertThat(Resilience.parseRetryAfter("-5")).isEqualTo(Duration.ZERO);
+        assertThat(Resilience.parseRetryAfter(past)).isEqualTo(Duration.ZERO);
+        assertThat(Resilience.parseRetryAfter("soon")).isNull();
+        assertThat(Resilience.parseRetryAfter("")).isNull();
+    }
+
+    // Retry-After keeps retries from waiting on the configured backoff
+    private static Response response(int status) {
+        Map<String, Collection<String>> headers = Collections.singletonMap("Retry-After", Collections.singletonList("0"));
+        return Response.builder()
+            .status(status)
+            .reason("status " + status)
+            .request(Request.create(Request.HttpMethod.GET, URL, Collections.emptyMap(), null, UTF_8, null))
+            .headers(headers)
+            .build();
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.commons;
+
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.test.WireMockExtension;
+import org.jreleaser.util.Algorithm;
+import org.jreleaser.util.ChecksumUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.head;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class SegmentedDownloaderTest {
+    private static final String PATH = "/files/app-1.0.0.zip";
+    private static final String ETAG = "\"v1\"";
+    private static final int SEGMENT_SIZE = 8 * 1024 * 1024;
+
+    // stubs are registered in process, large bodies exceed what the admin API accepts
+    @RegisterExtension
+    WireMockExtension api = new WireMockExtension(options().dynamicPort());
+
+    @TempDir
+    Path directory;
+
+    private final JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR);
+
+    @Test
+    void downloadsAndVerifiesSmallFiles() throws IOException {
+        // given:
+        byte[] content = content(1024);
+        stubFile(content, false);
+        Path target = directory.resolve("app-1.0.0.zip");
+
+        // when:
+        downloader().download(url(), target, sha256(content));
+
+        // then:
+        assertThat(target).hasBinaryContent(content);
+        assertThat(directory.resolve("app-1.0.0.zip.part")).doesNotExist();
+        assertThat(directory.resolve("app-1.0.0.zip.part.properties")).doesNotExist();
+    }
+
+    @Test
+    void downloadsLargeFilesInSegments() throws IOException {
+        // given:
+        byte[] content = content(2 * SEGMENT_SIZE);
+        stubFile(content, true);
+        stubSegments(content);
+        Path target = directory.resolve("app-1.0.0.zip");
+
+        // when:
+        downloader().download(url(), target, sha256(content));
+
+        // then:
+        assertThat(target).hasBinaryContent(content);
+        api.verify(1, getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=0-" + (SEGMENT_SIZE - 1))));
+        api.verify(1, getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=" + SEGMENT_SIZE + "-" + (2 * SEGMENT_SIZE - 1))));
+    }
+
+    @Test
+    @Timeout(60)
+    void runsSegmentsItselfWhenTheSharedPoolIsBusy() throws Exception {
+        // given:
+        byte[] content = content(2 * SEGMENT_SIZE);
+        stubFile(content, true);
+        stubSegments(content);
+        Path target = directory.resolve("app-1.0.0.zip");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch busy = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                busy.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        try {
+            // when:
+            downloader().sharing(executor).download(url(), target, sha256(content));
+        } finally {
+            busy.countDown();
+            executor.shutdownNow();
+        }
+
+        // then:
+        assertThat(target).hasBinaryContent(content);
+    }
+
+    @Test
+    void resumesPartialDownloads() throws IOException {
+        // given:
+        byte[] content = content(1024);
+        stubFile(content, true);
+        api.stubFor(get(urlEqualTo(PATH))
+            .withHeader("Range", equalTo("bytes=400-"))
+            .willReturn(aResponse()
+                .withStatus(206)
+                .withBody(Arrays.copyOfRange(content, 400, content.length))));
+        Path target = directory.resolve("app-1.0.0.zip");
+        Files.write(directory.resolve("app-1.0.0.zip.part"), Arrays.copyOf(content, 400));
+        Files.write(directory.resolve("app-1.0.0.zip.part.properties"), ("url=" + url() + "\n" +
+            "validator=" + ETAG + "\n" +
+            "length=" + content.length + "\n").getBytes(UTF_8));
+
+        // when:
+        downloader().download(url(), target, sha256(content));
+
+        // then:
+        assertThat(target).hasBinaryContent(content);
+        api.verify(1, getRequestedFor(urlEqualTo(PATH)));
+    }
+
+    @Test
+    void rejectsMismatchingChecksums() {
+        // given:
+        byte[] content = content(1024);
+        stubFile(content, false);
+        Path target = directory.resolve("app-1.0.0.zip");
+
+        // when:
+        IOException e = assertThrows(IOException.class, () -> downloader().download(url(), target,
+            Collections.singletonMap(Algorithm.SHA_256, "0000")));
+
+        // then:
+        assertThat(e).hasMessageContaining(url());
+        assertThat(target).doesNotExist();
+        assertThat(directory.resolve("app-1.0.0.zip.part")).doesNotExist();
+    }
+
+    @Test
+    void rejectsChecksumsWithoutAlgorithm() {
+        // given:
+        byte[] content = content(1024);
+        stubFile(content, false);
+        Path target = directory.resolve("app-1.0.0.zip");
+
+        // when:
+        IOException e = assertThrows(IOException.class, () -> downloader().download(url(), target,
+            Collections.singletonMap(null, "0000")));
+
+        // then:
+        assertThat(e).hasMessageContaining(url());
+        assertThat(target).doesNotExist();
+    }
+
+    private SegmentedDownloader downloader() {
+        return SegmentedDownloader.of(logger, 20, 60, Resilience.of(0, 1));
+    }
+
+    private String url() {
+        return api.baseUrl() + PATH;
+    }
+
+    private void stubFile(byte[] content, boolean ranges) {
+        api.stubFor(head(urlEqualTo(PATH))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Length", String.valueOf(content.length))
+                .withHeader("Accept-Ranges", ranges ? "bytes" : "none")
+                .withHeader("ETag", ETAG)));
+        api.stubFor(get(urlEqualTo(PATH))
+            .atPriority(10)
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("ETag", ETAG)
+                .withBody(content)));
+    }
+
+    private void stubSegments(byte[] content) {
+        for (int start = 0; start < content.length; start += SEGMENT_SIZE) {
+            int end = Math.min(content.length, start + SEGMENT_SIZE);
+            api.stubFor(get(urlEqualTo(PATH))
+                .withHeader("Range", equalTo("bytes=" + start + "-" + (end - 1)))
+                .willReturn(aResponse()
+                    .withStatus(206)
+                    .withBody(Arrays.copyOfRange(content, start, end))));
+        }
+    }
+
+    private static byte[] content(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static Map<Algorithm, String> sha256(byte[] content) throws IOException {
+        return Collections.singletonMap(Algorithm.SHA_256, ChecksumUtils.checksum(Algorithm.SHA_256, content));
+    }
+}
@@ -22,6 +22,7 @@ import org.jreleaser.model.spi.announce.AnnounceException;
 import org.jreleaser.model.spi.announce.Announcer;
 import org.jreleaser.mustache.MustacheUtils;
 import org.jreleaser.mustache.TemplateContext;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.sdk.linkedin.api.Message;
 
 import static org.jreleaser.model.Constants.KEY_LINKEDIN_OWNER;
@@ -79,6 +80,7 @@ public class LinkedinAnnouncer implements Announcer<org.jreleaser.model.api.anno
                 .accessToken(linkedin.getAccessToken())
                 .connectTimeout(linkedin.getConnectTimeout())
                 .readTimeout(linkedin.getReadTimeout())
+                .resilience(Resilience.of(linkedin))
                 .dryrun(context.isDryrun())
                 .build();
             if (null != message) {
@@ -21,6 +21,7 @@ import org.jreleaser.bundle.RB;
 import org.jreleaser.model.api.JReleaserContext;
 import org.jreleaser.model.spi.announce.AnnounceException;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.linkedin.api.LinkedinAPI;
 import org.jreleaser.sdk.linkedin.api.Message;
@@ -46,6 +47,7 @@ public class LinkedinSdk {
     private final boolean dryrun;
     private final int connectTimeout;
     private final int readTimeout;
+    private final Resilience resilience;
     private final String apiHost;
     private final String accessToken;
 
@@ -54,6 +56,7 @@ public class LinkedinSdk {
                         String accessToken,
                         int connectTimeout,
                         int readTimeout,
+                        Resilience resilience,
                         boolean dryrun) {
         this.context = requireNonNull(context, "'context' must not be null");
         this.apiHost = requireNonBlank(apiHost, "'apiHost' must not be blank");
@@ -61,9 +64,10 @@ public class LinkedinSdk {
 
         this.connectTimeout = connectTimeout;
         this.readTimeout = readTimeout;
+        this.resilience = resilience;
         this.dryrun = dryrun;
 
-        this.api = ClientUtils.builder(context, connectTimeout, readTimeout)
+        this.api = ClientUtils.builder(context, connectTimeout, readTimeout, resilience)
             .requestInterceptor(template -> template.header("Authorization", String.format("Bearer %s", accessToken)))
             .target(LinkedinAPI.class, apiHost);
 
@@ -103,7 +107,8 @@ public class LinkedinSdk {
             connectTimeout,
             readTimeout,
             text,
-            headers);
+            headers,
+            resilience);
     }
 
     private void wrap(Runnable runnable) throws LinkedinException {
@@ -140,6 +145,7 @@ public class LinkedinSdk {
         private String accessToken;
         private int connectTimeout = 20;
         private int readTimeout = 60;
+        private Resilience resilience = Resilience.defaults();
 
         private Builder(JReleaserContext context) {
             this.context = requireNonNull(context, "'context' must not be null");
@@ -170,6 +176,11 @@ public class LinkedinSdk {
             return this;
         }
 
+        public Builder resilience(Resilience resilience) {
+            this.resilience = requireNonNull(resilience, "'resilience' must not be null");
+            return this;
+        }
+
         private void validate() {
             requireNonBlank(accessToken, "'token' must not be blank");
             if (isBlank(apiHost)) {
@@ -186,6 +197,7 @@ public class LinkedinSdk {
                 accessToken,
                 connectTimeout,
                 readTimeout,
+                resilience,
                 dryrun);
         }
     }
@@ -22,6 +22,7 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.spi.announce.AnnounceException;
 import org.jreleaser.model.spi.announce.Announcer;
 import org.jreleaser.mustache.TemplateContext;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.util.StringUtils;
 
 import java.util.ArrayList;
@@ -99,6 +100,7 @@ public class MastodonAnnouncer implements Announcer<org.jreleaser.model.api.anno
                 .accessToken(mastodon.getAccessToken())
                 .connectTimeout(mastodon.getConnectTimeout())
                 .readTimeout(mastodon.getReadTimeout())
+                .resilience(Resilience.of(mastodon))
                 .dryrun(context.isDryrun())
                 .build();
             sdk.toot(statuses);
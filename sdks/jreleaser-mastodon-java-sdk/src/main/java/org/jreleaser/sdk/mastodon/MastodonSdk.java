@@ -28,6 +28,7 @@ import feign.jackson.JacksonEncoder;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.api.JReleaserContext;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.mastodon.api.MastodonAPI;
 import org.jreleaser.sdk.mastodon.api.Status;
@@ -52,6 +53,7 @@ public class MastodonSdk {
                         String accessToken,
                         int connectTimeout,
                         int readTimeout,
+                        Resilience resilience,
                         boolean dryrun) {
         requireNonNull(context, "'context' must not be null");
         requireNonBlank(host, "'host' must not be blank");
@@ -72,7 +74,7 @@ public class MastodonSdk {
 
         this.context = context;
         this.dryrun = dryrun;
-        this.api = ClientUtils.builder(context, connectTimeout, readTimeout)
+        this.api = ClientUtils.builder(context, connectTimeout, readTimeout, resilience)
             .encoder(new FormEncoder(new JacksonEncoder(objectMapper)))
             .decoder(new JacksonDecoder(objectMapper))
             .requestInterceptor(template -> template.header("Authorization", String.format("Bearer %s", accessToken)))
@@ -110,6 +112,7 @@ public class MastodonSdk {
         private String host;
         private int connectTimeout = 20;
         private int readTimeout = 60;
+        private Resilience resilience = Resilience.defaults();
 
         private Builder(JReleaserContext context) {
             this.context = requireNonNull(context, "'context' must not be null");
@@ -140,6 +143,11 @@ public class MastodonSdk {
             return this;
         }
 
+        public Builder resilience(Resilience resilience) {
+            this.resilience = requireNonNull(resilience, "'resilience' must not be null");
+            return this;
+        }
+
         private void validate() {
             requireNonBlank(host, "'host' must not be blank");
             requireNonBlank(accessToken, "'accessToken' must not be blank");
@@ -154,6 +162,7 @@ public class MastodonSdk {
                 accessToken,
                 connectTimeout,
                 readTimeout,
+                resilience,
                 dryrun);
         }
     }
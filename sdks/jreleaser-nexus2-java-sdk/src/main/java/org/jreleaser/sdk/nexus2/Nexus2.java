@@ -27,12 +27,12 @@ import dev.failsafe.function.CheckedPredicate;
 import dev.failsafe.function.CheckedSupplier;
 import feign.FeignException;
 import feign.Response;
+import feign.Retryer;
 import feign.RetryableException;
 import feign.Util;
 import feign.auth.BasicAuthRequestInterceptor;
 import feign.codec.Decoder;
 import feign.codec.ErrorDecoder;
-import feign.form.FormData;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
 import org.apache.commons.io.IOUtils;
@@ -41,6 +41,7 @@ import org.jreleaser.logging.JReleaserLogger;
 import org.jreleaser.model.api.JReleaserContext;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.sdk.nexus2.api.Data;
 import org.jreleaser.sdk.nexus2.api.NexusAPI;
 import org.jreleaser.sdk.nexus2.api.NexusAPIException;
@@ -83,6 +84,9 @@ import static org.jreleaser.util.StringUtils.uncapitalize;
  * @since 1.3.0
  */
 public class Nexus2 {
+    private static final int UPLOAD_RETRY_DELAY = 2;
+    private static final int UPLOAD_MAX_RETRIES = 3;
+
     private final JReleaserContext context;
     private final NexusAPI api;
     private final boolean dryrun;
@@ -92,6 +96,7 @@ public class Nexus2 {
     private final int connectTimeout;
     private final int readTimeout;
     private final Retrier retrier;
+    private final Resilience uploadResilience;
 
     public Nexus2(JReleaserContext context,
                   String apiHost,
@@ -115,11 +120,15 @@ public class Nexus2 {
         this.connectTimeout = connectTimeout;
         this.readTimeout = readTimeout;
         this.retrier = new Retrier(context.getLogger(), transitionDelay, transitionMaxRetries);
+        // PUT is idempotent, only IO failures and transient statuses (408, 429, 5xx) are retried
+        this.uploadResilience = Resilience.of(UPLOAD_MAX_RETRIES, UPLOAD_RETRY_DELAY);
         this.api = ClientUtils.builder(context, connectTimeout, readTimeout)
             .encoder(new JacksonEncoder())
             .decoder(new ContentNegotiationDecoder())
             .requestInterceptor(new BasicAuthRequestInterceptor(username, password))
             .errorDecoder(new NexusErrorDecoder(context.getLogger()))
+            // staging transitions are POSTs; keep retrying what NexusErrorDecoder flags as retryable
+            .retryer(new Retryer.Default())
             .target(NexusAPI.class, apiHost);
     }
 
@@ -261,37 +270,37 @@ public class Nexus2 {
         String filename = file.getFileName().toString();
         context.getLogger().debug(" - " + RB.$("nexus.deploy.artifact", filename, path, filename));
 
-        try {
-            FormData data = ClientUtils.toFormData(file);
+        String auth = username + ":" + password;
+        byte[] encodedAuth = Base64.getEncoder().encode(auth.getBytes(UTF_8));
+        String authorization = "Basic " + new String(encodedAuth, UTF_8);
 
-            Map<String, String> headers = new LinkedHashMap<>();
-
-            String auth = username + ":" + password;
-            byte[] encodedAuth = Base64.getEncoder().encode(auth.getBytes(UTF_8));
-            auth = new String(encodedAuth, UTF_8);
-            headers.put("Authorization", "Basic " + auth);
+        StringBuilder url = new StringBuilder(apiHost);
+        if (isNotBlank(stagingRepositoryId)) {
+            url.append("staging/deployByRepositoryId/")
+                .append(stagingRepositoryId);
+        }
 
-            StringBuilder url = new StringBuilder(apiHost);
-            if (isNotBlank(stagingRepositoryId)) {
-                url.append("staging/deployByRepositoryId/")
-                    .append(stagingRepositoryId);
-            }
+        if (!path.startsWith("/")) {
+            url.append("/");
+        }
 
-            if (!path.startsWith("/")) {
-                url.append("/");
-            }
+        url.append(path)
+            .append("/")
+            .append(filename);
 
-            url.append(path)
-                .append("/")
-                .append(filename);
+        try {
+            Map<String, String> headers = new LinkedHashMap<>();
+            headers.put("Authorization", authorization);
 
+            // stream the file contents, the request body is never fully buffered in memory
             ClientUtils.putFile(context.getLogger(),
                 url.toString(),
                 connectTimeout,
                 readTimeout,
-                data,
-                headers);
-        } catch (UploadException | IOException e) {
+                file,
+                headers,
+                uploadResilience);
+        } catch (UploadException | RuntimeException e) {
             context.getLogger().error(" x {}", filename, e);
             throw fail(RB.$("ERROR_nexus_deploy_artifact", filename), e);
         }
@@ -27,11 +27,19 @@ import org.jreleaser.sdk.commons.AbstractMavenDeployer;
 import org.jreleaser.sdk.nexus2.api.NexusAPIException;
 import org.jreleaser.sdk.nexus2.api.StagingProfile;
 import org.jreleaser.sdk.nexus2.api.StagingProfileRepository;
+import org.jreleaser.util.ConcurrencyUtils;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.jreleaser.util.StringUtils.capitalize;
 import static org.jreleaser.util.StringUtils.getClassNameForLowerCaseHyphenSeparatedName;
@@ -252,21 +260,59 @@ public class Nexus2MavenDeployer extends AbstractMavenDeployer<org.jreleaser.mod
         }
     }
 
-    private void uploadArtifacts(Nexus2 nexus, Set<Deployable> deployables, String stagingRepositoryId) throws DeployException {
-        for (Deployable deployable : deployables) {
-            context.getLogger().info(" - {}", deployable.getFullDeployPath());
+    void uploadArtifacts(Nexus2 nexus, Set<Deployable> deployables, String stagingRepositoryId) throws DeployException {
+        if (context.isDryrun()) {
+            for (Deployable deployable : deployables) {
+                context.getLogger().info(" - {}", deployable.getFullDeployPath());
+            }
+            return;
+        }
 
-            if (!context.isDryrun()) {
-                try {
+        int concurrency = Math.max(1, Math.min(deployer.getUploadConcurrency(), deployables.size()));
+        ExecutorService executor = ConcurrencyUtils.newFixedThreadPoolOfSize("nexus2-upload", concurrency, context.getLogger());
+        AtomicLong bytes = new AtomicLong();
+        long start = System.currentTimeMillis();
+
+        try {
+            List<Future<?>> uploads = new ArrayList<>();
+            for (Deployable deployable : deployables) {
+                uploads.add(executor.submit(() -> {
+                    context.getLogger().info(" - {}", deployable.getFullDeployPath());
                     // if project is snapshot then stagingRepositoryId will be null, and this is expected
                     nexus.deploy(stagingRepositoryId, deployable.getDeployPath(), deployable.getLocalPath());
-                } catch (Nexus2Exception e) {
-                    context.getLogger().trace(e);
+                    bytes.addAndGet(deployable.getLocalPath().toFile().length());
+                    return null;
+                }));
+            }
+
+            Iterator<Deployable> it = deployables.iterator();
+            for (Future<?> upload : uploads) {
+                Deployable deployable = it.next();
+                try {
+                    upload.get();
+                } catch (ExecutionException e) {
+                    Throwable cause = null != e.getCause() ? e.getCause() : e;
+                    context.getLogger().trace(cause);
                     throw new DeployException(RB.$("ERROR_unexpected_deploy",
-                        context.getBasedir().relativize(deployable.getLocalPath()), e.getMessage()), e);
+                        context.getBasedir().relativize(deployable.getLocalPath()), cause.getMessage()), cause);
                 }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DeployException(RB.$("ERROR_unexpected_error"), e);
+        } finally {
+            executor.shutdownNow();
         }
+
+        long elapsed = Math.max(1L, System.currentTimeMillis() - start);
+        context.getLogger().info(RB.$("nexus.upload.summary", deployables.size(),
+            formatBytes(bytes.get()), String.format(Locale.ENGLISH, "%.1f", elapsed / 1000d), formatBytes(bytes.get() * 1000L / elapsed) + "/s", concurrency));
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024L) return bytes + " B";
+        int exp = (int) (Math.log(bytes) / Math.log(1024));
+        return String.format(Locale.ENGLISH, "%.1f %sB", bytes / Math.pow(1024, exp), "KMGTPE".charAt(exp - 1));
     }
 
     private void closeRepository(Nexus2 nexus, boolean isSnapshot, String groupId, String stagingProfileId, String stagingRepositoryId) throws DeployException {
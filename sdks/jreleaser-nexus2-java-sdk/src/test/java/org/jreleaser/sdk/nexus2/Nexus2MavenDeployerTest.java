@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.nexus2;
+
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.model.api.JReleaserContext.Mode;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.model.internal.JReleaserModel;
+import org.jreleaser.model.spi.deploy.DeployException;
+import org.jreleaser.model.spi.deploy.maven.Deployable;
+import org.jreleaser.sdk.commons.HttpTransport;
+import org.jreleaser.test.WireMockExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.put;
+import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class Nexus2MavenDeployerTest {
+    private static final String STAGING_REPOSITORY = "orgjreleaser-1000";
+    private static final String DEPLOY_PATH = "/org/jreleaser/app/1.0.0";
+    private static final int DELAY = 1000;
+
+    @RegisterExtension
+    WireMockExtension api = new WireMockExtension(options().dynamicPort());
+
+    @TempDir
+    Path directory;
+
+    private JReleaserContext context;
+
+    @BeforeEach
+    void setup() {
+        context = new JReleaserContext(new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR),
+            null, Mode.FULL, new JReleaserModel(), directory, directory.resolve("out"),
+            false, false, false, Collections.emptyList(), Collections.emptyList());
+    }
+
+    @AfterEach
+    void cleanup() {
+        HttpTransport.shutdown(context.getLogger());
+    }
+
+    @Test
+    void uploadsArtifactsConcurrently() throws Exception {
+        // given:
+        stubFor(put(urlPathMatching("/staging/deployByRepositoryId/.*"))
+            .willReturn(aResponse().withStatus(201).withFixedDelay(DELAY)));
+        Set<Deployable> deployables = deployables("app-1.0.0.jar", "app-1.0.0.pom", "app-1.0.0-sources.jar");
+
+        // when:
+        long start = System.currentTimeMillis();
+        deployer(3).uploadArtifacts(nexus(), deployables, STAGING_REPOSITORY);
+        long elapsed = System.currentTimeMillis() - start;
+
+        // then:
+        for (Deployable deployable : deployables) {
+            verify(1, putRequestedFor(urlEqualTo(uploadPath(deployable))));
+        }
+        assertThat(elapsed).isLessThan(3L * DELAY);
+    }
+
+    @Test
+    void reportsTheArtifactThatFailedToUpload() throws Exception {
+        // given:
+        stubFor(put(urlPathMatching("/staging/deployByRepositoryId/.*"))
+            .willReturn(aResponse().withStatus(201)));
+        stubFor(put(urlEqualTo("/staging/deployByRepositoryId/" + STAGING_REPOSITORY + DEPLOY_PATH + "/app-1.0.0.pom"))
+            .willReturn(aResponse().withStatus(401)));
+        Set<Deployable> deployables = deployables("app-1.0.0.jar", "app-1.0.0.pom");
+
+        // expect:
+        assertThatThrownBy(() -> deployer(2).uploadArtifacts(nexus(), deployables, STAGING_REPOSITORY))
+            .isInstanceOf(DeployException.class)
+            .hasMessageContaining("app-1.0.0.pom");
+    }
+
+    private Nexus2MavenDeployer deployer(int uploadConcurrency) {
+        org.jreleaser.model.internal.deploy.maven.Nexus2MavenDeployer model = new org.jreleaser.model.internal.deploy.maven.Nexus2MavenDeployer();
+        model.setUploadConcurrency(uploadConcurrency);
+        Nexus2MavenDeployer deployer = new Nexus2MavenDeployer(context);
+        deployer.setDeployer(model);
+        return deployer;
+    }
+
+    private Nexus2 nexus() {
+        return new Nexus2(context.asImmutable(), api.baseUrl() + "/", "user", "secret",
+            20, 60, false, 1, 1);
+    }
+
+    private Set<Deployable> deployables(String... filenames) throws IOException {
+        Path staging = directory.resolve("staging");
+        Files.createDirectories(staging.resolve(DEPLOY_PATH.substring(1)));
+
+        Set<Deployable> deployables = new TreeSet<>();
+        for (String filename : filenames) {
+            Deployable deployable = new Deployable(staging.toString(), DEPLOY_PATH, Deployable.PACKAGING_JAR, filename);
+            Files.write(deployable.getLocalPath(), filename.getBytes(UTF_8));
+            deployables.add(deployable);
+        }
+        return deployables;
+    }
+
+    private static String uploadPath(Deployable deployable) {
+        return "/staging/deployByRepositoryId/" + STAGING_REPOSITORY + deployable.getDeployPath() + "/" + deployable.getFilename();
+    }
+}
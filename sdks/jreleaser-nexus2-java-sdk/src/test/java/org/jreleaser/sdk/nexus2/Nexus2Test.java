@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.nexus2;
+
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import org.jreleaser.model.internal.JReleaserContext;
+import org.jreleaser.sdk.commons.HttpTransport;
+import org.jreleaser.test.WireMockExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.put;
+import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class Nexus2Test {
+    private static final String PATH = "/staging/deployByRepositoryId/orgjreleaser-1000/org/jreleaser/app/1.0.0/app-1.0.0.jar";
+
+    @RegisterExtension
+    WireMockExtension api = new WireMockExtension(options().dynamicPort());
+
+    @TempDir
+    Path directory;
+
+    private final JReleaserContext context = JReleaserContext.empty();
+
+    @AfterEach
+    void cleanup() {
+        HttpTransport.shutdown(context.getLogger());
+    }
+
+    @Test
+    void retriesTransientUploadFailures() throws Exception {
+        // given:
+        stubFor(put(urlEqualTo(PATH))
+            .inScenario("retry")
+            .whenScenarioStateIs(Scenario.STARTED)
+            .willReturn(aResponse().withStatus(503).withHeader("Retry-After", "0"))
+            .willSetStateTo("retried"));
+        stubFor(put(urlEqualTo(PATH))
+            .inScenario("retry")
+            .whenScenarioStateIs("retried")
+            .willReturn(aResponse().withStatus(201)));
+
+        // when:
+        nexus().deploy("orgjreleaser-1000", "org/jreleaser/app/1.0.0", artifact());
+
+        // then:
+        verify(2, putRequestedFor(urlEqualTo(PATH)));
+    }
+
+    @Test
+    void doesNotRetryRejectedUploads() throws Exception {
+        // given:
+        stubFor(put(urlEqualTo(PATH))
+            .willReturn(aResponse().withStatus(401)));
+        Path file = artifact();
+
+        // when:
+        assertThrows(Nexus2Exception.class, () -> nexus().deploy("orgjreleaser-1000", "org/jreleaser/app/1.0.0", file));
+
+        // then:
+        verify(1, putRequestedFor(urlEqualTo(PATH)));
+    }
+
+    private Nexus2 nexus() {
+        return new Nexus2(context.asImmutable(), api.baseUrl() + "/", "user", "secret",
+            20, 60, false, 1, 1);
+    }
+
+    private Path artifact() throws IOException {
+        Path file = directory.resolve("app-1.0.0.jar");
+        Files.write(file, "JReleaser 1.0.0".getBytes(UTF_8));
+        return file;
+    }
+}
@@ -21,6 +21,7 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.spi.announce.AnnounceException;
 import org.jreleaser.model.spi.announce.Announcer;
 import org.jreleaser.mustache.TemplateContext;
+import org.jreleaser.sdk.commons.Resilience;
 
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
@@ -77,6 +78,7 @@ public class OpenCollectiveAnnouncer implements Announcer<org.jreleaser.model.ap
                 .token(openCollective.getToken())
                 .connectTimeout(openCollective.getConnectTimeout())
                 .readTimeout(openCollective.getReadTimeout())
+                .resilience(Resilience.of(openCollective))
                 .dryrun(context.isDryrun())
                 .build();
             sdk.postUpdate(slug, title, message);
@@ -28,6 +28,7 @@ import org.jreleaser.bundle.RB;
 import org.jreleaser.model.JReleaserVersion;
 import org.jreleaser.model.api.JReleaserContext;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.opencollective.api.Envelope;
 import org.jreleaser.sdk.opencollective.api.Mutation;
@@ -67,6 +68,7 @@ public class OpenCollectiveSdk {
                               String token,
                               int connectTimeout,
                               int readTimeout,
+                              Resilience resilience,
                               boolean dryrun) {
         requireNonNull(context, "'context' must not be null");
         requireNonBlank(host, "'host' must not be blank");
@@ -81,7 +83,7 @@ public class OpenCollectiveSdk {
         this.context = context;
         this.dryrun = dryrun;
 
-        this.api = ClientUtils.builder(context, connectTimeout, readTimeout)
+        this.api = ClientUtils.builder(context, connectTimeout, readTimeout, resilience)
             .encoder(new JacksonEncoder(objectMapper))
             .decoder(new JacksonDecoder(objectMapper))
             .requestInterceptor(template -> {
@@ -141,6 +143,7 @@ public class OpenCollectiveSdk {
         private String host;
         private int connectTimeout = 20;
         private int readTimeout = 60;
+        private Resilience resilience = Resilience.defaults();
 
         private Builder(JReleaserContext context) {
             this.context = requireNonNull(context, "'context' must not be null");
@@ -171,6 +174,11 @@ public class OpenCollectiveSdk {
             return this;
         }
 
+        public Builder resilience(Resilience resilience) {
+            this.resilience = requireNonNull(resilience, "'resilience' must not be null");
+            return this;
+        }
+
         private void validate() {
             requireNonBlank(host, "'host' must not be blank");
             requireNonBlank(token, "'token' must not be blank");
@@ -185,6 +193,7 @@ public class OpenCollectiveSdk {
                 token,
                 connectTimeout,
                 readTimeout,
+                resilience,
                 dryrun);
         }
     }
@@ -130,6 +130,7 @@ public class S3ArtifactUploader extends AbstractArtifactUploader<org.jreleaser.m
 
                     putObject(s3, ownerId, bucketName, bucketPath, path);
                 }
+                uploaded(artifact);
             } catch (SdkException e) {
                 context.getLogger().trace(e);
                 throw new UploadException(RB.$("ERROR_unexpected_upload", context.relativizeToBasedir(path)), e);
@@ -165,6 +166,9 @@ public class S3ArtifactUploader extends AbstractArtifactUploader<org.jreleaser.m
         builder.overrideConfiguration(confBuilder -> {
             uploader.getHeaders().forEach(confBuilder::putHeader);
             confBuilder.apiCallAttemptTimeout(Duration.of(uploader.getConnectTimeout(), ChronoUnit.SECONDS));
+            if (null != uploader.getMaxRetries()) {
+                confBuilder.retryPolicy(retry -> retry.numRetries(uploader.getMaxRetries()));
+            }
         });
 
         return builder.build();
@@ -35,11 +35,13 @@ import org.bouncycastle.openpgp.operator.jcajce.JcaPGPContentSignerBuilder;
 import org.bouncycastle.openpgp.operator.jcajce.JcaPGPContentVerifierBuilderProvider;
 import org.bouncycastle.openpgp.operator.jcajce.JcePBESecretKeyDecryptorBuilder;
 import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.LogScope;
 import org.jreleaser.model.api.JReleaserContext;
 import org.jreleaser.model.api.signing.Keyring;
 import org.jreleaser.model.api.signing.Signing;
 import org.jreleaser.model.api.signing.SigningException;
 import org.jreleaser.sdk.command.CommandException;
+import org.jreleaser.util.JfrEvents;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
@@ -140,11 +142,15 @@ public final class SigningUtils {
     }
 
     public static boolean verify(JReleaserContext context, Keyring keyring, FilePair filePair) throws SigningException {
-        context.getLogger().setPrefix("verify");
+        try (LogScope scope = context.getLogger().scope("verify")) {
+            context.getLogger().debug("{}",
+                context.relativizeToBasedir(filePair.signatureFile));
 
-        context.getLogger().debug("{}",
-            context.relativizeToBasedir(filePair.signatureFile));
+            return verifySignature(context, keyring, filePair);
+        }
+    }
 
+    private static boolean verifySignature(JReleaserContext context, Keyring keyring, FilePair filePair) throws SigningException {
         try (InputStream sigInputStream = PGPUtil.getDecoderStream(
             new BufferedInputStream(
                 newInputStream(filePair.signatureFile)))) {
@@ -177,15 +183,11 @@ public final class SigningUtils {
         } catch (IOException | PGPException e) {
             throw new SigningException(RB.$("ERROR_signing_verify_signature",
                 context.relativizeToBasedir(filePair.inputFile)), e);
-        } finally {
-            context.getLogger().restorePrefix();
         }
     }
 
     public static boolean verify(JReleaserContext context, FilePair filePair) throws SigningException {
-        context.getLogger().setPrefix("verify");
-
-        try {
+        try (LogScope scope = context.getLogger().scope("verify")) {
             context.getLogger().debug("{}",
                 context.relativizeToBasedir(filePair.signatureFile));
 
@@ -194,8 +196,6 @@ public final class SigningUtils {
         } catch (CommandException e) {
             throw new SigningException(RB.$("ERROR_signing_verify_signature",
                 context.relativizeToBasedir(filePair.inputFile)), e);
-        } finally {
-            context.getLogger().restorePrefix();
         }
     }
 
@@ -219,7 +219,7 @@ public final class SigningUtils {
     }
 
     public static void sign(JReleaserContext context, GpgCommandSigner commandSigner, Path input, Path output) throws SigningException {
-        try {
+        try (JfrEvents.Probe probe = JfrEvents.begin(JfrEvents.Type.SIGN, input.getFileName().toString()).bytes(input.toFile().length())) {
             context.getLogger().info("{}", context.relativizeToBasedir(input));
 
             commandSigner.sign(input, output);
@@ -266,7 +266,8 @@ public final class SigningUtils {
         if (null == signatureGenerator) return;
 
         PGPCompressedDataGenerator compressionStreamGenerator = new PGPCompressedDataGenerator(UNCOMPRESSED);
-        try (OutputStream out = createOutputStream(context, output);
+        try (JfrEvents.Probe probe = JfrEvents.begin(JfrEvents.Type.SIGN, input.getFileName().toString()).bytes(input.toFile().length());
+             OutputStream out = createOutputStream(context, output);
              BCPGOutputStream bOut = new BCPGOutputStream(compressionStreamGenerator.open(out));
              InputStream in = newInputStream(input)) {
 
@@ -293,15 +294,15 @@ public final class SigningUtils {
 
     public static boolean isValid(JReleaserContext context, FilePair pair) {
         if (Files.notExists(pair.getSignatureFile())) {
-            context.getLogger().debug(RB.$("signing.signature.not.exist"),
-                context.relativizeToBasedir(pair.getSignatureFile()));
+            context.getLogger().debug(() -> RB.$("signing.signature.not.exist",
+                context.relativizeToBasedir(pair.getSignatureFile())));
             return false;
         }
 
         if (pair.inputFile.toFile().lastModified() > pair.signatureFile.toFile().lastModified()) {
-            context.getLogger().debug(RB.$("signing.file.newer"),
+            context.getLogger().debug(() -> RB.$("signing.file.newer",
                 context.relativizeToBasedir(pair.inputFile),
-                context.relativizeToBasedir(pair.signatureFile));
+                context.relativizeToBasedir(pair.signatureFile)));
             return false;
         }
 
@@ -323,15 +324,15 @@ public final class SigningUtils {
         }
 
         if (Files.notExists(pair.getSignatureFile())) {
-            context.getLogger().debug(RB.$("signing.signature.not.exist"),
-                context.relativizeToBasedir(pair.getSignatureFile()));
+            context.getLogger().debug(() -> RB.$("signing.signature.not.exist",
+                context.relativizeToBasedir(pair.getSignatureFile())));
             return false;
         }
 
         if (pair.inputFile.toFile().lastModified() > pair.signatureFile.toFile().lastModified()) {
-            context.getLogger().debug(RB.$("signing.file.newer"),
+            context.getLogger().debug(() -> RB.$("signing.file.newer",
                 context.relativizeToBasedir(pair.inputFile),
-                context.relativizeToBasedir(pair.signatureFile));
+                context.relativizeToBasedir(pair.signatureFile)));
             return false;
         }
 
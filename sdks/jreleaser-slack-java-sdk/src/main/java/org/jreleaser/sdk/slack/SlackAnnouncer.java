@@ -22,6 +22,7 @@ import org.jreleaser.model.spi.announce.AnnounceException;
 import org.jreleaser.model.spi.announce.Announcer;
 import org.jreleaser.mustache.TemplateContext;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.sdk.slack.api.Message;
 
 import java.util.ArrayList;
@@ -78,6 +79,7 @@ public class SlackAnnouncer implements Announcer<org.jreleaser.model.api.announc
                 SlackSdk sdk = SlackSdk.builder(context.asImmutable())
                     .connectTimeout(slack.getConnectTimeout())
                     .readTimeout(slack.getReadTimeout())
+                    .resilience(Resilience.of(slack))
                     .token(context.isDryrun() ? "**UNDEFINED**" : slack.getToken())
                     .dryrun(context.isDryrun())
                     .build();
@@ -95,7 +97,8 @@ public class SlackAnnouncer implements Announcer<org.jreleaser.model.api.announc
                     slack.getWebhook(),
                     slack.getConnectTimeout(),
                     slack.getReadTimeout(),
-                    Message.of(message));
+                    Message.of(message),
+                    Resilience.of(slack));
             } catch (AnnounceException e) {
                 context.getLogger().trace(e);
                 errors.add(e.toString());
@@ -20,6 +20,7 @@ package org.jreleaser.sdk.slack;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.api.JReleaserContext;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.sdk.slack.api.Message;
 import org.jreleaser.sdk.slack.api.SlackAPI;
 import org.jreleaser.sdk.slack.api.SlackResponse;
@@ -45,13 +46,14 @@ public class SlackSdk {
                      String apiHost,
                      int connectTimeout,
                      int readTimeout,
+                     Resilience resilience,
                      boolean dryrun) {
         requireNonNull(context, "'context' must not be null");
         requireNonBlank(token, "'token' must not be blank");
 
         this.context = context;
         this.dryrun = dryrun;
-        this.api = ClientUtils.builder(context, connectTimeout, readTimeout)
+        this.api = ClientUtils.builder(context, connectTimeout, readTimeout, resilience)
             .requestInterceptor(template -> template.header("Authorization", String.format("Bearer %s", token)))
             .target(SlackAPI.class, apiHost);
 
@@ -95,6 +97,7 @@ public class SlackSdk {
         private String apiHost;
         private int connectTimeout = 20;
         private int readTimeout = 60;
+        private Resilience resilience = Resilience.defaults();
 
         private Builder(JReleaserContext context) {
             this.context = requireNonNull(context, "'context' must not be null");
@@ -125,6 +128,11 @@ public class SlackSdk {
             return this;
         }
 
+        public Builder resilience(Resilience resilience) {
+            this.resilience = requireNonNull(resilience, "'resilience' must not be null");
+            return this;
+        }
+
         private void validate() {
             requireNonBlank(apiHost, "'apiHost' must not be blank");
             requireNonBlank(token, "'token' must not be blank");
@@ -143,6 +151,7 @@ public class SlackSdk {
                 apiHost,
                 connectTimeout,
                 readTimeout,
+                resilience,
                 dryrun);
         }
     }
@@ -87,12 +87,15 @@ public class ScpArtifactDownloader extends AbstractArtifactDownloader<org.jrelea
         if (!context.isDryrun()) {
             try {
                 Files.createDirectories(outputPath.toAbsolutePath().getParent());
+                // SCP writes in place, an existing file may be linked to the download cache
+                Files.deleteIfExists(outputPath);
                 ssh.newSCPFileTransfer().download(input, outputPath.toAbsolutePath().toString());
             } catch (IOException e) {
                 throw new DownloadException(RB.$("ERROR_unexpected_download", input), e);
             }
         }
 
+        verifyChecksums(asset, input, outputPath);
         unpack(asset.getUnpack(), outputPath);
     }
 }
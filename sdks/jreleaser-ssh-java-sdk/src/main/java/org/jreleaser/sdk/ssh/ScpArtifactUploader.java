@@ -24,6 +24,7 @@ import org.jreleaser.model.internal.common.Artifact;
 import org.jreleaser.model.internal.upload.ScpUploader;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
+import org.jreleaser.sdk.commons.Resilience;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -69,6 +70,7 @@ public class ScpArtifactUploader extends AbstractArtifactUploader<org.jreleaser.
         }
 
         SSHClient ssh = createSSHClient(context, uploader);
+        Resilience resilience = Resilience.of(uploader);
 
         try {
             for (Artifact artifact : artifacts) {
@@ -80,7 +82,9 @@ public class ScpArtifactUploader extends AbstractArtifactUploader<org.jreleaser.
                         String uploadPath = uploader.getResolvedPath(context, artifact);
                         context.getLogger().debug("   " + RB.$("uploader.uploading.to", uploadPath));
                         createDirectories(context, uploader, ssh, Paths.get(uploadPath).getParent());
-                        ssh.newSCPFileTransfer().upload(path.toAbsolutePath().toString(), uploadPath);
+                        resilience.execute(context.getLogger(), uploader.getHost(),
+                            () -> ssh.newSCPFileTransfer().upload(path.toAbsolutePath().toString(), uploadPath));
+                        uploaded(artifact);
                     } catch (IOException e) {
                         context.getLogger().trace(e);
                         throw new UploadException(RB.$("ERROR_unexpected_upload",
@@ -18,6 +18,7 @@
 package org.jreleaser.sdk.ssh;
 
 import net.schmizz.sshj.SSHClient;
+import net.schmizz.sshj.sftp.FileAttributes;
 import net.schmizz.sshj.sftp.SFTPClient;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.internal.JReleaserContext;
@@ -25,11 +26,13 @@ import org.jreleaser.model.internal.download.Downloader;
 import org.jreleaser.model.internal.download.SftpDownloader;
 import org.jreleaser.model.spi.download.DownloadException;
 import org.jreleaser.sdk.commons.AbstractArtifactDownloader;
+import org.jreleaser.sdk.tool.DownloadCache;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
 
 import static org.jreleaser.sdk.ssh.SshUtils.close;
 import static org.jreleaser.sdk.ssh.SshUtils.createSFTPClient;
@@ -94,13 +97,41 @@ public class SftpArtifactDownloader extends AbstractArtifactDownloader<org.jrele
 
         if (!context.isDryrun()) {
             try {
-                Files.createDirectories(outputPath.toAbsolutePath().getParent());
-                sftp.get(input, outputPath.toAbsolutePath().toString());
+                downloadAsset(sftp, input, outputPath);
             } catch (IOException e) {
                 throw new DownloadException(RB.$("ERROR_unexpected_download", input), e);
             }
         }
 
+        verifyChecksums(asset, input, outputPath, cacheUrl(input));
         unpack(asset.getUnpack(), outputPath);
     }
+
+    private void downloadAsset(SFTPClient sftp, String input, Path outputPath) throws IOException {
+        DownloadCache cache = DownloadCache.defaults();
+        String url = cacheUrl(input);
+
+        // modification time and size act as validators, SFTP has no conditional retrieval
+        FileAttributes attributes = sftp.stat(input);
+        String validator = attributes.getMtime() + "/" + attributes.getSize();
+
+        Optional<DownloadCache.Entry> cached = cache.lookup(url, null, validator);
+        if (cached.isPresent()) {
+            context.getLogger().debug(RB.$("download.cache.hit"), url);
+            cache.link(cached.get(), outputPath);
+            return;
+        }
+
+        Path tmp = cache.newTempFile();
+        try {
+            sftp.get(input, tmp.toAbsolutePath().toString());
+            cache.link(cache.store(url, tmp, null, validator), outputPath);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private String cacheUrl(String input) {
+        return "sftp://" + downloader.getHost() + ":" + downloader.getPort() + "/" + input;
+    }
 }
@@ -25,6 +25,7 @@ import org.jreleaser.model.internal.common.Artifact;
 import org.jreleaser.model.internal.upload.SftpUploader;
 import org.jreleaser.model.spi.upload.UploadException;
 import org.jreleaser.sdk.commons.AbstractArtifactUploader;
+import org.jreleaser.sdk.commons.Resilience;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -72,6 +73,7 @@ public class SftpArtifactUploader extends AbstractArtifactUploader<org.jreleaser
 
         SSHClient ssh = createSSHClient(context, uploader);
         SFTPClient sftp = createSFTPClient(uploader, ssh);
+        Resilience resilience = Resilience.of(uploader);
 
         try {
             for (Artifact artifact : artifacts) {
@@ -83,7 +85,9 @@ public class SftpArtifactUploader extends AbstractArtifactUploader<org.jreleaser
                         String uploadPath = uploader.getResolvedPath(context, artifact);
                         context.getLogger().debug("   " + RB.$("uploader.uploading.to", uploadPath));
                         createDirectories(context, uploader, ssh, Paths.get(uploadPath).getParent());
-                        sftp.put(path.toAbsolutePath().toString(), uploadPath);
+                        resilience.execute(context.getLogger(), uploader.getHost(),
+                            () -> sftp.put(path.toAbsolutePath().toString(), uploadPath));
+                        uploaded(artifact);
                     } catch (IOException e) {
                         context.getLogger().trace(e);
                         throw new UploadException(RB.$("ERROR_unexpected_upload",
@@ -21,6 +21,7 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.spi.announce.AnnounceException;
 import org.jreleaser.model.spi.announce.Announcer;
 import org.jreleaser.mustache.TemplateContext;
+import org.jreleaser.sdk.commons.Resilience;
 
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
@@ -72,6 +73,7 @@ public class TelegramAnnouncer implements Announcer<org.jreleaser.model.api.anno
                 .token(telegram.getToken())
                 .connectTimeout(telegram.getConnectTimeout())
                 .readTimeout(telegram.getReadTimeout())
+                .resilience(Resilience.of(telegram))
                 .dryrun(context.isDryrun())
                 .build();
             sdk.sendMessage(chatId, message);
@@ -20,6 +20,7 @@ package org.jreleaser.sdk.telegram;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.api.JReleaserContext;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.telegram.api.Message;
 import org.jreleaser.sdk.telegram.api.TelegramAPI;
@@ -41,13 +42,14 @@ public class TelegramSdk {
                         String apiHost,
                         int connectTimeout,
                         int readTimeout,
+                        Resilience resilience,
                         boolean dryrun) {
         requireNonNull(context, "'context' must not be null");
         requireNonBlank(apiHost, "'apiHost' must not be blank");
 
         this.context = context;
         this.dryrun = dryrun;
-        this.api = ClientUtils.builder(context, connectTimeout, readTimeout)
+        this.api = ClientUtils.builder(context, connectTimeout, readTimeout, resilience)
             .target(TelegramAPI.class, apiHost);
 
         this.context.getLogger().debug(RB.$("workflow.dryrun"), dryrun);
@@ -80,6 +82,7 @@ public class TelegramSdk {
         private String token;
         private int connectTimeout = 20;
         private int readTimeout = 60;
+        private Resilience resilience = Resilience.defaults();
 
         private Builder(JReleaserContext context) {
             this.context = requireNonNull(context, "'context' must not be null");
@@ -110,6 +113,11 @@ public class TelegramSdk {
             return this;
         }
 
+        public Builder resilience(Resilience resilience) {
+            this.resilience = requireNonNull(resilience, "'resilience' must not be null");
+            return this;
+        }
+
         private void validate() {
             requireNonBlank(token, "'token' must not be blank");
             if (isBlank(apiHost)) {
@@ -129,6 +137,7 @@ public class TelegramSdk {
                 apiHost,
                 connectTimeout,
                 readTimeout,
+                resilience,
                 dryrun);
         }
     }
@@ -61,6 +61,8 @@ public class AbstractTool {
     }
 
     public boolean setup() throws ToolException {
+        ToolPrefetch.await(context.getLogger(), name, version);
+
         if (!tool.verify()) {
             if (tool.isEnabled()) {
                 try {
@@ -78,6 +80,12 @@ public class AbstractTool {
         return true;
     }
 
+    void prefetch() {
+        if (!tool.verify() && tool.isEnabled()) {
+            tool.download();
+        }
+    }
+
     public void invoke(Path parent, List<String> args) throws CommandException {
         Command command = tool.asCommand().args(args);
         Command.Result result = executeCommand(() -> new CommandExecutor(context.getLogger())
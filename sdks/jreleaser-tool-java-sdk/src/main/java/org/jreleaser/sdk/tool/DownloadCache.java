@@ -0,0 +1,295 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.tool;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.jreleaser.util.FileUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.requireNonNull;
+import static org.jreleaser.util.StringUtils.isBlank;
+import static org.jreleaser.util.StringUtils.isNotBlank;
+
+/**
+ * Content cache for downloaded files shared by downloaders and tools.
+ * <p>
+ * Entries are keyed by source URL and record the {@code ETag} and {@code Last-Modified}
+ * validators reported by the server, along with the SHA-256 digest of the content.
+ * Contents are stored once per digest and hardlinked into their destination, falling
+ * back to a copy when the destination lives on a different file store. Contents are
+ * verified against their digest before they are reused; entries whose content does not
+ * match are evicted.
+ *
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+public final class DownloadCache {
+    private static final String ENTRIES = "entries";
+    private static final String BLOBS = "blobs";
+    private static final String TMP = "tmp";
+    private static final String KEY_URL = "url";
+    private static final String KEY_ETAG = "etag";
+    private static final String KEY_LAST_MODIFIED = "lastModified";
+    private static final String KEY_SHA256 = "sha256";
+    private static final String KEY_SIZE = "size";
+    // blobs already verified in this process, keyed by path, size and modification time
+    private static final Set<String> VERIFIED = ConcurrentHashMap.newKeySet();
+
+    private final Path directory;
+
+    private DownloadCache(Path directory) {
+        this.directory = requireNonNull(directory, "'directory' must not be null");
+    }
+
+    public static DownloadCache defaults() {
+        return new DownloadCache(FileUtils.resolveJReleaserCacheDir().resolve("downloads"));
+    }
+
+    public static DownloadCache of(Path directory) {
+        return new DownloadCache(directory);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the entry stored for the given URL, if its content is still available and
+     * matches the recorded digest. Entries with mismatching content are evicted.
+     */
+    public Optional<Entry> lookup(String url) {
+        Optional<Properties> stored = readEntry(url);
+        if (!stored.isPresent()) return Optional.empty();
+
+        Properties props = stored.get();
+        if (isBlank(props.getProperty(KEY_SHA256))) {
+            return Optional.empty();
+        }
+
+        Entry entry = new Entry(url,
+            props.getProperty(KEY_ETAG),
+            props.getProperty(KEY_LAST_MODIFIED),
+            props.getProperty(KEY_SHA256),
+            Long.parseLong(props.getProperty(KEY_SIZE, "-1")),
+            directory.resolve(BLOBS).resolve(props.getProperty(KEY_SHA256)));
+
+        try {
+            if (!Files.exists(entry.getContent()) || Files.size(entry.getContent()) != entry.getSize()) {
+                return Optional.empty();
+            }
+            if (!verify(entry)) {
+                evict(url);
+                return Optional.empty();
+            }
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+
+        return Optional.of(entry);
+    }
+
+    /**
+     * Removes the entry stored for the given URL along with its content, such as when the
+     * content does not match an expected checksum. Other entries sharing the same content
+     * become misses.
+     */
+    public void evict(String url) {
+        Optional<Properties> stored = readEntry(url);
+        try {
+            Files.deleteIfExists(entryFile(url));
+            if (stored.isPresent() && isNotBlank(stored.get().getProperty(KEY_SHA256))) {
+                Files.deleteIfExists(directory.resolve(BLOBS).resolve(stored.get().getProperty(KEY_SHA256)));
+            }
+        } catch (IOException ignored) {
+            // an entry that cannot be removed fails verification again on its next lookup
+        }
+    }
+
+    /**
+     * Returns the entry for the given URL if it was recorded with the same validators.
+     */
+    public Optional<Entry> lookup(String url, String etag, String lastModified) {
+        if (isBlank(etag) && isBlank(lastModified)) return Optional.empty();
+
+        return lookup(url)
+            .filter(e -> equalsOrBlank(etag, e.getEtag()) && equalsOrBlank(lastModified, e.getLastModified()));
+    }
+
+    /**
+     * Creates a temporary file within the cache directory, suitable for {@link #store(String, Path, String, String)}.
+     */
+    public Path newTempFile() throws IOException {
+        Path tmp = directory.resolve(TMP);
+        Files.createDirectories(tmp);
+        return Files.createTempFile(tmp, "download", ".tmp");
+    }
+
+    /**
+     * Moves {@code file} into the cache as the content of {@code url}. The file no longer exists once this method returns.
+     */
+    public Entry store(String url, Path file, String etag, String lastModified) throws IOException {
+        String sha256;
+        try (InputStream in = Files.newInputStream(file)) {
+            sha256 = DigestUtils.sha256Hex(in);
+        }
+        long size = Files.size(file);
+
+        Path blob = directory.resolve(BLOBS).resolve(sha256);
+        Files.createDirectories(blob.getParent());
+        if (Files.exists(blob) && Files.size(blob) == size && verify(new Entry(url, etag, lastModified, sha256, size, blob))) {
+            Files.delete(file);
+        } else {
+            move(file, blob);
+        }
+
+        Properties props = new Properties();
+        props.setProperty(KEY_URL, url);
+        if (isNotBlank(etag)) props.setProperty(KEY_ETAG, etag);
+        if (isNotBlank(lastModified)) props.setProperty(KEY_LAST_MODIFIED, lastModified);
+        props.setProperty(KEY_SHA256, sha256);
+        props.setProperty(KEY_SIZE, String.valueOf(size));
+
+        Path entryFile = entryFile(url);
+        Files.createDirectories(entryFile.getParent());
+        Path tmp = Files.createTempFile(entryFile.getParent(), entryFile.getFileName().toString(), ".tmp");
+        try (Writer writer = Files.newBufferedWriter(tmp, UTF_8)) {
+            props.store(writer, null);
+        }
+        move(tmp, entryFile);
+
+        return new Entry(url, etag, lastModified, sha256, size, blob);
+    }
+
+    /**
+     * Places the content of {@code entry} at {@code target}, replacing any existing file.
+     */
+    public void link(Entry entry, Path target) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        if (null != parent) Files.createDirectories(parent);
+
+        // never write through an existing link, it may share its content with the cache
+        Files.deleteIfExists(target);
+        try {
+            Files.createLink(target, entry.getContent());
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            Files.copy(entry.getContent(), target, REPLACE_EXISTING);
+        }
+    }
+
+    private Optional<Properties> readEntry(String url) {
+        Path entryFile = entryFile(url);
+        if (!Files.exists(entryFile)) return Optional.empty();
+
+        Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(entryFile, UTF_8)) {
+            props.load(reader);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+
+        return url.equals(props.getProperty(KEY_URL)) ? Optional.of(props) : Optional.empty();
+    }
+
+    private static boolean verify(Entry entry) throws IOException {
+        Path content = entry.getContent();
+        String key = content.toAbsolutePath() + ":" + Files.size(content) + ":" + Files.getLastModifiedTime(content).toMillis();
+        if (VERIFIED.contains(key)) return true;
+
+        String sha256;
+        try (InputStream in = Files.newInputStream(content)) {
+            sha256 = DigestUtils.sha256Hex(in);
+        }
+        if (!sha256.equalsIgnoreCase(entry.getSha256())) return false;
+
+        VERIFIED.add(key);
+        return true;
+    }
+
+    private Path entryFile(String url) {
+        return directory.resolve(ENTRIES).resolve(DigestUtils.sha256Hex(url) + ".properties");
+    }
+
+    private static boolean equalsOrBlank(String expected, String actual) {
+        return isBlank(expected) || expected.equals(actual);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, REPLACE_EXISTING);
+        }
+    }
+
+    public static final class Entry {
+        private final String url;
+        private final String etag;
+        private final String lastModified;
+        private final String sha256;
+        private final long size;
+        private final Path content;
+
+        private Entry(String url, String etag, String lastModified, String sha256, long size, Path content) {
+            this.url = url;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.sha256 = sha256;
+            this.size = size;
+            this.content = content;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        public String getSha256() {
+            return sha256;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public Path getContent() {
+            return content;
+        }
+    }
+}
@@ -17,27 +17,30 @@
  */
 package org.jreleaser.sdk.tool;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.logging.JReleaserLogger;
 import org.jreleaser.mustache.TemplateContext;
 import org.jreleaser.sdk.command.Command;
 import org.jreleaser.sdk.command.CommandException;
 import org.jreleaser.sdk.command.CommandExecutor;
+import org.jreleaser.util.Env;
 import org.jreleaser.util.FileUtils;
 
-import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
-import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Properties;
+import java.util.ServiceLoader;
 import java.util.regex.Pattern;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
-import static org.jreleaser.model.Constants.JRELEASER_USER_HOME;
-import static org.jreleaser.model.Constants.XDG_CACHE_HOME;
 import static org.jreleaser.mustache.Templates.resolveTemplate;
 import static org.jreleaser.util.StringUtils.isBlank;
 import static org.jreleaser.util.StringUtils.isNotBlank;
@@ -55,6 +58,8 @@ public class DownloadableTool {
     private static final String K_COMMAND_VERSION = "command.version";
     private static final String K_COMMAND_VERIFY = "command.verify";
     private static final String K_EXECUTABLE_PATH = ".executable.path";
+    private static final String K_CHECKSUMS = ".checksums.file";
+    private static final String K_SHA256 = ".sha256.";
     private static final String UNPACK = "unpack";
 
     private final JReleaserLogger logger;
@@ -66,9 +71,15 @@ public class DownloadableTool {
     private final boolean verifyErrorOutput;
 
     private Path executable;
+    private ToolDownloader downloader;
 
     public DownloadableTool(JReleaserLogger logger, String name, String version, String platform, boolean verifyErrorOutput) throws ToolException {
+        this(logger, name, version, platform, verifyErrorOutput, null);
+    }
+
+    DownloadableTool(JReleaserLogger logger, String name, String version, String platform, boolean verifyErrorOutput, ToolDownloader downloader) throws ToolException {
         this.logger = logger;
+        this.downloader = downloader;
         this.name = name;
         this.version = version;
         this.platform = platform;
@@ -164,7 +175,7 @@ public class DownloadableTool {
             return;
         }
 
-        Path caches = resolveJReleaserCacheDir();
+        Path caches = FileUtils.resolveJReleaserCacheDir();
         Path dest = caches.resolve(name).resolve(version);
 
         boolean unpack = Boolean.parseBoolean(properties.getProperty(UNPACK));
@@ -188,41 +199,140 @@ public class DownloadableTool {
             return;
         }
 
-        downloadUrl = resolveTemplate(downloadUrl, props) + filename;
-        try (InputStream stream = new URI(downloadUrl).toURL().openStream()) {
-            Path tmp = Files.createTempDirectory("jreleaser");
-            Path destination = tmp.resolve(filename);
-
-            logger.debug(RB.$("tool.located", filename));
-            logger.debug(RB.$("tool.downloading", downloadUrl));
-            Files.copy(stream, destination, REPLACE_EXISTING);
-            logger.debug(RB.$("tool.downloaded", filename));
-
-            Files.createDirectories(dest);
-            if (unpack) {
-                FileUtils.unpackArchive(destination, dest, false);
-                logger.debug(RB.$("tool.unpacked", filename));
-                if (isNotBlank(executablePath)) {
-                    executable = dest.resolve(executablePath).resolve(exec).toAbsolutePath();
-                } else {
-                    executable = dest.resolve(exec).toAbsolutePath();
+        String baseUrl = resolveTemplate(downloadUrl, props);
+        downloadUrl = baseUrl + filename;
+        try {
+            Files.createDirectories(dest.getParent());
+            try (ToolLock ignored = ToolLock.acquire(dest.getParent().resolve(version + ".lock"))) {
+                // another process may have completed the download while we waited
+                if (Files.exists(test)) {
+                    executable = test;
+                    logger.debug(RB.$("tool.cached", executable));
+                    return;
                 }
-            } else {
-                Path executableFile = dest.resolve(exec);
-                Files.move(destination, executableFile);
-                FileUtils.grantExecutableAccess(executableFile);
-                executable = executableFile.toAbsolutePath();
+
+                Path staging = Files.createTempDirectory(dest.getParent(), version + ".tmp");
+                try {
+                    Path tmp = Files.createTempDirectory(staging, "download");
+                    Path destination = tmp.resolve(filename);
+
+                    logger.debug(RB.$("tool.located", filename));
+                    logger.debug(RB.$("tool.downloading", downloadUrl));
+                    downloader().download(logger, downloadUrl, destination);
+                    logger.debug(RB.$("tool.downloaded", filename));
+                    verifyChecksum(baseUrl, filename, destination, tmp);
+
+                    Path contents = staging.resolve("contents");
+                    Files.createDirectories(contents);
+                    if (unpack) {
+                        FileUtils.unpackArchive(destination, contents, false);
+                        logger.debug(RB.$("tool.unpacked", filename));
+                    } else {
+                        Path executableFile = contents.resolve(exec);
+                        // copy rather than move, the downloaded file may be linked to the download cache
+                        Files.copy(destination, executableFile, REPLACE_EXISTING);
+                        FileUtils.grantExecutableAccess(executableFile);
+                    }
+
+                    // leftovers of an interrupted download made before staging was in place
+                    if (Files.exists(dest)) FileUtils.deleteFiles(dest);
+                    Files.move(contents, dest, ATOMIC_MOVE);
+                } finally {
+                    FileUtils.deleteFiles(staging);
+                }
+
+                executable = test;
+                logger.debug(RB.$("tool.cached", executable));
             }
-            logger.debug(RB.$("tool.cached", executable));
         } catch (FileNotFoundException e) {
             logger.debug(RB.$("tool.not.found", filename));
             throw new ToolException(RB.$("tool.not.found", filename), e);
-        } catch (Exception e) {
+        } catch (IOException e) {
             logger.debug(RB.$("tool.download.error", filename));
             throw new ToolException(RB.$("tool.download.error", filename), e);
         }
     }
 
+    /**
+     * Verifies a download against, in order, a checksum set with {@code JRELEASER_<TOOL>_SHA256},
+     * a checksum pinned in the tool's properties as {@code [<platform>.]sha256.<version>}, or
+     * the checksums file published with the tool. A download that cannot be verified is rejected,
+     * unless the tool publishes no checksums file, in which case a warning is logged.
+     */
+    void verifyChecksum(String baseUrl, String filename, Path file, Path tmp) throws IOException {
+        String source = Env.envKey(name + ".sha256");
+        String expected = Env.resolve(name + ".sha256", "");
+
+        if (isBlank(expected)) {
+            source = platformKey(K_SHA256 + version);
+            expected = properties.getProperty(source);
+        }
+
+        String checksums = properties.getProperty(platformKey(K_CHECKSUMS));
+        if (isBlank(expected) && isNotBlank(checksums)) {
+            source = checksums = resolveTemplate(checksums, props());
+            try {
+                Path checksumsFile = tmp.resolve(checksums);
+                downloader().download(logger, baseUrl + checksums, checksumsFile);
+                expected = findChecksum(checksumsFile, filename);
+            } catch (IOException e) {
+                logger.trace(e);
+            }
+        }
+
+        if (isBlank(expected)) {
+            if (isBlank(checksums)) {
+                logger.warn(RB.$("WARN_tool_checksum_unpublished", filename, Env.envKey(name + ".sha256")));
+                return;
+            }
+            throw new ToolException(RB.$("ERROR_tool_checksum_unavailable", filename, Env.envKey(name + ".sha256")));
+        }
+        expected = expected.trim();
+
+        String actual;
+        try (InputStream in = Files.newInputStream(file)) {
+            // published checksums may use a stronger algorithm, told apart by their length
+            actual = expected.length() == 128 ? DigestUtils.sha512Hex(in) : DigestUtils.sha256Hex(in);
+        }
+
+        if (!expected.equalsIgnoreCase(actual)) {
+            throw new ToolException(RB.$("ERROR_tool_checksum_mismatch", filename, expected, actual));
+        }
+        logger.debug(RB.$("tool.checksum.verified", filename, source));
+    }
+
+    private ToolDownloader downloader() throws ToolException {
+        if (null == downloader) {
+            for (ToolDownloader candidate : ServiceLoader.load(ToolDownloader.class, DownloadableTool.class.getClassLoader())) {
+                downloader = candidate;
+                break;
+            }
+        }
+        if (null == downloader) {
+            throw new ToolException(RB.$("ERROR_tool_downloader_unavailable", name));
+        }
+        return downloader;
+    }
+
+    private static String findChecksum(Path checksumsFile, String filename) throws IOException {
+        List<String> lines = Files.readAllLines(checksumsFile, UTF_8);
+        for (String line : lines) {
+            // <hex>  <filename> or <hex> *<filename>, as written by sha256sum
+            String[] parts = line.trim().split("\\s+");
+            if (parts.length == 2 && filename.equals(parts[1].startsWith("*") ? parts[1].substring(1) : parts[1])) {
+                return parts[0];
+            }
+        }
+
+        // a checksum file for a single artifact
+        if (lines.size() == 1) {
+            String[] parts = lines.get(0).trim().split("\\s+");
+            if (parts.length == 1) return parts[0];
+        }
+
+        return null;
+    }
+
     public Command asCommand() {
         return new Command(executable.toString());
     }
@@ -237,17 +347,4 @@ public class DownloadableTool {
         return new CommandExecutor(logger, CommandExecutor.Output.DEBUG)
             .executeCommand(command);
     }
-
-    private Path resolveJReleaserCacheDir() {
-        String home = System.getenv(XDG_CACHE_HOME);
-        if (isNotBlank(home)) {
-            return Paths.get(home).resolve("jreleaser");
-        }
-
-        home = System.getenv(JRELEASER_USER_HOME);
-        if (isBlank(home)) {
-            home = System.getProperty("user.home") + File.separator + ".jreleaser";
-        }
-        return Paths.get(home).resolve("caches");
-    }
 }
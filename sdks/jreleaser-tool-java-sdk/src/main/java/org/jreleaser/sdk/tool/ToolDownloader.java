@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.tool;
+
+import org.jreleaser.logging.JReleaserLogger;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Fetches the files a {@link DownloadableTool} needs, such as its archive and published checksums.
+ * Implementations are discovered with {@link java.util.ServiceLoader}.
+ *
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+public interface ToolDownloader {
+    void download(JReleaserLogger logger, String url, Path target) throws IOException;
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.tool;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Exclusive lock over a tool installation, shared by threads and processes.
+ * <p>
+ * {@code FileLock}s are held on behalf of the whole JVM, so threads are serialized
+ * with an in-process lock before the file lock is requested.
+ *
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+final class ToolLock implements AutoCloseable {
+    private static final Map<Path, ReentrantLock> LOCKS = new ConcurrentHashMap<>();
+
+    private final ReentrantLock lock;
+    private final FileChannel channel;
+    private final FileLock fileLock;
+
+    private ToolLock(ReentrantLock lock, FileChannel channel, FileLock fileLock) {
+        this.lock = lock;
+        this.channel = channel;
+        this.fileLock = fileLock;
+    }
+
+    static ToolLock acquire(Path lockFile) throws IOException {
+        ReentrantLock lock = LOCKS.computeIfAbsent(lockFile.toAbsolutePath().normalize(), k -> new ReentrantLock());
+        lock.lock();
+
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(lockFile, CREATE, WRITE);
+            return new ToolLock(lock, channel, channel.lock());
+        } catch (IOException | RuntimeException e) {
+            if (null != channel) channel.close();
+            lock.unlock();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            fileLock.release();
+            channel.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.tool;
+
+import org.jreleaser.bundle.RB;
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.logging.LogScope;
+import org.jreleaser.util.ConcurrencyUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Downloads tools in the background ahead of the steps that need them.
+ * <p>
+ * {@link AbstractTool#setup()} waits for a pending prefetch of the same tool and version,
+ * so a step only ever blocks on its own tool. Prefetches belong to the session whose logger
+ * scheduled them and are cancelled by {@link #shutdown(JReleaserLogger)}. Nothing is
+ * prefetched in dry-run mode.
+ *
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+public final class ToolPrefetch {
+    private static final String PREFIX = "prefetch";
+    private static final Map<JReleaserLogger, ToolPrefetch> SESSIONS = new ConcurrentHashMap<>();
+
+    private final Map<String, Future<?>> prefetches = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+
+    private ToolPrefetch(JReleaserLogger logger) {
+        this.executor = ConcurrencyUtils.newFixedThreadPool(PREFIX, ConcurrencyUtils.concurrency(), logger);
+    }
+
+    /**
+     * Schedules a background download of the given tool unless one is already pending.
+     */
+    public static void prefetch(AbstractTool tool) {
+        if (tool.context.isDryrun()) return;
+
+        JReleaserLogger logger = tool.context.getLogger();
+        ToolPrefetch session = SESSIONS.computeIfAbsent(logger, ToolPrefetch::new);
+        session.prefetches.computeIfAbsent(key(tool.getName(), tool.getVersion()), k -> {
+            logger.debug(RB.$("tool.prefetch"), tool.getName(), tool.getVersion());
+            return session.executor.submit(() -> {
+                // held back and written as a single group, apart from the output of steps
+                try (LogScope scope = logger.scope(PREFIX, true)) {
+                    tool.prefetch();
+                }
+                return null;
+            });
+        });
+    }
+
+    /**
+     * Cancels the pending prefetches of a session and releases their threads.
+     */
+    public static void shutdown(JReleaserLogger logger) {
+        ToolPrefetch session = SESSIONS.remove(logger);
+        if (null != session) session.executor.shutdownNow();
+    }
+
+    static void await(JReleaserLogger logger, String name, String version) {
+        ToolPrefetch session = SESSIONS.get(logger);
+        Future<?> prefetch = null != session ? session.prefetches.get(key(name, version)) : null;
+        if (null == prefetch) return;
+
+        try {
+            prefetch.get();
+        } catch (ExecutionException e) {
+            // setup retries in the foreground and reports the failure
+            Throwable cause = null != e.getCause() ? e.getCause() : e;
+            logger.debug(RB.$("tool.prefetch.error"), name, version, cause.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // cancelled
+            logger.trace(e);
+        }
+    }
+
+    private static String key(String name, String version) {
+        return name + "@" + version;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.tool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class DownloadCacheTest {
+    private static final String URL = "https://example.com/tools/tool-1.0.0.zip";
+    private static final String ETAG = "\"v1\"";
+    private static final String LAST_MODIFIED = "Mon, 19 Oct 2026 10:00:00 GMT";
+    private static final String CONTENT = "JReleaser 1.0.0";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void linksStoredContentIntoPlace() throws Exception {
+        // given:
+        DownloadCache cache = DownloadCache.of(directory.resolve("cache"));
+        DownloadCache.Entry entry = cache.store(URL, download(CONTENT), ETAG, LAST_MODIFIED);
+        Path target = directory.resolve("target").resolve("tool-1.0.0.zip");
+
+        // when:
+        cache.link(entry, target);
+
+        // then:
+        assertThat(target).hasContent(CONTENT);
+        assertThat(cache.lookup(URL)).hasValueSatisfying(e -> assertThat(e.getSha256()).isEqualTo(entry.getSha256()));
+    }
+
+    @Test
+    void matchesEntriesByValidators() throws Exception {
+        // given:
+        DownloadCache cache = DownloadCache.of(directory.resolve("cache"));
+        cache.store(URL, download(CONTENT), ETAG, LAST_MODIFIED);
+
+        // expect:
+        assertThat(cache.lookup(URL, ETAG, null)).isPresent();
+        assertThat(cache.lookup(URL, null, LAST_MODIFIED)).isPresent();
+        assertThat(cache.lookup(URL, "\"v2\"", null)).isEmpty();
+        assertThat(cache.lookup(URL, null, null)).isEmpty();
+    }
+
+    @Test
+    void evictsEntriesWithCorruptContent() throws Exception {
+        // given:
+        DownloadCache cache = DownloadCache.of(directory.resolve("cache"));
+        Path content = cache.store(URL, download(CONTENT), ETAG, LAST_MODIFIED).getContent();
+        Files.write(content, "jreleaser 1.0.0".getBytes(UTF_8));
+        // verified contents are only digested again once their modification time changes
+        Files.setLastModifiedTime(content, FileTime.fromMillis(0L));
+
+        // when:
+        boolean found = cache.lookup(URL).isPresent();
+
+        // then:
+        assertThat(found).isFalse();
+        assertThat(content).doesNotExist();
+        assertThat(cache.lookup(URL, ETAG, LAST_MODIFIED)).isEmpty();
+    }
+
+    @Test
+    void evictsEntriesOnRequest() throws Exception {
+        // given:
+        DownloadCache cache = DownloadCache.of(directory.resolve("cache"));
+        Path content = cache.store(URL, download(CONTENT), ETAG, LAST_MODIFIED).getContent();
+
+        // when:
+        cache.evict(URL);
+
+        // then:
+        assertThat(cache.lookup(URL)).isEmpty();
+        assertThat(content).doesNotExist();
+    }
+
+    private Path download(String content) throws Exception {
+        Path file = Files.createTempFile(directory, "download", ".tmp");
+        Files.write(file, content.getBytes(UTF_8));
+        return file;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.tool;
+
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.test.WireMockExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+class DownloadableToolTest {
+    private static final String CONTENT = "JReleaser 1.0.0";
+    private static final String SHA256 = "e354e324fd0e1226619b4656436d6756a5be5733327b0a5696320d20425b09b0";
+
+    @RegisterExtension
+    WireMockExtension api = new WireMockExtension(options().dynamicPort());
+
+    @TempDir
+    Path directory;
+
+    private final JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR);
+
+    @Test
+    void acceptsDownloadMatchingPinnedChecksum() throws Exception {
+        // given:
+        DownloadableTool tool = tool("published-checksums", "1.0.0");
+        Path file = download("tool-1.0.0", CONTENT);
+
+        // expect:
+        assertThatCode(() -> tool.verifyChecksum(api.baseUrl() + "/", "tool-1.0.0", file, directory))
+            .doesNotThrowAnyException();
+    }
+
+    @Test
+    void rejectsDownloadNotMatchingPinnedChecksum() throws Exception {
+        // given:
+        DownloadableTool tool = tool("published-checksums", "1.0.0");
+        Path file = download("tool-1.0.0", "tampered");
+
+        // expect:
+        assertThatThrownBy(() -> tool.verifyChecksum(api.baseUrl() + "/", "tool-1.0.0", file, directory))
+            .isInstanceOf(ToolException.class)
+            .hasMessageContaining("Checksum mismatch");
+    }
+
+    @Test
+    void verifiesDownloadWithPublishedChecksums() throws Exception {
+        // given:
+        stubFor(get(urlEqualTo("/checksums.txt"))
+            .willReturn(aResponse().withStatus(200).withBody(SHA256 + "  tool-2.0.0\n")));
+        DownloadableTool tool = tool("published-checksums", "2.0.0");
+        Path file = download("tool-2.0.0", CONTENT);
+
+        // expect:
+        assertThatCode(() -> tool.verifyChecksum(api.baseUrl() + "/", "tool-2.0.0", file, directory))
+            .doesNotThrowAnyException();
+    }
+
+    @Test
+    void rejectsDownloadMissingFromPublishedChecksums() throws Exception {
+        // given:
+        stubFor(get(urlEqualTo("/checksums.txt"))
+            .willReturn(aResponse().withStatus(200).withBody(SHA256 + "  tool-1.0.0\n")));
+        DownloadableTool tool = tool("published-checksums", "2.0.0");
+        Path file = download("tool-2.0.0", CONTENT);
+
+        // expect:
+        assertThatThrownBy(() -> tool.verifyChecksum(api.baseUrl() + "/", "tool-2.0.0", file, directory))
+            .isInstanceOf(ToolException.class)
+            .hasMessageContaining("Could not find a checksum for tool-2.0.0");
+    }
+
+    @Test
+    void acceptsUnverifiedDownloadWhenNoChecksumsArePublished() throws Exception {
+        // given:
+        DownloadableTool tool = tool("unpublished-checksums", "1.0.0");
+        Path file = download("tool-1.0.0", CONTENT);
+
+        // expect:
+        assertThatCode(() -> tool.verifyChecksum(api.baseUrl() + "/", "tool-1.0.0", file, directory))
+            .doesNotThrowAnyException();
+    }
+
+    private DownloadableTool tool(String name, String version) {
+        return new DownloadableTool(logger, name, version, "linux-x86_64", false, (log, url, target) -> {
+            try (InputStream in = new URL(url).openStream()) {
+                Files.copy(in, target);
+            }
+        });
+    }
+
+    private Path download(String filename, String content) throws Exception {
+        Path file = directory.resolve(filename);
+        Files.write(file, content.getBytes(UTF_8));
+        return file;
+    }
+}
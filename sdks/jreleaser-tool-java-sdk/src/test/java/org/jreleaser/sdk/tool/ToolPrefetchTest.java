@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2020-2024 The JReleaser authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jreleaser.sdk.tool;
+
+import org.jreleaser.logging.JReleaserLogger;
+import org.jreleaser.logging.SimpleJReleaserLoggerAdapter;
+import org.jreleaser.model.api.JReleaserContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Andres Almiray
+ * @since 1.14.0
+ */
+@Timeout(10)
+class ToolPrefetchTest {
+    private final JReleaserLogger logger = new SimpleJReleaserLoggerAdapter(SimpleJReleaserLoggerAdapter.Level.ERROR);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch cancelled = new CountDownLatch(1);
+    private final AtomicInteger prefetches = new AtomicInteger();
+
+    @AfterEach
+    void cleanup() {
+        release.countDown();
+        ToolPrefetch.shutdown(logger);
+    }
+
+    @Test
+    void prefetchesEachToolOnce() throws Exception {
+        // given:
+        release.countDown();
+        AbstractTool tool = tool(false);
+
+        // when:
+        ToolPrefetch.prefetch(tool);
+        ToolPrefetch.prefetch(tool);
+        ToolPrefetch.await(logger, tool.getName(), tool.getVersion());
+
+        // then:
+        assertThat(prefetches).hasValue(1);
+    }
+
+    @Test
+    void waitsForPendingPrefetches() throws Exception {
+        // given:
+        AbstractTool tool = tool(false);
+        ToolPrefetch.prefetch(tool);
+        CountDownLatch done = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            ToolPrefetch.await(logger, tool.getName(), tool.getVersion());
+            done.countDown();
+        });
+
+        // when:
+        waiter.start();
+
+        // then:
+        assertThat(done.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        release.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void skipsPrefetchesOnDryRun() {
+        // given:
+        AbstractTool tool = tool(true);
+
+        // when:
+        ToolPrefetch.prefetch(tool);
+        ToolPrefetch.await(logger, tool.getName(), tool.getVersion());
+
+        // then:
+        assertThat(prefetches).hasValue(0);
+    }
+
+    @Test
+    void shutdownCancelsPendingPrefetches() throws Exception {
+        // given:
+        AbstractTool tool = tool(false);
+        ToolPrefetch.prefetch(tool);
+        started.await();
+
+        // when:
+        ToolPrefetch.shutdown(logger);
+
+        // then:
+        assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue();
+        // nothing left to wait for
+        ToolPrefetch.await(logger, tool.getName(), tool.getVersion());
+    }
+
+    private AbstractTool tool(boolean dryrun) {
+        JReleaserContext context = mock(JReleaserContext.class);
+        when(context.getLogger()).thenReturn(logger);
+        when(context.isDryrun()).thenReturn(dryrun);
+
+        return new AbstractTool(context, "unpublished-checksums", "1.0.0") {
+            @Override
+            void prefetch() {
+                prefetches.incrementAndGet();
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    cancelled.countDown();
+                }
+            }
+        };
+    }
+}
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.extensions.api.workflow.WorkflowListenerException;
+import org.jreleaser.logging.LogScope;
 import org.jreleaser.model.api.JReleaserCommand;
 import org.jreleaser.model.api.hooks.ExecutionEvent;
 import org.jreleaser.model.internal.JReleaserContext;
@@ -29,6 +30,7 @@ import org.jreleaser.model.spi.announce.AnnounceException;
 import org.jreleaser.model.spi.announce.Announcer;
 import org.jreleaser.mustache.TemplateContext;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.util.CollectionUtils;
 
 import java.util.Map;
@@ -74,13 +76,10 @@ public class WebhooksAnnouncer implements Announcer<org.jreleaser.model.api.anno
 
         for (Map.Entry<String, WebhookAnnouncer> e : webhooks.entrySet()) {
             if (e.getValue().isEnabled()) {
-                context.getLogger().setPrefix("webhook." + e.getKey());
-                try {
+                try (LogScope scope = context.getLogger().scope("webhook." + e.getKey())) {
                     announce(context, e.getValue(), false);
                 } catch (AnnounceException x) {
                     context.getLogger().warn(x.getMessage().trim());
-                } finally {
-                    context.getLogger().restorePrefix();
                 }
             }
         }
@@ -124,7 +123,8 @@ public class WebhooksAnnouncer implements Announcer<org.jreleaser.model.api.anno
                     webhook.getWebhook(),
                     webhook.getConnectTimeout(),
                     webhook.getReadTimeout(),
-                    message);
+                    message,
+                    Resilience.of(webhook));
 
                 fireAnnouncerEvent(ExecutionEvent.success(JReleaserCommand.ANNOUNCE.toStep()), context, webhook);
             } catch (RuntimeException e) {
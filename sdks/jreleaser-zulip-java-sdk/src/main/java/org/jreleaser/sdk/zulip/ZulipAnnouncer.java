@@ -21,6 +21,7 @@ import org.jreleaser.model.internal.JReleaserContext;
 import org.jreleaser.model.spi.announce.AnnounceException;
 import org.jreleaser.model.spi.announce.Announcer;
 import org.jreleaser.mustache.TemplateContext;
+import org.jreleaser.sdk.commons.Resilience;
 
 import static org.jreleaser.util.StringUtils.isNotBlank;
 
@@ -76,6 +77,7 @@ public class ZulipAnnouncer implements Announcer<org.jreleaser.model.api.announc
                 .apiKey(context.isDryrun() ? "**UNDEFINED**" : zulip.getApiKey())
                 .connectTimeout(zulip.getConnectTimeout())
                 .readTimeout(zulip.getReadTimeout())
+                .resilience(Resilience.of(zulip))
                 .dryrun(context.isDryrun())
                 .build();
             sdk.message(zulip.getChannel(), subject, message);
@@ -21,6 +21,7 @@ import feign.auth.BasicAuthRequestInterceptor;
 import org.jreleaser.bundle.RB;
 import org.jreleaser.model.api.JReleaserContext;
 import org.jreleaser.sdk.commons.ClientUtils;
+import org.jreleaser.sdk.commons.Resilience;
 import org.jreleaser.sdk.commons.RestAPIException;
 import org.jreleaser.sdk.zulip.api.Message;
 import org.jreleaser.sdk.zulip.api.ZulipAPI;
@@ -43,6 +44,7 @@ public class ZulipSdk {
                      String apiKey,
                      int connectTimeout,
                      int readTimeout,
+                     Resilience resilience,
                      boolean dryrun) {
         requireNonNull(context, "'context' must not be null");
         requireNonBlank(apiHost, "'apiHost' must not be blank");
@@ -51,7 +53,7 @@ public class ZulipSdk {
 
         this.context = context;
         this.dryrun = dryrun;
-        this.api = ClientUtils.builder(context, connectTimeout, readTimeout)
+        this.api = ClientUtils.builder(context, connectTimeout, readTimeout, resilience)
             .requestInterceptor(new BasicAuthRequestInterceptor(account, apiKey))
             .target(ZulipAPI.class, apiHost);
 
@@ -87,6 +89,7 @@ public class ZulipSdk {
         private String apiHost;
         private int connectTimeout = 20;
         private int readTimeout = 60;
+        private Resilience resilience = Resilience.defaults();
 
         private Builder(JReleaserContext context) {
             this.context = requireNonNull(context, "'context' must not be null");
@@ -122,6 +125,11 @@ public class ZulipSdk {
             return this;
         }
 
+        public Builder resilience(Resilience resilience) {
+            this.resilience = requireNonNull(resilience, "'resilience' must not be null");
+            return this;
+        }
+
         private void validate() {
             requireNonBlank(apiHost, "'apiHost' must not be blank");
             requireNonBlank(account, "'account' must not be blank");
@@ -138,6 +146,7 @@ public class ZulipSdk {
                 apiKey,
                 connectTimeout,
                 readTimeout,
+                resilience,
                 dryrun);
         }
     }